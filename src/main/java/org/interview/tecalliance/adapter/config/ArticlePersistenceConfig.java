@@ -0,0 +1,80 @@
+package org.interview.tecalliance.adapter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.coalescing.WriteCoalescingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.replica.ChangeStreamArticleReadReplica;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+
+import static org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort.ADAPTER_BEAN;
+
+/**
+ * Stacks the enabled decorators of the persistence port on the active adapter.
+ * <p>
+ * Each layer receives the layer below it through the port interface, in a fixed order: the
+ * read replica wraps the adapter, write coalescing wraps the replica, so that coalesced
+ * batches are applied to the replica as well. The primary {@link ArticlePersistencePort}
+ * forwards to the outermost layer; the layers themselves are beans of their own type, so
+ * that their lifecycle is managed once.
+ * </p>
+ */
+@Configuration
+public class ArticlePersistenceConfig {
+
+    /**
+     * Requires the embedded discount layout, whose documents hold complete articles.
+     */
+    @Bean
+    @Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+    @ConditionalOnProperty(name = "tecalliance.persistence.read-replica.enabled", havingValue = "true")
+    @ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
+    public ChangeStreamArticleReadReplica articleReadReplica(
+            @Qualifier(ADAPTER_BEAN) ArticlePersistencePort adapter,
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${tecalliance.persistence.read-replica.snapshot-file:}") String snapshotFile,
+            @Value("${tecalliance.persistence.read-replica.snapshot-interval:PT5M}") Duration snapshotInterval) {
+        return new ChangeStreamArticleReadReplica(adapter, mongoTemplate, meterRegistry, snapshotFile, snapshotInterval);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tecalliance.persistence.write-coalescing.enabled", havingValue = "true")
+    public WriteCoalescingArticlePersistencePort writeCoalescingArticlePersistencePort(
+            @Qualifier(ADAPTER_BEAN) ArticlePersistencePort adapter,
+            ObjectProvider<ChangeStreamArticleReadReplica> readReplica,
+            MeterRegistry meterRegistry,
+            @Value("${tecalliance.persistence.write-coalescing.window:PT0.002S}") Duration window,
+            @Value("${tecalliance.persistence.write-coalescing.max-batch-size:100}") int maxBatchSize) {
+        return new WriteCoalescingArticlePersistencePort(readReplica.getIfAvailable(() -> adapter),
+                meterRegistry, window, maxBatchSize);
+    }
+
+    @Bean
+    @Primary
+    public ArticlePersistencePort articlePersistencePort(
+            @Qualifier(ADAPTER_BEAN) ArticlePersistencePort adapter,
+            ObjectProvider<ChangeStreamArticleReadReplica> readReplica,
+            ObjectProvider<WriteCoalescingArticlePersistencePort> writeCoalescing) {
+        ArticlePersistencePort outermost = writeCoalescing.getIfAvailable(() -> readReplica.getIfAvailable(() -> adapter));
+        return new OutermostLayer(outermost);
+    }
+
+    private static final class OutermostLayer extends ForwardingArticlePersistencePort {
+
+        OutermostLayer(ArticlePersistencePort delegate) {
+            super(delegate);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.interview.tecalliance.adapter.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+/**
+ * Adds the binary Jackson formats Smile ({@code application/x-jackson-smile}) and CBOR
+ * ({@code application/cbor}) to the content negotiation, for service-to-service clients.
+ * <p>
+ * Both carry the same data model as JSON, but encode numbers, including {@code BigDecimal}
+ * prices, in binary instead of as decimal text, and property names only once per document
+ * (Smile back-references repeated names and short string values). Like the JSON mapper they
+ * leave out null properties.
+ * </p>
+ */
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    @Bean
+    public SmileMapper smileMapper() {
+        return SmileMapper.builder()
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+                .changeDefaultPropertyInclusion(inclusion -> inclusion.withValueInclusion(JsonInclude.Include.NON_NULL))
+                .build();
+    }
+
+    @Bean
+    public CBORMapper cborMapper() {
+        return CBORMapper.builder()
+                .changeDefaultPropertyInclusion(inclusion -> inclusion.withValueInclusion(JsonInclude.Include.NON_NULL))
+                .build();
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper()))
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper()));
+    }
+}
@@ -0,0 +1,27 @@
+package org.interview.tecalliance.adapter.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Stores {@code java.time} values with the driver's own codecs (UTC based), so that values
+     * written through Spring Data and values used in hand-written aggregation pipelines agree
+     * regardless of the JVM's default time zone. Dates written before as midnight in the default
+     * time zone are moved to UTC midnight by the {@code DiscountDateMigration}.
+     * <p>
+     * {@link java.math.BigDecimal} values are stored as {@code Decimal128}, the representation
+     * also written by the {@code ArticleCodec}, so that prices can be compared numerically. Values
+     * written before as strings are converted by the {@code Decimal128Migration}.
+     * </p>
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return MongoCustomConversions.create(configurer -> configurer
+                .useNativeDriverJavaTimeCodecs()
+                .bigDecimal(MongoCustomConversions.BigDecimalRepresentation.DECIMAL128));
+    }
+}
@@ -0,0 +1,68 @@
+package org.interview.tecalliance.adapter.in.cli;
+
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.adapter.in.imports.ArticleRecordReader;
+import org.interview.tecalliance.adapter.in.imports.ImportErrorReportWriter;
+import org.interview.tecalliance.adapter.in.imports.ImportFormat;
+import org.interview.tecalliance.application.port.in.ArticleImportUseCase;
+import org.interview.tecalliance.domain.model.imports.ImportResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports an article file at startup, for loads too large or too long for a request:
+ * <pre>
+ * java -jar tecAlliance.jar --spring.main.web-application-type=none --tecalliance.import.file=articles.ndjson
+ * </pre>
+ * The format is taken from the file extension. Rejected lines are written to
+ * {@code <file>.errors.csv}. An interrupted import is resumed with
+ * {@code --tecalliance.import.from-line} set to the last processed line that was logged.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tecalliance.import.file")
+public class ArticleImportCommand implements ApplicationRunner {
+
+    private final ArticleImportUseCase articleImportUseCase;
+    private final JsonMapper jsonMapper;
+    private final Path file;
+    private final long fromLine;
+
+    public ArticleImportCommand(ArticleImportUseCase articleImportUseCase,
+                                JsonMapper jsonMapper,
+                                @Value("${tecalliance.import.file}") Path file,
+                                @Value("${tecalliance.import.from-line:0}") long fromLine) {
+        this.articleImportUseCase = articleImportUseCase;
+        this.jsonMapper = jsonMapper;
+        this.file = file;
+        this.fromLine = fromLine;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        ImportFormat format = ImportFormat.fromFileName(file.getFileName().toString());
+        Path errorReport = file.resolveSibling(file.getFileName() + ".errors.csv");
+        log.info("Importing articles from {} ({}), starting after line {}", file, format, fromLine);
+
+        ImportResult result;
+        try (ArticleRecordReader records = ArticleRecordReader.open(format, Files.newInputStream(file), fromLine, jsonMapper);
+             ImportErrorReportWriter errors = new ImportErrorReportWriter(Files.newOutputStream(errorReport))) {
+            result = articleImportUseCase.importArticles(records, errors);
+        }
+
+        log.info("Imported {} articles from {}, {} lines rejected (see {}), last processed line {}",
+                result.imported(), file, result.failed(), errorReport, result.lastLine());
+        if (!result.complete()) {
+            throw new IllegalStateException("Import of " + file + " stopped early, resume with --tecalliance.import.from-line="
+                    + result.lastLine());
+        }
+    }
+}
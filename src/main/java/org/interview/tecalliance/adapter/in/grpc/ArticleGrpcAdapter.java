@@ -0,0 +1,153 @@
+package org.interview.tecalliance.adapter.in.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.adapter.in.grpc.proto.ArticleServiceGrpc;
+import org.interview.tecalliance.adapter.in.grpc.proto.BatchGetArticlesRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.BatchGetArticlesResponse;
+import org.interview.tecalliance.adapter.in.grpc.proto.GetArticleRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListArticlesRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListedArticle;
+import org.interview.tecalliance.adapter.in.grpc.proto.QuotePricesRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.QuotePricesResponse;
+import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.interview.tecalliance.domain.model.article.BaseArticle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC counterpart of the read endpoints of the {@code ArticleRestAdapter}, on the same
+ * {@link ArticleUseCase}. Errors are mapped like the REST error handler maps them:
+ * {@link IllegalArgumentException} to {@code INVALID_ARGUMENT}, unknown articles to
+ * {@code NOT_FOUND}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleGrpcAdapter extends ArticleServiceGrpc.ArticleServiceImplBase {
+
+    private final ArticleUseCase articleUseCase;
+
+    @Override
+    public void getArticle(GetArticleRequest request,
+                           StreamObserver<org.interview.tecalliance.adapter.in.grpc.proto.Article> responseObserver) {
+        respond(responseObserver, () -> articleUseCase.getArticleById(request.getId())
+                .map(ArticleProtoMapper::toProto)
+                .orElseThrow(() -> Status.NOT_FOUND
+                        .withDescription("Article not found: " + request.getId())
+                        .asRuntimeException()));
+    }
+
+    @Override
+    public void batchGetArticles(BatchGetArticlesRequest request,
+                                 StreamObserver<BatchGetArticlesResponse> responseObserver) {
+        respond(responseObserver, () -> {
+            List<Article> articles = articleUseCase.getArticlesByIds(request.getIdsList());
+            return BatchGetArticlesResponse.newBuilder()
+                    .addAllArticles(articles.stream().map(ArticleProtoMapper::toProto).toList())
+                    .addAllMissingIds(missingIds(request.getIdsList(), articles))
+                    .build();
+        });
+    }
+
+    @Override
+    public void quotePrices(QuotePricesRequest request, StreamObserver<QuotePricesResponse> responseObserver) {
+        respond(responseObserver, () -> {
+            List<ArticleWithPrice> articles = articleUseCase.quoteArticles(request.getIdsList(),
+                    ArticleProtoMapper.fromEpochDay(request.getEpochDay()));
+            return QuotePricesResponse.newBuilder()
+                    .addAllArticles(articles.stream().map(ArticleProtoMapper::toProto).toList())
+                    .addAllMissingIds(missingIds(request.getIdsList(), articles))
+                    .build();
+        });
+    }
+
+    /**
+     * Sends the articles only while the transport is ready for more, and continues when the
+     * client has taken them, so a slow client holds back the stream instead of letting
+     * messages pile up in the server's buffers. The articles are loaded before the first one is
+     * sent; prices are calculated as they are sent.
+     */
+    @Override
+    public void listArticles(ListArticlesRequest request, StreamObserver<ListedArticle> responseObserver) {
+        ServerCallStreamObserver<ListedArticle> observer = (ServerCallStreamObserver<ListedArticle>) responseObserver;
+        Iterator<? extends BaseArticle> articles;
+        try {
+            LocalDate date = request.hasEpochDay() ? ArticleProtoMapper.fromEpochDay(request.getEpochDay()) : null;
+            articles = request.getWithPrices()
+                    ? articleUseCase.streamArticlesWithPrices(date, request.getDiscountOnly()).iterator()
+                    : articleUseCase.getArticlesWithFilters(date, false, request.getDiscountOnly()).iterator();
+        } catch (RuntimeException e) {
+            observer.onError(toStatus(e));
+            return;
+        }
+
+        Runnable drain = new Runnable() {
+            private boolean completed;
+
+            @Override
+            public void run() {
+                // called by gRPC one at a time: when the call starts and whenever it becomes ready again
+                if (completed || observer.isCancelled()) {
+                    return;
+                }
+                try {
+                    while (observer.isReady() && articles.hasNext()) {
+                        observer.onNext(ArticleProtoMapper.toListed(articles.next()));
+                    }
+                    if (!articles.hasNext()) {
+                        completed = true;
+                        observer.onCompleted();
+                    }
+                } catch (RuntimeException e) {
+                    completed = true;
+                    observer.onError(toStatus(e));
+                }
+            }
+        };
+        observer.setOnReadyHandler(drain);
+        drain.run();
+    }
+
+    private static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> response) {
+        T message;
+        try {
+            message = response.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(message);
+        responseObserver.onCompleted();
+    }
+
+    private static List<String> missingIds(List<String> requested, List<? extends BaseArticle> found) {
+        Set<String> foundIds = found.stream().map(BaseArticle::getId).collect(Collectors.toSet());
+        return requested.stream().distinct().filter(id -> !foundIds.contains(id)).toList();
+    }
+
+    private static RuntimeException toStatus(RuntimeException e) {
+        return switch (e) {
+            case StatusRuntimeException status -> status;
+            case IllegalArgumentException invalid -> Status.INVALID_ARGUMENT
+                    .withDescription(invalid.getMessage())
+                    .asRuntimeException();
+            default -> {
+                log.error("Unexpected error in gRPC call", e);
+                yield Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package org.interview.tecalliance.adapter.in.grpc;
+
+import org.interview.tecalliance.adapter.in.grpc.proto.Decimal;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListedArticle;
+import org.interview.tecalliance.adapter.in.grpc.proto.PricedArticle;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.interview.tecalliance.domain.model.article.BaseArticle;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Converts between the domain model and the protobuf messages of the gRPC API.
+ * <p>
+ * Decimal values (prices, VAT ratios, percentages) are sent as unscaled integer and scale,
+ * so they keep their exact value and scale without a text encoding. Dates are sent as days
+ * since the epoch. Null values leave the message field unset.
+ * </p>
+ */
+final class ArticleProtoMapper {
+
+    private ArticleProtoMapper() {
+    }
+
+    static org.interview.tecalliance.adapter.in.grpc.proto.Article toProto(Article article) {
+        var message = org.interview.tecalliance.adapter.in.grpc.proto.Article.newBuilder()
+                .setId(article.getId())
+                .setName(article.getName());
+        if (article.getSlogan() != null) {
+            message.setSlogan(article.getSlogan());
+        }
+        if (article.getNetPrice() != null) {
+            message.setNetPrice(toProto(article.getNetPrice()));
+        }
+        if (article.getSalesPrice() != null) {
+            message.setSalesPrice(toProto(article.getSalesPrice()));
+        }
+        if (article.getVatRatio() != null) {
+            message.setVatRatio(toProto(article.getVatRatio()));
+        }
+        if (article.getDiscounts() != null) {
+            article.getDiscounts().forEach(discount -> message.addDiscounts(toProto(discount)));
+        }
+        if (article.getVersion() != null) {
+            message.setVersion(article.getVersion());
+        }
+        return message.build();
+    }
+
+    static PricedArticle toProto(ArticleWithPrice article) {
+        PricedArticle.Builder message = PricedArticle.newBuilder()
+                .setId(article.getId())
+                .setName(article.getName());
+        if (article.getSlogan() != null) {
+            message.setSlogan(article.getSlogan());
+        }
+        if (article.getNetPrice() != null) {
+            message.setNetPrice(toProto(article.getNetPrice()));
+        }
+        if (article.getSalesPrice() != null) {
+            message.setSalesPrice(toProto(article.getSalesPrice()));
+        }
+        if (article.getVatRatio() != null) {
+            message.setVatRatio(toProto(article.getVatRatio()));
+        }
+        if (article.getFinalPrice() != null) {
+            message.setFinalPrice(toProto(article.getFinalPrice()));
+        }
+        if (article.getAppliedDiscount() != null) {
+            message.setAppliedDiscount(toProto(article.getAppliedDiscount()));
+        }
+        return message.build();
+    }
+
+    static ListedArticle toListed(BaseArticle article) {
+        return switch (article) {
+            case ArticleWithPrice priced -> ListedArticle.newBuilder().setPriced(toProto(priced)).build();
+            case Article plain -> ListedArticle.newBuilder().setPlain(toProto(plain)).build();
+            default -> throw new IllegalStateException("Unexpected article type " + article.getClass());
+        };
+    }
+
+    static org.interview.tecalliance.adapter.in.grpc.proto.Discount toProto(Discount discount) {
+        var message = org.interview.tecalliance.adapter.in.grpc.proto.Discount.newBuilder();
+        if (discount.getId() != null) {
+            message.setId(discount.getId());
+        }
+        if (discount.getDescription() != null) {
+            message.setDescription(discount.getDescription());
+        }
+        if (discount.getDiscountPercentage() != null) {
+            message.setDiscountPercentage(toProto(discount.getDiscountPercentage()));
+        }
+        if (discount.getStartDate() != null) {
+            message.setStartEpochDay(discount.getStartDate().toEpochDay());
+        }
+        if (discount.getEndDate() != null) {
+            message.setEndEpochDay(discount.getEndDate().toEpochDay());
+        }
+        return message.build();
+    }
+
+    /**
+     * Encodes the decimal as unscaled integer and scale.
+     *
+     * @throws IllegalArgumentException if the unscaled value does not fit into 64 bits
+     */
+    static Decimal toProto(BigDecimal value) {
+        long unscaled;
+        try {
+            unscaled = value.unscaledValue().longValueExact();
+        } catch (ArithmeticException _) {
+            throw new IllegalArgumentException("Decimal " + value.toPlainString()
+                    + " has more digits than the gRPC API can represent, use the REST API");
+        }
+        return Decimal.newBuilder()
+                .setUnscaled(unscaled)
+                .setScale(value.scale())
+                .build();
+    }
+
+    static LocalDate fromEpochDay(long epochDay) {
+        try {
+            return LocalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException _) {
+            throw new IllegalArgumentException("Invalid epoch day " + epochDay);
+        }
+    }
+}
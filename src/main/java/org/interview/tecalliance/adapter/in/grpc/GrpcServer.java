@@ -0,0 +1,88 @@
+package org.interview.tecalliance.adapter.in.grpc;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC API on its own HTTP/2 port next to the web server. It starts with the
+ * application context and, on shutdown, stops accepting calls and gives running calls a
+ * grace period to finish.
+ * <p>
+ * Off unless {@code tecalliance.grpc.enabled} is set, so that a deployment only opens the
+ * second port when it is meant to be reachable.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tecalliance.grpc.enabled", havingValue = "true")
+public class GrpcServer implements SmartLifecycle {
+
+    private final ArticleGrpcAdapter articleGrpcAdapter;
+    private final int port;
+    private final Duration shutdownGracePeriod;
+
+    private volatile Server server;
+
+    public GrpcServer(ArticleGrpcAdapter articleGrpcAdapter,
+                      @Value("${tecalliance.grpc.port:9090}") int port,
+                      @Value("${tecalliance.grpc.shutdown-grace-period:PT10S}") Duration shutdownGracePeriod) {
+        this.articleGrpcAdapter = articleGrpcAdapter;
+        this.port = port;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .addService(articleGrpcAdapter)
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Starting the gRPC server on port " + port + " failed", e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            running.shutdownNow();
+        }
+        server = null;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * The port the server listens on, the actual one if it was started with port 0.
+     */
+    public int getPort() {
+        Server running = server;
+        return running != null ? running.getPort() : -1;
+    }
+}
@@ -0,0 +1,95 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an import file line by line and parses each line into an {@link ArticleImportRecord}.
+ * <p>
+ * Only one line is held in memory at a time, and lines are parsed only when the next record
+ * is requested, so the importer controls how fast the input is consumed. Lines up to
+ * {@code fromLine} are skipped without being parsed, which resumes an interrupted import.
+ * Blank lines are ignored. A read error is thrown as {@link UncheckedIOException}.
+ * </p>
+ */
+public abstract class ArticleRecordReader implements Iterator<ArticleImportRecord>, Closeable {
+
+    private final BufferedReader reader;
+    private final long fromLine;
+    private long line;
+    private ArticleImportRecord next;
+
+    protected ArticleRecordReader(InputStream input, long fromLine) {
+        if (fromLine < 0) {
+            throw new IllegalArgumentException("fromLine must not be negative");
+        }
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.fromLine = fromLine;
+    }
+
+    public static ArticleRecordReader open(ImportFormat format, InputStream input, long fromLine, JsonMapper jsonMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonArticleRecordReader(input, fromLine, jsonMapper);
+            case CSV -> new CsvArticleRecordReader(input, fromLine);
+        };
+    }
+
+    /**
+     * Parses one line; a line that is not a valid article is returned as a failed record.
+     */
+    protected abstract ArticleImportRecord parse(long line, String text);
+
+    /**
+     * Reads the next line, counting it; returns null at the end of the input.
+     */
+    protected final String readLine() {
+        try {
+            String text = reader.readLine();
+            if (text != null) {
+                line++;
+            }
+            return text;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading line " + (line + 1) + " failed", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            String text = readLine();
+            if (text == null) {
+                return false;
+            }
+            if (line > fromLine && !text.isBlank()) {
+                next = parse(line, text);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ArticleImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ArticleImportRecord current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
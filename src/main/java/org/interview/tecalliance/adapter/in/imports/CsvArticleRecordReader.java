@@ -0,0 +1,118 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads comma-separated values (RFC 4180) with a header line naming the columns.
+ * <p>
+ * The columns are {@code id}, {@code name}, {@code slogan}, {@code netPrice},
+ * {@code salesPrice} and {@code vatRatio}, in any order; all but {@code id} and
+ * {@code slogan} are required by the import. Discounts cannot be imported from CSV, so an
+ * article imported under the ID of a stored article keeps its discounts. Fields may be
+ * quoted, but every record has to fit on one line. Empty fields are null.
+ * </p>
+ */
+class CsvArticleRecordReader extends ArticleRecordReader {
+
+    private static final Map<String, BiConsumer<Article, String>> COLUMNS = Map.of(
+            "id", Article::setId,
+            "name", Article::setName,
+            "slogan", Article::setSlogan,
+            "netPrice", (article, value) -> article.setNetPrice(new BigDecimal(value)),
+            "salesPrice", (article, value) -> article.setSalesPrice(new BigDecimal(value)),
+            "vatRatio", (article, value) -> article.setVatRatio(new BigDecimal(value)));
+
+    private final List<String> columns;
+
+    /**
+     * Reads the header line right away, so an invalid header is rejected before the import starts.
+     */
+    CsvArticleRecordReader(InputStream input, long fromLine) {
+        super(input, fromLine);
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is empty, expected a header line");
+        }
+        // a byte order mark, as written by spreadsheet applications
+        this.columns = split(header.replace("\uFEFF", "").strip());
+        for (String column : columns) {
+            if (!COLUMNS.containsKey(column)) {
+                throw new IllegalArgumentException("Unknown CSV column '" + column + "', expected one of " + COLUMNS.keySet());
+            }
+        }
+        if (columns.stream().distinct().count() != columns.size()) {
+            throw new IllegalArgumentException("CSV header contains a column twice: " + header);
+        }
+    }
+
+    @Override
+    protected ArticleImportRecord parse(long line, String text) {
+        List<String> values;
+        try {
+            values = split(text);
+        } catch (IllegalArgumentException e) {
+            return ArticleImportRecord.failed(line, e.getMessage());
+        }
+        if (values.size() != columns.size()) {
+            return ArticleImportRecord.failed(line,
+                    "Expected " + columns.size() + " fields but found " + values.size());
+        }
+
+        Article article = new Article();
+        article.setDiscounts(null);
+        for (int i = 0; i < columns.size(); i++) {
+            String value = values.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                COLUMNS.get(columns.get(i)).accept(article, value);
+            } catch (NumberFormatException _) {
+                return ArticleImportRecord.failed(line, "Invalid number '" + value + "' in column " + columns.get(i));
+            }
+        }
+        return ArticleImportRecord.parsed(line, article);
+    }
+
+    /**
+     * Splits one line into its fields, removing the quotes of quoted fields.
+     */
+    static List<String> split(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,48 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import org.interview.tecalliance.domain.model.imports.ImportError;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes the rejected lines of an import as CSV with the columns {@code line} and {@code message}.
+ */
+public class ImportErrorReportWriter implements Consumer<ImportError>, Closeable {
+
+    private final BufferedWriter writer;
+
+    public ImportErrorReportWriter(OutputStream output) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        write("line,message\n");
+    }
+
+    @Override
+    public void accept(ImportError error) {
+        write(error.line() + "," + quote(error.message()) + "\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing the import error report failed", e);
+        }
+    }
+
+    private static String quote(String message) {
+        String text = message != null ? message.replace('\n', ' ').replace('\r', ' ') : "";
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
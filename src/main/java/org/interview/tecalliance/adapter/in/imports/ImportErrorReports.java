@@ -0,0 +1,100 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Stores the error reports of imports made through the API, so they can be downloaded after
+ * the import. Only the most recent reports are kept.
+ */
+@Slf4j
+@Component
+public class ImportErrorReports {
+
+    private static final String SUFFIX = ".errors.csv";
+
+    private final Path directory;
+    private final int retainedReports;
+
+    public ImportErrorReports(@Value("${tecalliance.import.error-report-directory:${java.io.tmpdir}/article-import-errors}") Path directory,
+                              @Value("${tecalliance.import.retained-error-reports:20}") int retainedReports) {
+        this.directory = directory;
+        this.retainedReports = retainedReports;
+    }
+
+    /**
+     * Creates the report of a new import and removes the oldest reports beyond the retained number.
+     *
+     * @return the ID of the import, used to open and download the report
+     */
+    public String create() {
+        String importId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(directory);
+            Files.createFile(path(importId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Creating the import error report failed", e);
+        }
+        removeOldReports();
+        return importId;
+    }
+
+    public ImportErrorReportWriter open(String importId) {
+        try {
+            return new ImportErrorReportWriter(Files.newOutputStream(path(importId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Opening the import error report failed", e);
+        }
+    }
+
+    /**
+     * Returns the report file of the import, or empty if the ID is unknown or its report was removed.
+     */
+    public Optional<Path> find(String importId) {
+        try {
+            UUID.fromString(importId);
+        } catch (IllegalArgumentException _) {
+            return Optional.empty();
+        }
+        Path report = path(importId);
+        return Files.isRegularFile(report) ? Optional.of(report) : Optional.empty();
+    }
+
+    private Path path(String importId) {
+        return directory.resolve(importId + SUFFIX);
+    }
+
+    private void removeOldReports() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> reports = files
+                    .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(ImportErrorReports::lastModified).reversed())
+                    .toList();
+            for (Path report : reports.subList(Math.min(retainedReports, reports.size()), reports.size())) {
+                Files.deleteIfExists(report);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Removing old import error reports failed: {}", e.getMessage());
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The file formats articles can be imported from.
+ */
+public enum ImportFormat {
+
+    /**
+     * One article JSON object per line, as returned by the article endpoints.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, ".ndjson", ".jsonl"),
+
+    /**
+     * A header line naming the columns, then one article per line.
+     */
+    CSV("text/csv", ".csv");
+
+    private final String mediaType;
+    private final String[] fileExtensions;
+
+    ImportFormat(String mediaType, String... fileExtensions) {
+        this.mediaType = mediaType;
+        this.fileExtensions = fileExtensions;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public static ImportFormat fromMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import format: " + mediaType));
+    }
+
+    public static ImportFormat fromFileName(String fileName) {
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> Arrays.stream(format.fileExtensions).anyMatch(lowerCase::endsWith))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import file: " + fileName));
+    }
+}
@@ -0,0 +1,31 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+
+/**
+ * Reads newline-delimited JSON: every line is one article in the representation of the
+ * article endpoints.
+ */
+class NdjsonArticleRecordReader extends ArticleRecordReader {
+
+    private final JsonMapper jsonMapper;
+
+    NdjsonArticleRecordReader(InputStream input, long fromLine, JsonMapper jsonMapper) {
+        super(input, fromLine);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected ArticleImportRecord parse(long line, String text) {
+        try {
+            return ArticleImportRecord.parsed(line, jsonMapper.readValue(text, Article.class));
+        } catch (JacksonException e) {
+            return ArticleImportRecord.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+}
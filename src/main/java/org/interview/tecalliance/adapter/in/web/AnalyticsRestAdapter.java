@@ -0,0 +1,90 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.application.port.in.DiscountCalendarUseCase;
+import org.interview.tecalliance.application.port.in.PriceStatisticsUseCase;
+import org.interview.tecalliance.domain.model.analytics.DiscountCalendar;
+import org.interview.tecalliance.domain.model.analytics.PriceStatistics;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Endpoints for aggregated figures over the whole catalog")
+public class AnalyticsRestAdapter {
+
+    private final DiscountCalendarUseCase discountCalendarUseCase;
+    private final PriceStatisticsUseCase priceStatisticsUseCase;
+
+    @GetMapping("/discount-calendar")
+    @Operation(
+            summary = "Count discounted articles per day",
+            description = "Returns for every day of the range the number of articles with a discount valid on that " +
+                    "day, optionally broken down by discount percentage bands. The whole range is computed in one " +
+                    "pass over the discount periods and cached until the next article write."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Counts per day",
+                    content = @Content(schema = @Schema(implementation = DiscountCalendar.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing or reversed dates, range too long or invalid band boundaries"
+            )
+    })
+    public ResponseEntity<DiscountCalendar> getDiscountCalendar(
+            @Parameter(description = "First day (ISO-8601 format: YYYY-MM-DD)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (ISO-8601 format: YYYY-MM-DD), at most 366 days after the first", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Ascending percentages separating the bands, e.g. 10,20,50 for " +
+                    "[0, 10), [10, 20), [20, 50) and [50, 100]")
+            @RequestParam(required = false) List<BigDecimal> bands) {
+        return ResponseEntity.ok(discountCalendarUseCase.getDiscountCalendar(from, to, bands));
+    }
+
+    @GetMapping("/price-statistics")
+    @Operation(
+            summary = "Summarize the final prices of the catalog",
+            description = "Calculates the final price of every article on the date, with the same rules as the " +
+                    "priced article list, and returns minimum, maximum, mean, percentiles and the total discount " +
+                    "amount. The prices are summarized in one pass without building the priced list; percentiles " +
+                    "are accurate to about 0.1%."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Price distribution",
+                    content = @Content(schema = @Schema(implementation = PriceStatistics.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing date or percentile out of range"
+            )
+    })
+    public ResponseEntity<PriceStatistics> getPriceStatistics(
+            @Parameter(description = "Day the prices apply to (ISO-8601 format: YYYY-MM-DD)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Percentiles between 0 and 100, e.g. 50,90,99; 50,90,95,99 if omitted")
+            @RequestParam(required = false) List<BigDecimal> percentiles) {
+        return ResponseEntity.ok(priceStatisticsUseCase.getPriceStatistics(date, percentiles));
+    }
+}
@@ -0,0 +1,59 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.application.port.in.ArticleChangeFeedUseCase;
+import org.interview.tecalliance.domain.model.changes.ChangePage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/articles")
+@RequiredArgsConstructor
+@Tag(name = "Article Changes", description = "Endpoints for syncing the catalog incrementally")
+public class ArticleChangeFeedRestAdapter {
+
+    private final ArticleChangeFeedUseCase changeFeedUseCase;
+
+    @GetMapping("/changes")
+    @Operation(
+            summary = "Get the changes of the catalog since a token",
+            description = "Returns the articles created, changed or deleted after the position of the token, ordered " +
+                    "by time of the change and article ID. Every article appears once, at its latest change: " +
+                    "upserts carry the whole article, deletions only its ID. Start without token to receive the " +
+                    "whole catalog and continue with the returned nextToken; while hasMore is false, poll with " +
+                    "the same token later. Changes show up a few seconds after they were made. Tokens older than " +
+                    "the retention of deletions (30 days) are rejected and require a full sync."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes retrieved",
+                    content = @Content(schema = @Schema(implementation = ChangePage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or expired token, or invalid limit"
+            ),
+            @ApiResponse(
+                    responseCode = "501",
+                    description = "The configured storage does not support the change feed"
+            )
+    })
+    public ResponseEntity<ChangePage> getChanges(
+            @Parameter(description = "Token returned with the previous page; omit to start at the beginning")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes per page (1-1000)")
+            @RequestParam(required = false, defaultValue = "100") int limit) {
+        return ResponseEntity.ok(changeFeedUseCase.getChanges(since, limit));
+    }
+}
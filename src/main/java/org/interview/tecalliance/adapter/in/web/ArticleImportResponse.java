@@ -0,0 +1,21 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.interview.tecalliance.domain.model.imports.ImportResult;
+
+/**
+ * Response of an article import made through the API.
+ *
+ * @param importId the ID of the import
+ * @param result the number of imported and rejected lines and where to resume
+ * @param errorReport the path of the CSV report listing the rejected lines
+ */
+@Schema(description = "Outcome of an article import with the location of its error report")
+public record ArticleImportResponse(
+        @Schema(description = "ID of the import", example = "5f0c7c1e-8d2b-4d1a-9a53-2f1b6f0e4a7d")
+        String importId,
+        ImportResult result,
+        @Schema(description = "Path of the CSV report listing the rejected lines",
+                example = "/api/v1/articles/imports/5f0c7c1e-8d2b-4d1a-9a53-2f1b6f0e4a7d/errors")
+        String errorReport) {
+}
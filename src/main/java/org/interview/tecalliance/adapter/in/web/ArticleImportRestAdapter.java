@@ -0,0 +1,122 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.adapter.in.imports.ArticleRecordReader;
+import org.interview.tecalliance.adapter.in.imports.ImportErrorReportWriter;
+import org.interview.tecalliance.adapter.in.imports.ImportErrorReports;
+import org.interview.tecalliance.adapter.in.imports.ImportFormat;
+import org.interview.tecalliance.application.port.in.ArticleImportUseCase;
+import org.interview.tecalliance.domain.model.imports.ImportResult;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/articles/imports")
+@RequiredArgsConstructor
+@Tag(name = "Article Import", description = "Endpoints for importing many articles from CSV or NDJSON files")
+public class ArticleImportRestAdapter {
+
+    private static final String CSV = "text/csv";
+
+    private final ArticleImportUseCase articleImportUseCase;
+    private final ImportErrorReports errorReports;
+    private final JsonMapper jsonMapper;
+
+    @PostMapping(consumes = {MediaType.APPLICATION_NDJSON_VALUE, CSV})
+    @Operation(
+            summary = "Import articles",
+            description = "Streams the request body into the catalog in batches: one article JSON per line " +
+                    "(application/x-ndjson), or CSV with a header line naming the columns id, name, slogan, " +
+                    "netPrice, salesPrice and vatRatio (text/csv). Articles with an ID are created or replaced, " +
+                    "so an import can be repeated. Invalid lines are skipped and listed in the error report. " +
+                    "An interrupted import is resumed by sending the same file with fromLine set to the last " +
+                    "processed line."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished; rejected lines are listed in the error report",
+                    content = @Content(schema = @Schema(implementation = ArticleImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported format, invalid CSV header or negative fromLine"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Import stopped early; the body tells the last processed line to resume from",
+                    content = @Content(schema = @Schema(implementation = ArticleImportResponse.class))
+            )
+    })
+    public ResponseEntity<ArticleImportResponse> importArticles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @Parameter(description = "Skip the lines up to and including this one, to resume an interrupted import")
+            @RequestParam(defaultValue = "0") long fromLine,
+            InputStream body) throws IOException {
+        ImportFormat format = ImportFormat.fromMediaType(contentType);
+        ArticleRecordReader records = ArticleRecordReader.open(format, body, fromLine, jsonMapper);
+
+        String importId = errorReports.create();
+        ImportResult result;
+        try (records; ImportErrorReportWriter errors = errorReports.open(importId)) {
+            result = articleImportUseCase.importArticles(records, errors);
+        }
+        log.info("Import {} of {} articles: {} imported, {} failed, last line {}{}", importId, format,
+                result.imported(), result.failed(), result.lastLine(), result.complete() ? "" : " (incomplete)");
+
+        ArticleImportResponse response = new ArticleImportResponse(importId, result,
+                "/api/v1/articles/imports/" + importId + "/errors");
+        return ResponseEntity.status(result.complete() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(response);
+    }
+
+    @GetMapping(value = "/{importId}/errors", produces = CSV)
+    @Operation(
+            summary = "Download the error report of an import",
+            description = "Returns the rejected lines of an import as CSV with the columns line and message. " +
+                    "Only the reports of the most recent imports are kept."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Error report"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown import or report no longer available"
+            )
+    })
+    public ResponseEntity<Resource> getErrorReport(
+            @Parameter(description = "Import ID", required = true)
+            @PathVariable String importId) {
+        return errorReports.find(importId)
+                .<ResponseEntity<Resource>>map(report -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + report.getFileName() + "\"")
+                        .body(new FileSystemResource(report)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
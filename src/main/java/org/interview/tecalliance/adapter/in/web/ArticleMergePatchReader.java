@@ -0,0 +1,80 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.interview.tecalliance.domain.model.article.ArticlePatch;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a JSON Merge Patch (RFC 7396) document into an {@link ArticlePatch}.
+ * <p>
+ * Members with a value set the field, members with {@code null} remove it. The read-only
+ * {@code id} is ignored, {@code version} is taken as the version the patch is based on.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleMergePatchReader {
+
+    private static final TypeReference<List<Discount>> DISCOUNT_LIST = new TypeReference<>() {
+    };
+
+    private final JsonMapper jsonMapper;
+
+    public ArticlePatch read(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+
+        Map<ArticleField, Object> values = new EnumMap<>(ArticleField.class);
+        Long version = null;
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            String name = member.getKey();
+            JsonNode value = member.getValue();
+            switch (name) {
+                case "id" -> {
+                    // read-only
+                }
+                case "version" -> version = value.isNull() ? null : convert(name, value, Long.class);
+                default -> {
+                    ArticleField field = ArticleField.fromProperty(name)
+                            .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + name + "'"));
+                    values.put(field, value.isNull() ? null : readValue(field, value));
+                }
+            }
+        }
+        return new ArticlePatch(values, version);
+    }
+
+    private Object readValue(ArticleField field, JsonNode value) {
+        return switch (field) {
+            case NAME, SLOGAN -> convert(field.property(), value, String.class);
+            case NET_PRICE, SALES_PRICE, VAT_RATIO -> convert(field.property(), value, BigDecimal.class);
+            case DISCOUNTS -> {
+                try {
+                    yield jsonMapper.convertValue(value, DISCOUNT_LIST);
+                } catch (JacksonException | IllegalArgumentException _) {
+                    throw new IllegalArgumentException("Invalid value for field '" + field.property() + "'");
+                }
+            }
+        };
+    }
+
+    private <T> T convert(String name, JsonNode value, Class<T> type) {
+        try {
+            return jsonMapper.treeToValue(value, type);
+        } catch (JacksonException | IllegalArgumentException _) {
+            throw new IllegalArgumentException("Invalid value for field '" + name + "'");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.application.port.in.PriceChangeUseCase;
+import org.interview.tecalliance.domain.model.article.ArticlePriceChange;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/articles")
+@RequiredArgsConstructor
+@Tag(name = "Article Price Changes", description = "Endpoints for the articles whose final price changes")
+public class ArticlePriceChangeRestAdapter {
+
+    private final PriceChangeUseCase priceChangeUseCase;
+
+    @GetMapping("/price-changes")
+    @Operation(
+            summary = "Get the articles whose final price differs between two days",
+            description = "Returns the articles whose final price on the to date differs from the one on the from " +
+                    "date, with both prices and the discounts applied, ordered by article ID. Only articles with a " +
+                    "discount starting or ending between the two days are looked up and priced, so the cost " +
+                    "depends on the number of changes and not on the size of the catalog."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Price changes retrieved",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ArticlePriceChange.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing or invalid date"
+            )
+    })
+    public ResponseEntity<List<ArticlePriceChange>> getPriceChanges(
+            @Parameter(description = "Day of the old prices (ISO-8601 format: YYYY-MM-DD)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Day of the new prices (ISO-8601 format: YYYY-MM-DD)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(priceChangeUseCase.getPriceChanges(from, to));
+    }
+}
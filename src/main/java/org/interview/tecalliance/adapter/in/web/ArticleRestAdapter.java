@@ -2,22 +2,42 @@ package org.interview.tecalliance.adapter.in.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.adapter.in.web.cache.OffHeapArticleJsonCache;
 import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountPage;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.SearchMode;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
 import org.interview.tecalliance.domain.model.article.BaseArticle;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/articles")
@@ -26,6 +46,11 @@ import java.util.List;
 public class ArticleRestAdapter {
 
     private final ArticleUseCase articleUseCase;
+    private final ArticleMergePatchReader mergePatchReader;
+    private final OffHeapArticleJsonCache articleJsonCache;
+    private final JsonMapper jsonMapper;
+    private final SmileMapper smileMapper;
+    private final CBORMapper cborMapper;
 
     @PostMapping
     @Operation(
@@ -54,7 +79,9 @@ public class ArticleRestAdapter {
     @Operation(
             summary = "Get all articles",
             description = "Retrieves all articles with optional filtering by date, pricing, and discount status. " +
-                    "Can return basic articles, articles with calculated prices, or only articles with active discounts."
+                    "Can return basic articles, articles with calculated prices, or only articles with active discounts. " +
+                    "Like all endpoints it also produces Smile (application/x-jackson-smile) and CBOR (application/cbor); " +
+                    "priced lists are streamed in these formats, one article at a time."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -67,22 +94,113 @@ public class ArticleRestAdapter {
                     description = "Invalid query parameters (e.g., date required when withPrices=true)"
             )
     })
-    public ResponseEntity<List<BaseArticle>> getAllArticles(
+    public ResponseEntity<?> getAllArticles(
             @Parameter(description = "Date to calculate prices and discounts (ISO-8601 format: YYYY-MM-DD). Required when withPrices=true or discountOnly=true")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @Parameter(description = "Include calculated prices for the specified date")
             @RequestParam(required = false, defaultValue = "false") boolean withPrices,
             @Parameter(description = "Return only articles with active discounts on the specified date")
-            @RequestParam(required = false, defaultValue = "false") boolean discountOnly) {
+            @RequestParam(required = false, defaultValue = "false") boolean discountOnly,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
+        Optional<MediaType> binaryFormat = BinaryMediaTypes.preferredBinary(accept);
+        if (withPrices && binaryFormat.isPresent()) {
+            return streamArticlesWithPrices(articleUseCase.streamArticlesWithPrices(date, discountOnly), binaryFormat.get());
+        }
         List<BaseArticle> articles = articleUseCase.getArticlesWithFilters(date, withPrices, discountOnly);
         return ResponseEntity.ok(articles);
     }
 
+    /**
+     * Writes the priced articles as one array while they are priced, so neither the priced list
+     * nor its encoding is held in memory as a whole. The articles are loaded before the response
+     * starts, so errors still lead to a regular error response.
+     */
+    private ResponseEntity<StreamingResponseBody> streamArticlesWithPrices(Stream<ArticleWithPrice> articles,
+                                                                          MediaType format) {
+        ObjectWriter writer = (BinaryMediaTypes.CBOR.equals(format) ? cborMapper : smileMapper)
+                .writerFor(ArticleWithPrice.class)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = output -> {
+            try (articles; SequenceWriter array = writer.writeValuesAsArray(output)) {
+                articles.forEach(array::write);
+            }
+        };
+        return ResponseEntity.ok().contentType(format).body(body);
+    }
+
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search articles",
+            description = "Searches articles by name and slogan. PREFIX mode serves autocomplete queries from an " +
+                    "in-memory index, FULL_TEXT mode performs a relevance ranked full-text search. " +
+                    "Results are paginated and can include calculated prices for a given date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching articles",
+                    content = @Content(schema = @Schema(implementation = BaseArticle.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid query parameters (e.g., blank query, invalid page size or date missing when withPrices=true)"
+            )
+    })
+    public ResponseEntity<List<BaseArticle>> searchArticles(
+            @Parameter(description = "Search query", required = true, example = "lap")
+            @RequestParam String q,
+            @Parameter(description = "Search mode")
+            @RequestParam(required = false, defaultValue = "PREFIX") SearchMode mode,
+            @Parameter(description = "Date to calculate prices and discounts (ISO-8601 format: YYYY-MM-DD). Required when withPrices=true")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Include calculated prices for the specified date")
+            @RequestParam(required = false, defaultValue = "false") boolean withPrices,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @Parameter(description = "Page size (1-200)")
+            @RequestParam(required = false, defaultValue = "20") int size) {
+
+        List<BaseArticle> articles = articleUseCase.searchArticles(q, mode, date, withPrices, page, size);
+        return ResponseEntity.ok(articles);
+    }
+
+    @GetMapping("/eligible-for-discount")
+    @Operation(
+            summary = "Find articles eligible for a discount",
+            description = "Retrieves the articles that can take the given discount percentage without their price " +
+                    "going below the net price, the most headroom first. Served by an index on the maximum " +
+                    "discount of each article, which is maintained whenever its prices change."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved eligible articles",
+                    content = @Content(schema = @Schema(implementation = Article.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid query parameters (e.g., percentage not in (0, 100] or invalid page size)"
+            )
+    })
+    public ResponseEntity<List<Article>> getArticlesEligibleForDiscount(
+            @Parameter(description = "Planned discount percentage (greater than 0, at most 100)", required = true, example = "25")
+            @RequestParam BigDecimal discountPercentage,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @Parameter(description = "Page size (1-200)")
+            @RequestParam(required = false, defaultValue = "20") int size) {
+
+        List<Article> articles = articleUseCase.getArticlesEligibleForDiscount(discountPercentage, page, size);
+        return ResponseEntity.ok(articles);
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Get article by ID",
-            description = "Retrieves a specific article by its unique identifier"
+            description = "Retrieves a specific article by its unique identifier. " +
+                    "Discounts can be omitted or limited to those intersecting a date window."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -95,10 +213,119 @@ public class ArticleRestAdapter {
                     description = "Article not found"
             )
     })
-    public ResponseEntity<Article> getArticleById(
+    public ResponseEntity<?> getArticleById(
             @Parameter(description = "Article ID", required = true, example = "507f1f77bcf86cd799439011")
-            @PathVariable String id) {
-        return articleUseCase.getArticleById(id)
+            @PathVariable String id,
+            @Parameter(description = "Include discounts that ended before today (only relevant for storage layouts that keep the discount history separately)")
+            @RequestParam(required = false, defaultValue = "false") boolean discountHistory,
+            @Parameter(description = "Include the discounts of the article")
+            @RequestParam(required = false, defaultValue = "true") boolean includeDiscounts,
+            @Parameter(description = "Only include discounts valid on or after this date (ISO-8601 format: YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate discountsFrom,
+            @Parameter(description = "Only include discounts valid on or before this date (ISO-8601 format: YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate discountsTo,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Optional<Article> article;
+        if (!includeDiscounts) {
+            article = articleUseCase.getArticleWithoutDiscounts(id);
+        } else if (discountsFrom != null || discountsTo != null) {
+            article = articleUseCase.getArticleWithDiscountsIn(id, new DiscountWindow(discountsFrom, discountsTo));
+        } else if (discountHistory || BinaryMediaTypes.preferredBinary(accept).isPresent()) {
+            // the cache only holds JSON
+            article = articleUseCase.getArticleById(id, discountHistory);
+        } else {
+            return getCachedArticleJson(id);
+        }
+        return article
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Serves the default representation of an article from the off-heap JSON cache, serializing
+     * and caching it on a miss. Cached bytes are written as they are, without deserializing them.
+     */
+    private ResponseEntity<byte[]> getCachedArticleJson(String id) {
+        byte[] json = articleJsonCache.get(id);
+        if (json == null) {
+            long stamp = articleJsonCache.stamp();
+            Optional<Article> article = articleUseCase.getArticleById(id, false);
+            if (article.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            json = jsonMapper.writeValueAsBytes(article.get());
+            articleJsonCache.put(id, json, stamp);
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+    }
+
+    @GetMapping("/{id}/discounts")
+    @Operation(
+            summary = "Get discounts of an article",
+            description = "Retrieves the discounts of an article intersecting an optional date window, ordered by start date. " +
+                    "Results are paginated with an opaque cursor returned as nextCursor."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Discounts retrieved",
+                    content = @Content(schema = @Schema(implementation = DiscountPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid window, limit or cursor"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Article not found"
+            )
+    })
+    public ResponseEntity<DiscountPage> getArticleDiscounts(
+            @Parameter(description = "Article ID", required = true, example = "507f1f77bcf86cd799439011")
+            @PathVariable String id,
+            @Parameter(description = "Window start (ISO-8601 format: YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Window end (ISO-8601 format: YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Maximum number of discounts per page (1-200)")
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor) {
+        return articleUseCase.getArticleDiscounts(id, new DiscountWindow(from, to), limit, cursor)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/discounts/archive")
+    @Operation(
+            summary = "Get archived discounts of an article",
+            description = "Retrieves the expired discounts that the compaction job moved out of the article, " +
+                    "intersecting an optional date window and ordered by start date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Archived discounts retrieved",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Discount.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid window"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Article not found"
+            )
+    })
+    public ResponseEntity<List<Discount>> getArchivedDiscounts(
+            @Parameter(description = "Article ID", required = true, example = "507f1f77bcf86cd799439011")
+            @PathVariable String id,
+            @Parameter(description = "Window start (ISO-8601 format: YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Window end (ISO-8601 format: YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return articleUseCase.getArchivedDiscounts(id, new DiscountWindow(from, to))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -121,6 +348,10 @@ public class ArticleRestAdapter {
             @ApiResponse(
                     responseCode = "404",
                     description = "Article not found"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The article was modified since the version sent with the update"
             )
     })
     public ResponseEntity<Article> updateArticle(
@@ -133,6 +364,43 @@ public class ArticleRestAdapter {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE,
+            BinaryMediaTypes.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+            summary = "Partially update an article",
+            description = "Applies a JSON Merge Patch (RFC 7396) to an article. Only fields that actually change are written, " +
+                    "a patch that changes nothing performs no write. Discounts are replaced as a whole and only validated " +
+                    "again if prices or discounts change. An optional version rejects the patch if the article was modified since."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Article patched successfully",
+                    content = @Content(schema = @Schema(implementation = Article.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid patch or validation error (e.g., overlapping discounts)"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Article not found"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The article was modified since the version sent with the patch"
+            )
+    })
+    public ResponseEntity<Article> patchArticle(
+            @Parameter(description = "Article ID", required = true, example = "507f1f77bcf86cd799439011")
+            @PathVariable String id,
+            @Parameter(description = "Merge patch with the fields to change, null removes a field", required = true)
+            @RequestBody JsonNode patch) {
+        return articleUseCase.patchArticle(id, mergePatchReader.read(patch))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Delete an article",
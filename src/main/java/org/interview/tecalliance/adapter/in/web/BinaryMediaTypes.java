@@ -0,0 +1,56 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The binary representations offered next to JSON, and which one a client prefers.
+ */
+final class BinaryMediaTypes {
+
+    static final String SMILE_VALUE = "application/x-jackson-smile";
+    static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+    static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    private BinaryMediaTypes() {
+    }
+
+    /**
+     * Returns Smile or CBOR if the Accept header ranks one of them above JSON, otherwise empty.
+     * A binary type wins over a wildcard of the same quality and loses a tie with JSON.
+     * Handlers that write a representation themselves use it to pick the format; all other
+     * responses are negotiated by the message converters.
+     */
+    static Optional<MediaType> preferredBinary(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Optional.empty();
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException _) {
+            return Optional.empty();
+        }
+
+        MediaType binary = null;
+        double binaryQuality = 0;
+        double jsonQuality = 0;
+        for (MediaType mediaType : acceptable) {
+            double quality = mediaType.getQualityValue();
+            // a wildcard is less specific than a binary type it competes with
+            if (mediaType.isConcrete() && mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                jsonQuality = Math.max(jsonQuality, quality);
+            }
+            for (MediaType candidate : List.of(SMILE, CBOR)) {
+                if (mediaType.equalsTypeAndSubtype(candidate) && quality > binaryQuality) {
+                    binary = candidate;
+                    binaryQuality = quality;
+                }
+            }
+        }
+        return binary != null && binaryQuality > jsonQuality ? Optional.of(binary) : Optional.empty();
+    }
+}
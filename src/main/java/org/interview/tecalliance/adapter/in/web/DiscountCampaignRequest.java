@@ -0,0 +1,17 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+
+/**
+ * Request to add a discount to many articles.
+ *
+ * @param discount the discount to add to every selected article
+ * @param selector the articles to add it to
+ */
+@Schema(description = "Discount campaign: a discount and the articles to add it to")
+public record DiscountCampaignRequest(
+        Discount discount,
+        CampaignSelector selector) {
+}
@@ -0,0 +1,118 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.application.port.in.CampaignSimulationUseCase;
+import org.interview.tecalliance.application.port.in.DiscountCampaignUseCase;
+import org.interview.tecalliance.domain.model.campaign.CampaignSimulation;
+import org.interview.tecalliance.domain.model.campaign.CampaignStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/campaigns")
+@RequiredArgsConstructor
+@Tag(name = "Discount Campaigns", description = "Endpoints for adding a discount to many articles at once")
+public class DiscountCampaignRestAdapter {
+
+    private final DiscountCampaignUseCase discountCampaignUseCase;
+    private final CampaignSimulationUseCase campaignSimulationUseCase;
+
+    @PostMapping
+    @Operation(
+            summary = "Start a discount campaign",
+            description = "Adds the discount to every article matching the selector, in the background. The discount " +
+                    "is added to an article only if it does not overlap one of its discounts and keeps its price at " +
+                    "or above the net price; the other articles are counted as rejected. Campaigns run one after " +
+                    "the other, in throttled batches. Poll the returned location for the progress."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Campaign accepted",
+                    content = @Content(schema = @Schema(implementation = CampaignStatus.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Incomplete or invalid discount, or empty selector"
+            ),
+            @ApiResponse(
+                    responseCode = "501",
+                    description = "The configured storage does not support campaigns"
+            )
+    })
+    public ResponseEntity<CampaignStatus> startCampaign(
+            @Parameter(description = "Discount and article selector", required = true)
+            @RequestBody DiscountCampaignRequest request) {
+        CampaignStatus status = discountCampaignUseCase.startCampaign(request.discount(), request.selector());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/campaigns/" + status.id()))
+                .body(status);
+    }
+
+    @PostMapping("/simulations")
+    @Operation(
+            summary = "Simulate a discount campaign",
+            description = "Evaluates the discount against every article matching the selector, or the whole catalog " +
+                    "if no selector is given, without changing anything. Returns how many articles the campaign " +
+                    "would change and reject, the revenue impact and a sample of the rejected articles."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Simulation outcome",
+                    content = @Content(schema = @Schema(implementation = CampaignSimulation.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Incomplete or invalid discount or selector, or sample size out of range"
+            )
+    })
+    public ResponseEntity<CampaignSimulation> simulateCampaign(
+            @Parameter(description = "Discount and optional article selector", required = true)
+            @RequestBody DiscountCampaignRequest request,
+            @Parameter(description = "Maximum number of rejected articles to return (0-200)", example = "20")
+            @RequestParam(defaultValue = "20") int sampleSize) {
+        return ResponseEntity.ok(campaignSimulationUseCase.simulateCampaign(
+                request.discount(), request.selector(), sampleSize));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Get the progress of a discount campaign",
+            description = "Returns the state and the number of applied and rejected articles so far. " +
+                    "Only the most recent campaigns are kept."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Campaign progress",
+                    content = @Content(schema = @Schema(implementation = CampaignStatus.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown campaign or no longer kept"
+            )
+    })
+    public ResponseEntity<CampaignStatus> getCampaign(
+            @Parameter(description = "Campaign ID", required = true)
+            @PathVariable String id) {
+        return discountCampaignUseCase.getCampaign(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,119 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.interview.tecalliance.application.port.in.RepricingUseCase;
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+import org.interview.tecalliance.domain.model.repricing.RepricingStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/repricing-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Repricing", description = "Endpoints for changing the VAT ratio and sales price of many articles")
+public class RepricingRestAdapter {
+
+    private final RepricingUseCase repricingUseCase;
+
+    @PostMapping
+    @Operation(
+            summary = "Schedule a VAT ratio change",
+            description = "Sets the new VAT ratio, and optionally adjusts the sales price, of every article with the " +
+                    "current VAT ratio. The job starts at the effective time and runs in the background in " +
+                    "throttled batches. If the adjusted sales price would make the discounts of an article invalid, " +
+                    "it only gets the new VAT ratio and is counted as VAT only; articles whose discounts are invalid " +
+                    "either way are counted as rejected. Poll the returned location for the progress."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job accepted",
+                    content = @Content(schema = @Schema(implementation = RepricingStatus.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing or invalid VAT ratio or price adjustment"
+            ),
+            @ApiResponse(
+                    responseCode = "501",
+                    description = "The configured storage does not support repricing"
+            )
+    })
+    public ResponseEntity<RepricingStatus> startRepricing(
+            @Parameter(description = "VAT ratio change", required = true)
+            @RequestBody RepricingRequest request) {
+        RepricingStatus status = repricingUseCase.startRepricing(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/repricing-jobs/" + status.id()))
+                .body(status);
+    }
+
+    @PostMapping("/{id}/resume")
+    @Operation(
+            summary = "Resume a failed repricing job",
+            description = "Continues the job after the last batch it finished."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job queued again",
+                    content = @Content(schema = @Schema(implementation = RepricingStatus.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "The job has not failed"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown job or no longer kept"
+            )
+    })
+    public ResponseEntity<RepricingStatus> resumeRepricing(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String id) {
+        return repricingUseCase.resumeRepricing(id)
+                .map(status -> ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/repricing-jobs/" + status.id()))
+                        .body(status))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Get the progress of a repricing job",
+            description = "Returns the state, the number of repriced, VAT only, rejected and conflicting articles, the " +
+                    "throughput and the most recent batches. Only the most recent jobs are kept."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job progress",
+                    content = @Content(schema = @Schema(implementation = RepricingStatus.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown job or no longer kept"
+            )
+    })
+    public ResponseEntity<RepricingStatus> getRepricing(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String id) {
+        return repricingUseCase.getRepricing(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
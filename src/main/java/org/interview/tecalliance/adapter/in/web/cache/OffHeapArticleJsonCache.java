@@ -0,0 +1,286 @@
+package org.interview.tecalliance.adapter.in.web.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.common.ObjectIdLongMap;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cache of the serialized JSON of articles, kept outside the Java heap.
+ * <p>
+ * A cached article costs one primitive index entry on the heap; its bytes live in fixed-size
+ * slabs allocated with the FFM API, so a large cache neither grows the heap nor adds objects
+ * the garbage collector has to trace. The slabs form a ring that is filled like a log: new
+ * entries are appended to the current slab, and when it is full the next slab is reclaimed.
+ * Eviction is a clock (second chance) over that ring: entries read since they were written
+ * are moved to the start of the reclaimed slab, the others are dropped. Each entry is
+ * <pre>
+ * 12 byte article ID | int length | long stored at (nanos) | byte referenced | JSON (length bytes)
+ * </pre>
+ * </p>
+ * <p>
+ * Entries are invalidated by the application service through {@link ArticleCachePort}. A read
+ * that started before an invalidation cannot put its possibly outdated result afterwards: callers
+ * take a {@link #stamp()} before loading the article and pass it to {@link #put(String, byte[], long)}.
+ * Writes not made through the application, such as on other instances, are only picked up
+ * when the entry's time to live has passed.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OffHeapArticleJsonCache implements ArticleCachePort, DisposableBean {
+
+    private static final int ID_BYTES = 12;
+    private static final int LENGTH_OFFSET = ID_BYTES;
+    private static final int STORED_AT_OFFSET = LENGTH_OFFSET + Integer.BYTES;
+    private static final int REFERENCED_OFFSET = STORED_AT_OFFSET + Long.BYTES;
+    private static final int HEADER_SIZE = REFERENCED_OFFSET + Byte.BYTES;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ObjectIdLongMap index = new ObjectIdLongMap();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Arena arena = Arena.ofShared();
+    private final MemorySegment[] slabs;
+    private final int[] slabEnds;
+    private final int slabSize;
+    private final long timeToLive;
+
+    private int head;
+    private boolean closed;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public OffHeapArticleJsonCache(@Value("${tecalliance.cache.article-json.capacity:64MB}") DataSize capacity,
+                                   @Value("${tecalliance.cache.article-json.slab-size:1MB}") DataSize slabSize,
+                                   @Value("${tecalliance.cache.article-json.time-to-live:PT5M}") Duration timeToLive,
+                                   MeterRegistry meterRegistry) {
+        if (slabSize.toBytes() <= HEADER_SIZE || slabSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid article JSON cache slab size: " + slabSize);
+        }
+        this.slabSize = (int) slabSize.toBytes();
+        this.slabs = new MemorySegment[(int) (capacity.toBytes() / slabSize.toBytes())];
+        this.slabEnds = new int[slabs.length];
+        this.timeToLive = timeToLive.toNanos();
+
+        this.hits = Counter.builder("articles.cache.requests")
+                .description("Article JSON cache lookups")
+                .tag("outcome", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("articles.cache.requests")
+                .description("Article JSON cache lookups")
+                .tag("outcome", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("articles.cache.evictions")
+                .description("Articles dropped from the JSON cache to make room for others")
+                .register(meterRegistry);
+        Gauge.builder("articles.cache.entries", this, OffHeapArticleJsonCache::size)
+                .description("Articles in the JSON cache")
+                .register(meterRegistry);
+        Gauge.builder("articles.cache.off.heap.bytes", this, OffHeapArticleJsonCache::allocatedBytes)
+                .description("Off-heap memory allocated by the article JSON cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("Article JSON cache with {} slabs of {} bytes", slabs.length, this.slabSize);
+    }
+
+    /**
+     * Returns the cached JSON of the article, or null if it is not cached or expired.
+     */
+    public byte[] get(String id) {
+        if (!ObjectId.isValid(id)) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            long location = closed ? -1 : index.get(new ObjectId(id));
+            if (location < 0) {
+                misses.increment();
+                return null;
+            }
+            MemorySegment slab = slabs[slabOf(location)];
+            long offset = offsetOf(location);
+            if (isExpired(slab, offset)) {
+                misses.increment();
+                return null;
+            }
+            // a racy write of the same value from concurrent readers; reclaiming reads it under the write lock
+            slab.set(ValueLayout.JAVA_BYTE, offset + REFERENCED_OFFSET, (byte) 1);
+            byte[] json = new byte[slab.get(INT, offset + LENGTH_OFFSET)];
+            MemorySegment.copy(slab, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE, json, 0, json.length);
+            hits.increment();
+            return json;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be taken before loading an article that will be put.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches the JSON of the article, unless an invalidation happened since the stamp was taken
+     * or the JSON is too large for a slab.
+     */
+    public void put(String id, byte[] json, long stamp) {
+        int entrySize = HEADER_SIZE + json.length;
+        if (slabs.length == 0 || entrySize > slabSize / 2 || !ObjectId.isValid(id)) {
+            return;
+        }
+        ObjectId objectId = new ObjectId(id);
+        lock.writeLock().lock();
+        try {
+            if (closed || stamp != invalidations.get()) {
+                return;
+            }
+            if (slabs[head] == null || slabEnds[head] + entrySize > slabSize) {
+                advance();
+            }
+            int offset = slabEnds[head];
+            MemorySegment slab = slabs[head];
+            MemorySegment.copy(objectId.toByteArray(), 0, slab, ValueLayout.JAVA_BYTE, offset, ID_BYTES);
+            slab.set(INT, offset + LENGTH_OFFSET, json.length);
+            slab.set(LONG, offset + STORED_AT_OFFSET, System.nanoTime());
+            slab.set(ValueLayout.JAVA_BYTE, offset + REFERENCED_OFFSET, (byte) 0);
+            MemorySegment.copy(json, 0, slab, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE, json.length);
+            slabEnds[head] = offset + entrySize;
+            index.put(objectId, location(head, offset));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void evict(String id) {
+        lock.writeLock().lock();
+        try {
+            invalidations.incrementAndGet();
+            if (ObjectId.isValid(id)) {
+                index.remove(new ObjectId(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        lock.writeLock().lock();
+        try {
+            invalidations.incrementAndGet();
+            index.clear();
+            Arrays.fill(slabEnds, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            index.clear();
+            arena.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the head to the next slab of the ring, allocating it on first use and reclaiming it
+     * afterwards: entries that were read since they were written get a second chance and are
+     * kept at the start of the slab, as long as they fill at most half of it.
+     */
+    private void advance() {
+        if (slabs[head] != null) {
+            head = (head + 1) % slabs.length;
+        }
+        if (slabs[head] == null) {
+            slabs[head] = arena.allocate(slabSize);
+            slabEnds[head] = 0;
+            return;
+        }
+        MemorySegment slab = slabs[head];
+        int end = slabEnds[head];
+        int kept = 0;
+        for (int offset = 0; offset < end; ) {
+            int entrySize = HEADER_SIZE + slab.get(INT, offset + LENGTH_OFFSET);
+            ObjectId id = new ObjectId(slab.asSlice(offset, ID_BYTES).toArray(ValueLayout.JAVA_BYTE));
+            if (index.get(id) == location(head, offset)) {
+                boolean referenced = slab.get(ValueLayout.JAVA_BYTE, offset + REFERENCED_OFFSET) != 0;
+                if (referenced && !isExpired(slab, offset) && kept + entrySize <= slabSize / 2) {
+                    MemorySegment.copy(slab, offset, slab, kept, entrySize);
+                    slab.set(ValueLayout.JAVA_BYTE, kept + REFERENCED_OFFSET, (byte) 0);
+                    index.put(id, location(head, kept));
+                    kept += entrySize;
+                } else {
+                    index.remove(id);
+                    evictions.increment();
+                }
+            }
+            offset += entrySize;
+        }
+        slabEnds[head] = kept;
+    }
+
+    private boolean isExpired(MemorySegment slab, long offset) {
+        return System.nanoTime() - slab.get(LONG, offset + STORED_AT_OFFSET) > timeToLive;
+    }
+
+    private long allocatedBytes() {
+        long allocated = 0;
+        for (MemorySegment slab : slabs) {
+            if (slab != null) {
+                allocated += slab.byteSize();
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Index values have to be positive, so the slab number is stored plus one.
+     */
+    private static long location(int slab, int offset) {
+        return (long) (slab + 1) << 32 | offset;
+    }
+
+    private static int slabOf(long location) {
+        return (int) (location >>> 32) - 1;
+    }
+
+    private static long offsetOf(long location) {
+        return location & 0xFFFFFFFFL;
+    }
+}
@@ -0,0 +1,128 @@
+package org.interview.tecalliance.adapter.out.persistence;
+
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.springframework.context.SmartLifecycle;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Base class for decorators of the persistence port, forwarding every call to the wrapped port.
+ * <p>
+ * Decorators override only the operations they change. The active persistence adapter is
+ * registered under the bean name {@value #ADAPTER_BEAN}; the {@code ArticlePersistenceConfig}
+ * stacks the enabled decorators on it and registers the primary {@link ArticlePersistencePort}.
+ * Decorators with a lifecycle run in phases from {@link #DECORATOR_PHASE} on, before the web
+ * server, so they are started before the first request and stopped after the last one.
+ * </p>
+ */
+public abstract class ForwardingArticlePersistencePort implements ArticlePersistencePort {
+
+    public static final String ADAPTER_BEAN = "articlePersistenceAdapter";
+
+    protected static final int DECORATOR_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ArticlePersistencePort delegate;
+
+    protected ForwardingArticlePersistencePort(ArticlePersistencePort delegate) {
+        this.delegate = delegate;
+    }
+
+    protected ArticlePersistencePort delegate() {
+        return delegate;
+    }
+
+    @Override
+    public Article save(Article article) {
+        return delegate.save(article);
+    }
+
+    @Override
+    public List<SaveResult> saveAll(List<Article> articles) {
+        return delegate.saveAll(articles);
+    }
+
+    @Override
+    public Optional<Article> replace(Article article) {
+        return delegate.replace(article);
+    }
+
+    @Override
+    public Optional<Article> update(String id, Map<ArticleField, Object> changes, long expectedVersion) {
+        return delegate.update(id, changes, expectedVersion);
+    }
+
+    @Override
+    public Optional<Article> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Article> findById(String id, boolean includeDiscountHistory) {
+        return delegate.findById(id, includeDiscountHistory);
+    }
+
+    @Override
+    public List<Article> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Article> findByIdWithoutDiscounts(String id) {
+        return delegate.findByIdWithoutDiscounts(id);
+    }
+
+    @Override
+    public Optional<Article> findByIdWithDiscountsIn(String id, DiscountWindow window) {
+        return delegate.findByIdWithDiscountsIn(id, window);
+    }
+
+    @Override
+    public Optional<List<Discount>> findDiscounts(String id, DiscountWindow window, int offset, int limit) {
+        return delegate.findDiscounts(id, window, offset, limit);
+    }
+
+    @Override
+    public List<Article> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Article> findAllWithDiscountsValidFrom(LocalDate date) {
+        return delegate.findAllWithDiscountsValidFrom(date);
+    }
+
+    @Override
+    public List<Article> findWithDiscountActiveOn(LocalDate date) {
+        return delegate.findWithDiscountActiveOn(date);
+    }
+
+    @Override
+    public List<Article> searchByText(String text, int offset, int limit) {
+        return delegate.searchByText(text, offset, limit);
+    }
+
+    @Override
+    public List<Article> findEligibleForDiscount(BigDecimal discountPercentage, int offset, int limit) {
+        return delegate.findEligibleForDiscount(discountPercentage, offset, limit);
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return delegate.existsById(id);
+    }
+}
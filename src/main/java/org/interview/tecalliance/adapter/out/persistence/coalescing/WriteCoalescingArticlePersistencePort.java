@@ -0,0 +1,206 @@
+package org.interview.tecalliance.adapter.out.persistence.coalescing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent {@link #save(Article) saves} into bulk writes (group commit).
+ * <p>
+ * Callers still save one article at a time and block until their own article is written.
+ * Their saves are queued, and a single writer thread collects them for at most the
+ * configured window or until the maximum batch size is reached, then writes the whole batch
+ * with {@link ArticlePersistencePort#saveAll(List)}. Every caller gets the outcome of its own
+ * article: one rejected article (for example a duplicate key) fails only its own save.
+ * If the batch cannot be written at all, every caller of the batch gets that failure.
+ * </p>
+ * <p>
+ * Under low load a save waits up to one window longer than before; under high load many
+ * saves share one round-trip. All other operations are passed through unchanged. The writer
+ * thread runs between {@link #start()} and {@link #stop()}; saves outside that time are written
+ * directly.
+ * </p>
+ */
+@Slf4j
+public class WriteCoalescingArticlePersistencePort extends ForwardingArticlePersistencePort implements SmartLifecycle {
+
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingSave> queue = new LinkedBlockingQueue<>();
+    private Thread writer;
+    private volatile boolean running;
+
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+    private final Timer queueWait;
+
+    public WriteCoalescingArticlePersistencePort(ArticlePersistencePort delegate,
+                                                 MeterRegistry meterRegistry,
+                                                 Duration window,
+                                                 int maxBatchSize) {
+        super(delegate);
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Write coalescing window must not be negative: " + window);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Write coalescing batch size must be positive: " + maxBatchSize);
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+
+        this.batchSize = DistributionSummary.builder("articles.write.coalescing.batch.size")
+                .description("Articles written per coalesced bulk write")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("articles.write.coalescing.flush")
+                .description("Duration of one coalesced bulk write")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("articles.write.coalescing.wait")
+                .description("Time a save waited for its batch to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("article-write-coalescer").daemon().start(this::writeLoop);
+        log.info("Coalescing article saves within {} into batches of up to {}", window, maxBatchSize);
+    }
+
+    @Override
+    public Article save(Article article) {
+        if (!running) {
+            return super.save(article);
+        }
+        PendingSave pending = new PendingSave(article, new CompletableFuture<>(), System.nanoTime());
+        queue.add(pending);
+        // the writer may have stopped between the check and the enqueue; then nobody drains the queue
+        if (!running && queue.remove(pending)) {
+            return super.save(article);
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the writer thread after it wrote its current batch, then writes the saves still queued.
+     * The writer is not interrupted, so a bulk write in progress is not aborted.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingSave> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, maxBatchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Started before and stopped after the web server, and stopped before the layers it writes to.
+     */
+    @Override
+    public int getPhase() {
+        return DECORATOR_PHASE + 1;
+    }
+
+    private void writeLoop() {
+        List<PendingSave> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first save, then keeps collecting until the window closes or the batch is full.
+     * Returns without a batch when no save arrives within the idle poll, so a shutdown is noticed.
+     */
+    private void collect(List<PendingSave> batch) throws InterruptedException {
+        PendingSave first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + window.toNanos();
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingSave next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void flush(List<PendingSave> batch) {
+        long start = System.nanoTime();
+        batchSize.record(batch.size());
+        try {
+            List<SaveResult> results = delegate().saveAll(batch.stream().map(PendingSave::article).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                SaveResult result = results.get(i);
+                if (result.isSaved()) {
+                    batch.get(i).result().complete(result.article());
+                } else {
+                    batch.get(i).result().completeExceptionally(result.failure());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Coalesced write of {} articles failed", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        } finally {
+            long end = System.nanoTime();
+            flushLatency.record(end - start, TimeUnit.NANOSECONDS);
+            batch.forEach(pending -> queueWait.record(end - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private record PendingSave(Article article, CompletableFuture<Article> result, long enqueuedAt) {
+    }
+}
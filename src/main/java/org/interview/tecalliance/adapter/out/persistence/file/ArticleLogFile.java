@@ -0,0 +1,244 @@
+package org.interview.tecalliance.adapter.out.persistence.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of article records in a memory-mapped file.
+ * <p>
+ * The file starts with an 8 byte magic number, followed by records:
+ * <pre>
+ * int length | int crc32c(type, payload) | byte type | payload (length bytes)
+ * </pre>
+ * all little-endian. The file is mapped larger than the data it holds; the unused tail is
+ * zero, so a length of 0 marks the end of the log. Records are only ever appended, so a crash
+ * can at most leave the last record incomplete: {@link #replay(RecordHandler)} stops at the
+ * first record whose length or checksum does not match and appends continue from there.
+ * </p>
+ * <p>
+ * When the mapping is full, it is replaced by one twice as large. Not thread-safe; the
+ * adapter guards it with its lock.
+ * </p>
+ */
+@Slf4j
+class ArticleLogFile implements AutoCloseable {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final long MAGIC = 0x3130474F4C545241L; // "ARTLOG01"
+    private static final int FILE_HEADER_SIZE = Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+    private final long initialCapacity;
+    private FileChannel channel;
+    private Arena arena;
+    private MemorySegment segment;
+    private long end = FILE_HEADER_SIZE;
+
+    ArticleLogFile(Path path, long initialCapacity) {
+        this.path = path;
+        this.initialCapacity = Math.max(initialCapacity, 4096);
+        try {
+            Files.deleteIfExists(compactionFile());
+            boolean created = !Files.exists(path);
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (!created && channel.size() < FILE_HEADER_SIZE) {
+                throw new IllegalStateException(path + " is not an article log");
+            }
+            map(Math.max(channel.size(), this.initialCapacity));
+            if (created) {
+                segment.set(LONG, 0, MAGIC);
+            } else if (segment.get(LONG, 0) != MAGIC) {
+                throw new IllegalStateException(path + " is not an article log");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open article log " + path, e);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Bytes used by the file header and all records.
+     */
+    long size() {
+        return end;
+    }
+
+    /**
+     * Reads all complete records in order and positions the log after the last one.
+     * An incomplete or corrupt tail left by a crash is discarded.
+     */
+    void replay(RecordHandler handler) {
+        long offset = FILE_HEADER_SIZE;
+        while (offset + RECORD_HEADER_SIZE <= segment.byteSize()) {
+            int length = segment.get(INT, offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || offset + RECORD_HEADER_SIZE + length > segment.byteSize()
+                    || segment.get(INT, offset + Integer.BYTES) != checksum(offset, length)) {
+                log.warn("Discarding incomplete record at offset {} of {} and everything after it", offset, path);
+                segment.asSlice(offset).fill((byte) 0);
+                break;
+            }
+            handler.record(offset, segment.get(ValueLayout.JAVA_BYTE, offset + 2 * Integer.BYTES), payload(offset));
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        end = offset;
+    }
+
+    /**
+     * Appends a record and returns its offset. The record is durable only after {@link #force()}.
+     */
+    long append(byte type, byte[] payload) {
+        long offset = end;
+        long recordSize = RECORD_HEADER_SIZE + (long) payload.length;
+        ensureCapacity(offset + recordSize);
+
+        MemorySegment.copy(payload, 0, segment, ValueLayout.JAVA_BYTE, offset + RECORD_HEADER_SIZE, payload.length);
+        segment.set(ValueLayout.JAVA_BYTE, offset + 2 * Integer.BYTES, type);
+        segment.set(INT, offset + Integer.BYTES, checksum(offset, payload.length));
+        segment.set(INT, offset, payload.length);
+        end = offset + recordSize;
+        return offset;
+    }
+
+    /**
+     * Returns a read-only view of the payload of the record at the offset. The view is only
+     * valid until the log is grown, compacted or closed.
+     */
+    ByteBuffer payload(long offset) {
+        int length = segment.get(INT, offset);
+        return segment.asSlice(offset + RECORD_HEADER_SIZE, length).asByteBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Size of the record at the offset, including its header.
+     */
+    long recordSize(long offset) {
+        return RECORD_HEADER_SIZE + (long) segment.get(INT, offset);
+    }
+
+    static long recordSize(byte[] payload) {
+        return RECORD_HEADER_SIZE + (long) payload.length;
+    }
+
+    /**
+     * Writes the records at the given offsets to a new file that then replaces the log.
+     * The new file is complete and flushed before it replaces the old one, so a crash during
+     * compaction leaves the old log intact.
+     *
+     * @param liveOffsets the offsets of the records to keep, in ascending order
+     * @return the offsets of the kept records in the new log, in the same order
+     */
+    long[] compact(long[] liveOffsets) {
+        Path target = compactionFile();
+        long[] newOffsets = new long[liveOffsets.length];
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN).putLong(0, MAGIC);
+            writeFully(out, header);
+            long position = FILE_HEADER_SIZE;
+            for (int i = 0; i < liveOffsets.length; i++) {
+                long size = recordSize(liveOffsets[i]);
+                newOffsets[i] = position;
+                writeFully(out, segment.asSlice(liveOffsets[i], size).asByteBuffer());
+                position += size;
+            }
+            out.force(true);
+
+            close();
+            Files.move(target, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            map(Math.max(position * 2, initialCapacity));
+            end = position;
+            return newOffsets;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact article log " + path, e);
+        }
+    }
+
+    /**
+     * Flushes all appended records to the storage device.
+     */
+    void force() {
+        segment.force();
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            segment.force();
+            arena.close();
+            arena = null;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close article log " + path, e);
+        }
+    }
+
+    private void ensureCapacity(long required) {
+        if (required <= segment.byteSize()) {
+            return;
+        }
+        long capacity = segment.byteSize();
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        segment.force();
+        arena.close();
+        try {
+            map(capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow article log " + path, e);
+        }
+    }
+
+    private void map(long capacity) throws IOException {
+        arena = Arena.ofShared();
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity, arena);
+    }
+
+    private int checksum(long offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(segment.asSlice(offset + 2 * Integer.BYTES, Byte.BYTES + (long) length).asByteBuffer());
+        return (int) crc.getValue();
+    }
+
+    private Path compactionFile() {
+        return path.resolveSibling(path.getFileName() + ".compact");
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void record(long offset, byte type, ByteBuffer payload);
+    }
+}
@@ -0,0 +1,544 @@
+package org.interview.tecalliance.adapter.out.persistence.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonType;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.common.ObjectIdLongMap;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Persistence adapter storing articles in a local file instead of MongoDB, for edge
+ * deployments and test runs. Active with the {@value #PROFILE} Spring profile.
+ * <p>
+ * Every save appends the complete article, encoded as BSON by the {@link ArticleCodec}, to an
+ * append-only memory-mapped log ({@link ArticleLogFile}); a delete appends a delete marker.
+ * An open-addressing hash index in memory ({@link ObjectIdLongMap}) maps each article ID
+ * to the offset of its latest record, so a lookup reads exactly one record. At startup the
+ * index is rebuilt by replaying the log, which also discards a record left incomplete by a
+ * crash. Records replaced or deleted later are garbage; the log is compacted periodically
+ * once garbage makes up the configured share of it.
+ * </p>
+ * <p>
+ * Reads run concurrently, writes and compaction are exclusive. Queries other than lookups
+ * by ID scan all articles, and full-text search matches whole words of name and slogan
+ * case-insensitively, ranking articles by the number of matched words.
+ * </p>
+ */
+@Slf4j
+@Component(ForwardingArticlePersistencePort.ADAPTER_BEAN)
+@Profile(FileLogArticlePersistenceAdapter.PROFILE)
+public class FileLogArticlePersistenceAdapter implements ArticlePersistencePort, DisposableBean {
+
+    public static final String PROFILE = "file-storage";
+
+    private static final String LOG_FILE = "articles.log";
+    private static final long MIN_COMPACTION_GARBAGE = DataSize.ofMegabytes(1).toBytes();
+    private static final ArticleCodec ARTICLE_CODEC = new ArticleCodec();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ObjectIdLongMap index = new ObjectIdLongMap();
+    private final ArticleLogFile logFile;
+    private final boolean sync;
+    private final double compactionGarbageRatio;
+    private long liveBytes;
+    private long garbageBytes;
+
+    public FileLogArticlePersistenceAdapter(@Value("${tecalliance.persistence.file.directory:./data}") String directory,
+                                            @Value("${tecalliance.persistence.file.initial-size:16MB}") DataSize initialSize,
+                                            @Value("${tecalliance.persistence.file.sync:true}") boolean sync,
+                                            @Value("${tecalliance.persistence.file.compaction-garbage-ratio:0.5}") double compactionGarbageRatio) {
+        if (compactionGarbageRatio <= 0 || compactionGarbageRatio >= 1) {
+            throw new IllegalArgumentException("Compaction garbage ratio must be between 0 and 1: " + compactionGarbageRatio);
+        }
+        this.sync = sync;
+        this.compactionGarbageRatio = compactionGarbageRatio;
+        try {
+            Files.createDirectories(Path.of(directory));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create article storage directory " + directory, e);
+        }
+        this.logFile = new ArticleLogFile(Path.of(directory, LOG_FILE), initialSize.toBytes());
+        logFile.replay(this::recover);
+        log.info("Article log {} opened with {} articles ({} bytes, {} bytes garbage)",
+                logFile.path(), index.size(), logFile.size(), garbageBytes);
+    }
+
+    @Override
+    public Article save(Article article) {
+        log.debug("Saving article: {}", article.getName());
+
+        lock.writeLock().lock();
+        try {
+            ObjectId id = prepareForSave(article);
+            put(id, encode(article));
+            flush();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Article saved successfully with ID: {}", article.getId());
+        return article;
+    }
+
+    @Override
+    public List<SaveResult> saveAll(List<Article> articles) {
+        List<SaveResult> results = new ArrayList<>(articles.size());
+        lock.writeLock().lock();
+        try {
+            for (Article article : articles) {
+                try {
+                    ObjectId id = prepareForSave(article);
+                    put(id, encode(article));
+                    results.add(SaveResult.saved(article));
+                } catch (IllegalArgumentException e) {
+                    results.add(SaveResult.failed(e));
+                }
+            }
+            // one flush makes the whole batch durable
+            flush();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return results;
+    }
+
+    @Override
+    public Optional<Article> replace(Article article) {
+        log.debug("Replacing article with ID: {} (expected version: {})", article.getId(), article.getVersion());
+        Optional<ObjectId> id = toObjectId(article.getId());
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.writeLock().lock();
+        try {
+            Optional<Article> current = read(id.get());
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            if (article.getVersion() != null && article.getVersion() != versionOf(current.get())) {
+                throw new OptimisticLockingFailureException(
+                        "Article " + article.getId() + " was modified concurrently, expected version " + article.getVersion());
+            }
+            Article replacement = new Article(article.getId(), article.getName(), article.getSlogan(),
+                    article.getNetPrice(), article.getSalesPrice(), article.getVatRatio());
+            replacement.setDiscounts(article.getDiscounts() != null ? new ArrayList<>(article.getDiscounts()) : new ArrayList<>());
+            replacement.setVersion(versionOf(current.get()) + 1);
+            byte[] payload = encode(replacement);
+            put(id.get(), payload);
+            flush();
+            log.info("Article replaced successfully with ID: {} (version {})", replacement.getId(), replacement.getVersion());
+            return Optional.of(decode(ByteBuffer.wrap(payload)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Article> update(String id, Map<ArticleField, Object> changes, long expectedVersion) {
+        log.debug("Updating fields {} of article with ID: {} (expected version: {})", changes.keySet(), id, expectedVersion);
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.writeLock().lock();
+        try {
+            Optional<Article> current = read(objectId.get());
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            Article article = current.get();
+            if (versionOf(article) != expectedVersion) {
+                throw new OptimisticLockingFailureException(
+                        "Article " + id + " was modified concurrently, expected version " + expectedVersion);
+            }
+            changes.forEach((field, value) -> field.set(article, value));
+            article.setVersion(expectedVersion + 1);
+            byte[] payload = encode(article);
+            put(objectId.get(), payload);
+            flush();
+            log.info("Article updated successfully with ID: {} (version {})", id, article.getVersion());
+            // decoded again, so removed fields look exactly as when the article is read later
+            return Optional.of(decode(ByteBuffer.wrap(payload)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Article> findById(String id) {
+        log.debug("Finding article by ID: {}", id);
+        return toObjectId(id).flatMap(objectId -> {
+            lock.readLock().lock();
+            try {
+                return read(objectId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Article> findById(String id, boolean includeDiscountHistory) {
+        // the history is part of the stored article, so it is always loaded
+        return findById(id);
+    }
+
+    @Override
+    public List<Article> findAllById(Collection<String> ids) {
+        log.debug("Finding {} articles by ID", ids.size());
+        List<ObjectId> objectIds = ids.stream().map(FileLogArticlePersistenceAdapter::toObjectId).flatMap(Optional::stream).distinct().toList();
+        lock.readLock().lock();
+        try {
+            return objectIds.stream().map(this::read).flatMap(Optional::stream).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Article> findByIdWithoutDiscounts(String id) {
+        return findById(id).map(article -> {
+            article.setDiscounts(null);
+            return article;
+        });
+    }
+
+    @Override
+    public Optional<Article> findByIdWithDiscountsIn(String id, DiscountWindow window) {
+        return findById(id).map(article -> {
+            article.setDiscounts(new ArrayList<>(discountsIn(article, window)));
+            return article;
+        });
+    }
+
+    @Override
+    public Optional<List<Discount>> findDiscounts(String id, DiscountWindow window, int offset, int limit) {
+        return findById(id).map(article -> discountsIn(article, window).stream()
+                .skip(offset)
+                .limit(limit)
+                .toList());
+    }
+
+    @Override
+    public List<Article> findAll() {
+        log.debug("Finding all articles");
+        List<Article> articles = scan(article -> true);
+        log.info("Found {} articles", articles.size());
+        return articles;
+    }
+
+    @Override
+    public List<Article> findAllWithDiscountsValidFrom(LocalDate date) {
+        return findAll();
+    }
+
+    @Override
+    public List<Article> findWithDiscountActiveOn(LocalDate date) {
+        log.debug("Finding articles with active discount on {}", date);
+        return scan(article -> article.getDiscounts() != null
+                && article.getDiscounts().stream().anyMatch(discount -> discount.isValidOn(date)));
+    }
+
+    @Override
+    public List<Article> searchByText(String text, int offset, int limit) {
+        log.debug("Full-text search for '{}' (offset {}, limit {})", text, offset, limit);
+        Set<String> terms = words(text);
+        record Match(Article article, long score) {
+        }
+        return scan(article -> true).stream()
+                .map(article -> new Match(article, matchedWords(article, terms)))
+                .filter(match -> match.score() > 0)
+                .sorted(Comparator.comparingLong(Match::score).reversed())
+                .skip(offset)
+                .limit(limit)
+                .map(Match::article)
+                .toList();
+    }
+
+    @Override
+    public List<Article> findEligibleForDiscount(BigDecimal discountPercentage, int offset, int limit) {
+        log.debug("Finding articles eligible for a {}% discount (offset {}, limit {})", discountPercentage, offset, limit);
+        return scan(article -> article.getMaxDiscountPercentage() != null
+                        && article.getMaxDiscountPercentage().compareTo(discountPercentage) >= 0).stream()
+                .sorted(Comparator.comparing(Article::getMaxDiscountPercentage)
+                        .thenComparing(Article::getId)
+                        .reversed())
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        log.debug("Deleting article with ID: {}", id);
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty()) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long previous = index.remove(objectId.get());
+            if (previous < 0) {
+                log.debug("Article not found for deletion with ID: {}", id);
+                return false;
+            }
+            byte[] payload = objectId.get().toByteArray();
+            logFile.append(ArticleLogFile.DELETE, payload);
+            retire(previous);
+            garbageBytes += ArticleLogFile.recordSize(payload);
+            flush();
+            log.info("Article deleted successfully with ID: {}", id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return toObjectId(id).map(objectId -> {
+            lock.readLock().lock();
+            try {
+                return index.get(objectId) > 0;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }).orElse(false);
+    }
+
+    @Scheduled(fixedDelayString = "${tecalliance.persistence.file.compaction-interval:PT1M}")
+    public void compactIfNeeded() {
+        lock.writeLock().lock();
+        try {
+            long total = liveBytes + garbageBytes;
+            if (garbageBytes >= MIN_COMPACTION_GARBAGE && garbageBytes >= total * compactionGarbageRatio) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log with only the latest record of every article.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            long before = logFile.size();
+            long[] offsets = index.sortedValues();
+            List<ObjectId> ids = new ArrayList<>(offsets.length);
+            for (long offset : offsets) {
+                ids.add(idOf(logFile.payload(offset)));
+            }
+            long[] newOffsets = logFile.compact(offsets);
+            index.clear();
+            for (int i = 0; i < newOffsets.length; i++) {
+                index.put(ids.get(i), newOffsets[i]);
+            }
+            garbageBytes = 0;
+            log.info("Compacted article log {} from {} to {} bytes", logFile.path(), before, logFile.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.writeLock().lock();
+        try {
+            logFile.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void recover(long offset, byte type, ByteBuffer payload) {
+        long recordSize = logFile.recordSize(offset);
+        if (type == ArticleLogFile.PUT) {
+            long previous = index.put(idOf(payload), offset);
+            liveBytes += recordSize;
+            if (previous > 0) {
+                retire(previous);
+            }
+        } else if (type == ArticleLogFile.DELETE) {
+            byte[] id = new byte[payload.remaining()];
+            payload.get(id);
+            long previous = index.remove(new ObjectId(id));
+            garbageBytes += recordSize;
+            if (previous > 0) {
+                retire(previous);
+            }
+        } else {
+            throw new IllegalStateException("Unknown record type " + type + " at offset " + offset + " of " + logFile.path());
+        }
+    }
+
+    private void put(ObjectId id, byte[] payload) {
+        long offset = logFile.append(ArticleLogFile.PUT, payload);
+        liveBytes += ArticleLogFile.recordSize(payload);
+        long previous = index.put(id, offset);
+        if (previous > 0) {
+            retire(previous);
+        }
+    }
+
+    /**
+     * Accounts the record at the offset as garbage, it was replaced or deleted.
+     */
+    private void retire(long offset) {
+        long size = logFile.recordSize(offset);
+        liveBytes -= size;
+        garbageBytes += size;
+    }
+
+    private void flush() {
+        if (sync) {
+            logFile.force();
+        }
+    }
+
+    private Optional<Article> read(ObjectId id) {
+        long offset = index.get(id);
+        return offset > 0 ? Optional.of(decode(logFile.payload(offset))) : Optional.empty();
+    }
+
+    private List<Article> scan(Predicate<Article> filter) {
+        lock.readLock().lock();
+        try {
+            return Arrays.stream(index.sortedValues())
+                    .mapToObj(offset -> decode(logFile.payload(offset)))
+                    .filter(filter)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Completes an article for saving, under the write lock. An article saved under the ID of a
+     * stored one gets the next version, as with {@link #replace(Article)}; one created under a
+     * new ID gets version 0.
+     */
+    private ObjectId prepareForSave(Article article) {
+        if (article.getId() == null || article.getId().isEmpty()) {
+            article.setId(new ObjectId().toHexString());
+            if (article.getDiscounts() == null) {
+                article.setDiscounts(new ArrayList<>());
+            }
+            if (article.getVersion() == null) {
+                article.setVersion(0L);
+            }
+            return new ObjectId(article.getId());
+        }
+        ObjectId id = new ObjectId(article.getId());
+        Optional<Article> current = read(id);
+        article.setVersion(current.map(stored -> versionOf(stored) + 1).orElse(0L));
+        if (article.getDiscounts() == null) {
+            article.setDiscounts(current.map(Article::getDiscounts).orElseGet(ArrayList::new));
+        }
+        return id;
+    }
+
+    private static long versionOf(Article article) {
+        return article.getVersion() != null ? article.getVersion() : 0L;
+    }
+
+    private static byte[] encode(Article article) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        ARTICLE_CODEC.encode(new BsonBinaryWriter(buffer), article, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private static Article decode(ByteBuffer payload) {
+        return ARTICLE_CODEC.decode(new BsonBinaryReader(payload), DecoderContext.builder().build());
+    }
+
+    /**
+     * Reads the article ID, which the codec writes as the first field, without decoding the article.
+     */
+    private static ObjectId idOf(ByteBuffer payload) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(payload.duplicate())) {
+            reader.readStartDocument();
+            if (reader.readBsonType() == BsonType.OBJECT_ID && "_id".equals(reader.readName())) {
+                return reader.readObjectId();
+            }
+        }
+        return new ObjectId(decode(payload.duplicate()).getId());
+    }
+
+    private static List<Discount> discountsIn(Article article, DiscountWindow window) {
+        if (article.getDiscounts() == null) {
+            return List.of();
+        }
+        return article.getDiscounts().stream()
+                .filter(window::intersects)
+                .sorted(Comparator.comparing(Discount::getStartDate))
+                .toList();
+    }
+
+    private static long matchedWords(Article article, Set<String> terms) {
+        Set<String> words = words(article.getName());
+        words.addAll(words(article.getSlogan()));
+        return terms.stream().filter(words::contains).count();
+    }
+
+    private static Set<String> words(String text) {
+        if (text == null) {
+            return new HashSet<>();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static Optional<ObjectId> toObjectId(String id) {
+        if (id == null || !ObjectId.isValid(id)) {
+            log.error("Invalid ObjectId format: {}", id);
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectId(id));
+    }
+}
@@ -0,0 +1,28 @@
+package org.interview.tecalliance.adapter.out.persistence.file;
+
+import org.interview.tecalliance.application.port.out.DiscountArchivePort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Discount archive of the file storage. The discount compaction job requires MongoDB, so
+ * with file storage discounts are never archived and the archive is always empty.
+ */
+@Component
+@Profile(FileLogArticlePersistenceAdapter.PROFILE)
+public class NoDiscountArchiveAdapter implements DiscountArchivePort {
+
+    @Override
+    public List<Discount> findArchivedDiscounts(String articleId, DiscountWindow window) {
+        return List.of();
+    }
+
+    @Override
+    public void deleteArchivedDiscounts(String articleId) {
+        // nothing is ever archived
+    }
+}
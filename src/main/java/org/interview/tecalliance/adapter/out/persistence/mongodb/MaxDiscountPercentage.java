@@ -0,0 +1,70 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The stored copy of {@link Article#getMaxDiscountPercentage()}, indexed so that the articles
+ * eligible for a discount are found with a range scan.
+ * <p>
+ * Writes that carry the whole article store the value computed by the domain model. Writes
+ * that change only some fields recompute it on the server with {@link #setStage()} as the last
+ * stage of a pipeline update, so it is never based on an outdated read. Both follow the same
+ * steps in decimal arithmetic and agree on every value; the one division is rounded to the 34
+ * digits of {@code Decimal128}, which cannot move the quotient across a whole number for prices
+ * with at most 15 significant digits.
+ * </p>
+ */
+public final class MaxDiscountPercentage {
+
+    public static final String FIELD = "maxDiscountPercentage";
+
+    private static final Decimal128 HALF_CENT = Decimal128.parse("0.5");
+    private static final Decimal128 SCALE_FACTOR = new Decimal128(BigDecimal.ONE.movePointRight(Article.MAX_DISCOUNT_PERCENTAGE_SCALE));
+    private static final Decimal128 UNIT = new Decimal128(BigDecimal.ONE.movePointLeft(Article.MAX_DISCOUNT_PERCENTAGE_SCALE));
+
+    private MaxDiscountPercentage() {
+    }
+
+    /**
+     * Returns a pipeline update stage setting the field from the stored prices, or removing it
+     * if a price is missing or not a number.
+     */
+    public static Document setStage() {
+        return new Document("$set", new Document(FIELD, expression()));
+    }
+
+    /**
+     * Returns the aggregation expression computing the value from the stored prices.
+     */
+    public static Document expression() {
+        Document marginCents = new Document("$floor", new Document("$multiply", List.of(
+                new Document("$subtract", List.of("$$salesPrice", "$$netPrice")), 100)));
+        Document bound = new Document("$ceil", new Document("$divide", List.of(
+                new Document("$multiply", List.of(new Document("$add", List.of(marginCents, HALF_CENT)), SCALE_FACTOR)),
+                "$$salesPrice")));
+        Document percentage = new Document("$multiply", List.of(new Document("$subtract", List.of(bound, 1)), UNIT));
+        Document pricesSet = new Document("$and", List.of(
+                new Document("$ne", Arrays.asList("$$netPrice", null)),
+                new Document("$gt", List.of("$$salesPrice", 0))));
+        return new Document("$let", new Document("vars", new Document()
+                        .append("salesPrice", toDecimal("$salesPrice"))
+                        .append("netPrice", toDecimal("$netPrice")))
+                .append("in", new Document("$cond", List.of(pricesSet, percentage, "$$REMOVE"))));
+    }
+
+    /**
+     * Prices written by older versions may be strings or doubles.
+     */
+    private static Document toDecimal(String field) {
+        return new Document("$convert", new Document("input", field)
+                .append("to", "decimal")
+                .append("onError", null)
+                .append("onNull", null));
+    }
+}
@@ -0,0 +1,116 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleTombstoneEntity;
+import org.interview.tecalliance.application.port.out.ArticleChangeFeedPort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.changes.ArticleChange;
+import org.interview.tecalliance.domain.model.changes.ChangePosition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Change feed for the {@code embedded} discount layout.
+ * <p>
+ * Articles carry the time of their last change in {@code updatedAt} and deleted articles
+ * leave a tombstone; both are indexed by time and ID. A read runs one range query on each
+ * index, starting after the last position and limited to the page size, and merges the two
+ * sorted results.
+ * </p>
+ */
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
+public class MongoArticleChangeFeedAdapter implements ArticleChangeFeedPort {
+
+    private static final String DELETED_AT = "deletedAt";
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new ArticleCodec()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ArticleChange> findChanges(ChangePosition after, Instant until, int limit) {
+        List<ArticleChange> upserts = articles().find(after(UpdatedAt.FIELD, after, until))
+                .sort(Sorts.ascending(UpdatedAt.FIELD, "_id"))
+                .limit(limit)
+                .map(ArticleChange::upserted)
+                .into(new ArrayList<>());
+        List<ArticleChange> deletions = tombstones().find(after(DELETED_AT, after, until))
+                .projection(Projections.include(DELETED_AT))
+                .sort(Sorts.ascending(DELETED_AT, "_id"))
+                .limit(limit)
+                .map(tombstone -> ArticleChange.deleted(tombstone.getObjectId("_id").toHexString(),
+                        tombstone.getDate(DELETED_AT).toInstant()))
+                .into(new ArrayList<>());
+        return merge(upserts, deletions, limit);
+    }
+
+    @Override
+    public Duration deletionRetention() {
+        return ArticleTombstoneEntity.RETENTION;
+    }
+
+    /**
+     * Matches the documents after the position in the order of the time field and ID, up to
+     * the given time, so that the query is a range scan on the compound index.
+     */
+    private static Bson after(String field, ChangePosition position, Instant until) {
+        Bson upTo = Filters.lte(field, Date.from(until));
+        if (position == null) {
+            return upTo;
+        }
+        Date changedAt = Date.from(position.changedAt());
+        return Filters.and(upTo, Filters.or(
+                Filters.gt(field, changedAt),
+                Filters.and(Filters.eq(field, changedAt), Filters.gt("_id", new ObjectId(position.articleId())))));
+    }
+
+    private static List<ArticleChange> merge(List<ArticleChange> upserts, List<ArticleChange> deletions, int limit) {
+        List<ArticleChange> changes = new ArrayList<>(Math.min(limit, upserts.size() + deletions.size()));
+        int upsert = 0;
+        int deletion = 0;
+        while (changes.size() < limit && (upsert < upserts.size() || deletion < deletions.size())) {
+            if (deletion == deletions.size() || (upsert < upserts.size()
+                    && upserts.get(upsert).position().compareTo(deletions.get(deletion).position()) <= 0)) {
+                changes.add(upserts.get(upsert++));
+            } else {
+                changes.add(deletions.get(deletion++));
+            }
+        }
+        return changes;
+    }
+
+    private MongoCollection<Article> articles() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .withDocumentClass(Article.class)
+                .withCodecRegistry(CODEC_REGISTRY);
+    }
+
+    private MongoCollection<Document> tombstones() {
+        return mongoTemplate.getCollection(ArticleTombstoneEntity.COLLECTION);
+    }
+}
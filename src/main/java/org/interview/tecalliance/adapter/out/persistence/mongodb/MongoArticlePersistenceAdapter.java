@@ -1,41 +1,306 @@
 package org.interview.tecalliance.adapter.out.persistence.mongodb;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoServerException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
 import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
-import org.interview.tecalliance.adapter.out.persistence.mongodb.mapper.ArticleEntityMapper;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleTombstoneEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
 import org.interview.tecalliance.adapter.out.persistence.mongodb.repository.ArticleMongoRepository;
 import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * MongoDB persistence adapter using the {@code embedded} discount layout, where every
+ * article document contains its complete list of discounts.
+ * <p>
+ * Articles are read and written through a {@code MongoCollection<Article>} using the
+ * {@link ArticleCodec}, which decodes BSON straight into the domain model instead of going
+ * through the reflective mapping converter and a second copy by the entity mapper.
+ * </p>
+ */
 @Slf4j
-@Component
+@Component(ForwardingArticlePersistencePort.ADAPTER_BEAN)
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
 public class MongoArticlePersistenceAdapter implements ArticlePersistencePort {
 
+    private static final String DISCOUNTS = "discounts";
+    private static final String VERSION = "version";
+    private static final String DELETED_AT = "deletedAt";
+    private static final ArticleCodec ARTICLE_CODEC = new ArticleCodec();
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(ARTICLE_CODEC),
+            MongoClientSettings.getDefaultCodecRegistry());
+
     private final ArticleMongoRepository repository;
-    private final ArticleEntityMapper mapper;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public Article save(Article article) {
         log.debug("Saving article: {}", article.getName());
 
+        // the article is written as is, so it can be returned without reading or mapping it back;
+        // only the version and kept discounts of an article saved under its ID come from the storage
+        WriteModel<Article> write = toSaveWrite(article);
+        if (write instanceof UpdateOneModel<Article> upsert) {
+            upsert(article, upsert);
+        } else {
+            articles().insertOne(article);
+        }
+
+        log.info("Article saved successfully with ID: {}", article.getId());
+        return article;
+    }
+
+    /**
+     * Inserts the new articles with one unordered bulk write. Articles saved under their ID are
+     * upserted one by one, since only a find-and-modify returns the version the storage assigned.
+     */
+    @Override
+    public List<SaveResult> saveAll(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+        log.debug("Saving {} articles", articles.size());
+
+        List<WriteModel<Article>> inserts = new ArrayList<>(articles.size());
+        List<Integer> insertedIndexes = new ArrayList<>(articles.size());
+        Map<Integer, UpdateOneModel<Article>> upserts = new LinkedHashMap<>();
+        Map<Integer, RuntimeException> failures = new HashMap<>();
+        for (int i = 0; i < articles.size(); i++) {
+            try {
+                WriteModel<Article> write = toSaveWrite(articles.get(i));
+                if (write instanceof UpdateOneModel<Article> upsert) {
+                    upserts.put(i, upsert);
+                } else {
+                    inserts.add(write);
+                    insertedIndexes.add(i);
+                }
+            } catch (IllegalArgumentException e) {
+                // an ID that is no ObjectId fails only its own article, like a rejected write
+                failures.put(i, e);
+            }
+        }
+        try {
+            if (!inserts.isEmpty()) {
+                articles().bulkWrite(inserts, new BulkWriteOptions().ordered(false));
+            }
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                throw e;
+            }
+            for (BulkWriteError error : e.getWriteErrors()) {
+                int index = insertedIndexes.get(error.getIndex());
+                failures.put(index, toFailure(articles.get(index), error.getCode(), error.getMessage()));
+            }
+        }
+        upserts.forEach((index, upsert) -> {
+            try {
+                upsert(articles.get(index), upsert);
+            } catch (MongoServerException e) {
+                failures.put(index, toFailure(articles.get(index), e.getCode(), e.getMessage()));
+            }
+        });
+
+        List<SaveResult> results = new ArrayList<>(articles.size());
+        for (int i = 0; i < articles.size(); i++) {
+            RuntimeException failure = failures.get(i);
+            results.add(failure == null ? SaveResult.saved(articles.get(i)) : SaveResult.failed(failure));
+        }
+        log.info("Saved {} of {} articles", articles.size() - failures.size(), articles.size());
+        return results;
+    }
+
+    /**
+     * Completes a new or existing article for saving: a new article gets a client-generated
+     * ID and is inserted, an existing one is replaced or created under its ID. A replacement
+     * increments the stored version like {@link #replace(Article)}, so that a version read
+     * before the save no longer matches; a document created under the ID gets version 0.
+     * An article without discounts keeps the stored ones.
+     */
+    private WriteModel<Article> toSaveWrite(Article article) {
+        if (article.getVersion() == null) {
+            article.setVersion(0L);
+        }
+        article.setUpdatedAt(UpdatedAt.now());
+        if (article.getId() == null || article.getId().isEmpty()) {
+            article.setId(new ObjectId().toHexString());
+            if (article.getDiscounts() == null) {
+                article.setDiscounts(new ArrayList<>());
+            }
+            return new InsertOneModel<>(article);
+        }
+        ObjectId id = new ObjectId(article.getId());
+        BsonDocument replacement = toBson(article);
+        replacement.remove(VERSION);
+        // an upsert runs the pipeline on a document that contains only the _id
+        Document savedVersion = new Document("$cond", List.of(
+                new Document("$gt", List.of(new Document("$size", new Document("$objectToArray", "$$ROOT")), 1)),
+                incrementedVersion(),
+                0L));
+        Document stored = new Document(VERSION, savedVersion);
         if (article.getDiscounts() == null) {
-            article.setDiscounts(new ArrayList<>());
+            stored.append(DISCOUNTS, new Document("$ifNull", List.of("$" + DISCOUNTS, List.of())));
         }
+        Document update = new Document("$replaceWith", new Document("$mergeObjects", List.of(
+                new Document("$literal", replacement),
+                stored)));
+        return new UpdateOneModel<>(Filters.eq("_id", id), List.of(update), new UpdateOptions().upsert(true));
+    }
 
-        ArticleEntity entity = mapper.toEntity(article);
-        ArticleEntity saved = repository.save(entity);
-        Article savedArticle = mapper.toDomain(saved);
+    /**
+     * Runs the upsert of an article saved under its ID and sets the version and discounts
+     * returned with the stored document on the article.
+     */
+    private void upsert(Article article, UpdateOneModel<Article> upsert) {
+        Article stored = articles().findOneAndUpdate(upsert.getFilter(), upsert.getUpdatePipeline(),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+        article.setVersion(stored.getVersion());
+        article.setDiscounts(stored.getDiscounts());
+    }
 
-        log.info("Article saved successfully with ID: {}", savedArticle.getId());
-        return savedArticle;
+    private static RuntimeException toFailure(Article article, int code, String error) {
+        String message = "Article " + article.getId() + " could not be saved: " + error;
+        if (ErrorCategory.fromErrorCode(code) == ErrorCategory.DUPLICATE_KEY) {
+            return new DuplicateKeyException(message);
+        }
+        return new DataIntegrityViolationException(message);
+    }
+
+    @Override
+    public Optional<Article> replace(Article article) {
+        log.debug("Replacing article with ID: {} (expected version: {})", article.getId(), article.getVersion());
+        Optional<ObjectId> objectId = toObjectId(article.getId());
+        if (objectId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Long expectedVersion = article.getVersion();
+        Bson filter = Filters.eq("_id", objectId.get());
+        if (expectedVersion != null) {
+            filter = Filters.and(filter, versionIs(expectedVersion));
+        }
+
+        BsonDocument replacement = toBson(article);
+        replacement.remove(VERSION);
+        replacement.remove(UpdatedAt.FIELD);
+        if (!replacement.containsKey(DISCOUNTS)) {
+            replacement.put(DISCOUNTS, new BsonArray());
+        }
+        // a pipeline update replaces the document and increments the stored version in one operation
+        Document update = new Document("$replaceWith", new Document("$mergeObjects", List.of(
+                new Document("$literal", replacement),
+                new Document(VERSION, incrementedVersion()).append(UpdatedAt.FIELD, UpdatedAt.NOW))));
+
+        Article replaced = articles().findOneAndUpdate(filter, List.of(update),
+                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+        if (replaced != null) {
+            log.info("Article replaced successfully with ID: {} (version {})", replaced.getId(), replaced.getVersion());
+            return Optional.of(replaced);
+        }
+        if (expectedVersion != null && documents().countDocuments(Filters.eq("_id", objectId.get())) > 0) {
+            throw new OptimisticLockingFailureException(
+                    "Article " + article.getId() + " was modified concurrently, expected version " + expectedVersion);
+        }
+        log.debug("Article not found for replacement with ID: {}", article.getId());
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Article> update(String id, Map<ArticleField, Object> changes, long expectedVersion) {
+        log.debug("Updating fields {} of article with ID: {} (expected version: {})", changes.keySet(), id, expectedVersion);
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // the changed values are encoded by the codec, so they are stored exactly like a saved article
+        Article changedValues = new Article();
+        changedValues.setDiscounts(null);
+        changes.forEach((field, value) -> field.set(changedValues, value));
+        BsonDocument encoded = toBson(changedValues);
+
+        // a pipeline update, so that a price change recomputes the stored maximum discount from the new prices
+        Document set = new Document(VERSION, incrementedVersion()).append(UpdatedAt.FIELD, UpdatedAt.NOW);
+        List<String> unset = new ArrayList<>();
+        changes.forEach((field, value) -> {
+            if (value != null) {
+                set.put(field.property(), new Document("$literal", encoded.get(field.property())));
+            } else {
+                unset.add(field.property());
+            }
+        });
+        List<Document> update = new ArrayList<>();
+        update.add(new Document("$set", set));
+        if (!unset.isEmpty()) {
+            update.add(new Document("$unset", unset));
+        }
+        if (changes.keySet().stream().anyMatch(ArticleField::affectsMaxDiscountPercentage)) {
+            update.add(MaxDiscountPercentage.setStage());
+        }
+
+        Article updated = articles().findOneAndUpdate(
+                Filters.and(Filters.eq("_id", objectId.get()), versionIs(expectedVersion)), update,
+                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+        if (updated != null) {
+            log.info("Article updated successfully with ID: {} (version {})", id, updated.getVersion());
+            return Optional.of(updated);
+        }
+        if (documents().countDocuments(Filters.eq("_id", objectId.get())) > 0) {
+            throw new OptimisticLockingFailureException(
+                    "Article " + id + " was modified concurrently, expected version " + expectedVersion);
+        }
+        log.debug("Article not found for update with ID: {}", id);
+        return Optional.empty();
     }
 
     @Override
@@ -48,8 +313,7 @@ public class MongoArticlePersistenceAdapter implements ArticlePersistencePort {
 
         try {
             ObjectId objectId = new ObjectId(id);
-            Optional<Article> result = repository.findById(objectId)
-                    .map(mapper::toDomain);
+            Optional<Article> result = Optional.ofNullable(articles().find(Filters.eq("_id", objectId)).first());
 
             if (result.isPresent()) {
                 log.debug("Article found with ID: {}", id);
@@ -63,18 +327,117 @@ public class MongoArticlePersistenceAdapter implements ArticlePersistencePort {
         }
     }
 
+    @Override
+    public Optional<Article> findById(String id, boolean includeDiscountHistory) {
+        // the history is part of the article document, so it is always loaded
+        return findById(id);
+    }
+
+    @Override
+    public List<Article> findAllById(Collection<String> ids) {
+        log.debug("Finding {} articles by ID", ids.size());
+        List<ObjectId> objectIds = ids.stream().map(this::toObjectId).flatMap(Optional::stream).distinct().toList();
+        if (objectIds.isEmpty()) {
+            return List.of();
+        }
+        return articles().find(Filters.in("_id", objectIds)).into(new ArrayList<>());
+    }
+
+    @Override
+    public Optional<Article> findByIdWithoutDiscounts(String id) {
+        log.debug("Finding article without discounts by ID: {}", id);
+
+        return toObjectId(id)
+                .map(objectId -> articles().find(Filters.eq("_id", objectId))
+                        .projection(Projections.exclude(DISCOUNTS))
+                        .first())
+                .map(article -> {
+                    article.setDiscounts(null);
+                    return article;
+                });
+    }
+
+    @Override
+    public Optional<Article> findByIdWithDiscountsIn(String id, DiscountWindow window) {
+        log.debug("Finding article by ID: {} with discounts in {}", id, window);
+
+        return toObjectId(id)
+                .map(objectId -> articles().aggregate(List.of(
+                        new Document("$match", new Document("_id", objectId)),
+                        new Document("$set", new Document(DISCOUNTS, discountsIn(window))))).first());
+    }
+
+    @Override
+    public Optional<List<Discount>> findDiscounts(String id, DiscountWindow window, int offset, int limit) {
+        log.debug("Finding discounts of article {} in {} (offset {}, limit {})", id, window, offset, limit);
+
+        return toObjectId(id)
+                .map(objectId -> documents().aggregate(List.of(
+                        new Document("$match", new Document("_id", objectId)),
+                        new Document("$project", new Document(DISCOUNTS,
+                                new Document("$slice", List.of(discountsIn(window), offset, limit)))))).first())
+                .map(document -> document.getList(DISCOUNTS, Document.class).stream()
+                        .map(discount -> mongoTemplate.getConverter().read(Discount.class, discount))
+                        .toList());
+    }
+
     @Override
     public List<Article> findAll() {
         log.debug("Finding all articles");
 
-        List<Article> articles = repository.findAll().stream()
-                .map(mapper::toDomain)
-                .toList();
+        List<Article> articles = articles().find().into(new ArrayList<>());
 
         log.info("Found {} articles", articles.size());
         return articles;
     }
 
+    @Override
+    public List<Article> findAllWithDiscountsValidFrom(LocalDate date) {
+        return findAll();
+    }
+
+    @Override
+    public List<Article> findWithDiscountActiveOn(LocalDate date) {
+        log.debug("Finding articles with active discount on {}", date);
+
+        List<Article> articles = articles().find(Filters.elemMatch(DISCOUNTS,
+                        Filters.and(Filters.lte("startDate", date), Filters.gte("endDate", date))))
+                .into(new ArrayList<>());
+
+        log.debug("Found {} articles with active discount on {}", articles.size(), date);
+        return articles;
+    }
+
+    @Override
+    public List<Article> searchByText(String text, int offset, int limit) {
+        log.debug("Full-text search for '{}' (offset {}, limit {})", text, offset, limit);
+
+        List<Article> articles = articles().find(Filters.text(text))
+                .projection(Projections.metaTextScore("score"))
+                .sort(Sorts.metaTextScore("score"))
+                .skip(offset)
+                .limit(limit)
+                .into(new ArrayList<>());
+
+        log.debug("Full-text search for '{}' returned {} articles", text, articles.size());
+        return articles;
+    }
+
+    @Override
+    public List<Article> findEligibleForDiscount(BigDecimal discountPercentage, int offset, int limit) {
+        log.debug("Finding articles eligible for a {}% discount (offset {}, limit {})", discountPercentage, offset, limit);
+
+        // served by the (maxDiscountPercentage, _id) index, in both directions
+        List<Article> articles = articles().find(Filters.gte(MaxDiscountPercentage.FIELD, discountPercentage))
+                .sort(Sorts.descending(MaxDiscountPercentage.FIELD, "_id"))
+                .skip(offset)
+                .limit(limit)
+                .into(new ArrayList<>());
+
+        log.debug("Found {} articles eligible for a {}% discount", articles.size(), discountPercentage);
+        return articles;
+    }
+
     @Override
     public boolean deleteById(String id) {
         log.debug("Attempting to delete article with ID: {}", id);
@@ -86,8 +449,11 @@ public class MongoArticlePersistenceAdapter implements ArticlePersistencePort {
 
         try {
             ObjectId objectId = new ObjectId(id);
-            if (repository.existsById(objectId)) {
-                repository.deleteById(objectId);
+            if (documents().deleteOne(Filters.eq("_id", objectId)).getDeletedCount() > 0) {
+                // not atomic with the delete: if this write fails, change feed clients keep the article
+                tombstones().updateOne(Filters.eq("_id", objectId),
+                        List.of(new Document("$set", new Document(DELETED_AT, UpdatedAt.NOW))),
+                        new UpdateOptions().upsert(true));
                 log.info("Article deleted successfully with ID: {}", id);
                 return true;
             }
@@ -117,4 +483,64 @@ public class MongoArticlePersistenceAdapter implements ArticlePersistencePort {
             return false;
         }
     }
+
+    /**
+     * Builds the aggregation expression selecting the discounts intersecting the window,
+     * ordered by start date, so that only these discounts leave the server.
+     */
+    private Document discountsIn(DiscountWindow window) {
+        List<Document> conditions = new ArrayList<>();
+        if (window.to() != null) {
+            conditions.add(new Document("$lte", List.of("$$discount.startDate", window.to())));
+        }
+        if (window.from() != null) {
+            conditions.add(new Document("$gte", List.of("$$discount.endDate", window.from())));
+        }
+        Document filter = new Document("$filter", new Document("input", new Document("$ifNull", List.of("$" + DISCOUNTS, List.of())))
+                .append("as", "discount")
+                .append("cond", new Document("$and", conditions)));
+        return new Document("$sortArray", new Document("input", filter)
+                .append("sortBy", new Document("startDate", 1)));
+    }
+
+    private static Document incrementedVersion() {
+        return new Document("$add", List.of(new Document("$ifNull", List.of("$" + VERSION, 0L)), 1L));
+    }
+
+    /**
+     * Matches the expected version. Documents written before versioning was introduced have
+     * no version field and count as version 0.
+     */
+    private static Bson versionIs(long version) {
+        if (version == 0) {
+            return Filters.or(Filters.eq(VERSION, 0L), Filters.exists(VERSION, false));
+        }
+        return Filters.eq(VERSION, version);
+    }
+
+    private static BsonDocument toBson(Article article) {
+        BsonDocument document = new BsonDocument();
+        ARTICLE_CODEC.encode(new BsonDocumentWriter(document), article, EncoderContext.builder().build());
+        return document;
+    }
+
+    private MongoCollection<Article> articles() {
+        return documents().withDocumentClass(Article.class).withCodecRegistry(CODEC_REGISTRY);
+    }
+
+    private MongoCollection<Document> documents() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class));
+    }
+
+    private MongoCollection<Document> tombstones() {
+        return mongoTemplate.getCollection(ArticleTombstoneEntity.COLLECTION);
+    }
+
+    private Optional<ObjectId> toObjectId(String id) {
+        if (id == null || !ObjectId.isValid(id)) {
+            log.error("Invalid ObjectId format: {}", id);
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectId(id));
+    }
 }
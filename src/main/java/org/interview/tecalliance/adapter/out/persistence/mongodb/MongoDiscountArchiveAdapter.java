@@ -0,0 +1,60 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArchivedDiscountEntity;
+import org.interview.tecalliance.application.port.out.DiscountArchivePort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+public class MongoDiscountArchiveAdapter implements DiscountArchivePort {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Discount> findArchivedDiscounts(String articleId, DiscountWindow window) {
+        log.debug("Finding archived discounts of article {} in {}", articleId, window);
+        if (articleId == null || !ObjectId.isValid(articleId)) {
+            log.error("Invalid ObjectId format: {}", articleId);
+            return List.of();
+        }
+
+        Criteria criteria = Criteria.where("articleId").is(new ObjectId(articleId));
+        if (window.to() != null) {
+            criteria = criteria.and("startDate").lte(window.to());
+        }
+        if (window.from() != null) {
+            criteria = criteria.and("endDate").gte(window.from());
+        }
+        Query query = Query.query(criteria).with(Sort.by("startDate"));
+
+        return mongoTemplate.find(query, ArchivedDiscountEntity.class).stream()
+                .map(entity -> new Discount(entity.getDiscountId(), entity.getDescription(),
+                        entity.getDiscountPercentage(), entity.getStartDate(), entity.getEndDate()))
+                .toList();
+    }
+
+    @Override
+    public void deleteArchivedDiscounts(String articleId) {
+        if (articleId == null || !ObjectId.isValid(articleId)) {
+            return;
+        }
+        long deleted = mongoTemplate.remove(Query.query(Criteria.where("articleId").is(new ObjectId(articleId))),
+                ArchivedDiscountEntity.class).getDeletedCount();
+        log.debug("Deleted {} archived discounts of article {}", deleted, articleId);
+    }
+}
@@ -0,0 +1,56 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.DiscountBoundaryPort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Discount boundary lookup for the {@code embedded} discount layout.
+ * <p>
+ * One query with two {@code $or} branches: discounts starting in the range are found with the
+ * {@code discount_validity} index, which leads with the start date, and discounts ending in
+ * the range with the {@code discount_end} index. Both branches match single discounts with
+ * {@code $elemMatch}, so the index bounds are the range itself.
+ * </p>
+ */
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
+public class MongoDiscountBoundaryAdapter implements DiscountBoundaryPort {
+
+    private static final String DISCOUNTS = "discounts";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new ArticleCodec()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Article> findWithDiscountBoundaryBetween(LocalDate earlier, LocalDate later) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .withDocumentClass(Article.class)
+                .withCodecRegistry(CODEC_REGISTRY)
+                .find(Filters.or(
+                        Filters.elemMatch(DISCOUNTS, Filters.and(Filters.gt(START_DATE, earlier), Filters.lte(START_DATE, later))),
+                        Filters.elemMatch(DISCOUNTS, Filters.and(Filters.gte(END_DATE, earlier), Filters.lt(END_DATE, later)))))
+                .into(new ArrayList<>());
+    }
+}
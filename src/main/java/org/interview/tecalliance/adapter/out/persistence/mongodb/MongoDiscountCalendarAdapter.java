@@ -0,0 +1,99 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.DiscountCalendarPort;
+import org.interview.tecalliance.application.port.out.DiscountPeriodCount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Discount calendar aggregation for the {@code embedded} discount layout.
+ * <p>
+ * A single pipeline selects the articles with a discount in the window, unwinds their
+ * discounts and groups them by period and percentage, so the result has one document per
+ * distinct discount period however many articles share it.
+ * </p>
+ */
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
+public class MongoDiscountCalendarAdapter implements DiscountCalendarPort {
+
+    private static final String DISCOUNTS = "discounts";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final String DISCOUNT_PERCENTAGE = "discountPercentage";
+    private static final String COUNT = "count";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<DiscountPeriodCount> countDiscountPeriods(DiscountWindow window) {
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.elemMatch(DISCOUNTS, inWindow("", window))),
+                Aggregates.unwind("$" + DISCOUNTS),
+                Aggregates.match(inWindow(DISCOUNTS + ".", window)),
+                Aggregates.group(new Document(START_DATE, "$" + DISCOUNTS + "." + START_DATE)
+                                .append(END_DATE, "$" + DISCOUNTS + "." + END_DATE)
+                                .append(DISCOUNT_PERCENTAGE, "$" + DISCOUNTS + "." + DISCOUNT_PERCENTAGE),
+                        Accumulators.sum(COUNT, 1L)));
+
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .map(MongoDiscountCalendarAdapter::toPeriodCount)
+                .into(new ArrayList<>());
+    }
+
+    /**
+     * Matches discounts intersecting the window. Comparisons never match a missing date, so
+     * discounts without start date, end date or percentage are left out like in the domain.
+     */
+    private static Bson inWindow(String prefix, DiscountWindow window) {
+        return Filters.and(
+                window.to() != null ? Filters.lte(prefix + START_DATE, window.to()) : Filters.type(prefix + START_DATE, "date"),
+                window.from() != null ? Filters.gte(prefix + END_DATE, window.from()) : Filters.type(prefix + END_DATE, "date"),
+                Filters.ne(prefix + DISCOUNT_PERCENTAGE, null));
+    }
+
+    private static DiscountPeriodCount toPeriodCount(Document group) {
+        Document period = group.get("_id", Document.class);
+        return new DiscountPeriodCount(
+                toDate(period.get(START_DATE)),
+                toDate(period.get(END_DATE)),
+                toDecimal(period.get(DISCOUNT_PERCENTAGE)),
+                ((Number) group.get(COUNT)).longValue());
+    }
+
+    private static LocalDate toDate(Object value) {
+        return ((Date) value).toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        return switch (value) {
+            case Decimal128 decimal -> decimal.bigDecimalValue();
+            case String text -> new BigDecimal(text);
+            case Number number -> new BigDecimal(number.toString());
+            default -> throw new IllegalStateException("Unexpected discount percentage: " + value);
+        };
+    }
+}
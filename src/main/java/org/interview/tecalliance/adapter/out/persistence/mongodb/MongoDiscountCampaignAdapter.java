@@ -0,0 +1,148 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.CampaignBatchResult;
+import org.interview.tecalliance.application.port.out.DiscountCampaignPort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Discount campaigns for the {@code embedded} discount layout.
+ * <p>
+ * A batch is added with a single {@code updateMany}. Its filter holds the discount rules, so
+ * they are evaluated by the server on the current document, atomically with the write:
+ * <ul>
+ *   <li>no discount of the article may intersect the validity period of the new one</li>
+ *   <li>the stored {@code maxDiscountPercentage} must be at least the new percentage</li>
+ * </ul>
+ * The update itself is a pipeline appending the discount, incrementing the version and setting
+ * the time of the change, so concurrent updates based on an older read are rejected by their
+ * version check.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
+public class MongoDiscountCampaignAdapter implements DiscountCampaignPort {
+
+    private static final String DISCOUNTS = "discounts";
+    private static final String VERSION = "version";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final ArticleCodec ARTICLE_CODEC = new ArticleCodec();
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(ARTICLE_CODEC),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<String> findTargets(CampaignSelector selector, String afterId, int limit) {
+        List<Bson> filters = new ArrayList<>();
+        if (selector.articleIds() != null) {
+            filters.add(Filters.in("_id", toObjectIds(selector.articleIds())));
+        }
+        if (selector.namePrefix() != null && !selector.namePrefix().isEmpty()) {
+            filters.add(Filters.regex("name", "^" + Pattern.quote(selector.namePrefix())));
+        }
+        if (selector.minSalesPrice() != null) {
+            filters.add(Filters.gte("salesPrice", selector.minSalesPrice()));
+        }
+        if (selector.maxSalesPrice() != null) {
+            filters.add(Filters.lte("salesPrice", selector.maxSalesPrice()));
+        }
+        if (afterId != null) {
+            filters.add(Filters.gt("_id", new ObjectId(afterId)));
+        }
+
+        return documents().find(Filters.and(filters))
+                .projection(Projections.include("_id"))
+                .sort(Sorts.ascending("_id"))
+                .limit(limit)
+                .map(document -> document.getObjectId("_id").toHexString())
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public CampaignBatchResult applyDiscount(List<String> articleIds, Discount discount) {
+        List<ObjectId> ids = toObjectIds(articleIds);
+        Bson overlapping = Filters.elemMatch(DISCOUNTS, Filters.and(
+                Filters.lte(START_DATE, discount.getEndDate()),
+                Filters.gte(END_DATE, discount.getStartDate())));
+        Bson eligible = Filters.and(
+                Filters.in("_id", ids),
+                Filters.gte(MaxDiscountPercentage.FIELD, discount.getDiscountPercentage()),
+                Filters.not(overlapping));
+
+        Document update = new Document("$set", new Document(DISCOUNTS, new Document("$concatArrays", List.of(
+                new Document("$ifNull", List.of("$" + DISCOUNTS, List.of())),
+                new Document("$literal", new BsonArray(List.of(encode(discount)))))))
+                .append(VERSION, new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$" + VERSION, 0L)), 1L)))
+                .append(UpdatedAt.FIELD, UpdatedAt.NOW));
+        long applied = documents().updateMany(eligible, List.of(update)).getModifiedCount();
+
+        List<Article> updated = applied == 0 ? List.of() : articles()
+                .find(Filters.and(Filters.in("_id", ids), Filters.elemMatch(DISCOUNTS, Filters.and(
+                        Filters.eq(START_DATE, discount.getStartDate()),
+                        Filters.eq(END_DATE, discount.getEndDate())))))
+                .into(new ArrayList<>());
+        log.debug("Campaign discount added to {} of {} articles", applied, ids.size());
+        return new CampaignBatchResult(applied, updated);
+    }
+
+    /**
+     * Encodes the discount exactly like the {@link ArticleCodec} stores it within an article.
+     */
+    private static BsonDocument encode(Discount discount) {
+        Article carrier = new Article();
+        carrier.setDiscounts(List.of(discount));
+        BsonDocument document = new BsonDocument();
+        ARTICLE_CODEC.encode(new BsonDocumentWriter(document), carrier, EncoderContext.builder().build());
+        return document.getArray(DISCOUNTS).get(0).asDocument();
+    }
+
+    private static List<ObjectId> toObjectIds(List<String> ids) {
+        return ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+    }
+
+    private MongoCollection<Article> articles() {
+        return documents().withDocumentClass(Article.class).withCodecRegistry(CODEC_REGISTRY);
+    }
+
+    private MongoCollection<Document> documents() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class));
+    }
+}
@@ -0,0 +1,193 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.RepricingCheckpoint;
+import org.interview.tecalliance.application.port.out.RepricingPort;
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.repricing.PriceAdjustment;
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Repricing for the {@code embedded} discount layout, where an article document holds
+ * everything needed to revalidate its discounts.
+ * <p>
+ * Prices are written with one unordered {@code bulkWrite} per batch. Each update is filtered
+ * on the version that was read and increments it, and also stores the new
+ * {@code maxDiscountPercentage}. Job checkpoints are kept in the {@code repricing_jobs} collection.
+ * </p>
+ */
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "embedded", matchIfMissing = true)
+public class MongoRepricingAdapter implements RepricingPort {
+
+    static final String CHECKPOINT_COLLECTION = "repricing_jobs";
+    private static final String VAT_RATIO = "vatRatio";
+    private static final String SALES_PRICE = "salesPrice";
+    private static final String VERSION = "version";
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new ArticleCodec()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Article> findTargets(BigDecimal currentVatRatio, BigDecimal newVatRatio, String afterId, int limit) {
+        Bson filter = targets(currentVatRatio, newVatRatio);
+        if (afterId != null) {
+            filter = Filters.and(Filters.gt("_id", new ObjectId(afterId)), filter);
+        }
+        return articles().find(filter)
+                .sort(Sorts.ascending("_id"))
+                .limit(limit)
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public List<Article> findTargets(BigDecimal currentVatRatio, BigDecimal newVatRatio, Collection<String> ids) {
+        List<ObjectId> objectIds = ids.stream()
+                .filter(ObjectId::isValid)
+                .map(ObjectId::new)
+                .toList();
+        return articles().find(Filters.and(Filters.in("_id", objectIds), targets(currentVatRatio, newVatRatio)))
+                .sort(Sorts.ascending("_id"))
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public long updatePrices(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return 0;
+        }
+        List<UpdateOneModel<Document>> writes = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            long version = article.getVersion() != null ? article.getVersion() : 0L;
+            // the codec reads a missing version as 0
+            Bson sameVersion = version == 0
+                    ? Filters.in(VERSION, 0L, null)
+                    : Filters.eq(VERSION, version);
+            BigDecimal maxDiscountPercentage = article.getMaxDiscountPercentage();
+            writes.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq("_id", new ObjectId(article.getId())), sameVersion),
+                    Updates.combine(
+                            Updates.set(VAT_RATIO, article.getVatRatio()),
+                            Updates.set(SALES_PRICE, article.getSalesPrice()),
+                            maxDiscountPercentage != null
+                                    ? Updates.set(MaxDiscountPercentage.FIELD, maxDiscountPercentage)
+                                    : Updates.unset(MaxDiscountPercentage.FIELD),
+                            Updates.inc(VERSION, 1L),
+                            UpdatedAt.setToNow())));
+        }
+        return documents().bulkWrite(writes, new BulkWriteOptions().ordered(false)).getModifiedCount();
+    }
+
+    @Override
+    public void saveCheckpoint(RepricingCheckpoint checkpoint) {
+        checkpoints().replaceOne(Filters.eq("_id", checkpoint.jobId()), toDocument(checkpoint),
+                new ReplaceOptions().upsert(true));
+    }
+
+    @Override
+    public List<RepricingCheckpoint> findUnfinishedCheckpoints() {
+        return checkpoints()
+                .find(Filters.in("state", JobState.QUEUED.name(), JobState.RUNNING.name()))
+                .sort(Sorts.ascending("submittedAt"))
+                .map(MongoRepricingAdapter::toCheckpoint)
+                .into(new ArrayList<>());
+    }
+
+    private static Bson targets(BigDecimal currentVatRatio, BigDecimal newVatRatio) {
+        Bson notChanged = Filters.ne(VAT_RATIO, newVatRatio);
+        return currentVatRatio == null ? notChanged : Filters.and(Filters.eq(VAT_RATIO, currentVatRatio), notChanged);
+    }
+
+    private static Document toDocument(RepricingCheckpoint checkpoint) {
+        RepricingRequest request = checkpoint.request();
+        PriceAdjustment adjustment = request.salesPriceAdjustment();
+        return new Document("_id", checkpoint.jobId())
+                .append("currentVatRatio", request.currentVatRatio())
+                .append("newVatRatio", request.newVatRatio())
+                .append("adjustmentType", adjustment != null ? adjustment.type().name() : null)
+                .append("adjustmentValue", adjustment != null ? adjustment.value() : null)
+                .append("effectiveAt", request.effectiveAt() != null ? Date.from(request.effectiveAt()) : null)
+                .append("state", checkpoint.state().name())
+                .append("lastArticleId", checkpoint.lastArticleId())
+                .append("processed", checkpoint.processed())
+                .append("repriced", checkpoint.repriced())
+                .append("vatOnly", checkpoint.vatOnly())
+                .append("rejected", checkpoint.rejected())
+                .append("conflicts", checkpoint.conflicts())
+                .append("submittedAt", Date.from(checkpoint.submittedAt()))
+                .append("error", checkpoint.error())
+                .append("updatedAt", new Date());
+    }
+
+    private static RepricingCheckpoint toCheckpoint(Document document) {
+        String adjustmentType = document.getString("adjustmentType");
+        PriceAdjustment adjustment = adjustmentType == null ? null : new PriceAdjustment(
+                PriceAdjustment.Type.valueOf(adjustmentType), toBigDecimal(document.get("adjustmentValue")));
+        Date effectiveAt = document.getDate("effectiveAt");
+        RepricingRequest request = new RepricingRequest(
+                toBigDecimal(document.get("currentVatRatio")),
+                toBigDecimal(document.get("newVatRatio")),
+                adjustment,
+                effectiveAt != null ? effectiveAt.toInstant() : null);
+        return new RepricingCheckpoint(
+                document.getString("_id"),
+                request,
+                JobState.valueOf(document.getString("state")),
+                document.getString("lastArticleId"),
+                document.getLong("processed"),
+                document.getLong("repriced"),
+                document.get("vatOnly", 0L),
+                document.getLong("rejected"),
+                document.getLong("conflicts"),
+                document.getDate("submittedAt").toInstant(),
+                document.getString("error"));
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof Decimal128 decimal ? decimal.bigDecimalValue() : null;
+    }
+
+    private MongoCollection<Article> articles() {
+        return documents().withDocumentClass(Article.class).withCodecRegistry(CODEC_REGISTRY);
+    }
+
+    private MongoCollection<Document> documents() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class));
+    }
+
+    private MongoCollection<Document> checkpoints() {
+        return mongoTemplate.getCollection(CHECKPOINT_COLLECTION);
+    }
+}
@@ -0,0 +1,479 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.mapper.ArticleEntityMapper;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.mapper.DiscountEntityMapper;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * MongoDB persistence adapter using the {@code separate} discount layout.
+ * <p>
+ * Article documents contain no discounts. Every discount is a document of its own in the
+ * {@code article_discounts} collection, indexed by (articleId, startDate, endDate), so the
+ * article document size no longer grows with the promotion history. Reads load only
+ * discounts that did not end before today unless the history is explicitly requested.
+ * </p>
+ * <p>
+ * Saving an article replaces its current and future discounts and keeps the history.
+ * Historical discounts sent with the article are upserted by their validity period.
+ * The article and its discounts are written without a transaction, so concurrent readers
+ * may briefly observe an article with an incomplete set of discounts. Likewise, a patch of a
+ * price stores the recomputed {@code maxDiscountPercentage} with a second write.
+ * </p>
+ */
+@Slf4j
+@Component(ForwardingArticlePersistencePort.ADAPTER_BEAN)
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.discount-layout", havingValue = "separate")
+public class SeparateDiscountsMongoArticlePersistenceAdapter implements ArticlePersistencePort {
+
+    private static final String ARTICLE_ID = "articleId";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final String VERSION = "version";
+
+    private final MongoTemplate mongoTemplate;
+    private final ArticleEntityMapper articleMapper;
+    private final DiscountEntityMapper discountMapper;
+
+    @Override
+    public Article save(Article article) {
+        log.debug("Saving article: {}", article.getName());
+
+        if (article.getId() != null && !article.getId().isEmpty()) {
+            // an existing article is replaced with its version incremented, a new ID created with version 0;
+            // an existing article saved without discounts keeps the stored ones
+            article.setVersion(null);
+            Optional<Article> replaced = replace(article, article.getDiscounts());
+            if (replaced.isPresent()) {
+                return replaced.get();
+            }
+            article.setVersion(0L);
+        }
+        List<Discount> discounts = article.getDiscounts() != null ? article.getDiscounts() : List.of();
+        ArticleEntity entity = articleMapper.toEntity(article);
+        entity.setDiscounts(null);
+        if (entity.getVersion() == null) {
+            entity.setVersion(0L);
+        }
+        ArticleEntity saved = mongoTemplate.save(entity);
+        replaceDiscounts(saved.getId(), discounts);
+
+        Article savedArticle = articleMapper.toDomain(saved);
+        savedArticle.setDiscounts(new ArrayList<>(discounts));
+
+        log.info("Article saved successfully with ID: {}", savedArticle.getId());
+        return savedArticle;
+    }
+
+    /**
+     * Saves the articles one after the other. Every article is written to two collections,
+     * so the writes cannot be combined into one bulk write per collection without losing the
+     * per-article outcome.
+     */
+    @Override
+    public List<SaveResult> saveAll(List<Article> articles) {
+        List<SaveResult> results = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            try {
+                results.add(SaveResult.saved(save(article)));
+            } catch (DataAccessException e) {
+                log.warn("Article {} could not be saved: {}", article.getName(), e.getMessage());
+                results.add(SaveResult.failed(e));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Optional<Article> replace(Article article) {
+        return replace(article, article.getDiscounts() != null ? article.getDiscounts() : List.of());
+    }
+
+    /**
+     * Replaces the article with the given discounts, or keeps the stored discounts if they are null.
+     */
+    private Optional<Article> replace(Article article, List<Discount> discounts) {
+        log.debug("Replacing article with ID: {} (expected version: {})", article.getId(), article.getVersion());
+        Optional<ObjectId> objectId = toObjectId(article.getId());
+        if (objectId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Criteria criteria = Criteria.where("_id").is(objectId.get());
+        if (article.getVersion() != null) {
+            criteria = criteria.andOperator(versionIs(article.getVersion()));
+        }
+        Update update = new Update()
+                .set("name", article.getName())
+                .set("slogan", article.getSlogan())
+                .set("netPrice", article.getNetPrice())
+                .set("salesPrice", article.getSalesPrice())
+                .set("vatRatio", article.getVatRatio())
+                .set(MaxDiscountPercentage.FIELD, article.getMaxDiscountPercentage())
+                .inc(VERSION, 1);
+        ArticleEntity replaced = mongoTemplate.findAndModify(Query.query(criteria), update,
+                FindAndModifyOptions.options().returnNew(true), ArticleEntity.class);
+        if (replaced == null) {
+            if (article.getVersion() != null && existsById(article.getId())) {
+                throw new OptimisticLockingFailureException(
+                        "Article " + article.getId() + " was modified concurrently, expected version " + article.getVersion());
+            }
+            return Optional.empty();
+        }
+
+        Article replacedArticle;
+        if (discounts != null) {
+            replaceDiscounts(replaced.getId(), discounts);
+            replacedArticle = articleMapper.toDomain(replaced);
+            replacedArticle.setDiscounts(new ArrayList<>(discounts));
+        } else {
+            replacedArticle = withDiscounts(List.of(replaced), today()).getFirst();
+        }
+
+        log.info("Article replaced successfully with ID: {} (version {})", replacedArticle.getId(), replacedArticle.getVersion());
+        return Optional.of(replacedArticle);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Article> update(String id, Map<ArticleField, Object> changes, long expectedVersion) {
+        log.debug("Updating fields {} of article with ID: {} (expected version: {})", changes.keySet(), id, expectedVersion);
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Update update = new Update().inc(VERSION, 1);
+        changes.forEach((field, value) -> {
+            if (field == ArticleField.DISCOUNTS) {
+                return;
+            }
+            if (value != null) {
+                update.set(field.property(), value);
+            } else {
+                update.unset(field.property());
+            }
+        });
+        ArticleEntity updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(objectId.get()).andOperator(versionIs(expectedVersion))),
+                update, FindAndModifyOptions.options().returnNew(true), ArticleEntity.class);
+        if (updated == null) {
+            if (existsById(id)) {
+                throw new OptimisticLockingFailureException(
+                        "Article " + id + " was modified concurrently, expected version " + expectedVersion);
+            }
+            return Optional.empty();
+        }
+
+        if (changes.keySet().stream().anyMatch(ArticleField::affectsMaxDiscountPercentage)) {
+            updateMaxDiscountPercentage(updated);
+        }
+        if (changes.containsKey(ArticleField.DISCOUNTS)) {
+            List<Discount> discounts = (List<Discount>) changes.get(ArticleField.DISCOUNTS);
+            replaceDiscounts(updated.getId(), discounts != null ? discounts : List.of());
+        }
+        log.info("Article updated successfully with ID: {} (version {})", id, updated.getVersion());
+        return Optional.of(withDiscounts(List.of(updated), today()).getFirst());
+    }
+
+    @Override
+    public Optional<Article> findById(String id) {
+        return findById(id, false);
+    }
+
+    @Override
+    public Optional<Article> findById(String id, boolean includeDiscountHistory) {
+        log.debug("Finding article by ID: {} (discount history: {})", id, includeDiscountHistory);
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ArticleEntity entity = mongoTemplate.findById(objectId.get(), ArticleEntity.class);
+        if (entity == null) {
+            log.debug("Article not found with ID: {}", id);
+            return Optional.empty();
+        }
+        LocalDate validFrom = includeDiscountHistory ? null : today();
+        return Optional.of(withDiscounts(List.of(entity), validFrom).getFirst());
+    }
+
+    @Override
+    public List<Article> findAllById(Collection<String> ids) {
+        log.debug("Finding {} articles by ID", ids.size());
+        List<ObjectId> objectIds = ids.stream().map(this::toObjectId).flatMap(Optional::stream).distinct().toList();
+        if (objectIds.isEmpty()) {
+            return List.of();
+        }
+        List<ArticleEntity> entities = mongoTemplate.find(Query.query(Criteria.where("_id").in(objectIds)), ArticleEntity.class);
+        return withDiscounts(entities, today());
+    }
+
+    @Override
+    public Optional<Article> findByIdWithoutDiscounts(String id) {
+        log.debug("Finding article without discounts by ID: {}", id);
+
+        return toObjectId(id)
+                .map(objectId -> mongoTemplate.findById(objectId, ArticleEntity.class))
+                .map(entity -> {
+                    Article article = articleMapper.toDomain(entity);
+                    article.setDiscounts(null);
+                    return article;
+                });
+    }
+
+    @Override
+    public Optional<Article> findByIdWithDiscountsIn(String id, DiscountWindow window) {
+        log.debug("Finding article by ID: {} with discounts in {}", id, window);
+
+        return toObjectId(id)
+                .map(objectId -> mongoTemplate.findById(objectId, ArticleEntity.class))
+                .map(entity -> {
+                    Article article = articleMapper.toDomain(entity);
+                    article.setDiscounts(new ArrayList<>(mongoTemplate.find(
+                                    discountsIn(entity.getId(), window), DiscountEntity.class).stream()
+                            .map(discountMapper::toDomain)
+                            .toList()));
+                    return article;
+                });
+    }
+
+    @Override
+    public Optional<List<Discount>> findDiscounts(String id, DiscountWindow window, int offset, int limit) {
+        log.debug("Finding discounts of article {} in {} (offset {}, limit {})", id, window, offset, limit);
+
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty() || !mongoTemplate.exists(Query.query(Criteria.where("_id").is(objectId.get())), ArticleEntity.class)) {
+            return Optional.empty();
+        }
+        Query query = discountsIn(objectId.get(), window).skip(offset).limit(limit);
+        return Optional.of(mongoTemplate.find(query, DiscountEntity.class).stream()
+                .map(discountMapper::toDomain)
+                .toList());
+    }
+
+    @Override
+    public List<Article> findAll() {
+        log.debug("Finding all articles with their discount history");
+
+        // the complete history, as with the embedded layout, loaded with one query for all articles
+        List<Article> articles = withDiscounts(mongoTemplate.findAll(ArticleEntity.class), null);
+
+        log.info("Found {} articles", articles.size());
+        return articles;
+    }
+
+    @Override
+    public List<Article> findAllWithDiscountsValidFrom(LocalDate date) {
+        log.debug("Finding all articles with discounts valid from {}", date);
+
+        List<Article> articles = withDiscounts(mongoTemplate.findAll(ArticleEntity.class), date);
+
+        log.info("Found {} articles", articles.size());
+        return articles;
+    }
+
+    @Override
+    public List<Article> findWithDiscountActiveOn(LocalDate date) {
+        log.debug("Finding articles with active discount on {}", date);
+
+        Query activeDiscounts = Query.query(Criteria.where(END_DATE).gte(date).and(START_DATE).lte(date));
+        List<ObjectId> articleIds = mongoTemplate.findDistinct(activeDiscounts, ARTICLE_ID, DiscountEntity.class, ObjectId.class);
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<ArticleEntity> entities = mongoTemplate.find(
+                Query.query(Criteria.where("_id").in(articleIds)), ArticleEntity.class);
+        LocalDate validFrom = date.isBefore(today()) ? date : today();
+        return withDiscounts(entities, validFrom);
+    }
+
+    @Override
+    public List<Article> searchByText(String text, int offset, int limit) {
+        log.debug("Full-text search for '{}' (offset {}, limit {})", text, offset, limit);
+
+        TextQuery query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .sortByScore();
+        query.skip(offset).limit(limit);
+
+        return withDiscounts(mongoTemplate.find(query, ArticleEntity.class), today());
+    }
+
+    @Override
+    public List<Article> findEligibleForDiscount(BigDecimal discountPercentage, int offset, int limit) {
+        log.debug("Finding articles eligible for a {}% discount (offset {}, limit {})", discountPercentage, offset, limit);
+
+        Query query = Query.query(Criteria.where(MaxDiscountPercentage.FIELD).gte(discountPercentage))
+                .with(Sort.by(Sort.Direction.DESC, MaxDiscountPercentage.FIELD, "_id"))
+                .skip(offset)
+                .limit(limit);
+        return withDiscounts(mongoTemplate.find(query, ArticleEntity.class), today());
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        log.debug("Attempting to delete article with ID: {}", id);
+        Optional<ObjectId> objectId = toObjectId(id);
+        if (objectId.isEmpty()) {
+            return false;
+        }
+
+        long deleted = mongoTemplate.remove(Query.query(Criteria.where("_id").is(objectId.get())), ArticleEntity.class)
+                .getDeletedCount();
+        if (deleted == 0) {
+            log.debug("Article not found for deletion with ID: {}", id);
+            return false;
+        }
+        mongoTemplate.remove(Query.query(Criteria.where(ARTICLE_ID).is(objectId.get())), DiscountEntity.class);
+        log.info("Article deleted successfully with ID: {}", id);
+        return true;
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        log.debug("Checking if article exists with ID: {}", id);
+        return toObjectId(id)
+                .map(objectId -> mongoTemplate.exists(Query.query(Criteria.where("_id").is(objectId)), ArticleEntity.class))
+                .orElse(false);
+    }
+
+    /**
+     * Stores the maximum discount derived from the updated prices, unless the prices changed
+     * again in the meantime; that write stores its own value.
+     */
+    private void updateMaxDiscountPercentage(ArticleEntity updated) {
+        BigDecimal maxDiscountPercentage = articleMapper.toDomain(updated).getMaxDiscountPercentage();
+        updated.setMaxDiscountPercentage(maxDiscountPercentage);
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(updated.getId())
+                        .and("netPrice").is(updated.getNetPrice())
+                        .and("salesPrice").is(updated.getSalesPrice())),
+                new Update().set(MaxDiscountPercentage.FIELD, maxDiscountPercentage), ArticleEntity.class);
+    }
+
+    private void replaceDiscounts(ObjectId articleId, List<Discount> discounts) {
+        LocalDate today = today();
+        mongoTemplate.remove(Query.query(Criteria.where(ARTICLE_ID).is(articleId)
+                        .orOperator(Criteria.where(END_DATE).gte(today), Criteria.where(END_DATE).is(null))),
+                DiscountEntity.class);
+
+        if (discounts.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DiscountEntity.class);
+        for (Discount discount : discounts) {
+            DiscountEntity entity = discountMapper.toEntity(discount, articleId);
+            if (discount.getEndDate() != null && discount.getEndDate().isBefore(today)) {
+                Query samePeriod = Query.query(Criteria.where(ARTICLE_ID).is(articleId)
+                        .and(START_DATE).is(discount.getStartDate())
+                        .and(END_DATE).is(discount.getEndDate()));
+                bulk.upsert(samePeriod, new Update()
+                        .set("discountId", entity.getDiscountId())
+                        .set("description", entity.getDescription())
+                        .set("discountPercentage", entity.getDiscountPercentage()));
+            } else {
+                bulk.insert(entity);
+            }
+        }
+        bulk.execute();
+    }
+
+    private List<Article> withDiscounts(List<ArticleEntity> entities, LocalDate validFrom) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        Map<ObjectId, List<Discount>> discountsByArticle = findDiscounts(
+                entities.stream().map(ArticleEntity::getId).toList(), validFrom);
+
+        return entities.stream()
+                .map(entity -> {
+                    Article article = articleMapper.toDomain(entity);
+                    article.setDiscounts(new ArrayList<>(discountsByArticle.getOrDefault(entity.getId(), List.of())));
+                    return article;
+                })
+                .toList();
+    }
+
+    private Map<ObjectId, List<Discount>> findDiscounts(Collection<ObjectId> articleIds, LocalDate validFrom) {
+        Criteria criteria = Criteria.where(ARTICLE_ID).in(articleIds);
+        if (validFrom != null) {
+            criteria = criteria.orOperator(Criteria.where(END_DATE).gte(validFrom), Criteria.where(END_DATE).is(null));
+        }
+        Query query = Query.query(criteria).with(Sort.by(ARTICLE_ID, START_DATE));
+
+        return mongoTemplate.find(query, DiscountEntity.class).stream()
+                .collect(Collectors.groupingBy(DiscountEntity::getArticleId,
+                        Collectors.mapping(discountMapper::toDomain, Collectors.toList())));
+    }
+
+    private Query discountsIn(ObjectId articleId, DiscountWindow window) {
+        Criteria criteria = Criteria.where(ARTICLE_ID).is(articleId);
+        if (window.to() != null) {
+            criteria = criteria.and(START_DATE).lte(window.to());
+        }
+        if (window.from() != null) {
+            criteria = criteria.and(END_DATE).gte(window.from());
+        }
+        return Query.query(criteria).with(Sort.by(START_DATE));
+    }
+
+    /**
+     * Matches the expected version. Articles written before versioning was introduced have
+     * no version field and count as version 0.
+     */
+    private static Criteria versionIs(long version) {
+        if (version == 0) {
+            return new Criteria().orOperator(Criteria.where(VERSION).is(0L), Criteria.where(VERSION).exists(false));
+        }
+        return Criteria.where(VERSION).is(version);
+    }
+
+    private Optional<ObjectId> toObjectId(String id) {
+        if (id == null || !ObjectId.isValid(id)) {
+            log.error("Invalid ObjectId format: {}", id);
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectId(id));
+    }
+
+    private LocalDate today() {
+        return LocalDate.now();
+    }
+}
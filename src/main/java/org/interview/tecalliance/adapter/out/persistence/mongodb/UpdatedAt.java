@@ -0,0 +1,45 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import com.mongodb.client.model.Updates;
+import org.bson.conversions.Bson;
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The stored {@link Article#getUpdatedAt()}, set by every write of an article in the
+ * {@code embedded} layout and indexed together with the ID for the change feed.
+ * <p>
+ * Writes of partial changes take the time of the server: {@link #NOW} in pipeline updates,
+ * {@link #setToNow()} in regular updates. Inserts and replacements of whole articles are
+ * encoded on the client and take the time of the application, truncated to the millisecond
+ * precision of BSON dates by {@link #now()}.
+ * </p>
+ */
+public final class UpdatedAt {
+
+    public static final String FIELD = "updatedAt";
+
+    /**
+     * The current time of the server in an aggregation expression.
+     */
+    public static final String NOW = "$$NOW";
+
+    private UpdatedAt() {
+    }
+
+    /**
+     * Returns an update operator setting the field to the time of the server.
+     */
+    public static Bson setToNow() {
+        return Updates.currentDate(FIELD);
+    }
+
+    /**
+     * Returns the time of the application as it will be stored.
+     */
+    public static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,239 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written BSON codec reading article documents directly into the domain {@link Article}.
+ * <p>
+ * Used on the hot read paths of the embedded layout instead of Spring Data's reflective
+ * {@code MappingMongoConverter} followed by the MapStruct copy into the domain model. The
+ * document format is the one written by Spring Data for {@code ArticleEntity}:
+ * <ul>
+ *   <li>the article ID is an {@link ObjectId}, prices are {@code Decimal128}</li>
+ *   <li>discount dates are UTC midnight date-times (the driver's native {@code java.time} codecs);
+ *       dates written by older versions in another time zone are moved there by the
+ *       {@code DiscountDateMigration}</li>
+ *   <li>fields the codec does not know, such as {@code _class}, are skipped</li>
+ *   <li>a missing {@code version} is read as 0</li>
+ *   <li>{@code updatedAt} is a date-time with millisecond precision</li>
+ *   <li>the derived {@code maxDiscountPercentage} is written for the index but not read back,
+ *       the domain model computes it from the prices</li>
+ * </ul>
+ * Prices stored as strings or doubles by older versions are still decoded.
+ * </p>
+ */
+public class ArticleCodec implements Codec<Article> {
+
+    private static final String ID = "_id";
+    private static final String NAME = "name";
+    private static final String SLOGAN = "slogan";
+    private static final String NET_PRICE = "netPrice";
+    private static final String SALES_PRICE = "salesPrice";
+    private static final String VAT_RATIO = "vatRatio";
+    private static final String DISCOUNTS = "discounts";
+    private static final String VERSION = "version";
+    private static final String MAX_DISCOUNT_PERCENTAGE = "maxDiscountPercentage";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String DESCRIPTION = "description";
+    private static final String DISCOUNT_PERCENTAGE = "discountPercentage";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+
+    @Override
+    public Article decode(BsonReader reader, DecoderContext decoderContext) {
+        Article article = new Article();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case ID -> article.setId(readObjectIdAsString(reader));
+                case NAME -> article.setName(readString(reader));
+                case SLOGAN -> article.setSlogan(readString(reader));
+                case NET_PRICE -> article.setNetPrice(readDecimal(reader));
+                case SALES_PRICE -> article.setSalesPrice(readDecimal(reader));
+                case VAT_RATIO -> article.setVatRatio(readDecimal(reader));
+                case DISCOUNTS -> article.setDiscounts(readDiscounts(reader));
+                case VERSION -> article.setVersion(readLong(reader));
+                case UPDATED_AT -> article.setUpdatedAt(readInstant(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        if (article.getVersion() == null) {
+            article.setVersion(0L);
+        }
+        return article;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Article article, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (article.getId() != null && !article.getId().isEmpty()) {
+            writer.writeObjectId(ID, new ObjectId(article.getId()));
+        }
+        writeString(writer, NAME, article.getName());
+        writeString(writer, SLOGAN, article.getSlogan());
+        writeDecimal(writer, NET_PRICE, article.getNetPrice());
+        writeDecimal(writer, SALES_PRICE, article.getSalesPrice());
+        writeDecimal(writer, VAT_RATIO, article.getVatRatio());
+        writeDecimal(writer, MAX_DISCOUNT_PERCENTAGE, article.getMaxDiscountPercentage());
+        if (article.getDiscounts() != null) {
+            writer.writeStartArray(DISCOUNTS);
+            for (Discount discount : article.getDiscounts()) {
+                encodeDiscount(writer, discount);
+            }
+            writer.writeEndArray();
+        }
+        if (article.getVersion() != null) {
+            writer.writeInt64(VERSION, article.getVersion());
+        }
+        if (article.getUpdatedAt() != null) {
+            writer.writeDateTime(UPDATED_AT, article.getUpdatedAt().toEpochMilli());
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Article> getEncoderClass() {
+        return Article.class;
+    }
+
+    private List<Discount> readDiscounts(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return new ArrayList<>();
+        }
+        List<Discount> discounts = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            discounts.add(decodeDiscount(reader));
+        }
+        reader.readEndArray();
+        return discounts;
+    }
+
+    private Discount decodeDiscount(BsonReader reader) {
+        Discount discount = new Discount();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case ID, "id" -> discount.setId(readLong(reader));
+                case DESCRIPTION -> discount.setDescription(readString(reader));
+                case DISCOUNT_PERCENTAGE -> discount.setDiscountPercentage(readDecimal(reader));
+                case START_DATE -> discount.setStartDate(readDate(reader));
+                case END_DATE -> discount.setEndDate(readDate(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return discount;
+    }
+
+    private void encodeDiscount(BsonWriter writer, Discount discount) {
+        writer.writeStartDocument();
+        if (discount.getId() != null) {
+            writer.writeInt64(ID, discount.getId());
+        }
+        writeString(writer, DESCRIPTION, discount.getDescription());
+        writeDecimal(writer, DISCOUNT_PERCENTAGE, discount.getDiscountPercentage());
+        writeDate(writer, START_DATE, discount.getStartDate());
+        writeDate(writer, END_DATE, discount.getEndDate());
+        writer.writeEndDocument();
+    }
+
+    private static String readObjectIdAsString(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case OBJECT_ID -> reader.readObjectId().toHexString();
+            case STRING -> reader.readString();
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    private static Long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT64 -> reader.readInt64();
+            case INT32 -> (long) reader.readInt32();
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static BigDecimal readDecimal(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case DECIMAL128 -> reader.readDecimal128().bigDecimalValue();
+            case STRING -> new BigDecimal(reader.readString());
+            case DOUBLE -> BigDecimal.valueOf(reader.readDouble());
+            case INT32 -> BigDecimal.valueOf(reader.readInt32());
+            case INT64 -> BigDecimal.valueOf(reader.readInt64());
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static LocalDate readDate(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case DATE_TIME -> Instant.ofEpochMilli(reader.readDateTime()).atOffset(ZoneOffset.UTC).toLocalDate();
+            case STRING -> LocalDate.parse(reader.readString());
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    private static Instant readInstant(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.DATE_TIME) {
+            return Instant.ofEpochMilli(reader.readDateTime());
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    private static void writeDecimal(BsonWriter writer, String name, BigDecimal value) {
+        if (value != null) {
+            writer.writeDecimal128(name, new Decimal128(value));
+        }
+    }
+
+    private static void writeDate(BsonWriter writer, String name, LocalDate value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.compaction;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.UpdatedAt;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArchivedDiscountEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background job moving expired discounts out of the article documents into the
+ * {@code article_discount_archive} collection (embedded discount layout).
+ * <p>
+ * Articles are processed in batches ordered by ID, with a pause between batches to limit
+ * the load on the primary. A discount is archived when its end date lies further in the
+ * past than the retention period. Each batch is written in two steps:
+ * <ol>
+ *   <li>each article is updated only if its discount array is still exactly the one that was
+ *       read, so concurrent edits are never overwritten; conflicting articles are retried
+ *       by the next run. The article version is incremented, so updates based on an older
+ *       read are rejected as well. These are single updates, because a bulk write reports
+ *       only how many of its updates matched, not which</li>
+ *   <li>the expired discounts of the updated articles are upserted into the archive in one
+ *       bulk write (idempotent by article and period), so a conflicting article leaves no
+ *       archived copy of discounts it still holds, or of discounts that were edited or
+ *       removed concurrently</li>
+ * </ol>
+ * The cached representations of the updated articles are evicted. The last processed article
+ * ID is checkpointed after every batch, so an interrupted run resumes where it stopped.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tecalliance.compaction.enabled", havingValue = "true")
+public class DiscountCompactionJob {
+
+    static final String CHECKPOINT_ID = "discount-compaction";
+    private static final String CHECKPOINT_COLLECTION = "compaction_checkpoints";
+    private static final String DISCOUNTS = "discounts";
+    private static final String LAST_ARTICLE_ID = "lastArticleId";
+
+    private final MongoTemplate mongoTemplate;
+    private final ArticleCachePort articleCachePort;
+    private final int batchSize;
+    private final Duration pauseBetweenBatches;
+    private final Period retention;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runArticlesScanned = new AtomicLong();
+    private final Counter articlesScanned;
+    private final Counter articlesCompacted;
+    private final Counter discountsArchived;
+    private final Counter conflicts;
+
+    public DiscountCompactionJob(MongoTemplate mongoTemplate,
+                                 ArticleCachePort articleCachePort,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${tecalliance.compaction.batch-size:200}") int batchSize,
+                                 @Value("${tecalliance.compaction.pause-between-batches:PT0.1S}") Duration pauseBetweenBatches,
+                                 @Value("${tecalliance.compaction.retention:P90D}") Period retention) {
+        this.mongoTemplate = mongoTemplate;
+        this.articleCachePort = articleCachePort;
+        this.batchSize = batchSize;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.retention = retention;
+
+        this.articlesScanned = Counter.builder("articles.compaction.articles.scanned")
+                .description("Articles with expired discounts inspected by the compaction job")
+                .register(meterRegistry);
+        this.articlesCompacted = Counter.builder("articles.compaction.articles.compacted")
+                .description("Articles whose expired discounts were archived")
+                .register(meterRegistry);
+        this.discountsArchived = Counter.builder("articles.compaction.discounts.archived")
+                .description("Discounts moved to the archive")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("articles.compaction.conflicts")
+                .description("Articles skipped because they were modified concurrently")
+                .register(meterRegistry);
+        Gauge.builder("articles.compaction.run.articles", runArticlesScanned, AtomicLong::get)
+                .description("Articles inspected by the current or last compaction run")
+                .register(meterRegistry);
+        Gauge.builder("articles.compaction.running", running, flag -> flag.get() ? 1 : 0)
+                .description("1 while a compaction run is in progress")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tecalliance.compaction.interval:PT1H}",
+            initialDelayString = "${tecalliance.compaction.initial-delay:PT5M}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * Runs a complete compaction pass, resuming from the last checkpoint if the previous run was interrupted.
+     *
+     * @return the result of this run, or an empty result if a run is already in progress
+     */
+    public CompactionResult run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Discount compaction is already running, skipping");
+            return new CompactionResult(0, 0, 0, 0);
+        }
+        try {
+            return compact(LocalDate.now(ZoneOffset.UTC).minus(retention));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CompactionResult compact(LocalDate cutoff) {
+        Date cutoffDate = Date.from(cutoff.atStartOfDay(ZoneOffset.UTC).toInstant());
+        ObjectId lastId = loadCheckpoint();
+        log.info("Starting discount compaction for discounts ended before {} (resuming after {})", cutoff, lastId);
+
+        runArticlesScanned.set(0);
+        long scanned = 0;
+        long compacted = 0;
+        long archived = 0;
+        long skipped = 0;
+
+        while (true) {
+            List<Document> batch = nextBatch(lastId, cutoffDate);
+            if (batch.isEmpty()) {
+                break;
+            }
+            BatchResult result = compactBatch(batch, cutoffDate);
+            scanned += batch.size();
+            compacted += result.compacted();
+            archived += result.archived();
+            skipped += result.conflicts();
+
+            runArticlesScanned.addAndGet(batch.size());
+            articlesScanned.increment(batch.size());
+            articlesCompacted.increment(result.compacted());
+            discountsArchived.increment(result.archived());
+            conflicts.increment(result.conflicts());
+
+            lastId = batch.getLast().getObjectId("_id");
+            saveCheckpoint(lastId);
+            if (!pause()) {
+                log.warn("Discount compaction interrupted after article {}", lastId);
+                return new CompactionResult(scanned, compacted, archived, skipped);
+            }
+        }
+
+        saveCheckpoint(null);
+        log.info("Discount compaction finished: {} articles scanned, {} compacted, {} discounts archived, {} conflicts",
+                scanned, compacted, archived, skipped);
+        return new CompactionResult(scanned, compacted, archived, skipped);
+    }
+
+    private List<Document> nextBatch(ObjectId lastId, Date cutoffDate) {
+        Bson filter = Filters.lt(DISCOUNTS + ".endDate", cutoffDate);
+        if (lastId != null) {
+            filter = Filters.and(Filters.gt("_id", lastId), filter);
+        }
+        return articleCollection().find(filter)
+                .projection(Projections.include(DISCOUNTS))
+                .sort(Sorts.ascending("_id"))
+                .limit(batchSize)
+                .into(new ArrayList<>());
+    }
+
+    BatchResult compactBatch(List<Document> batch, Date cutoffDate) {
+        Instant archivedAt = Instant.now();
+        List<ReplaceOneModel<Document>> archiveWrites = new ArrayList<>();
+        List<String> compactedIds = new ArrayList<>();
+        int conflicting = 0;
+
+        for (Document article : batch) {
+            ObjectId articleId = article.getObjectId("_id");
+            List<Document> discounts = article.getList(DISCOUNTS, Document.class);
+            List<Document> retained = new ArrayList<>();
+            List<Document> expired = new ArrayList<>();
+
+            for (Document discount : discounts) {
+                Date endDate = discount.getDate("endDate");
+                if (endDate != null && endDate.before(cutoffDate)) {
+                    expired.add(discount);
+                } else {
+                    retained.add(discount);
+                }
+            }
+            UpdateResult result = articleCollection().updateOne(
+                    Filters.and(Filters.eq("_id", articleId), Filters.eq(DISCOUNTS, discounts)),
+                    Updates.combine(Updates.set(DISCOUNTS, retained), Updates.inc("version", 1L),
+                            UpdatedAt.setToNow()));
+            if (result.getMatchedCount() == 0) {
+                conflicting++;
+                continue;
+            }
+            compactedIds.add(articleId.toHexString());
+            expired.forEach(discount -> archiveWrites.add(toArchiveWrite(articleId, discount, archivedAt)));
+        }
+
+        try {
+            if (!archiveWrites.isEmpty()) {
+                archiveCollection().bulkWrite(archiveWrites, new BulkWriteOptions().ordered(false));
+            }
+        } finally {
+            compactedIds.forEach(articleCachePort::evict);
+        }
+        if (conflicting > 0) {
+            log.info("{} articles were modified during compaction and will be retried by the next run", conflicting);
+        }
+        return new BatchResult(compactedIds.size(), archiveWrites.size(), conflicting);
+    }
+
+    private ReplaceOneModel<Document> toArchiveWrite(ObjectId articleId, Document discount, Instant archivedAt) {
+        Object discountId = discount.containsKey("_id") ? discount.get("_id") : discount.get("id");
+        Document archived = new Document("articleId", articleId)
+                .append("discountId", discountId)
+                .append("description", discount.get("description"))
+                .append("discountPercentage", discount.get("discountPercentage"))
+                .append("startDate", discount.get("startDate"))
+                .append("endDate", discount.get("endDate"))
+                .append("archivedAt", Date.from(archivedAt));
+        Bson samePeriod = Filters.and(
+                Filters.eq("articleId", articleId),
+                Filters.eq("startDate", discount.get("startDate")),
+                Filters.eq("endDate", discount.get("endDate")));
+        return new ReplaceOneModel<>(samePeriod, archived, new ReplaceOptions().upsert(true));
+    }
+
+    private ObjectId loadCheckpoint() {
+        Document checkpoint = checkpointCollection().find(Filters.eq("_id", CHECKPOINT_ID)).first();
+        return checkpoint != null ? checkpoint.getObjectId(LAST_ARTICLE_ID) : null;
+    }
+
+    private void saveCheckpoint(ObjectId lastId) {
+        checkpointCollection().replaceOne(Filters.eq("_id", CHECKPOINT_ID),
+                new Document("_id", CHECKPOINT_ID)
+                        .append(LAST_ARTICLE_ID, lastId)
+                        .append("updatedAt", new Date()),
+                new ReplaceOptions().upsert(true));
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero() || pauseBetweenBatches.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches);
+            return true;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private MongoCollection<Document> articleCollection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class));
+    }
+
+    private MongoCollection<Document> archiveCollection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArchivedDiscountEntity.class));
+    }
+
+    private MongoCollection<Document> checkpointCollection() {
+        return mongoTemplate.getCollection(CHECKPOINT_COLLECTION);
+    }
+
+    /**
+     * Summary of one compaction run.
+     *
+     * @param articlesScanned articles with expired discounts that were inspected
+     * @param articlesCompacted articles whose expired discounts were removed
+     * @param discountsArchived discounts written to the archive
+     * @param conflicts articles skipped because they changed concurrently
+     */
+    public record CompactionResult(long articlesScanned, long articlesCompacted, long discountsArchived, long conflicts) {
+    }
+
+    record BatchResult(int compacted, int archived, int conflicts) {
+    }
+}
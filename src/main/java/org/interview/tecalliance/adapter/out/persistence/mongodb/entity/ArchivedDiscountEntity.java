@@ -0,0 +1,40 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Expired discount moved out of its article by the discount compaction job.
+ * <p>
+ * The unique (articleId, startDate, endDate) index makes archiving idempotent, so an
+ * interrupted compaction batch can be repeated without creating duplicates.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "article_discount_archive")
+@CompoundIndex(name = "article_validity", def = "{'articleId': 1, 'startDate': 1, 'endDate': 1}", unique = true)
+public class ArchivedDiscountEntity {
+
+    @Id
+    private ObjectId id;
+
+    private ObjectId articleId;
+    private Long discountId;
+    private String description;
+    private BigDecimal discountPercentage;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Instant archivedAt;
+
+}
@@ -6,9 +6,12 @@ import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.interview.tecalliance.domain.model.Discount;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,16 +19,25 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "articles")
+@CompoundIndex(name = "discount_validity", def = "{'discounts.startDate': 1, 'discounts.endDate': 1}")
+@CompoundIndex(name = "discount_end", def = "{'discounts.endDate': 1}")
+@CompoundIndex(name = "max_discount_percentage", def = "{'maxDiscountPercentage': 1, '_id': 1}")
+@CompoundIndex(name = "updated_at", def = "{'updatedAt': 1, '_id': 1}")
 public class ArticleEntity {
 
     @Id
     private ObjectId id;
 
+    @TextIndexed(weight = 2)
     private String name;
+    @TextIndexed
     private String slogan;
     private BigDecimal netPrice;
     private BigDecimal salesPrice;
     private BigDecimal vatRatio;
     private List<Discount> discounts = new ArrayList<>();
+    private Long version;
+    private BigDecimal maxDiscountPercentage;
+    private Instant updatedAt;
 
 }
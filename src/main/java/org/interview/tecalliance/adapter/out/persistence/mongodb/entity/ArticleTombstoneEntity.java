@@ -0,0 +1,42 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Record of a deleted article, kept for the change feed so that clients syncing incrementally
+ * learn about the deletion.
+ * <p>
+ * Tombstones expire after {@link #RETENTION}; clients whose last sync is older than that have
+ * to sync the full catalog again.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = ArticleTombstoneEntity.COLLECTION)
+@CompoundIndex(name = "deleted_at", def = "{'deletedAt': 1, '_id': 1}")
+public class ArticleTombstoneEntity {
+
+    public static final String COLLECTION = "article_tombstones";
+    public static final Duration RETENTION = Duration.ofDays(30);
+
+    /**
+     * The ID of the deleted article.
+     */
+    @Id
+    private ObjectId id;
+
+    @Indexed(name = "expiry", expireAfter = "30d")
+    private Instant deletedAt;
+
+}
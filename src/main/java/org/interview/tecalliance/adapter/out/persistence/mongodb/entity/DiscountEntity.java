@@ -0,0 +1,42 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Discount stored in its own collection, used by the {@code separate} discount layout.
+ * <p>
+ * The {@code article_validity} index serves per-article lookups by validity period, the
+ * {@code validity} index serves catalog-wide "active on date" range queries.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "article_discounts")
+@CompoundIndexes({
+        @CompoundIndex(name = "article_validity", def = "{'articleId': 1, 'startDate': 1, 'endDate': 1}"),
+        @CompoundIndex(name = "validity", def = "{'endDate': 1, 'startDate': 1}")
+})
+public class DiscountEntity {
+
+    @Id
+    private ObjectId id;
+
+    private ObjectId articleId;
+    private Long discountId;
+    private String description;
+    private BigDecimal discountPercentage;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+}
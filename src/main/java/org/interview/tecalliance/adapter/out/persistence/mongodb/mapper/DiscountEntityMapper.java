@@ -0,0 +1,19 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.mapper;
+
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.interview.tecalliance.domain.model.Discount;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface DiscountEntityMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "discountId", source = "discount.id")
+    @Mapping(target = "articleId", source = "articleId")
+    DiscountEntity toEntity(Discount discount, ObjectId articleId);
+
+    @Mapping(target = "id", source = "discountId")
+    Discount toDomain(DiscountEntity entity);
+}
@@ -0,0 +1,105 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArchivedDiscountEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Converts prices and percentages written as strings, Spring Data's representation of
+ * {@code BigDecimal} before {@code Decimal128}, to {@code Decimal128}.
+ * <p>
+ * String values compare as text, so until converted such articles are missed or wrongly
+ * matched by the sales price range filter, the VAT ratio selection of repricing and the
+ * discount eligibility queries. Runs at every startup as one server-side update per collection
+ * of the documents holding a string value (embedded discounts, {@code article_discounts} and
+ * the archive), so it writes nothing once all values are converted; finding them is a scan of
+ * the collection. The conversion keeps the digits and scale of the string, so the articles
+ * are read with the same values and keep their version and {@code updatedAt}; a string that
+ * is not a decimal is left as it is. Disable it with
+ * {@code tecalliance.persistence.migration.decimal128=false}.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.migration.decimal128", havingValue = "true", matchIfMissing = true)
+public class Decimal128Migration implements ApplicationRunner {
+
+    private static final String DISCOUNTS = "discounts";
+    private static final String DISCOUNT_PERCENTAGE = "discountPercentage";
+    private static final List<String> ARTICLE_FIELDS = List.of("netPrice", "salesPrice", "vatRatio");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long articles = migrateArticles();
+        long discounts = migrateDiscountPercentage(collection(mongoTemplate.getCollectionName(DiscountEntity.class)));
+        long archived = migrateDiscountPercentage(collection(mongoTemplate.getCollectionName(ArchivedDiscountEntity.class)));
+        if (articles + discounts + archived > 0) {
+            log.info("Converted decimals stored as strings to Decimal128: {} articles, {} discounts, {} archived discounts",
+                    articles, discounts, archived);
+        }
+    }
+
+    private long migrateArticles() {
+        Document converted = new Document();
+        ARTICLE_FIELDS.forEach(field -> converted.append(field, toDecimal("$" + field)));
+        Document discounts = new Document("$map", new Document()
+                .append("input", "$" + DISCOUNTS)
+                .append("as", "discount")
+                .append("in", new Document("$mergeObjects", List.of("$$discount",
+                        new Document(DISCOUNT_PERCENTAGE, toDecimal("$$discount." + DISCOUNT_PERCENTAGE))))));
+        converted.append(DISCOUNTS, new Document("$cond", List.of(
+                new Document("$isArray", "$" + DISCOUNTS), discounts, "$" + DISCOUNTS)));
+
+        List<Bson> anyString = ARTICLE_FIELDS.stream().map(Decimal128Migration::isString).toList();
+        return collection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .updateMany(Filters.or(Filters.or(anyString), isString(DISCOUNTS + "." + DISCOUNT_PERCENTAGE)),
+                        List.of(new Document("$set", converted)))
+                .getModifiedCount();
+    }
+
+    private static long migrateDiscountPercentage(MongoCollection<Document> collection) {
+        return collection.updateMany(isString(DISCOUNT_PERCENTAGE),
+                        List.of(new Document("$set", new Document(DISCOUNT_PERCENTAGE, toDecimal("$" + DISCOUNT_PERCENTAGE)))))
+                .getModifiedCount();
+    }
+
+    private static Bson isString(String field) {
+        return Filters.type(field, BsonType.STRING);
+    }
+
+    /**
+     * The value as {@code Decimal128} if it is a string holding a decimal, otherwise the value itself.
+     */
+    private static Document toDecimal(String value) {
+        Document converted = new Document("$convert", new Document()
+                .append("input", value)
+                .append("to", "decimal")
+                .append("onError", value));
+        return new Document("$cond", List.of(
+                new Document("$eq", List.of(new Document("$type", value), "string")), converted, value));
+    }
+
+    private MongoCollection<Document> collection(String name) {
+        return mongoTemplate.getCollection(name);
+    }
+}
@@ -0,0 +1,122 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.UpdatedAt;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArchivedDiscountEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Moves discount dates written by versions before the driver's {@code java.time} codecs to
+ * UTC midnight.
+ * <p>
+ * Those versions stored a {@code LocalDate} as midnight in the JVM's default time zone, which
+ * the current codecs, reading the UTC date, see one day early in zones east of UTC. Every
+ * stored date that is not UTC midnight was written that way; it is replaced by UTC midnight of
+ * its date in the zone it was written in, {@code tecalliance.persistence.migration.discount-dates.zone}
+ * or, by default, the JVM's default time zone as used by those versions. Runs at every startup
+ * as one server-side update per collection (embedded discounts, {@code article_discounts} and
+ * the archive), so it writes nothing once all dates are UTC midnight. Migrated articles get a
+ * new version and {@code updatedAt}, because the dates they are read with change. Disable it
+ * with {@code tecalliance.persistence.migration.discount-dates=false}.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@ConditionalOnProperty(name = "tecalliance.persistence.migration.discount-dates", havingValue = "true", matchIfMissing = true)
+public class DiscountDateMigration implements ApplicationRunner {
+
+    private static final String DISCOUNTS = "discounts";
+    private static final List<String> DATE_FIELDS = List.of("startDate", "endDate");
+
+    private final MongoTemplate mongoTemplate;
+    private final ZoneId zone;
+
+    public DiscountDateMigration(MongoTemplate mongoTemplate,
+                                 @Value("${tecalliance.persistence.migration.discount-dates.zone:}") String zone) {
+        this.mongoTemplate = mongoTemplate;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long articles = migrateEmbeddedDiscounts();
+        long discounts = migrateDates(collection(mongoTemplate.getCollectionName(DiscountEntity.class)));
+        long archived = migrateDates(collection(mongoTemplate.getCollectionName(ArchivedDiscountEntity.class)));
+        if (articles + discounts + archived > 0) {
+            log.info("Moved discount dates written in {} to UTC midnight: {} articles, {} discounts, {} archived discounts",
+                    zone, articles, discounts, archived);
+        }
+    }
+
+    private long migrateEmbeddedDiscounts() {
+        Document anyLegacyDate = new Document("$anyElementTrue", List.of(new Document("$map", new Document()
+                .append("input", new Document("$ifNull", List.of("$" + DISCOUNTS, List.of())))
+                .append("as", "discount")
+                .append("in", anyLegacyDate("$$discount.")))));
+        Document convertedDates = new Document();
+        DATE_FIELDS.forEach(field -> convertedDates.append(field, toUtcMidnight("$$discount." + field)));
+        Document discounts = new Document("$map", new Document()
+                .append("input", "$" + DISCOUNTS)
+                .append("as", "discount")
+                .append("in", new Document("$mergeObjects", List.of("$$discount", convertedDates))));
+
+        return collection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .updateMany(Filters.expr(anyLegacyDate), List.of(new Document("$set", new Document(DISCOUNTS, discounts)
+                        .append("version", new Document("$add", List.of(new Document("$ifNull", List.of("$version", 0L)), 1L)))
+                        .append(UpdatedAt.FIELD, UpdatedAt.NOW))))
+                .getModifiedCount();
+    }
+
+    private long migrateDates(MongoCollection<Document> collection) {
+        Document convertedDates = new Document();
+        DATE_FIELDS.forEach(field -> convertedDates.append(field, toUtcMidnight("$" + field)));
+        return collection.updateMany(Filters.expr(anyLegacyDate("$")), List.of(new Document("$set", convertedDates)))
+                .getModifiedCount();
+    }
+
+    private static Document anyLegacyDate(String prefix) {
+        return new Document("$or", DATE_FIELDS.stream().map(field -> isLegacyDate(prefix + field)).toList());
+    }
+
+    /**
+     * A date-time that is not UTC midnight; false for a missing value or one of another type.
+     */
+    private static Document isLegacyDate(String date) {
+        Document notMidnight = new Document("$ne", List.of(date,
+                new Document("$dateTrunc", new Document("date", date).append("unit", "day"))));
+        return new Document("$cond", List.of(
+                new Document("$eq", List.of(new Document("$type", date), "date")), notMidnight, false));
+    }
+
+    /**
+     * UTC midnight of the date the value has in the zone, or the value itself if it already is UTC midnight.
+     */
+    private Document toUtcMidnight(String date) {
+        Document local = new Document("date", date).append("timezone", zone.getId());
+        Document utcMidnight = new Document("$dateFromParts", new Document()
+                .append("year", new Document("$year", local))
+                .append("month", new Document("$month", local))
+                .append("day", new Document("$dayOfMonth", local)));
+        return new Document("$cond", List.of(isLegacyDate(date), utcMidnight, date));
+    }
+
+    private MongoCollection<Document> collection(String name) {
+        return mongoTemplate.getCollection(name);
+    }
+}
@@ -0,0 +1,102 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.interview.tecalliance.domain.model.Discount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off migration from the {@code embedded} to the {@code separate} discount layout.
+ * <p>
+ * Moves the embedded discounts of every article into the {@code article_discounts} collection
+ * and removes them from the article document, in batches ordered by article ID. Discounts are
+ * upserted by (articleId, startDate, endDate), so an interrupted run can simply be restarted.
+ * Run it once with writes stopped before switching {@code tecalliance.persistence.discount-layout}
+ * to {@code separate}, e.g. with
+ * {@code --tecalliance.persistence.migration.discounts-to-collection=true --spring.main.web-application-type=none}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tecalliance.persistence.migration.discounts-to-collection", havingValue = "true")
+public class DiscountLayoutMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public DiscountLayoutMigration(MongoTemplate mongoTemplate,
+                                   @Value("${tecalliance.persistence.migration.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Migrating embedded discounts to the article_discounts collection (batch size {})", batchSize);
+        long articles = 0;
+        long discounts = 0;
+        ObjectId lastId = null;
+
+        while (true) {
+            List<ArticleEntity> batch = mongoTemplate.find(nextBatch(lastId), ArticleEntity.class);
+            if (batch.isEmpty()) {
+                break;
+            }
+            discounts += copyDiscounts(batch);
+
+            List<ObjectId> ids = batch.stream().map(ArticleEntity::getId).toList();
+            mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)),
+                    new Update().unset("discounts"), ArticleEntity.class);
+
+            articles += batch.size();
+            lastId = batch.getLast().getId();
+            log.info("Migrated {} articles with {} discounts so far", articles, discounts);
+        }
+        log.info("Discount migration finished: {} articles, {} discounts", articles, discounts);
+    }
+
+    private Query nextBatch(ObjectId lastId) {
+        Criteria criteria = Criteria.where("discounts.0").exists(true);
+        if (lastId != null) {
+            criteria = criteria.and("_id").gt(lastId);
+        }
+        Query query = Query.query(criteria).with(Sort.by("_id")).limit(batchSize);
+        query.fields().include("_id", "discounts");
+        return query;
+    }
+
+    private int copyDiscounts(List<ArticleEntity> batch) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DiscountEntity.class);
+        int count = 0;
+        for (ArticleEntity article : batch) {
+            for (Discount discount : article.getDiscounts()) {
+                Query samePeriod = Query.query(Criteria.where("articleId").is(article.getId())
+                        .and("startDate").is(discount.getStartDate())
+                        .and("endDate").is(discount.getEndDate()));
+                bulk.upsert(samePeriod, new Update()
+                        .set("discountId", discount.getId())
+                        .set("description", discount.getDescription())
+                        .set("discountPercentage", discount.getDiscountPercentage()));
+                count++;
+            }
+        }
+        if (count > 0) {
+            bulk.execute();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,54 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.MaxDiscountPercentage;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Stores the {@code maxDiscountPercentage} of articles written before it was introduced, or
+ * before its calculation last changed.
+ * <p>
+ * Runs at every startup as a single server-side pipeline update of the articles that have
+ * prices and no stored maximum discount or one that differs from the current calculation, so
+ * it writes nothing once all articles carry the current value; finding them is a scan of the
+ * collection. Until it has run, such articles are missing from or wrongly included in the
+ * discount eligibility queries. Disable it with
+ * {@code tecalliance.persistence.migration.max-discount-percentage=false}.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.migration.max-discount-percentage", havingValue = "true", matchIfMissing = true)
+public class MaxDiscountPercentageMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .updateMany(Filters.and(
+                                Filters.exists("netPrice"),
+                                Filters.exists("salesPrice"),
+                                Filters.expr(new Document("$ne", List.of(
+                                        "$" + MaxDiscountPercentage.FIELD, MaxDiscountPercentage.expression())))),
+                        List.of(MaxDiscountPercentage.setStage()))
+                .getModifiedCount();
+        if (updated > 0) {
+            log.info("Stored the maximum discount percentage of {} articles", updated);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.UpdatedAt;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Stores the {@code updatedAt} of articles written before it was introduced.
+ * <p>
+ * Runs at every startup as a single server-side update of the articles without it, setting it
+ * to the current time, so it is a no-op once all articles carry it. Such articles are missing
+ * from the change feed until it has run, and are reported as changed afterwards. Disable it
+ * with {@code tecalliance.persistence.migration.updated-at=false}.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!" + FileLogArticlePersistenceAdapter.PROFILE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tecalliance.persistence.migration.updated-at", havingValue = "true", matchIfMissing = true)
+public class UpdatedAtMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long updated = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .updateMany(Filters.exists(UpdatedAt.FIELD, false),
+                        List.of(new Document("$set", new Document(UpdatedAt.FIELD, UpdatedAt.NOW))))
+                .getModifiedCount();
+        if (updated > 0) {
+            log.info("Stored the time of the last change of {} articles", updated);
+        }
+    }
+}
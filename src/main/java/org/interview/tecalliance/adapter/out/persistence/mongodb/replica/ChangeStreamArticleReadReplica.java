@@ -0,0 +1,503 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.replica;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.codec.ArticleCodec;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.snapshot.CatalogSnapshot;
+import org.interview.tecalliance.adapter.out.persistence.snapshot.CatalogSnapshotFile;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serves all article reads from an in-memory replica of the article collection, kept up to
+ * date by a MongoDB change stream (embedded discount layout; MongoDB must run as a replica set).
+ * <p>
+ * When started, the whole collection is loaded, and a change stream opened before the load
+ * applies every insert, update, replace and delete made by any application instance
+ * afterwards. Readers see an immutable snapshot, a {@link PersistentHashMap} that is replaced
+ * as a whole: the changes read from the stream at once are applied to one new map, so a
+ * snapshot is never observed half-updated and reads need no locking, and a new map shares
+ * every unchanged article with the previous one, so a change costs the same for any catalog
+ * size. Every read returns copies, so callers may modify the returned articles.
+ * </p>
+ * <p>
+ * Writes go to the wrapped port and are applied to the snapshot
+ * immediately, so an instance reads its own writes; writes of other instances become visible
+ * when their change arrives. An article is only replaced by one with the same or a higher
+ * version, so a change that arrives after a newer local write does not undo it. Full-text
+ * search is still answered by MongoDB.
+ * </p>
+ * <p>
+ * If a snapshot file is configured, the snapshot is written to it as a {@link CatalogSnapshotFile}
+ * together with the change stream resume token, periodically and on shutdown. A restart then
+ * maps the file and only reads the changes made since, as long as they are still in the oplog;
+ * otherwise the collection is loaded again. The catalog version counts the changes applied to
+ * the replica and continues from the version stored in the file.
+ * </p>
+ */
+@Slf4j
+public class ChangeStreamArticleReadReplica extends ForwardingArticlePersistencePort implements SmartLifecycle {
+
+    private static final Duration MAX_AWAIT = Duration.ofMillis(500);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+    private static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new ArticleCodec()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
+    private final MongoTemplate mongoTemplate;
+    private final CatalogSnapshotFile snapshotFile;
+    private final Duration snapshotInterval;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile PersistentHashMap<String, Article> snapshot = PersistentHashMap.empty();
+    private volatile boolean running;
+    private MongoChangeStreamCursor<ChangeStreamDocument<Article>> cursor;
+    private BsonDocument resumeToken;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private long lastSnapshotWrite = System.nanoTime();
+    private Thread follower;
+
+    private final Counter changesApplied;
+    private final Counter collectionLoads;
+    private final Counter snapshotFileLoads;
+
+    public ChangeStreamArticleReadReplica(ArticlePersistencePort delegate,
+                                          MongoTemplate mongoTemplate,
+                                          MeterRegistry meterRegistry,
+                                          String snapshotFile,
+                                          Duration snapshotInterval) {
+        super(delegate);
+        this.mongoTemplate = mongoTemplate;
+        this.snapshotFile = snapshotFile.isBlank() ? null : new CatalogSnapshotFile(Path.of(snapshotFile));
+        this.snapshotInterval = snapshotInterval;
+
+        this.changesApplied = Counter.builder("articles.replica.changes")
+                .description("Changes from the change stream applied to the read replica")
+                .register(meterRegistry);
+        this.collectionLoads = Counter.builder("articles.replica.loads")
+                .description("Loads of the read replica")
+                .tag("source", "collection")
+                .register(meterRegistry);
+        this.snapshotFileLoads = Counter.builder("articles.replica.loads")
+                .description("Loads of the read replica")
+                .tag("source", "snapshot-file")
+                .register(meterRegistry);
+        Gauge.builder("articles.replica.articles", this, replica -> replica.snapshot.size())
+                .description("Articles in the read replica")
+                .register(meterRegistry);
+        Gauge.builder("articles.replica.catalog.version", catalogVersion, AtomicLong::get)
+                .description("Changes applied to the read replica, including those before the snapshot file was written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the replica, from the snapshot file if possible, and starts following the change stream.
+     */
+    @Override
+    public void start() {
+        if (!resumeFromSnapshotFile()) {
+            loadCollection();
+        }
+        running = true;
+        follower = Thread.ofPlatform().name("article-read-replica").daemon().start(this::follow);
+    }
+
+    @Override
+    public Article save(Article article) {
+        Article saved = super.save(article);
+        publish(articles -> putIfNotOlder(articles, saved.copy()));
+        return saved;
+    }
+
+    @Override
+    public List<SaveResult> saveAll(List<Article> articles) {
+        List<SaveResult> results = super.saveAll(articles);
+        publish(snapshotArticles -> {
+            PersistentHashMap<String, Article> next = snapshotArticles;
+            for (SaveResult result : results) {
+                if (result.isSaved()) {
+                    next = putIfNotOlder(next, result.article().copy());
+                }
+            }
+            return next;
+        });
+        return results;
+    }
+
+    @Override
+    public Optional<Article> replace(Article article) {
+        return published(super.replace(article));
+    }
+
+    @Override
+    public Optional<Article> update(String id, Map<ArticleField, Object> changes, long expectedVersion) {
+        return published(super.update(id, changes, expectedVersion));
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        boolean deleted = super.deleteById(id);
+        if (deleted) {
+            publish(articles -> articles.minus(id));
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<Article> findById(String id) {
+        return Optional.ofNullable(snapshot.get(id)).map(Article::copy);
+    }
+
+    @Override
+    public Optional<Article> findById(String id, boolean includeDiscountHistory) {
+        return findById(id);
+    }
+
+    @Override
+    public List<Article> findAllById(Collection<String> ids) {
+        PersistentHashMap<String, Article> articles = snapshot;
+        return ids.stream().distinct().map(articles::get).filter(Objects::nonNull).map(Article::copy).toList();
+    }
+
+    @Override
+    public Optional<Article> findByIdWithoutDiscounts(String id) {
+        return findById(id).map(article -> {
+            article.setDiscounts(null);
+            return article;
+        });
+    }
+
+    @Override
+    public Optional<Article> findByIdWithDiscountsIn(String id, DiscountWindow window) {
+        return findById(id).map(article -> {
+            article.setDiscounts(new ArrayList<>(discountsIn(article, window)));
+            return article;
+        });
+    }
+
+    @Override
+    public Optional<List<Discount>> findDiscounts(String id, DiscountWindow window, int offset, int limit) {
+        return findById(id).map(article -> discountsIn(article, window).stream()
+                .skip(offset)
+                .limit(limit)
+                .toList());
+    }
+
+    @Override
+    public List<Article> findAll() {
+        return snapshot.values().stream().map(Article::copy).toList();
+    }
+
+    @Override
+    public List<Article> findAllWithDiscountsValidFrom(LocalDate date) {
+        // the complete discount list is kept in memory, as in the embedded layout
+        return findAll();
+    }
+
+    @Override
+    public List<Article> findWithDiscountActiveOn(LocalDate date) {
+        return snapshot.values().stream()
+                .filter(article -> article.getDiscounts() != null
+                        && article.getDiscounts().stream().anyMatch(discount -> discount.isValidOn(date)))
+                .map(Article::copy)
+                .toList();
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return snapshot.containsKey(id);
+    }
+
+    /**
+     * Stops following the change stream and writes the snapshot file, if configured.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            follower.join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        writeSnapshotFile();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Started before the web server, so that no request reads the replica before it is loaded.
+     */
+    @Override
+    public int getPhase() {
+        return DECORATOR_PHASE;
+    }
+
+    private Optional<Article> published(Optional<Article> written) {
+        written.ifPresent(article -> publish(articles -> putIfNotOlder(articles, article.copy())));
+        return written;
+    }
+
+    /**
+     * Publishes the snapshot derived from the current one. Changes are serialized, readers keep
+     * using the previous snapshot until the new one is published.
+     */
+    private void publish(UnaryOperator<PersistentHashMap<String, Article>> changes) {
+        writeLock.lock();
+        try {
+            snapshot = changes.apply(snapshot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean resumeFromSnapshotFile() {
+        if (snapshotFile == null) {
+            return false;
+        }
+        Optional<CatalogSnapshot> contents = snapshotFile.read();
+        if (contents.isEmpty()) {
+            return false;
+        }
+        BsonDocument snapshotResumeToken = new RawBsonDocument(contents.get().position()).clone();
+        try {
+            cursor = openChangeStream(snapshotResumeToken);
+        } catch (MongoException e) {
+            log.warn("Cannot resume the change stream from the snapshot file, loading the collection: {}", e.getMessage());
+            return false;
+        }
+        PersistentHashMap<String, Article> articles = PersistentHashMap.empty();
+        for (Article article : contents.get().articles()) {
+            articles = articles.plus(article.getId(), article);
+        }
+        PersistentHashMap<String, Article> loaded = articles;
+        publish(current -> loaded);
+        resumeToken = snapshotResumeToken;
+        catalogVersion.set(contents.get().catalogVersion());
+        snapshotFileLoads.increment();
+        log.info("Read replica loaded {} articles (catalog version {}) from {}, following changes since then",
+                articles.size(), contents.get().catalogVersion(), snapshotFile.path());
+        return true;
+    }
+
+    private void loadCollection() {
+        // the change stream is opened first, so no change made during the load is missed;
+        // changes applied twice converge to the same state
+        closeCursor();
+        cursor = openChangeStream(null);
+        PersistentHashMap<String, Article> articles = PersistentHashMap.empty();
+        for (Article article : articles().find()) {
+            articles = articles.plus(article.getId(), article);
+        }
+        PersistentHashMap<String, Article> loaded = articles;
+        publish(current -> loaded);
+        resumeToken = cursor.getResumeToken();
+        collectionLoads.increment();
+        log.info("Read replica loaded {} articles from the collection", articles.size());
+    }
+
+    private void follow() {
+        while (running) {
+            try {
+                ChangeStreamDocument<Article> change = cursor.tryNext();
+                if (change != null) {
+                    List<ChangeStreamDocument<Article>> changes = new ArrayList<>();
+                    changes.add(change);
+                    while (cursor.available() > 0) {
+                        changes.add(cursor.next());
+                    }
+                    apply(changes);
+                }
+                if (cursor.getResumeToken() != null) {
+                    resumeToken = cursor.getResumeToken();
+                }
+                if (snapshotFile != null && System.nanoTime() - lastSnapshotWrite > snapshotInterval.toNanos()) {
+                    writeSnapshotFile();
+                }
+            } catch (ReloadRequiredException e) {
+                log.warn("Reloading the read replica: {}", e.getMessage());
+                loadCollection();
+            } catch (MongoException e) {
+                log.warn("Change stream of the read replica failed, resuming: {}", e.getMessage());
+                if (!pause()) {
+                    break;
+                }
+                reopen();
+            }
+        }
+        closeCursor();
+    }
+
+    private void apply(List<ChangeStreamDocument<Article>> changes) {
+        publish(articles -> {
+            PersistentHashMap<String, Article> next = articles;
+            for (ChangeStreamDocument<Article> change : changes) {
+                switch (change.getOperationType()) {
+                    case INSERT, UPDATE, REPLACE -> {
+                        // an update whose document is already deleted is followed by the delete
+                        if (change.getFullDocument() != null) {
+                            next = putIfNotOlder(next, change.getFullDocument());
+                        }
+                    }
+                    case DELETE -> next = next.minus(idOf(change.getDocumentKey()));
+                    default -> throw new ReloadRequiredException("collection " + change.getOperationTypeString());
+                }
+            }
+            return next;
+        });
+        changesApplied.increment(changes.size());
+        catalogVersion.addAndGet(changes.size());
+    }
+
+    private void reopen() {
+        try {
+            closeCursor();
+            cursor = openChangeStream(resumeToken);
+        } catch (MongoException e) {
+            log.warn("Cannot resume the change stream, reloading the read replica: {}", e.getMessage());
+            try {
+                loadCollection();
+            } catch (MongoException reloadFailure) {
+                log.warn("Reloading the read replica failed, retrying: {}", reloadFailure.getMessage());
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Article>> openChangeStream(BsonDocument resumeAfter) {
+        var changeStream = articles().watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(MAX_AWAIT.toMillis(), TimeUnit.MILLISECONDS);
+        if (resumeAfter != null) {
+            changeStream = changeStream.resumeAfter(resumeAfter);
+        }
+        return changeStream.cursor();
+    }
+
+    private void closeCursor() {
+        if (cursor != null) {
+            try {
+                cursor.close();
+            } catch (MongoException e) {
+                log.debug("Closing the change stream failed: {}", e.getMessage());
+            }
+            cursor = null;
+        }
+    }
+
+    private void writeSnapshotFile() {
+        lastSnapshotWrite = System.nanoTime();
+        if (snapshotFile == null || resumeToken == null) {
+            return;
+        }
+        try {
+            ByteBuffer encoded = new RawBsonDocument(resumeToken, new BsonDocumentCodec()).getByteBuffer().asNIO();
+            byte[] position = new byte[encoded.remaining()];
+            encoded.get(position);
+            snapshotFile.write(catalogVersion.get(), position, snapshot.values());
+        } catch (RuntimeException e) {
+            log.warn("Cannot write the read replica snapshot to {}: {}", snapshotFile.path(), e.getMessage());
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(RETRY_DELAY);
+            return running;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private MongoCollection<Article> articles() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .withDocumentClass(Article.class)
+                .withCodecRegistry(CODEC_REGISTRY);
+    }
+
+    /**
+     * Stores the article unless the snapshot already holds a newer version of it, which happens
+     * when a local write is published before the change stream delivers an earlier change.
+     */
+    private static PersistentHashMap<String, Article> putIfNotOlder(PersistentHashMap<String, Article> articles,
+                                                                   Article article) {
+        Article current = articles.get(article.getId());
+        if (current != null && versionOf(current) > versionOf(article)) {
+            return articles;
+        }
+        return articles.plus(article.getId(), article);
+    }
+
+    private static long versionOf(Article article) {
+        // the codec reads a missing version as 0
+        return article.getVersion() != null ? article.getVersion() : 0L;
+    }
+
+    private static String idOf(BsonDocument documentKey) {
+        BsonValue id = documentKey.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : null;
+    }
+
+    /**
+     * Discounts intersecting the window, ordered by start date, as the embedded layout returns them.
+     */
+    private static List<Discount> discountsIn(Article article, DiscountWindow window) {
+        if (article.getDiscounts() == null) {
+            return List.of();
+        }
+        return article.getDiscounts().stream()
+                .filter(discount -> window.to() == null || !discount.getStartDate().isAfter(window.to()))
+                .filter(discount -> window.from() == null || !discount.getEndDate().isBefore(window.from()))
+                .sorted(Comparator.comparing(Discount::getStartDate))
+                .toList();
+    }
+
+    private static final class ReloadRequiredException extends RuntimeException {
+        ReloadRequiredException(String reason) {
+            super(reason);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.replica;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable hash map whose {@link #plus} and {@link #minus} return a new map sharing every
+ * unchanged entry with this one (hash array mapped trie).
+ * <p>
+ * Each level of the trie consumes five bits of the key hash and stores its entries and
+ * subtrees in an array indexed by a 32-bit bitmap, so a change copies only the arrays on the
+ * path to the key, at most seven of at most 32 slots, instead of the whole map. Keys with the
+ * same hash end in a collision node. The {@link Map} mutators throw
+ * {@link UnsupportedOperationException}; iteration order is unspecified.
+ * </p>
+ */
+final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    /** Seven bitmap levels consume the 32 hash bits, a collision node may follow. */
+    private static final int MAX_DEPTH = 8;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(new Node(0, new Object[0]), 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the entry added or replaced.
+     */
+    PersistentHashMap<K, V> plus(K key, V value) {
+        int hash = hash(key);
+        boolean added = root.find(hash, 0, key) == null;
+        Node updated = root.put(hash, 0, new SimpleImmutableEntry<>(key, value));
+        return updated == root ? this : new PersistentHashMap<>(updated, added ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key, or this map if it does not contain the key.
+     */
+    PersistentHashMap<K, V> minus(Object key) {
+        int hash = hash(key);
+        if (root.find(hash, 0, key) == null) {
+            return this;
+        }
+        return new PersistentHashMap<>(root.remove(hash, 0, key), size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Map.Entry<?, ?> entry = root.find(hash(key), 0, key);
+        return entry == null ? null : (V) entry.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(hash(key), 0, key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(Object key) {
+        int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A trie node. Below the last bitmap level the slots are the entries of keys whose hashes
+     * are equal (bitmap 0); otherwise each slot is an entry or a subtree, in the order of the
+     * bits set in the bitmap.
+     */
+    private static final class Node {
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        Map.Entry<?, ?> find(int hash, int shift, Object key) {
+            if (shift >= Integer.SIZE) {
+                for (Object slot : slots) {
+                    if (Objects.equals(((Map.Entry<?, ?>) slot).getKey(), key)) {
+                        return (Map.Entry<?, ?>) slot;
+                    }
+                }
+                return null;
+            }
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[index(bit)];
+            if (slot instanceof Node child) {
+                return child.find(hash, shift + BITS, key);
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) slot;
+            return Objects.equals(entry.getKey(), key) ? entry : null;
+        }
+
+        Node put(int hash, int shift, Map.Entry<?, ?> entry) {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < slots.length; i++) {
+                    if (Objects.equals(((Map.Entry<?, ?>) slots[i]).getKey(), entry.getKey())) {
+                        return withSlot(i, entry);
+                    }
+                }
+                Object[] entries = Arrays.copyOf(slots, slots.length + 1);
+                entries[slots.length] = entry;
+                return new Node(0, entries);
+            }
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] inserted = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, inserted, 0, index);
+                inserted[index] = entry;
+                System.arraycopy(slots, index, inserted, index + 1, slots.length - index);
+                return new Node(bitmap | bit, inserted);
+            }
+            Object slot = slots[index];
+            if (slot instanceof Node child) {
+                Node updated = child.put(hash, shift + BITS, entry);
+                return updated == child ? this : withSlot(index, updated);
+            }
+            Map.Entry<?, ?> existing = (Map.Entry<?, ?>) slot;
+            if (Objects.equals(existing.getKey(), entry.getKey())) {
+                return existing.getValue() == entry.getValue() ? this : withSlot(index, entry);
+            }
+            return withSlot(index, pair(hash(existing.getKey()), existing, hash, entry, shift + BITS));
+        }
+
+        Node remove(int hash, int shift, Object key) {
+            if (shift >= Integer.SIZE) {
+                Object[] entries = new Object[slots.length - 1];
+                int next = 0;
+                for (Object slot : slots) {
+                    if (!Objects.equals(((Map.Entry<?, ?>) slot).getKey(), key)) {
+                        entries[next++] = slot;
+                    }
+                }
+                return new Node(0, entries);
+            }
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            Object slot = slots[index];
+            if (slot instanceof Node child) {
+                Node updated = child.remove(hash, shift + BITS, key);
+                Object single = updated.singleEntry();
+                if (updated.slots.length == 0) {
+                    return without(bit, index);
+                }
+                return withSlot(index, single != null ? single : updated);
+            }
+            return without(bit, index);
+        }
+
+        /**
+         * The only slot if it is an entry, so that removals do not leave chains of single-entry nodes.
+         */
+        private Object singleEntry() {
+            return slots.length == 1 && !(slots[0] instanceof Node) ? slots[0] : null;
+        }
+
+        private Node withSlot(int index, Object slot) {
+            Object[] copy = slots.clone();
+            copy[index] = slot;
+            return new Node(bitmap, copy);
+        }
+
+        private Node without(int bit, int index) {
+            Object[] removed = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, removed, 0, index);
+            System.arraycopy(slots, index + 1, removed, index, slots.length - index - 1);
+            return new Node(bitmap & ~bit, removed);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static Node pair(int firstHash, Map.Entry<?, ?> first, int secondHash, Map.Entry<?, ?> second, int shift) {
+            if (shift >= Integer.SIZE) {
+                return new Node(0, new Object[]{first, second});
+            }
+            int firstBit = bit(firstHash, shift);
+            int secondBit = bit(secondHash, shift);
+            if (firstBit == secondBit) {
+                return new Node(firstBit, new Object[]{pair(firstHash, first, secondHash, second, shift + BITS)});
+            }
+            Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0 ? new Object[]{first, second} : new Object[]{second, first};
+            return new Node(firstBit | secondBit, slots);
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+        private final Object[][] path = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Map.Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            path[0] = root.slots;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> current = next;
+            advance();
+            return current;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                if (positions[depth] == path[depth].length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = path[depth][positions[depth]++];
+                if (slot instanceof Node child) {
+                    depth++;
+                    path[depth] = child.slots;
+                    positions[depth] = 0;
+                } else {
+                    next = (Map.Entry<K, V>) slot;
+                    return;
+                }
+            }
+        }
+    }
+}
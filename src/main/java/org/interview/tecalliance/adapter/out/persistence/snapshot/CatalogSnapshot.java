@@ -0,0 +1,17 @@
+package org.interview.tecalliance.adapter.out.persistence.snapshot;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Contents of a {@link CatalogSnapshotFile}.
+ *
+ * @param catalogVersion the version of the catalog given when the snapshot was written
+ * @param createdAt when the snapshot was written
+ * @param position where to continue reading changes after loading the snapshot
+ * @param articles all articles of the catalog
+ */
+public record CatalogSnapshot(long catalogVersion, Instant createdAt, byte[] position, List<Article> articles) {
+}
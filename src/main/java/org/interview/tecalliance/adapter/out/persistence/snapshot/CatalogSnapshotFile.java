@@ -0,0 +1,396 @@
+package org.interview.tecalliance.adapter.out.persistence.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot of the whole article catalog in a compact binary file, loaded by memory-mapping it.
+ * <p>
+ * All little-endian; after a fixed header the file holds
+ * <ol>
+ *   <li>one fixed-width record per article: ID, version, time of the last change, prices,
+ *       references to name and slogan in the string table and the range of its discounts</li>
+ *   <li>one fixed-width record per discount: ID, description reference, percentage and dates</li>
+ *   <li>the string table: every distinct string once, as offsets followed by UTF-8 bytes, so
+ *       discount descriptions shared by many articles are stored and loaded only once</li>
+ *   <li>the position: opaque bytes telling the writer where to continue reading changes from,
+ *       such as a change stream resume token</li>
+ * </ol>
+ * Prices are stored as unscaled {@code long} and scale, dates as epoch days and times as epoch
+ * seconds and nanoseconds. The header
+ * carries the catalog version given by the writer and a CRC-32C checksum of everything after
+ * the header. A file with a different format version, size or checksum is ignored, so the
+ * caller falls back to loading the catalog from the database.
+ * </p>
+ * <p>
+ * The file is written to a temporary file first and then moved into place, so a crash never
+ * leaves a partial snapshot behind.
+ * </p>
+ */
+@Slf4j
+public class CatalogSnapshotFile {
+
+    private static final long MAGIC = 0x3150414E53545241L; // "ARTSNAP1"
+    /** Version 2 added the time of the last change to the article record. */
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int FORMAT_OFFSET = 8;
+    private static final int CATALOG_VERSION_OFFSET = 16;
+    private static final int CREATED_AT_OFFSET = 24;
+    private static final int ARTICLE_COUNT_OFFSET = 32;
+    private static final int DISCOUNT_COUNT_OFFSET = 36;
+    private static final int STRING_COUNT_OFFSET = 40;
+    private static final int STRING_BYTES_OFFSET = 44;
+    private static final int POSITION_LENGTH_OFFSET = 48;
+    private static final int CHECKSUM_OFFSET = 52;
+
+    private static final int ID_BYTES = 12;
+    private static final int DECIMAL_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int INSTANT_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int ARTICLE_SIZE = ID_BYTES + Long.BYTES + INSTANT_SIZE + 3 * DECIMAL_SIZE + 4 * Integer.BYTES;
+    private static final int DISCOUNT_SIZE = Long.BYTES + Integer.BYTES + DECIMAL_SIZE + 2 * Integer.BYTES;
+
+    private static final int NULL_REFERENCE = -1;
+    private static final int NULL_SCALE = Integer.MIN_VALUE;
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final long NULL_ID = Long.MIN_VALUE;
+    private static final long NULL_VERSION = Long.MIN_VALUE;
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path path;
+
+    public CatalogSnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Writes a snapshot of the given articles, replacing the previous one.
+     *
+     * @param catalogVersion the version of the catalog the articles represent
+     * @param position where to continue reading changes after loading this snapshot
+     * @param articles all articles of the catalog, each with an ID
+     * @throws IllegalArgumentException if an article has no valid ID or a price exceeds 64 bits unscaled
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void write(long catalogVersion, byte[] position, Collection<Article> articles) {
+        StringTable strings = new StringTable();
+        int discountCount = 0;
+        for (Article article : articles) {
+            strings.add(article.getName());
+            strings.add(article.getSlogan());
+            if (article.getDiscounts() != null) {
+                discountCount += article.getDiscounts().size();
+                article.getDiscounts().forEach(discount -> strings.add(discount.getDescription()));
+            }
+        }
+
+        long articlesOffset = HEADER_SIZE;
+        long discountsOffset = articlesOffset + (long) articles.size() * ARTICLE_SIZE;
+        long stringOffsetsOffset = discountsOffset + (long) discountCount * DISCOUNT_SIZE;
+        long stringBytesOffset = stringOffsetsOffset + (long) (strings.size() + 1) * Integer.BYTES;
+        long positionOffset = stringBytesOffset + strings.byteSize();
+        long fileSize = positionOffset + position.length;
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Arena arena = Arena.ofConfined();
+                 FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MemorySegment file = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+
+                long articleRecord = articlesOffset;
+                long discountRecord = discountsOffset;
+                int discountIndex = 0;
+                for (Article article : articles) {
+                    writeArticle(file, articleRecord, article, strings, discountIndex);
+                    articleRecord += ARTICLE_SIZE;
+                    if (article.getDiscounts() != null) {
+                        for (Discount discount : article.getDiscounts()) {
+                            writeDiscount(file, discountRecord, discount, strings);
+                            discountRecord += DISCOUNT_SIZE;
+                            discountIndex++;
+                        }
+                    }
+                }
+                strings.write(file, stringOffsetsOffset, stringBytesOffset);
+                MemorySegment.copy(position, 0, file, ValueLayout.JAVA_BYTE, positionOffset, position.length);
+
+                file.set(LONG, 0, MAGIC);
+                file.set(INT, FORMAT_OFFSET, FORMAT_VERSION);
+                file.set(LONG, CATALOG_VERSION_OFFSET, catalogVersion);
+                file.set(LONG, CREATED_AT_OFFSET, Instant.now().toEpochMilli());
+                file.set(INT, ARTICLE_COUNT_OFFSET, articles.size());
+                file.set(INT, DISCOUNT_COUNT_OFFSET, discountCount);
+                file.set(INT, STRING_COUNT_OFFSET, strings.size());
+                file.set(INT, STRING_BYTES_OFFSET, Math.toIntExact(strings.byteSize()));
+                file.set(INT, POSITION_LENGTH_OFFSET, position.length);
+                file.set(INT, CHECKSUM_OFFSET, checksum(file));
+                file.force();
+            } catch (RuntimeException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote catalog snapshot version {} with {} articles ({} bytes) to {}",
+                    catalogVersion, articles.size(), fileSize, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the catalog snapshot to " + path, e);
+        }
+    }
+
+    /**
+     * Reads the snapshot, or returns empty if there is none or it is damaged or of another format.
+     */
+    public Optional<CatalogSnapshot> read() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return Optional.of(read(file));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable catalog snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static CatalogSnapshot read(MemorySegment file) {
+        if (file.byteSize() < HEADER_SIZE || file.get(LONG, 0) != MAGIC) {
+            throw new IllegalStateException("not a catalog snapshot");
+        }
+        if (file.get(INT, FORMAT_OFFSET) != FORMAT_VERSION) {
+            throw new IllegalStateException("unsupported format version " + file.get(INT, FORMAT_OFFSET));
+        }
+        int articleCount = file.get(INT, ARTICLE_COUNT_OFFSET);
+        int discountCount = file.get(INT, DISCOUNT_COUNT_OFFSET);
+        int stringCount = file.get(INT, STRING_COUNT_OFFSET);
+        int stringBytes = file.get(INT, STRING_BYTES_OFFSET);
+        int positionLength = file.get(INT, POSITION_LENGTH_OFFSET);
+
+        long discountsOffset = HEADER_SIZE + (long) articleCount * ARTICLE_SIZE;
+        long stringOffsetsOffset = discountsOffset + (long) discountCount * DISCOUNT_SIZE;
+        long stringBytesOffset = stringOffsetsOffset + (long) (stringCount + 1) * Integer.BYTES;
+        long positionOffset = stringBytesOffset + stringBytes;
+        if (positionOffset + positionLength != file.byteSize()) {
+            throw new IllegalStateException("file size does not match its header");
+        }
+        if (file.get(INT, CHECKSUM_OFFSET) != checksum(file)) {
+            throw new IllegalStateException("checksum mismatch");
+        }
+
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int start = file.get(INT, stringOffsetsOffset + (long) i * Integer.BYTES);
+            int end = file.get(INT, stringOffsetsOffset + (long) (i + 1) * Integer.BYTES);
+            byte[] utf8 = file.asSlice(stringBytesOffset + start, end - start).toArray(ValueLayout.JAVA_BYTE);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        List<Article> articles = new ArrayList<>(articleCount);
+        for (int i = 0; i < articleCount; i++) {
+            articles.add(readArticle(file, HEADER_SIZE + (long) i * ARTICLE_SIZE, discountsOffset, strings));
+        }
+        byte[] position = file.asSlice(positionOffset, positionLength).toArray(ValueLayout.JAVA_BYTE);
+        return new CatalogSnapshot(file.get(LONG, CATALOG_VERSION_OFFSET),
+                Instant.ofEpochMilli(file.get(LONG, CREATED_AT_OFFSET)), position, articles);
+    }
+
+    private static void writeArticle(MemorySegment file, long offset, Article article, StringTable strings, int firstDiscount) {
+        if (article.getId() == null || !ObjectId.isValid(article.getId())) {
+            throw new IllegalArgumentException("Article without valid ID cannot be written to a snapshot: " + article.getId());
+        }
+        MemorySegment.copy(new ObjectId(article.getId()).toByteArray(), 0, file, ValueLayout.JAVA_BYTE, offset, ID_BYTES);
+        long field = offset + ID_BYTES;
+        file.set(LONG, field, article.getVersion() != null ? article.getVersion() : NULL_VERSION);
+        field += Long.BYTES;
+        writeInstant(file, field, article.getUpdatedAt());
+        field += INSTANT_SIZE;
+        writeDecimal(file, field, article.getNetPrice());
+        writeDecimal(file, field + DECIMAL_SIZE, article.getSalesPrice());
+        writeDecimal(file, field + 2 * DECIMAL_SIZE, article.getVatRatio());
+        field += 3 * DECIMAL_SIZE;
+        file.set(INT, field, strings.reference(article.getName()));
+        file.set(INT, field + Integer.BYTES, strings.reference(article.getSlogan()));
+        file.set(INT, field + 2 * Integer.BYTES, firstDiscount);
+        file.set(INT, field + 3 * Integer.BYTES, article.getDiscounts() != null ? article.getDiscounts().size() : -1);
+    }
+
+    private static Article readArticle(MemorySegment file, long offset, long discountsOffset, String[] strings) {
+        Article article = new Article();
+        article.setId(new ObjectId(file.asSlice(offset, ID_BYTES).toArray(ValueLayout.JAVA_BYTE)).toHexString());
+        long field = offset + ID_BYTES;
+        long version = file.get(LONG, field);
+        article.setVersion(version != NULL_VERSION ? version : null);
+        field += Long.BYTES;
+        article.setUpdatedAt(readInstant(file, field));
+        field += INSTANT_SIZE;
+        article.setNetPrice(readDecimal(file, field));
+        article.setSalesPrice(readDecimal(file, field + DECIMAL_SIZE));
+        article.setVatRatio(readDecimal(file, field + 2 * DECIMAL_SIZE));
+        field += 3 * DECIMAL_SIZE;
+        article.setName(string(strings, file.get(INT, field)));
+        article.setSlogan(string(strings, file.get(INT, field + Integer.BYTES)));
+        int firstDiscount = file.get(INT, field + 2 * Integer.BYTES);
+        int discountCount = file.get(INT, field + 3 * Integer.BYTES);
+        if (discountCount < 0) {
+            article.setDiscounts(null);
+        } else {
+            List<Discount> discounts = new ArrayList<>(discountCount);
+            for (int i = 0; i < discountCount; i++) {
+                discounts.add(readDiscount(file, discountsOffset + (long) (firstDiscount + i) * DISCOUNT_SIZE, strings));
+            }
+            article.setDiscounts(discounts);
+        }
+        return article;
+    }
+
+    private static void writeDiscount(MemorySegment file, long offset, Discount discount, StringTable strings) {
+        file.set(LONG, offset, discount.getId() != null ? discount.getId() : NULL_ID);
+        file.set(INT, offset + Long.BYTES, strings.reference(discount.getDescription()));
+        long field = offset + Long.BYTES + Integer.BYTES;
+        writeDecimal(file, field, discount.getDiscountPercentage());
+        field += DECIMAL_SIZE;
+        file.set(INT, field, epochDay(discount.getStartDate()));
+        file.set(INT, field + Integer.BYTES, epochDay(discount.getEndDate()));
+    }
+
+    private static Discount readDiscount(MemorySegment file, long offset, String[] strings) {
+        Discount discount = new Discount();
+        long id = file.get(LONG, offset);
+        discount.setId(id != NULL_ID ? id : null);
+        discount.setDescription(string(strings, file.get(INT, offset + Long.BYTES)));
+        long field = offset + Long.BYTES + Integer.BYTES;
+        discount.setDiscountPercentage(readDecimal(file, field));
+        field += DECIMAL_SIZE;
+        discount.setStartDate(date(file.get(INT, field)));
+        discount.setEndDate(date(file.get(INT, field + Integer.BYTES)));
+        return discount;
+    }
+
+    private static void writeDecimal(MemorySegment file, long offset, BigDecimal value) {
+        if (value == null) {
+            file.set(LONG, offset, 0L);
+            file.set(INT, offset + Long.BYTES, NULL_SCALE);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException("Decimal too precise for a catalog snapshot: " + value);
+        }
+        file.set(LONG, offset, unscaled.longValue());
+        file.set(INT, offset + Long.BYTES, value.scale());
+    }
+
+    private static BigDecimal readDecimal(MemorySegment file, long offset) {
+        int scale = file.get(INT, offset + Long.BYTES);
+        return scale != NULL_SCALE ? BigDecimal.valueOf(file.get(LONG, offset), scale) : null;
+    }
+
+    private static void writeInstant(MemorySegment file, long offset, Instant value) {
+        file.set(LONG, offset, value != null ? value.getEpochSecond() : NULL_INSTANT);
+        file.set(INT, offset + Long.BYTES, value != null ? value.getNano() : 0);
+    }
+
+    private static Instant readInstant(MemorySegment file, long offset) {
+        long epochSecond = file.get(LONG, offset);
+        return epochSecond != NULL_INSTANT ? Instant.ofEpochSecond(epochSecond, file.get(INT, offset + Long.BYTES)) : null;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? Math.toIntExact(date.toEpochDay()) : NULL_DATE;
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay != NULL_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    private static String string(String[] strings, int reference) {
+        return reference != NULL_REFERENCE ? strings[reference] : null;
+    }
+
+    private static int checksum(MemorySegment file) {
+        CRC32C crc = new CRC32C();
+        crc.update(file.asSlice(HEADER_SIZE).asByteBuffer());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Distinct strings in order of first use, with their UTF-8 encoding.
+     */
+    private static final class StringTable {
+
+        private final Map<String, Integer> references = new LinkedHashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private long byteSize;
+
+        void add(String value) {
+            if (value != null && !references.containsKey(value)) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                references.put(value, encoded.size());
+                encoded.add(utf8);
+                byteSize += utf8.length;
+            }
+        }
+
+        int reference(String value) {
+            return value != null ? references.get(value) : NULL_REFERENCE;
+        }
+
+        int size() {
+            return encoded.size();
+        }
+
+        long byteSize() {
+            return byteSize;
+        }
+
+        void write(MemorySegment file, long offsetsOffset, long bytesOffset) {
+            int position = 0;
+            for (int i = 0; i < encoded.size(); i++) {
+                byte[] utf8 = encoded.get(i);
+                file.set(INT, offsetsOffset + (long) i * Integer.BYTES, position);
+                MemorySegment.copy(utf8, 0, file, ValueLayout.JAVA_BYTE, bytesOffset + position, utf8.length);
+                position += utf8.length;
+            }
+            file.set(INT, offsetsOffset + (long) encoded.size() * Integer.BYTES, position);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.interview.tecalliance.adapter.out.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * In-memory prefix index over article names and slogans.
+ * <p>
+ * Every indexed term is stored as {@code term + '\0' + articleId} in a sorted set, so a
+ * prefix lookup is a single range scan starting at the prefix. Indexed terms are the
+ * complete name, the complete slogan and each of their words, all lower-cased. The index
+ * keeps an immutable projection of each article, its ID and terms, never the article itself;
+ * lookups return IDs.
+ * </p>
+ * <p>
+ * Lookups read the current index without locking. Writes are serialized. A rebuild fills a
+ * new index while lookups continue on the current one, applies the writes made in the
+ * meantime and then replaces the current index in one step, so a lookup never sees a
+ * partially built index.
+ * </p>
+ */
+@Slf4j
+@Component
+public class InMemoryArticlePrefixIndex implements ArticleSearchIndexPort {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final Object writeLock = new Object();
+    private volatile Index current = new Index();
+    private List<Consumer<Index>> writesDuringRebuild;
+
+    @Override
+    public void index(Article article) {
+        IndexedArticle indexed = project(article);
+        if (indexed != null) {
+            write(index -> index.put(indexed));
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+        write(index -> index.remove(id));
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Article> articles) {
+        synchronized (writeLock) {
+            writesDuringRebuild = new ArrayList<>();
+        }
+        Index next = new Index();
+        try {
+            articles.stream().map(this::project).filter(Objects::nonNull).forEach(next::put);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                writesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            writesDuringRebuild.forEach(write -> write.accept(next));
+            writesDuringRebuild = null;
+            current = next;
+        }
+        log.info("Prefix index rebuilt with {} articles and {} terms", next.articlesById.size(), next.entries.size());
+    }
+
+    @Override
+    public List<String> findIdsByPrefix(String prefix, int offset, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        NavigableSet<String> matches = current.entries.subSet(normalized, true, normalized + Character.MAX_VALUE, false);
+        Set<String> seenIds = new HashSet<>();
+        List<String> result = new ArrayList<>(limit);
+        for (String entry : matches) {
+            String id = entry.substring(entry.indexOf(SEPARATOR) + 1);
+            if (!seenIds.add(id) || seenIds.size() <= offset) {
+                continue;
+            }
+            result.add(id);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies the write to the current index and, during a rebuild, records it for the new one.
+     */
+    private void write(Consumer<Index> write) {
+        synchronized (writeLock) {
+            write.accept(current);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(write);
+            }
+        }
+    }
+
+    private IndexedArticle project(Article article) {
+        if (article == null || article.getId() == null) {
+            return null;
+        }
+        return new IndexedArticle(article.getId(), extractTerms(article));
+    }
+
+    private Set<String> extractTerms(Article article) {
+        Set<String> terms = new TreeSet<>();
+        addTerms(terms, article.getName());
+        addTerms(terms, article.getSlogan());
+        return terms;
+    }
+
+    private void addTerms(Set<String> terms, String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        terms.add(normalized);
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                terms.add(word);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().toLowerCase(Locale.ROOT).replace(SEPARATOR, ' ');
+    }
+
+    private static String entryKey(String term, String id) {
+        return term + SEPARATOR + id;
+    }
+
+    /**
+     * The terms and projections of one generation of the index. Modified only under the write
+     * lock; the concurrent collections let lookups read it at the same time.
+     */
+    private static final class Index {
+
+        private final NavigableSet<String> entries = new ConcurrentSkipListSet<>();
+        private final ConcurrentHashMap<String, IndexedArticle> articlesById = new ConcurrentHashMap<>();
+
+        void put(IndexedArticle article) {
+            IndexedArticle previous = articlesById.put(article.id(), article);
+            if (previous != null) {
+                previous.terms().stream()
+                        .filter(term -> !article.terms().contains(term))
+                        .forEach(term -> entries.remove(entryKey(term, article.id())));
+            }
+            article.terms().forEach(term -> entries.add(entryKey(term, article.id())));
+        }
+
+        void remove(String id) {
+            IndexedArticle previous = articlesById.remove(id);
+            if (previous != null) {
+                previous.terms().forEach(term -> entries.remove(entryKey(term, id)));
+            }
+        }
+    }
+
+    private record IndexedArticle(String id, Set<String> terms) {
+        private IndexedArticle {
+            terms = Set.copyOf(terms);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.changes.ChangePage;
+
+/**
+ * Article Change Feed Use Case - Primary port for incremental synchronization of the catalog.
+ */
+public interface ArticleChangeFeedUseCase {
+
+    /**
+     * Returns the changes after the token, the first changes of the catalog if no token is given.
+     *
+     * @param since the next token of the previous page, or null to start at the beginning
+     * @param limit the maximum number of changes to return
+     * @return the changes and the token to continue with
+     * @throws IllegalArgumentException if the token is invalid or too old, or the limit out of range
+     * @throws UnsupportedOperationException if the storage does not support the change feed
+     */
+    ChangePage getChanges(String since, int limit);
+}
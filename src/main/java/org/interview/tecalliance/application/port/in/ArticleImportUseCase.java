@@ -0,0 +1,35 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+import org.interview.tecalliance.domain.model.imports.ImportError;
+import org.interview.tecalliance.domain.model.imports.ImportResult;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Article Import Use Case - Primary port for loading many articles at once.
+ */
+public interface ArticleImportUseCase {
+
+    /**
+     * Imports the articles read from the records, in batches and with bounded memory.
+     * <p>
+     * Every article is validated with the same rules as {@link ArticleUseCase#createArticle}
+     * and must have all required fields. Articles with an ID are written like with a full
+     * update without version check, so importing the same file again does not duplicate them;
+     * articles without ID are created. Invalid articles and lines that could not be parsed are
+     * passed to the error consumer, the remaining articles are still imported.
+     * </p>
+     * <p>
+     * Records are pulled from the iterator only as fast as they are validated and written.
+     * </p>
+     *
+     * @param records the parsed lines, in line order
+     * @param errors receives every rejected line, in line order
+     * @return the number of imported and rejected articles and the last processed line; if
+     *         reading the records or writing a batch fails, the import stops after the batches
+     *         already validated and the result is marked incomplete
+     */
+    ImportResult importArticles(Iterator<ArticleImportRecord> records, Consumer<ImportError> errors);
+}
@@ -1,11 +1,19 @@
 package org.interview.tecalliance.application.port.in;
 
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountPage;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.SearchMode;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticlePatch;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
 import org.interview.tecalliance.domain.model.article.BaseArticle;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Article Use Case - Primary port for article management operations.
@@ -50,6 +58,87 @@ public interface ArticleUseCase {
      */
     Optional<Article> getArticleById(String id);
 
+    /**
+     * Retrieves an article by its unique identifier, optionally including its expired discounts.
+     * <p>
+     * Depending on the configured storage layout, expired discounts may only be loaded
+     * when explicitly requested.
+     * </p>
+     *
+     * @param id the article ID to search for
+     * @param includeDiscountHistory if true, discounts that ended before today are included
+     * @return an Optional containing the article if found, or empty if not found
+     * @throws IllegalArgumentException if id is null
+     */
+    Optional<Article> getArticleById(String id, boolean includeDiscountHistory);
+
+    /**
+     * Retrieves several articles by their IDs at once.
+     *
+     * @param ids the IDs of the articles (at most 200); unknown and repeated IDs are skipped
+     * @return the found articles in the order of their IDs
+     * @throws IllegalArgumentException if more than 200 IDs are requested
+     */
+    List<Article> getArticlesByIds(List<String> ids);
+
+    /**
+     * Prices several articles for the given date, like {@link #getArticlesWithFilters} with
+     * {@code withPrices=true} does for the whole catalog.
+     *
+     * @param ids the IDs of the articles (at most 200); unknown and repeated IDs are skipped
+     * @param date the date for price/discount calculations
+     * @return the priced articles in the order of their IDs
+     * @throws IllegalArgumentException if date is null or more than 200 IDs are requested
+     */
+    List<ArticleWithPrice> quoteArticles(List<String> ids, LocalDate date);
+
+    /**
+     * Retrieves an article by its unique identifier without its discounts.
+     *
+     * @param id the article ID to search for
+     * @return an Optional containing the article (without discount list) if found, or empty if not found
+     */
+    Optional<Article> getArticleWithoutDiscounts(String id);
+
+    /**
+     * Retrieves an article by its unique identifier with only the discounts intersecting the window.
+     *
+     * @param id the article ID to search for
+     * @param window the window the discount validity periods must intersect
+     * @return an Optional containing the article if found, or empty if not found
+     */
+    Optional<Article> getArticleWithDiscountsIn(String id, DiscountWindow window);
+
+    /**
+     * Retrieves one page of the discounts of an article intersecting the window.
+     * <p>
+     * Discounts are ordered by start date. The returned page contains a cursor for the next
+     * page unless it is the last one.
+     * </p>
+     *
+     * @param id the article ID
+     * @param window the window the discount validity periods must intersect
+     * @param limit the maximum number of discounts per page
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @return an Optional containing the page if the article exists, or empty if not found
+     * @throws IllegalArgumentException if the limit or the cursor is invalid
+     */
+    Optional<DiscountPage> getArticleDiscounts(String id, DiscountWindow window, int limit, String cursor);
+
+    /**
+     * Retrieves the archived discounts of an article intersecting the window.
+     * <p>
+     * Discounts that ended longer ago than the retention period are moved to an archive by the
+     * discount compaction job and are no longer part of the article.
+     * </p>
+     *
+     * @param id the article ID
+     * @param window the window the discount validity periods must intersect
+     * @return an Optional containing the archived discounts ordered by start date if the article exists,
+     *         or empty if not found
+     */
+    Optional<List<Discount>> getArchivedDiscounts(String id, DiscountWindow window);
+
     /**
      * Retrieves all articles in the system without any filtering.
      * <p>
@@ -81,6 +170,60 @@ public interface ArticleUseCase {
      */
     List<BaseArticle> getArticlesWithFilters(LocalDate date, boolean withPrices, boolean discountOnly);
 
+    /**
+     * Prices the articles for the given date one at a time, for callers that write each
+     * article out as soon as it is priced instead of collecting the whole list.
+     * <p>
+     * The articles are loaded when this method is called; they are priced while the stream is
+     * consumed. The result is the same as {@link #getArticlesWithFilters} with {@code withPrices=true}.
+     * </p>
+     *
+     * @param date the date for price/discount calculations
+     * @param discountOnly if true, only articles with an active discount on the given date are returned
+     * @return the priced articles, to be consumed once
+     * @throws IllegalArgumentException if date is null
+     */
+    Stream<ArticleWithPrice> streamArticlesWithPrices(LocalDate date, boolean discountOnly);
+
+    /**
+     * Searches articles by name and slogan.
+     * <p>
+     * Two search modes are supported:
+     * <ul>
+     *   <li>{@link SearchMode#PREFIX}: autocomplete matching served from an in-memory index</li>
+     *   <li>{@link SearchMode#FULL_TEXT}: relevance ranked matching of the query terms</li>
+     * </ul>
+     * Results can optionally be priced for a given date, exactly like {@link #getArticlesWithFilters}.
+     * </p>
+     *
+     * @param query the search query (must not be blank)
+     * @param mode the search mode
+     * @param date the date for price calculations (required if withPrices is true)
+     * @param withPrices if true, returns ArticleWithPrice with calculated discounted prices
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return one page of matching articles (either Article or ArticleWithPrice depending on parameters)
+     * @throws IllegalArgumentException if the query is blank, the paging parameters are invalid
+     *                                  or date is null when withPrices is true
+     */
+    List<BaseArticle> searchArticles(String query, SearchMode mode, LocalDate date, boolean withPrices,
+                                     int page, int size);
+
+    /**
+     * Finds the articles that can take a discount of the given percentage without their price
+     * going below the net price, for targeting a campaign.
+     * <p>
+     * Articles are ordered by their maximum discount, the most headroom first.
+     * </p>
+     *
+     * @param discountPercentage the planned discount percentage (greater than 0, at most 100)
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return one page of eligible articles
+     * @throws IllegalArgumentException if the percentage or the paging parameters are invalid
+     */
+    List<Article> getArticlesEligibleForDiscount(BigDecimal discountPercentage, int page, int size);
+
     /**
      * Updates an existing article with new information.
      * <p>
@@ -96,9 +239,28 @@ public interface ArticleUseCase {
      * @param article the article with updated values
      * @return an Optional containing the updated article if found, or empty if not found
      * @throws IllegalArgumentException if article validation fails or id is null
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the article carries a version
+     *         and was modified since
      */
     Optional<Article> updateArticle(String id, Article article);
 
+    /**
+     * Applies a partial update to an existing article.
+     * <p>
+     * Only the fields whose value actually differs from the stored article are written. If
+     * nothing changes, the stored article is returned without any write. Discounts are only
+     * validated again if the prices or the discounts change.
+     * </p>
+     *
+     * @param id the ID of the article to patch
+     * @param patch the fields to change
+     * @return an Optional containing the patched article if found, or empty if not found
+     * @throws IllegalArgumentException if the patched article fails validation
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the patch is based on an
+     *         older version or the article was modified concurrently
+     */
+    Optional<Article> patchArticle(String id, ArticlePatch patch);
+
     /**
      * Deletes an article from the system.
      * <p>
@@ -0,0 +1,28 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.interview.tecalliance.domain.model.campaign.CampaignSimulation;
+
+/**
+ * Campaign Simulation Use Case - Primary port for evaluating a discount campaign before starting it.
+ */
+public interface CampaignSimulationUseCase {
+
+    /**
+     * Evaluates the discount against every article matching the selector, without writing anything.
+     * <p>
+     * An article is counted as rejected by the same rules {@link DiscountCampaignUseCase#startCampaign}
+     * applies: the discount must not overlap another discount of the article nor lower its
+     * price below the net price.
+     * </p>
+     *
+     * @param discount the discount to evaluate
+     * @param selector the articles to evaluate it for, or null for the whole catalog
+     * @param sampleSize the maximum number of rejected articles to return
+     * @return the aggregated outcome
+     * @throws IllegalArgumentException if the discount is incomplete or invalid, the selector is
+     *                                  invalid or the sample size is out of range
+     */
+    CampaignSimulation simulateCampaign(Discount discount, CampaignSelector selector, int sampleSize);
+}
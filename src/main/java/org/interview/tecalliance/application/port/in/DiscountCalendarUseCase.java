@@ -0,0 +1,31 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.analytics.DiscountCalendar;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Discount Calendar Use Case - Primary port for the number of discounted articles per day.
+ */
+public interface DiscountCalendarUseCase {
+
+    /**
+     * Counts for every day of the range the articles with a discount valid on that day,
+     * optionally broken down by discount percentage.
+     * <p>
+     * The boundaries split the percentages into bands: {@code 10, 20} gives the bands
+     * [0, 10), [10, 20) and [20, 100].
+     * </p>
+     *
+     * @param from the first day
+     * @param to the last day
+     * @param bandBoundaries the ascending percentages between 0 and 100 separating the bands,
+     *                       empty for no breakdown
+     * @return the counts per day
+     * @throws IllegalArgumentException if a day is missing, the range is reversed or too long,
+     *                                  or the boundaries are not ascending percentages
+     */
+    DiscountCalendar getDiscountCalendar(LocalDate from, LocalDate to, List<BigDecimal> bandBoundaries);
+}
@@ -0,0 +1,38 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.interview.tecalliance.domain.model.campaign.CampaignStatus;
+
+import java.util.Optional;
+
+/**
+ * Discount Campaign Use Case - Primary port for adding a discount to many articles at once.
+ */
+public interface DiscountCampaignUseCase {
+
+    /**
+     * Starts adding the discount to every article matching the selector in the background.
+     * <p>
+     * Articles are processed in batches with a pause in between, one campaign after the other.
+     * The discount is added to an article only if it passes the same rules as
+     * {@link ArticleUseCase#updateArticle}: it must not overlap another discount of the article
+     * nor lower its price below the net price. Other articles are counted as rejected.
+     * </p>
+     *
+     * @param discount the discount to add
+     * @param selector the articles to add it to
+     * @return the initial status of the campaign
+     * @throws IllegalArgumentException if the discount is incomplete or invalid, or the selector is empty
+     * @throws UnsupportedOperationException if the storage does not support campaigns
+     */
+    CampaignStatus startCampaign(Discount discount, CampaignSelector selector);
+
+    /**
+     * Retrieves the progress of a campaign. Only the most recent campaigns are kept.
+     *
+     * @param id the ID of the campaign
+     * @return the status of the campaign, or empty if it is unknown
+     */
+    Optional<CampaignStatus> getCampaign(String id);
+}
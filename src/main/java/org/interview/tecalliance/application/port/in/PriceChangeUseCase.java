@@ -0,0 +1,23 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.article.ArticlePriceChange;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Price Change Use Case - Primary port for the articles whose final price differs between two days.
+ */
+public interface PriceChangeUseCase {
+
+    /**
+     * Returns the articles whose final price on the second day differs from the one on the
+     * first day, ordered by article ID.
+     *
+     * @param from the day of the old prices
+     * @param to the day of the new prices, may also be before the first day
+     * @return the price changes (may be empty but never null)
+     * @throws IllegalArgumentException if a date is missing
+     */
+    List<ArticlePriceChange> getPriceChanges(LocalDate from, LocalDate to);
+}
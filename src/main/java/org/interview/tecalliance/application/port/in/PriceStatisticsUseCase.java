@@ -0,0 +1,24 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.analytics.PriceStatistics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Price Statistics Use Case - Primary port for the distribution of the final prices of the catalog.
+ */
+public interface PriceStatisticsUseCase {
+
+    /**
+     * Calculates the final price of every article on the date and summarizes them.
+     *
+     * @param date the day the prices apply to
+     * @param percentiles the percentiles to return, between 0 and 100; null or empty for the
+     *                    default ones
+     * @return the price distribution
+     * @throws IllegalArgumentException if the date is missing or a percentile is out of range
+     */
+    PriceStatistics getPriceStatistics(LocalDate date, List<BigDecimal> percentiles);
+}
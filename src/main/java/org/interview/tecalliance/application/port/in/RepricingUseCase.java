@@ -0,0 +1,45 @@
+package org.interview.tecalliance.application.port.in;
+
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+import org.interview.tecalliance.domain.model.repricing.RepricingStatus;
+
+import java.util.Optional;
+
+/**
+ * Repricing Use Case - Primary port for changing the VAT ratio and sales price of many articles.
+ */
+public interface RepricingUseCase {
+
+    /**
+     * Schedules the change for its effective time and applies it in the background.
+     * <p>
+     * Articles are changed in batches, each written with one bulk write, with a pause in between.
+     * Discounts are validated by the same rules as {@link ArticleUseCase#updateArticle}. An article
+     * whose discounts the adjusted sales price would invalidate keeps its sales price, gets the new
+     * VAT ratio and is counted as VAT only; an article invalid either way is counted as rejected.
+     * </p>
+     *
+     * @param request the change
+     * @return the initial status of the job
+     * @throws IllegalArgumentException if the request is incomplete or invalid
+     * @throws UnsupportedOperationException if the storage does not support repricing
+     */
+    RepricingStatus startRepricing(RepricingRequest request);
+
+    /**
+     * Continues a failed job after the last article it processed.
+     *
+     * @param id the ID of the job
+     * @return the status of the resumed job, or empty if it is unknown
+     * @throws IllegalArgumentException if the job has not failed
+     */
+    Optional<RepricingStatus> resumeRepricing(String id);
+
+    /**
+     * Retrieves the progress of a job. Only the most recent jobs are kept.
+     *
+     * @param id the ID of the job
+     * @return the status of the job, or empty if it is unknown
+     */
+    Optional<RepricingStatus> getRepricing(String id);
+}
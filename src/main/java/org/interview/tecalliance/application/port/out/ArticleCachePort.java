@@ -0,0 +1,24 @@
+package org.interview.tecalliance.application.port.out;
+
+/**
+ * Article Cache Port - Output port for caches holding ready-made representations of articles.
+ * <p>
+ * Caches are filled by the adapters serving reads. The application layer invalidates them by
+ * calling {@link #evict(String)} after every write of an article, whether it succeeded or not,
+ * so a cache never serves an article state older than the latest write through the application.
+ * </p>
+ */
+public interface ArticleCachePort {
+
+    /**
+     * Removes the cached representations of the article. Unknown IDs are ignored.
+     *
+     * @param id the ID of the written article
+     */
+    void evict(String id);
+
+    /**
+     * Removes all cached representations, after writes affecting many articles.
+     */
+    void evictAll();
+}
@@ -0,0 +1,38 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.changes.ArticleChange;
+import org.interview.tecalliance.domain.model.changes.ChangePosition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Article Change Feed Port - Output port reading the latest changes of articles in order.
+ * <p>
+ * Implementations keep the time of the last change of every article and a tombstone of
+ * every deleted article, both indexed by time and ID, so a read costs in proportion to the
+ * changes returned and not to the size of the catalog.
+ * </p>
+ */
+public interface ArticleChangeFeedPort {
+
+    /**
+     * Returns the latest change of every article changed or deleted after the position and
+     * not after the given time, ordered by time and article ID. An article changed again
+     * later is only returned at its latest change.
+     *
+     * @param after the position of the last change already read, or null to start at the beginning
+     * @param until the latest time of changes to return
+     * @param limit the maximum number of changes to return
+     * @return the changes (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<ArticleChange> findChanges(ChangePosition after, Instant until, int limit);
+
+    /**
+     * Returns how long tombstones of deleted articles are kept. Readers whose last position
+     * is older may have missed deletions.
+     */
+    Duration deletionRetention();
+}
@@ -1,8 +1,15 @@
 package org.interview.tecalliance.application.port.out;
 
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -33,7 +40,10 @@ public interface ArticlePersistencePort {
      * <p>
      * If the article has no ID (null), a new article will be created and a unique
      * ID will be generated. If the article has an existing ID, the article will be
-     * updated with the provided data.
+     * updated with the provided data, including its discounts, and the stored version is
+     * incremented as by {@link #replace(Article)}; the version of the given article is
+     * ignored then. If its discounts are null, the stored discounts are kept. An article
+     * with an unknown ID is created with version 0.
      * </p>
      * <p>
      * This method performs an upsert operation (insert or update).
@@ -46,6 +56,50 @@ public interface ArticlePersistencePort {
      */
     Article save(Article article);
 
+    /**
+     * Saves several articles with as few round-trips as possible.
+     * <p>
+     * Every article is saved like with {@link #save(Article)}. The articles are independent:
+     * a failure of one article does not prevent the others from being saved.
+     * </p>
+     *
+     * @param articles the articles to save (must not be null)
+     * @return one result per article, in the order of the given articles
+     */
+    List<SaveResult> saveAll(List<Article> articles);
+
+    /**
+     * Replaces an existing article and returns its new state in a single operation.
+     * <p>
+     * If the article carries a version, it is only replaced if the stored version is equal
+     * (optimistic locking). Without a version the article is replaced unconditionally. In both
+     * cases the stored version is incremented.
+     * </p>
+     *
+     * @param article the new state of the article, including its ID (must not be null)
+     * @return an Optional containing the replaced article, or empty if no article with this ID exists
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the stored version differs
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    Optional<Article> replace(Article article);
+
+    /**
+     * Changes individual fields of an article and returns its new state in a single operation.
+     * <p>
+     * Only the given fields are written: fields with a value are set, fields mapped to null are
+     * removed. The article is only updated if its stored version is the expected one, and the
+     * version is incremented.
+     * </p>
+     *
+     * @param id the ID of the article to update (must not be null)
+     * @param changes the changed fields and their new values (must not be empty)
+     * @param expectedVersion the version the changes are based on
+     * @return an Optional containing the updated article, or empty if no article with this ID exists
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the stored version differs
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    Optional<Article> update(String id, Map<ArticleField, Object> changes, long expectedVersion);
+
     /**
      * Retrieves an article by its unique identifier.
      * <p>
@@ -59,6 +113,74 @@ public interface ArticlePersistencePort {
      */
     Optional<Article> findById(String id);
 
+    /**
+     * Retrieves an article by its unique identifier, optionally including its expired discounts.
+     * <p>
+     * Storage layouts that keep discounts outside the article load only current and future
+     * discounts by default, because the discount history of long-lived articles is unbounded.
+     * Layouts that embed the discounts always return the complete history.
+     * </p>
+     *
+     * @param id the unique identifier of the article to retrieve (must not be null)
+     * @param includeDiscountHistory if true, discounts that ended before today are loaded as well
+     * @return an Optional containing the article if found, or empty if not found
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    Optional<Article> findById(String id, boolean includeDiscountHistory);
+
+    /**
+     * Retrieves the articles with the given identifiers with one query, with the discounts
+     * {@link #findById(String)} loads.
+     * <p>
+     * Unknown and invalid identifiers are skipped. The articles are returned in no particular order.
+     * </p>
+     *
+     * @param ids the identifiers of the articles to retrieve (must not be null)
+     * @return the articles found, at most one per identifier
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findAllById(Collection<String> ids);
+
+    /**
+     * Retrieves an article by its unique identifier without loading any of its discounts.
+     * <p>
+     * The returned article has no discount list ({@code null}).
+     * </p>
+     *
+     * @param id the unique identifier of the article to retrieve (must not be null)
+     * @return an Optional containing the article if found, or empty if not found
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    Optional<Article> findByIdWithoutDiscounts(String id);
+
+    /**
+     * Retrieves an article by its unique identifier, loading only the discounts intersecting the window.
+     * <p>
+     * The discounts are filtered by the storage, so discounts outside the window are not transferred.
+     * </p>
+     *
+     * @param id the unique identifier of the article to retrieve (must not be null)
+     * @param window the window the discount validity periods must intersect (must not be null)
+     * @return an Optional containing the article if found, or empty if not found
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    Optional<Article> findByIdWithDiscountsIn(String id, DiscountWindow window);
+
+    /**
+     * Retrieves a slice of the discounts of an article intersecting the window, ordered by start date.
+     * <p>
+     * Filtering and slicing are done by the storage, only the requested discounts are transferred.
+     * </p>
+     *
+     * @param id the unique identifier of the article (must not be null)
+     * @param window the window the discount validity periods must intersect (must not be null)
+     * @param offset the number of matching discounts to skip
+     * @param limit the maximum number of discounts to return
+     * @return an Optional containing the discounts if the article exists, or empty if not found
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    Optional<List<Discount>> findDiscounts(String id, DiscountWindow window, int offset, int limit);
+
     /**
      * Retrieves all articles from the persistent storage.
      * <p>
@@ -75,6 +197,63 @@ public interface ArticlePersistencePort {
      */
     List<Article> findAll();
 
+    /**
+     * Retrieves all articles with at least the discounts that are still valid on or after the given date.
+     * <p>
+     * Intended for price calculations on a date: discounts that ended before that date can
+     * never apply and may be omitted by the storage.
+     * </p>
+     *
+     * @param date the earliest date prices will be calculated for (must not be null)
+     * @return a list of all articles (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findAllWithDiscountsValidFrom(LocalDate date);
+
+    /**
+     * Retrieves the articles having a discount that is valid on the given date.
+     * <p>
+     * Implementations should answer this with an indexed range query on the discount
+     * validity period instead of loading the whole catalog.
+     * </p>
+     *
+     * @param date the date a discount must be valid on (must not be null)
+     * @return the articles with an active discount (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findWithDiscountActiveOn(LocalDate date);
+
+    /**
+     * Searches articles by name and slogan using the storage's full-text capabilities.
+     * <p>
+     * Results are ordered by relevance, best matches first.
+     * </p>
+     *
+     * @param text the search terms (must not be blank)
+     * @param offset the number of matching articles to skip
+     * @param limit the maximum number of articles to return
+     * @return the matching articles (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> searchByText(String text, int offset, int limit);
+
+    /**
+     * Retrieves the articles that can take the given discount without their price going below
+     * the net price, i.e. whose {@link Article#getMaxDiscountPercentage()} is at least the given
+     * percentage.
+     * <p>
+     * Results are ordered by maximum discount, the most headroom first. Implementations should
+     * answer this with an indexed range query on the stored maximum discount.
+     * </p>
+     *
+     * @param discountPercentage the discount percentage the articles must allow (must not be null)
+     * @param offset the number of matching articles to skip
+     * @param limit the maximum number of articles to return
+     * @return the eligible articles (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findEligibleForDiscount(BigDecimal discountPercentage, int offset, int limit);
+
     /**
      * Deletes an article from the persistent storage by its unique identifier.
      * <p>
@@ -83,6 +262,8 @@ public interface ArticlePersistencePort {
      * </p>
      * <p>
      * If the article does not exist, this method returns false without throwing an exception.
+     * Implementations should decide this from the result of the delete itself rather than with
+     * a separate existence check.
      * </p>
      *
      * @param id the unique identifier of the article to delete (must not be null)
@@ -0,0 +1,54 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Article Search Index Port - Output port for the prefix (autocomplete) search index.
+ * <p>
+ * Implementations keep a searchable copy of the article names and slogans and are
+ * expected to answer prefix queries without touching the persistent storage. The
+ * application layer keeps the index current by calling {@link #index(Article)} and
+ * {@link #remove(String)} after every successful write.
+ * </p>
+ */
+public interface ArticleSearchIndexPort {
+
+    /**
+     * Adds the article to the index or replaces the previously indexed version.
+     *
+     * @param article the persisted article (must have an ID)
+     */
+    void index(Article article);
+
+    /**
+     * Removes the article with the given ID from the index. Unknown IDs are ignored.
+     *
+     * @param id the ID of the removed article
+     */
+    void remove(String id);
+
+    /**
+     * Replaces the whole index content with the given articles.
+     *
+     * @param articles all articles of the catalog
+     */
+    void rebuild(Collection<Article> articles);
+
+    /**
+     * Finds the IDs of the articles whose name, slogan or one of their words starts with the
+     * given prefix.
+     * <p>
+     * Matching is case-insensitive. Results are ordered by the matched term, so exact
+     * and shorter matches come first, and every article is returned at most once.
+     * </p>
+     *
+     * @param prefix the prefix to search for
+     * @param offset the number of matching articles to skip
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of the matching articles (may be empty but never null)
+     */
+    List<String> findIdsByPrefix(String prefix, int offset, int limit);
+}
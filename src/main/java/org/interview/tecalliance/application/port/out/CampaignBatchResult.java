@@ -0,0 +1,14 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.util.List;
+
+/**
+ * Outcome of applying a campaign discount to one batch of articles.
+ *
+ * @param applied the number of articles the discount was added to
+ * @param updatedArticles the new state of the articles carrying the discount afterwards
+ */
+public record CampaignBatchResult(long applied, List<Article> updatedArticles) {
+}
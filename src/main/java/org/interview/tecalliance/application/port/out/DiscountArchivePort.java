@@ -0,0 +1,35 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+
+import java.util.List;
+
+/**
+ * Discount Archive Port - Output port for expired discounts moved out of their articles.
+ * <p>
+ * Discounts that ended longer ago than the configured retention period are archived by a
+ * background compaction job, so they no longer slow down pricing and validation of the
+ * article. This port gives read access to that history.
+ * </p>
+ */
+public interface DiscountArchivePort {
+
+    /**
+     * Retrieves the archived discounts of an article intersecting the window, ordered by start date.
+     *
+     * @param articleId the ID of the article
+     * @param window the window the discount validity periods must intersect (must not be null)
+     * @return the archived discounts (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Discount> findArchivedDiscounts(String articleId, DiscountWindow window);
+
+    /**
+     * Removes all archived discounts of an article.
+     *
+     * @param articleId the ID of the deleted article
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    void deleteArchivedDiscounts(String articleId);
+}
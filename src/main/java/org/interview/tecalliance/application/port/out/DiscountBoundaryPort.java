@@ -0,0 +1,29 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Discount Boundary Port - Output port finding the articles whose applicable discount may differ between two days.
+ * <p>
+ * The discount applied to an article only changes where one of its discounts starts or ends,
+ * so implementations look the articles up by the start and end dates of their discounts with
+ * indexed range queries, in proportion to the discounts starting or ending in between rather
+ * than to the size of the catalog.
+ * </p>
+ */
+public interface DiscountBoundaryPort {
+
+    /**
+     * Finds the articles with a discount starting after the earlier day and at the latest on
+     * the later day, or ending on the earlier day or later and before the later day.
+     *
+     * @param earlier the earlier day
+     * @param later the later day
+     * @return the articles with all their discounts (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findWithDiscountBoundaryBetween(LocalDate earlier, LocalDate later);
+}
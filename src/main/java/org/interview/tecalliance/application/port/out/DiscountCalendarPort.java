@@ -0,0 +1,25 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.DiscountWindow;
+
+import java.util.List;
+
+/**
+ * Discount Calendar Port - Output port aggregating the discounts of all articles by validity period.
+ * <p>
+ * Implementations group the discounts in the storage, so only one entry per distinct period
+ * and percentage is transferred instead of every article.
+ * </p>
+ */
+public interface DiscountCalendarPort {
+
+    /**
+     * Counts the discounts of all articles intersecting the window, grouped by start date,
+     * end date and percentage. Discounts without a start or end date are left out.
+     *
+     * @param window the window the discounts have to intersect
+     * @return the discount counts in no particular order (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<DiscountPeriodCount> countDiscountPeriods(DiscountWindow window);
+}
@@ -0,0 +1,43 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+
+import java.util.List;
+
+/**
+ * Discount Campaign Port - Output port adding one discount to many articles at once.
+ * <p>
+ * Implementations add the discount with set-based writes in the storage and check the
+ * discount rules there, instead of loading, validating and replacing every article.
+ * </p>
+ */
+public interface DiscountCampaignPort {
+
+    /**
+     * Retrieves the IDs of the next articles matching the selector, ordered by ID.
+     *
+     * @param selector the campaign selector (must not be empty)
+     * @param afterId only IDs after this one are returned, or null to start from the beginning
+     * @param limit the maximum number of IDs to return
+     * @return the matching article IDs (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<String> findTargets(CampaignSelector selector, String afterId, int limit);
+
+    /**
+     * Adds the discount to the given articles, except to those where it would overlap an existing
+     * discount or lower the price below the net price, with the rules of
+     * {@link org.interview.tecalliance.domain.model.article.Article#validateDiscounts()}.
+     * <p>
+     * Rules are checked and the discount is added atomically per article, and the version of
+     * every changed article is incremented.
+     * </p>
+     *
+     * @param articleIds the IDs of the articles
+     * @param discount the discount to add (must be valid by itself)
+     * @return the number of changed articles and their new state
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    CampaignBatchResult applyDiscount(List<String> articleIds, Discount discount);
+}
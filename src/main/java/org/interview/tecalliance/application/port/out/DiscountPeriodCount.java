@@ -0,0 +1,16 @@
+package org.interview.tecalliance.application.port.out;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Number of stored discounts sharing the same validity period and percentage.
+ *
+ * @param startDate the first day of the discounts
+ * @param endDate the last day of the discounts
+ * @param discountPercentage the percentage of the discounts
+ * @param discounts the number of discounts
+ */
+public record DiscountPeriodCount(LocalDate startDate, LocalDate endDate, BigDecimal discountPercentage,
+                                  long discounts) {
+}
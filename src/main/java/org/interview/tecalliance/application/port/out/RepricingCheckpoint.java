@@ -0,0 +1,35 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+
+import java.time.Instant;
+
+/**
+ * Persisted state of a repricing job, from which it can be resumed.
+ *
+ * @param jobId the ID of the job
+ * @param request the requested change
+ * @param state the state of the job
+ * @param lastArticleId the last article processed, or null if none was
+ * @param processed the articles read so far
+ * @param repriced the articles changed so far
+ * @param vatOnly the repriced articles that kept their sales price so far
+ * @param rejected the articles rejected so far
+ * @param conflicts the articles skipped because of concurrent modifications so far
+ * @param submittedAt when the job was accepted
+ * @param error why the job failed, or null
+ */
+public record RepricingCheckpoint(
+        String jobId,
+        RepricingRequest request,
+        JobState state,
+        String lastArticleId,
+        long processed,
+        long repriced,
+        long vatOnly,
+        long rejected,
+        long conflicts,
+        Instant submittedAt,
+        String error) {
+}
@@ -0,0 +1,66 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repricing Port - Output port for changing the prices of many articles in batches.
+ * <p>
+ * Only articles whose VAT ratio differs from the new one are targets, so an article that was
+ * already changed by a job is not found again when the job is resumed.
+ * </p>
+ */
+public interface RepricingPort {
+
+    /**
+     * Retrieves the next target articles with their discounts, ordered by ID.
+     *
+     * @param currentVatRatio only articles with this VAT ratio, or null for any VAT ratio
+     * @param newVatRatio articles with this VAT ratio are skipped
+     * @param afterId only articles after this ID are returned, or null to start from the beginning
+     * @param limit the maximum number of articles to return
+     * @return the target articles (may be empty but never null)
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findTargets(BigDecimal currentVatRatio, BigDecimal newVatRatio, String afterId, int limit);
+
+    /**
+     * Retrieves those of the given articles that are still targets, to retry them after a conflict.
+     *
+     * @param currentVatRatio only articles with this VAT ratio, or null for any VAT ratio
+     * @param newVatRatio articles with this VAT ratio are skipped
+     * @param ids the IDs of the articles
+     * @return the articles that are still targets, ordered by ID
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<Article> findTargets(BigDecimal currentVatRatio, BigDecimal newVatRatio, Collection<String> ids);
+
+    /**
+     * Writes the VAT ratio and the sales price of the articles in one bulk write. Every article is
+     * only written if its version is still the one it carries, and its version is incremented.
+     *
+     * @param articles the articles with their new VAT ratio and sales price
+     * @return the number of articles written; the others were modified concurrently
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    long updatePrices(List<Article> articles);
+
+    /**
+     * Stores the state of a job, replacing the previous one.
+     *
+     * @param checkpoint the state of the job
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    void saveCheckpoint(RepricingCheckpoint checkpoint);
+
+    /**
+     * Retrieves the jobs that were queued or running, to resume them after a restart.
+     *
+     * @return the unfinished jobs in the order they were submitted
+     * @throws org.springframework.dao.DataAccessException if persistence operation fails
+     */
+    List<RepricingCheckpoint> findUnfinishedCheckpoints();
+}
@@ -0,0 +1,24 @@
+package org.interview.tecalliance.application.port.out;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+/**
+ * Outcome of saving one article of a batch: either the saved article or the reason it failed.
+ *
+ * @param article the saved article, or null if saving failed
+ * @param failure the failure, or null if the article was saved
+ */
+public record SaveResult(Article article, RuntimeException failure) {
+
+    public static SaveResult saved(Article article) {
+        return new SaveResult(article, null);
+    }
+
+    public static SaveResult failed(RuntimeException failure) {
+        return new SaveResult(null, failure);
+    }
+
+    public boolean isSaved() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,61 @@
+package org.interview.tecalliance.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Passes every invalidation on to all {@link ArticleCachePort caches}, so the services
+ * writing articles keep depending on a single cache port however many caches there are.
+ * <p>
+ * A failing cache does not keep the others from being invalidated; the first failure is
+ * rethrown once all caches were called.
+ * </p>
+ */
+@Slf4j
+@Primary
+@Component
+public class ArticleCaches implements ArticleCachePort {
+
+    private final List<ArticleCachePort> caches;
+
+    /**
+     * @param caches all other caches; Spring leaves this bean itself out of the list
+     */
+    public ArticleCaches(List<ArticleCachePort> caches) {
+        this.caches = List.copyOf(caches);
+        log.info("Article writes invalidate {} caches", this.caches.size());
+    }
+
+    @Override
+    public void evict(String id) {
+        invalidate(cache -> cache.evict(id));
+    }
+
+    @Override
+    public void evictAll() {
+        invalidate(ArticleCachePort::evictAll);
+    }
+
+    private void invalidate(Consumer<ArticleCachePort> invalidation) {
+        RuntimeException failure = null;
+        for (ArticleCachePort cache : caches) {
+            try {
+                invalidation.accept(cache);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.interview.tecalliance.application.port.in.ArticleChangeFeedUseCase;
+import org.interview.tecalliance.application.port.out.ArticleChangeFeedPort;
+import org.interview.tecalliance.domain.model.changes.ArticleChange;
+import org.interview.tecalliance.domain.model.changes.ChangePage;
+import org.interview.tecalliance.domain.model.changes.ChangePosition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pages through the latest changes of the catalog for clients syncing incrementally.
+ * <p>
+ * Changes are ordered by the time of the change and the article ID rather than by the article
+ * version, which only orders the changes of one article. The token is the position of the
+ * last change returned. Only changes older than the settle time are returned: writes stamped
+ * with the time of the application can become visible slightly after writes stamped later,
+ * and clocks of the instances differ a little, so reading right up to now could skip a change
+ * that is committed behind the position a client already has.
+ * </p>
+ */
+@Service
+public class ArticleChangeFeedService implements ArticleChangeFeedUseCase {
+
+    static final int MAX_LIMIT = 1000;
+
+    private static final String TOKEN_PREFIX = "c:";
+
+    private final Optional<ArticleChangeFeedPort> changeFeedPort;
+    private final Duration settleTime;
+    private final Counter returnedChanges;
+
+    public ArticleChangeFeedService(Optional<ArticleChangeFeedPort> changeFeedPort,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${tecalliance.changes.settle-time:PT5S}") Duration settleTime) {
+        if (settleTime.isNegative()) {
+            throw new IllegalArgumentException("Change feed settle time must not be negative");
+        }
+        this.changeFeedPort = changeFeedPort;
+        this.settleTime = settleTime;
+        this.returnedChanges = Counter.builder("articles.changes.returned")
+                .description("Article changes returned by the change feed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ChangePage getChanges(String since, int limit) {
+        ArticleChangeFeedPort port = changeFeedPort.orElseThrow(() -> new UnsupportedOperationException(
+                "The change feed is not supported by the configured storage"));
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        ChangePosition after = decodeToken(since);
+        Instant now = Instant.now();
+        if (after != null && after.changedAt().isBefore(now.minus(port.deletionRetention()))) {
+            throw new IllegalArgumentException("Token is older than " + port.deletionRetention().toDays()
+                    + " days and deletions since may be missing, sync the full catalog and start again without token");
+        }
+
+        // one extra change tells whether more are available
+        List<ArticleChange> changes = port.findChanges(after, now.minus(settleTime), limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        returnedChanges.increment(changes.size());
+        if (changes.isEmpty()) {
+            return new ChangePage(List.of(), since, false);
+        }
+        return new ChangePage(List.copyOf(changes), encodeToken(changes.getLast().position()), hasMore);
+    }
+
+    static String encodeToken(ChangePosition position) {
+        String token = TOKEN_PREFIX + position.changedAt().toEpochMilli() + ":" + position.articleId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangePosition decodeToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':', TOKEN_PREFIX.length());
+            if (decoded.startsWith(TOKEN_PREFIX) && separator > 0 && separator < decoded.length() - 1) {
+                long millis = Long.parseLong(decoded.substring(TOKEN_PREFIX.length(), separator));
+                return new ChangePosition(Instant.ofEpochMilli(millis), decoded.substring(separator + 1));
+            }
+        } catch (IllegalArgumentException _) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid token");
+    }
+}
@@ -0,0 +1,244 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.in.ArticleImportUseCase;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+import org.interview.tecalliance.domain.model.imports.ImportError;
+import org.interview.tecalliance.domain.model.imports.ImportResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Imports articles in a three-stage pipeline with bounded memory.
+ * <ol>
+ *   <li>the calling thread pulls records and groups them into batches</li>
+ *   <li>a pool of workers validates the batches in parallel</li>
+ *   <li>a single writer takes the batches in line order and writes each with one
+ *       {@link ArticlePersistencePort#saveAll(List)}</li>
+ * </ol>
+ * The stages are connected by a bounded queue of batches in flight: when validation or
+ * writing falls behind, the calling thread blocks and stops reading its input. Because
+ * batches are written in line order, every line up to the last written batch has been
+ * processed, which makes the import resumable by line.
+ */
+@Slf4j
+@Service
+public class ArticleImportService implements ArticleImportUseCase {
+
+    private static final CompletableFuture<ValidatedBatch> END_OF_INPUT = CompletableFuture.completedFuture(null);
+    private static final long ENQUEUE_POLL_MILLIS = 100;
+
+    private final ArticlePersistencePort persistencePort;
+    private final ArticleSearchIndexPort searchIndexPort;
+    private final ArticleCachePort articleCachePort;
+    private final int batchSize;
+    private final int workers;
+    private final int maxBatchesInFlight;
+
+    private final Counter importedLines;
+    private final Counter failedLines;
+
+    public ArticleImportService(ArticlePersistencePort persistencePort,
+                                ArticleSearchIndexPort searchIndexPort,
+                                ArticleCachePort articleCachePort,
+                                MeterRegistry meterRegistry,
+                                @Value("${tecalliance.import.batch-size:1000}") int batchSize,
+                                @Value("${tecalliance.import.workers:4}") int workers,
+                                @Value("${tecalliance.import.max-batches-in-flight:8}") int maxBatchesInFlight) {
+        if (batchSize < 1 || workers < 1 || maxBatchesInFlight < 1) {
+            throw new IllegalArgumentException("Import batch size, workers and batches in flight must be positive");
+        }
+        this.persistencePort = persistencePort;
+        this.searchIndexPort = searchIndexPort;
+        this.articleCachePort = articleCachePort;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+
+        this.importedLines = Counter.builder("articles.import.lines")
+                .description("Lines of article imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.failedLines = Counter.builder("articles.import.lines")
+                .description("Lines of article imports")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ImportResult importArticles(Iterator<ArticleImportRecord> records, Consumer<ImportError> errors) {
+        BlockingQueue<CompletableFuture<ValidatedBatch>> inFlight = new ArrayBlockingQueue<>(maxBatchesInFlight);
+        try (ExecutorService validators = Executors.newFixedThreadPool(workers,
+                     Thread.ofPlatform().name("article-import-validate-", 1).daemon().factory());
+             ExecutorService writerThread = Executors.newSingleThreadExecutor(
+                     Thread.ofPlatform().name("article-import-write").daemon().factory())) {
+            Future<ImportResult> writer = writerThread.submit(() -> write(inFlight, errors));
+            try {
+                boolean inputComplete = read(records, batch ->
+                        enqueue(inFlight, CompletableFuture.supplyAsync(() -> validate(batch), validators), writer));
+                enqueue(inFlight, END_OF_INPUT, writer);
+
+                ImportResult result = writer.get();
+                return inputComplete ? result : incomplete(result);
+            } finally {
+                // only has an effect if the caller was interrupted, the writer would wait forever otherwise
+                writer.cancel(true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Article import was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Article import failed", e.getCause());
+        }
+    }
+
+    /**
+     * Pulls the records and hands them on in batches. Returns false if reading failed or
+     * the writer stopped; the batches handed on so far are still written.
+     */
+    private boolean read(Iterator<ArticleImportRecord> records, BatchConsumer batches) throws InterruptedException {
+        List<ArticleImportRecord> batch = new ArrayList<>(batchSize);
+        long lastRead = 0;
+        try {
+            while (records.hasNext()) {
+                ArticleImportRecord next = records.next();
+                lastRead = next.line();
+                batch.add(next);
+                if (batch.size() == batchSize) {
+                    if (!batches.accept(batch)) {
+                        return false;
+                    }
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Reading the article import failed after line {}: {}", lastRead, e.getMessage());
+            if (!batch.isEmpty()) {
+                batches.accept(batch);
+            }
+            return false;
+        }
+        return batch.isEmpty() || batches.accept(batch);
+    }
+
+    /**
+     * Blocks until the batch fits into the queue. Returns false if the writer stopped, so
+     * nobody would take it.
+     */
+    private static boolean enqueue(BlockingQueue<CompletableFuture<ValidatedBatch>> inFlight,
+                                   CompletableFuture<ValidatedBatch> batch,
+                                   Future<ImportResult> writer) throws InterruptedException {
+        while (!inFlight.offer(batch, ENQUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ValidatedBatch validate(List<ArticleImportRecord> batch) {
+        List<ArticleImportRecord> valid = new ArrayList<>(batch.size());
+        List<ImportError> rejected = new ArrayList<>();
+        for (ArticleImportRecord entry : batch) {
+            if (entry.error() != null) {
+                rejected.add(new ImportError(entry.line(), entry.error()));
+                continue;
+            }
+            try {
+                validateImportedArticle(entry.article());
+                valid.add(entry);
+            } catch (IllegalArgumentException e) {
+                rejected.add(new ImportError(entry.line(), e.getMessage()));
+            }
+        }
+        return new ValidatedBatch(valid, rejected, batch.isEmpty() ? 0 : batch.getLast().line());
+    }
+
+    private static void validateImportedArticle(Article article) {
+        for (ArticleField field : ArticleField.values()) {
+            if (!field.isRemovable() && field.get(article) == null) {
+                throw new IllegalArgumentException("Missing required field " + field.property());
+            }
+        }
+        // the storage increments the version of an existing article and starts a new one at 0
+        article.setVersion(null);
+        ArticleService.validateArticle(article);
+    }
+
+    private ImportResult write(BlockingQueue<CompletableFuture<ValidatedBatch>> inFlight,
+                               Consumer<ImportError> errors) throws InterruptedException {
+        long imported = 0;
+        long failed = 0;
+        long lastLine = 0;
+        while (true) {
+            CompletableFuture<ValidatedBatch> next = inFlight.take();
+            if (next == END_OF_INPUT) {
+                return new ImportResult(imported, failed, lastLine, true);
+            }
+            ValidatedBatch batch = next.join();
+            List<ImportError> rejected = new ArrayList<>(batch.rejected());
+            if (!batch.valid().isEmpty()) {
+                List<Article> articles = batch.valid().stream().map(ArticleImportRecord::article).toList();
+                List<SaveResult> results;
+                try {
+                    results = persistencePort.saveAll(articles);
+                } catch (RuntimeException e) {
+                    log.error("Writing an article import batch failed, stopping after line {}", lastLine, e);
+                    return new ImportResult(imported, failed, lastLine, false);
+                } finally {
+                    articles.stream().map(Article::getId).filter(Objects::nonNull).forEach(articleCachePort::evict);
+                }
+                for (int i = 0; i < results.size(); i++) {
+                    SaveResult result = results.get(i);
+                    if (result.isSaved()) {
+                        searchIndexPort.index(result.article());
+                        imported++;
+                        importedLines.increment();
+                    } else {
+                        rejected.add(new ImportError(batch.valid().get(i).line(), result.failure().getMessage()));
+                    }
+                }
+            }
+            rejected.sort(Comparator.comparingLong(ImportError::line));
+            rejected.forEach(errors);
+            failed += rejected.size();
+            failedLines.increment(rejected.size());
+            lastLine = Math.max(lastLine, batch.lastLine());
+        }
+    }
+
+    private static ImportResult incomplete(ImportResult result) {
+        return new ImportResult(result.imported(), result.failed(), result.lastLine(), false);
+    }
+
+    @FunctionalInterface
+    private interface BatchConsumer {
+        boolean accept(List<ArticleImportRecord> batch) throws InterruptedException;
+    }
+
+    private record ValidatedBatch(List<ArticleImportRecord> valid, List<ImportError> rejected, long lastLine) {
+    }
+}
@@ -0,0 +1,200 @@
+package org.interview.tecalliance.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Prices lists of articles for a date, in parallel for large lists.
+ * <p>
+ * Lists below the threshold are priced on the calling thread. Larger ones are split into
+ * chunks priced on a dedicated fork/join pool, never the common pool, so pricing neither
+ * competes with other users of the common pool nor grows beyond the configured number of
+ * threads. Every chunk writes its results to its own range of one array, so the result
+ * keeps the order of the input. Each article is priced exactly like {@link #price(Article, LocalDate)}.
+ * </p>
+ * <p>
+ * {@link #stream(List, LocalDate)} prices one window of chunks at a time as the stream is
+ * consumed, so a streamed response holds at most one window of priced articles.
+ * {@link #aggregate(List, Function, BinaryOperator)} reduces the chunks to one result on
+ * the same pool, for figures over a whole list that need no priced article to be kept.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ArticlePricer implements DisposableBean {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    public ArticlePricer(@Value("${tecalliance.pricing.parallel.enabled:true}") boolean parallel,
+                         @Value("${tecalliance.pricing.parallel.parallelism:0}") int parallelism,
+                         @Value("${tecalliance.pricing.parallel.threshold:10000}") int threshold,
+                         @Value("${tecalliance.pricing.parallel.chunk-size:2048}") int chunkSize) {
+        if (parallelism < 0 || threshold < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Pricing parallelism must not be negative, threshold and chunk size must be positive");
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = parallel && threads > 1
+                ? new ForkJoinPool(threads, ArticlePricer::newWorkerThread, null, false)
+                : null;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+        if (pool != null) {
+            log.info("Pricing lists of {} or more articles on {} threads", threshold, threads);
+        }
+    }
+
+    /**
+     * Prices one article: its applicable discount and discounted price on the date.
+     */
+    public static ArticleWithPrice price(Article article, LocalDate date) {
+        BigDecimal finalPrice = article.calculateDiscountedPrice(date);
+        Discount appliedDiscount = article.getApplicableDiscount(date);
+        return ArticleWithPrice.from(article, finalPrice, appliedDiscount);
+    }
+
+    /**
+     * Prices the articles, in the order given.
+     */
+    public List<ArticleWithPrice> priceAll(List<Article> articles, LocalDate date) {
+        if (pool == null || articles.size() < threshold) {
+            return articles.stream().map(article -> price(article, date)).toList();
+        }
+        return priceInParallel(randomAccess(articles), date);
+    }
+
+    /**
+     * Prices the articles lazily, in the order given.
+     */
+    public Stream<ArticleWithPrice> stream(List<Article> articles, LocalDate date) {
+        if (pool == null || articles.size() < threshold) {
+            return articles.stream().map(article -> price(article, date));
+        }
+        List<Article> source = randomAccess(articles);
+        int window = chunkSize * pool.getParallelism();
+        return IntStream.range(0, (source.size() + window - 1) / window)
+                .mapToObj(i -> source.subList(i * window, Math.min(source.size(), (i + 1) * window)))
+                .flatMap(articlesInWindow -> priceInParallel(articlesInWindow, date).stream());
+    }
+
+    /**
+     * Reduces the articles to one result: every chunk is aggregated on its own and the partial
+     * results are merged left to right, so the result does not depend on the scheduling as
+     * long as merging is associative.
+     *
+     * @param chunk aggregates a contiguous part of the list, must not modify it
+     * @param merge merges the result of a part with the result of the part following it
+     */
+    public <R> R aggregate(List<Article> articles, Function<List<Article>, R> chunk, BinaryOperator<R> merge) {
+        if (pool == null || articles.size() < threshold) {
+            return chunk.apply(articles);
+        }
+        List<Article> source = randomAccess(articles);
+        return pool.invoke(new AggregationTask<>(source, chunk, merge, 0, source.size()));
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private List<ArticleWithPrice> priceInParallel(List<Article> articles, LocalDate date) {
+        ArticleWithPrice[] priced = new ArticleWithPrice[articles.size()];
+        pool.invoke(new PricingTask(articles, date, priced, 0, articles.size()));
+        return Arrays.asList(priced);
+    }
+
+    private static List<Article> randomAccess(List<Article> articles) {
+        return articles instanceof RandomAccess ? articles : new ArrayList<>(articles);
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("article-pricing-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private final class PricingTask extends RecursiveAction {
+
+        private final List<Article> articles;
+        private final LocalDate date;
+        private final ArticleWithPrice[] priced;
+        private final int from;
+        private final int to;
+
+        private PricingTask(List<Article> articles, LocalDate date, ArticleWithPrice[] priced, int from, int to) {
+            this.articles = articles;
+            this.date = date;
+            this.priced = priced;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    priced[i] = price(articles.get(i), date);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PricingTask(articles, date, priced, from, middle),
+                    new PricingTask(articles, date, priced, middle, to));
+        }
+    }
+
+    private final class AggregationTask<R> extends RecursiveTask<R> {
+
+        private final List<Article> articles;
+        private final Function<List<Article>, R> chunk;
+        private final BinaryOperator<R> merge;
+        private final int from;
+        private final int to;
+
+        private AggregationTask(List<Article> articles, Function<List<Article>, R> chunk, BinaryOperator<R> merge,
+                                int from, int to) {
+            this.articles = articles;
+            this.chunk = chunk;
+            this.merge = merge;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= chunkSize) {
+                return chunk.apply(articles.subList(from, to));
+            }
+            int middle = (from + to) >>> 1;
+            AggregationTask<R> left = new AggregationTask<>(articles, chunk, merge, from, middle);
+            left.fork();
+            R right = new AggregationTask<>(articles, chunk, merge, middle, to).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+}
@@ -1,31 +1,72 @@
 package org.interview.tecalliance.application.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
 import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.DiscountArchivePort;
+import org.interview.tecalliance.domain.model.DiscountPage;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.SearchMode;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.interview.tecalliance.domain.model.article.ArticlePatch;
 import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
 import org.interview.tecalliance.domain.model.article.BaseArticle;
 import org.interview.tecalliance.domain.model.Discount;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleService implements ArticleUseCase {
 
+    static final int MAX_PAGE_SIZE = 200;
+
+    /** Digits of a decimal128 value; its exponent, the negated scale, is in [-6176, 6111]. */
+    static final int MAX_DECIMAL_DIGITS = 34;
+    private static final int MIN_DECIMAL_SCALE = -6111;
+    private static final int MAX_DECIMAL_SCALE = 6176;
+
     private final ArticlePersistencePort persistencePort;
+    private final ArticleSearchIndexPort searchIndexPort;
+    private final DiscountArchivePort discountArchivePort;
+    private final ArticleCachePort articleCachePort;
+    private final ArticlePricer articlePricer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        log.info("Building article search index");
+        searchIndexPort.rebuild(persistencePort.findAll());
+    }
 
     @Override
     public Article createArticle(Article article) {
         article.setId(null);
         validateArticle(article);
-        return persistencePort.save(article);
+        Article saved = persistencePort.save(article);
+        articleCachePort.evict(saved.getId());
+        searchIndexPort.index(saved);
+        return saved;
     }
 
     @Override
@@ -33,6 +74,63 @@ public class ArticleService implements ArticleUseCase {
         return persistencePort.findById(id);
     }
 
+    @Override
+    public Optional<Article> getArticleById(String id, boolean includeDiscountHistory) {
+        return persistencePort.findById(id, includeDiscountHistory);
+    }
+
+    @Override
+    public List<Article> getArticlesByIds(List<String> ids) {
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " articles can be requested at once");
+        }
+        return findAllInOrder(ids);
+    }
+
+    @Override
+    public List<ArticleWithPrice> quoteArticles(List<String> ids, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date parameter is required to quote prices");
+        }
+        return getArticlesByIds(ids).stream()
+                .map(article -> ArticlePricer.price(article, date))
+                .toList();
+    }
+
+    @Override
+    public Optional<Article> getArticleWithoutDiscounts(String id) {
+        return persistencePort.findByIdWithoutDiscounts(id);
+    }
+
+    @Override
+    public Optional<Article> getArticleWithDiscountsIn(String id, DiscountWindow window) {
+        return persistencePort.findByIdWithDiscountsIn(id, window);
+    }
+
+    @Override
+    public Optional<DiscountPage> getArticleDiscounts(String id, DiscountWindow window, int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        int offset = decodeCursor(cursor);
+
+        // one extra discount tells whether a next page exists
+        return persistencePort.findDiscounts(id, window, offset, limit + 1).map(discounts -> {
+            if (discounts.size() <= limit) {
+                return new DiscountPage(discounts, null);
+            }
+            return new DiscountPage(discounts.subList(0, limit), encodeCursor(offset + limit));
+        });
+    }
+
+    @Override
+    public Optional<List<Discount>> getArchivedDiscounts(String id, DiscountWindow window) {
+        if (!persistencePort.existsById(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(discountArchivePort.findArchivedDiscounts(id, window));
+    }
+
     @Override
     public List<Article> getAllArticles() {
         return persistencePort.findAll();
@@ -45,13 +143,7 @@ public class ArticleService implements ArticleUseCase {
         }
         if (withPrices || discountOnly) {
             if (withPrices) {
-                List<ArticleWithPrice> articlesWithPrices = getArticlesWithPrices(date);
-                if (discountOnly) {
-                    articlesWithPrices = articlesWithPrices.stream()
-                            .filter(article -> article.getAppliedDiscount() != null)
-                            .toList();
-                }
-                return new ArrayList<>(articlesWithPrices);
+                return new ArrayList<>(streamArticlesWithPrices(date, discountOnly).toList());
             } else {
                 List<Article> articlesWithDiscount = getArticlesWithDiscountOn(date);
                 return new ArrayList<>(articlesWithDiscount);
@@ -62,25 +154,140 @@ public class ArticleService implements ArticleUseCase {
         }
     }
 
+    @Override
+    public Stream<ArticleWithPrice> streamArticlesWithPrices(LocalDate date, boolean discountOnly) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date parameter is required when withPrices=true or discountOnly=true");
+        }
+        if (discountOnly) {
+            return articlePricer.stream(getArticlesWithDiscountOn(date), date)
+                    .filter(article -> article.getAppliedDiscount() != null);
+        }
+        return articlePricer.stream(persistencePort.findAllWithDiscountsValidFrom(date), date);
+    }
+
+    @Override
+    public List<BaseArticle> searchArticles(String query, SearchMode mode, LocalDate date, boolean withPrices,
+                                            int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Search mode must be specified");
+        }
+        if (withPrices && date == null) {
+            throw new IllegalArgumentException("Date parameter is required when withPrices=true");
+        }
+        int offset = toOffset(page, size);
+
+        List<Article> articles = switch (mode) {
+            // the index holds no articles; an article deleted since it was indexed is skipped
+            case PREFIX -> findAllInOrder(searchIndexPort.findIdsByPrefix(query, offset, size));
+            case FULL_TEXT -> persistencePort.searchByText(query, offset, size);
+        };
+
+        if (withPrices) {
+            return new ArrayList<>(articles.stream()
+                    .map(article -> ArticlePricer.price(article, date))
+                    .toList());
+        }
+        return new ArrayList<>(articles);
+    }
+
+    @Override
+    public List<Article> getArticlesEligibleForDiscount(BigDecimal discountPercentage, int page, int size) {
+        if (discountPercentage == null
+                || discountPercentage.signum() <= 0 || discountPercentage.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Discount percentage must be greater than 0 and at most 100");
+        }
+        if (discountPercentage.stripTrailingZeros().scale() > Article.MAX_DISCOUNT_PERCENTAGE_SCALE) {
+            throw new IllegalArgumentException("Discount percentage must have at most "
+                    + Article.MAX_DISCOUNT_PERCENTAGE_SCALE + " decimal places");
+        }
+        return persistencePort.findEligibleForDiscount(discountPercentage, toOffset(page, size), size);
+    }
+
     @Override
     public Optional<Article> updateArticle(String id, Article updatedArticle) {
-        return persistencePort.findById(id).map(existingArticle -> {
-            existingArticle.setName(updatedArticle.getName());
-            existingArticle.setSlogan(updatedArticle.getSlogan());
-            existingArticle.setNetPrice(updatedArticle.getNetPrice());
-            existingArticle.setSalesPrice(updatedArticle.getSalesPrice());
-            existingArticle.setVatRatio(updatedArticle.getVatRatio());
-            if (updatedArticle.getDiscounts() != null) {
-                existingArticle.setDiscounts(updatedArticle.getDiscounts());
+        updatedArticle.setId(id);
+        if (updatedArticle.getDiscounts() == null) {
+            // the stored discounts are kept and have to be validated against the new prices,
+            // the version read with them guards against concurrent changes in between
+            Optional<Article> existingArticle = persistencePort.findById(id);
+            if (existingArticle.isEmpty()) {
+                return Optional.empty();
+            }
+            updatedArticle.setDiscounts(existingArticle.get().getDiscounts());
+            if (updatedArticle.getVersion() == null) {
+                updatedArticle.setVersion(existingArticle.get().getVersion());
+            }
+        }
+        validateArticle(updatedArticle);
+
+        Optional<Article> saved;
+        try {
+            saved = persistencePort.replace(updatedArticle);
+        } finally {
+            articleCachePort.evict(id);
+        }
+        saved.ifPresent(searchIndexPort::index);
+        return saved;
+    }
+
+    @Override
+    public Optional<Article> patchArticle(String id, ArticlePatch patch) {
+        Optional<Article> existing = persistencePort.findById(id);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        Article article = existing.get();
+        if (patch.version() != null && !patch.version().equals(article.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Article " + id + " was modified since version " + patch.version());
+        }
+
+        Map<ArticleField, Object> changes = new EnumMap<>(ArticleField.class);
+        patch.values().forEach((field, value) -> {
+            if (!field.isSameValue(field.get(article), value)) {
+                changes.put(field, value);
             }
-            validateArticle(existingArticle);
-            return persistencePort.save(existingArticle);
         });
+        if (changes.isEmpty()) {
+            log.debug("Patch of article {} changes nothing, skipping the write", id);
+            return existing;
+        }
+
+        long expectedVersion = article.getVersion() != null ? article.getVersion() : 0L;
+        changes.forEach((field, value) -> field.set(article, value));
+        if (changes.keySet().stream().anyMatch(ArticleField::affectsDiscountValidation)) {
+            validateArticle(article);
+        } else {
+            validateDecimals(article);
+        }
+
+        Optional<Article> saved;
+        try {
+            saved = persistencePort.update(id, changes, expectedVersion);
+        } finally {
+            articleCachePort.evict(id);
+        }
+        saved.ifPresent(searchIndexPort::index);
+        return saved;
     }
 
     @Override
     public boolean deleteArticle(String id) {
-        return persistencePort.deleteById(id);
+        boolean deleted;
+        try {
+            deleted = persistencePort.deleteById(id);
+        } finally {
+            articleCachePort.evict(id);
+        }
+        if (deleted) {
+            searchIndexPort.remove(id);
+            discountArchivePort.deleteArchivedDiscounts(id);
+        }
+        return deleted;
     }
 
     @Override
@@ -88,25 +295,70 @@ public class ArticleService implements ArticleUseCase {
         return persistencePort.existsById(id);
     }
 
-    private List<ArticleWithPrice> getArticlesWithPrices(LocalDate date) {
-        return persistencePort.findAll().stream()
-                .map(article -> {
-                    BigDecimal finalPrice = article.calculateDiscountedPrice(date);
-                    Discount appliedDiscount = article.getApplicableDiscount(date);
-                    return ArticleWithPrice.from(article, finalPrice, appliedDiscount);
-                })
+    /**
+     * Loads the articles with one query and returns them in the order of their IDs, skipping
+     * unknown and repeated IDs.
+     */
+    private List<Article> findAllInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Article> found = persistencePort.findAllById(ids).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        return ids.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
+    private int toOffset(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page is out of range");
+        }
+        return (int) offset;
+    }
+
     private List<Article> getArticlesWithDiscountOn(LocalDate date) {
-        return persistencePort.findAll().stream()
+        return persistencePort.findWithDiscountActiveOn(date).stream()
                 .filter(article -> article.getDiscounts() != null &&
                         article.getDiscounts().stream()
                                 .anyMatch(discount -> discount.isValidOn(date)))
                 .toList();
     }
 
-    private void validateArticle(Article article) {
+    private static String encodeCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("o:" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith("o:")) {
+                int offset = Integer.parseInt(decoded.substring(2));
+                if (offset >= 0) {
+                    return offset;
+                }
+            }
+        } catch (IllegalArgumentException _) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    static void validateArticle(Article article) {
+        validateDecimals(article);
         if (!article.validateNoOverlappingDiscounts()) {
             throw new IllegalArgumentException(
                 "Multiple discounts have overlapping date ranges. Only one discount can be applicable at a time.");
@@ -116,4 +368,30 @@ public class ArticleService implements ArticleUseCase {
                 "Discounts would cause the article price to go below net price, resulting in a loss");
         }
     }
+
+    /**
+     * Rejects prices and percentages that cannot be stored exactly: the storage keeps them as
+     * IEEE 754 decimal128 values, with at most {@value #MAX_DECIMAL_DIGITS} digits.
+     */
+    static void validateDecimals(Article article) {
+        validateDecimal("Net price", article.getNetPrice());
+        validateDecimal("Sales price", article.getSalesPrice());
+        validateDecimal("VAT ratio", article.getVatRatio());
+        if (article.getDiscounts() != null) {
+            article.getDiscounts().forEach(discount ->
+                    validateDecimal("Discount percentage", discount.getDiscountPercentage()));
+        }
+    }
+
+    private static void validateDecimal(String name, BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        if (value.precision() > MAX_DECIMAL_DIGITS) {
+            throw new IllegalArgumentException(name + " must have at most " + MAX_DECIMAL_DIGITS + " digits");
+        }
+        if (value.scale() < MIN_DECIMAL_SCALE || value.scale() > MAX_DECIMAL_SCALE) {
+            throw new IllegalArgumentException(name + " is out of range");
+        }
+    }
 }
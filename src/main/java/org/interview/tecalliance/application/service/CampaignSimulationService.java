@@ -0,0 +1,201 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.in.CampaignSimulationUseCase;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignConflict;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.interview.tecalliance.domain.model.campaign.CampaignSimulation;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates discount campaigns against the whole catalog without writing anything.
+ * <p>
+ * The catalog is read once through {@link ArticlePersistencePort#findAll()}, which the
+ * in-memory read replica answers from its snapshot, and reduced by
+ * {@link ArticlePricer#aggregate}: each chunk is tallied without any shared state and the
+ * tallies are merged left to right, so the sample of conflicts is the first rejected
+ * articles in catalog order regardless of the scheduling.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CampaignSimulationService implements CampaignSimulationUseCase {
+
+    private final ArticlePersistencePort persistencePort;
+    private final ArticlePricer articlePricer;
+    private final Timer simulations;
+
+    public CampaignSimulationService(ArticlePersistencePort persistencePort,
+                                     ArticlePricer articlePricer,
+                                     MeterRegistry meterRegistry) {
+        this.persistencePort = persistencePort;
+        this.articlePricer = articlePricer;
+        this.simulations = Timer.builder("articles.campaign.simulations")
+                .description("Duration of discount campaign simulations")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CampaignSimulation simulateCampaign(Discount discount, CampaignSelector selector, int sampleSize) {
+        DiscountCampaignService.validateDiscount(discount);
+        if (selector != null) {
+            DiscountCampaignService.validateSelector(selector);
+        }
+        if (sampleSize < 0 || sampleSize > ArticleService.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Sample size must be between 0 and " + ArticleService.MAX_PAGE_SIZE);
+        }
+
+        long started = System.nanoTime();
+        List<Article> catalog = persistencePort.findAll();
+        Evaluation evaluation = new Evaluation(discount, selection(selector), sampleSize);
+        Tally tally = articlePricer.aggregate(catalog, chunk -> Tally.of(chunk, evaluation),
+                (left, right) -> left.merge(right, sampleSize));
+        long took = System.nanoTime() - started;
+        simulations.record(took, TimeUnit.NANOSECONDS);
+
+        log.debug("Simulated a {}% campaign against {} articles in {} ms", discount.getDiscountPercentage(),
+                catalog.size(), TimeUnit.NANOSECONDS.toMillis(took));
+        return new CampaignSimulation(catalog.size(), tally.selected, tally.applicable, tally.rejected,
+                tally.overlapping, tally.belowNetPrice, tally.salesValue, tally.discountedSalesValue,
+                tally.discountedSalesValue.subtract(tally.salesValue), List.copyOf(tally.conflicts),
+                TimeUnit.NANOSECONDS.toMillis(took));
+    }
+
+    private static Predicate<Article> selection(CampaignSelector selector) {
+        Predicate<Article> selection = _ -> true;
+        if (selector == null) {
+            return selection;
+        }
+        if (selector.articleIds() != null) {
+            Set<String> ids = new HashSet<>(selector.articleIds());
+            selection = selection.and(article -> ids.contains(article.getId()));
+        }
+        if (selector.namePrefix() != null && !selector.namePrefix().isEmpty()) {
+            String prefix = selector.namePrefix();
+            selection = selection.and(article -> article.getName() != null && article.getName().startsWith(prefix));
+        }
+        if (selector.minSalesPrice() != null) {
+            BigDecimal min = selector.minSalesPrice();
+            selection = selection.and(article -> article.getSalesPrice() != null && article.getSalesPrice().compareTo(min) >= 0);
+        }
+        if (selector.maxSalesPrice() != null) {
+            BigDecimal max = selector.maxSalesPrice();
+            selection = selection.and(article -> article.getSalesPrice() != null && article.getSalesPrice().compareTo(max) <= 0);
+        }
+        return selection;
+    }
+
+    /**
+     * The proposed discount and which articles it is evaluated for.
+     */
+    private record Evaluation(Discount discount, Predicate<Article> selection, int sampleSize) {
+
+        /**
+         * Same rule as {@link Article#validateNoOverlappingDiscounts()} for the discounts plus the new one.
+         */
+        boolean overlaps(Article article) {
+            if (article.getDiscounts() == null) {
+                return false;
+            }
+            for (Discount existing : article.getDiscounts()) {
+                if (existing.getStartDate() != null && existing.getEndDate() != null
+                        && !existing.getStartDate().isAfter(discount.getEndDate())
+                        && !discount.getStartDate().isAfter(existing.getEndDate())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Same rule as {@link Article#validateDiscounts()} for the new discount.
+         */
+        boolean keepsNetPrice(Article article) {
+            return article.allowsDiscount(discount.getDiscountPercentage());
+        }
+
+        /**
+         * Same price as {@link Article#calculateDiscountedPrice} within the discount period.
+         */
+        BigDecimal discountedPrice(Article article) {
+            BigDecimal discounted = discount.applyTo(article.getSalesPrice());
+            if (article.getNetPrice() != null && discounted.compareTo(article.getNetPrice()) < 0) {
+                return article.getNetPrice();
+            }
+            return discounted;
+        }
+    }
+
+    /**
+     * Counts of one chunk of the catalog; merged with the tally of the chunk to its right.
+     */
+    private static final class Tally {
+
+        private long selected;
+        private long applicable;
+        private long rejected;
+        private long overlapping;
+        private long belowNetPrice;
+        private BigDecimal salesValue = BigDecimal.ZERO;
+        private BigDecimal discountedSalesValue = BigDecimal.ZERO;
+        private final List<CampaignConflict> conflicts = new ArrayList<>();
+
+        static Tally of(List<Article> chunk, Evaluation evaluation) {
+            Tally tally = new Tally();
+            for (Article article : chunk) {
+                if (evaluation.selection().test(article)) {
+                    tally.add(article, evaluation);
+                }
+            }
+            return tally;
+        }
+
+        void add(Article article, Evaluation evaluation) {
+            selected++;
+            boolean overlaps = evaluation.overlaps(article);
+            boolean keepsNetPrice = evaluation.keepsNetPrice(article);
+            if (overlaps || !keepsNetPrice) {
+                rejected++;
+                overlapping += overlaps ? 1 : 0;
+                belowNetPrice += keepsNetPrice ? 0 : 1;
+                if (conflicts.size() < evaluation.sampleSize()) {
+                    conflicts.add(new CampaignConflict(article.getId(), article.getName(), overlaps, !keepsNetPrice,
+                            article.getMaxDiscountPercentage()));
+                }
+                return;
+            }
+            applicable++;
+            if (article.getSalesPrice() != null) {
+                salesValue = salesValue.add(article.getSalesPrice());
+                discountedSalesValue = discountedSalesValue.add(evaluation.discountedPrice(article));
+            }
+        }
+
+        Tally merge(Tally right, int sampleSize) {
+            selected += right.selected;
+            applicable += right.applicable;
+            rejected += right.rejected;
+            overlapping += right.overlapping;
+            belowNetPrice += right.belowNetPrice;
+            salesValue = salesValue.add(right.salesValue);
+            discountedSalesValue = discountedSalesValue.add(right.discountedSalesValue);
+            for (int i = 0; i < right.conflicts.size() && conflicts.size() < sampleSize; i++) {
+                conflicts.add(right.conflicts.get(i));
+            }
+            return this;
+        }
+    }
+}
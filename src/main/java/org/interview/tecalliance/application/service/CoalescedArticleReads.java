@@ -0,0 +1,65 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.BaseArticle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The in-flight reads shared by the {@link CoalescingArticleUseCase}.
+ * <p>
+ * Registered as a cache, so every write releases the affected reads in the same step in which
+ * it invalidates the caches, whichever service wrote. It is invalidated first: a cache that
+ * misses after its eviction then starts a new read instead of joining one that may have read
+ * data from before the write. Any write releases all list reads, since it may change every list.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "tecalliance.coalescing.reads.enabled", havingValue = "true", matchIfMissing = true)
+class CoalescedArticleReads implements ArticleCachePort {
+
+    private final SingleFlight<ArticleKey, Optional<Article>> articles;
+    private final SingleFlight<ListKey, List<BaseArticle>> lists;
+
+    CoalescedArticleReads(MeterRegistry meterRegistry) {
+        this.articles = new SingleFlight<>("article", meterRegistry);
+        this.lists = new SingleFlight<>("list", meterRegistry);
+    }
+
+    Optional<Article> article(String id, boolean includeDiscountHistory, Supplier<Optional<Article>> read) {
+        return articles.execute(new ArticleKey(id, includeDiscountHistory), read);
+    }
+
+    List<BaseArticle> list(LocalDate date, boolean withPrices, boolean discountOnly, Supplier<List<BaseArticle>> read) {
+        return lists.execute(new ListKey(date, withPrices, discountOnly), read);
+    }
+
+    @Override
+    public void evict(String id) {
+        articles.forget(new ArticleKey(id, false));
+        articles.forget(new ArticleKey(id, true));
+        lists.forgetAll();
+    }
+
+    @Override
+    public void evictAll() {
+        articles.forgetAll();
+        lists.forgetAll();
+    }
+
+    private record ArticleKey(String id, boolean includeDiscountHistory) {
+    }
+
+    private record ListKey(LocalDate date, boolean withPrices, boolean discountOnly) {
+    }
+}
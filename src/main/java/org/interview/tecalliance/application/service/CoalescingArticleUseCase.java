@@ -0,0 +1,145 @@
+package org.interview.tecalliance.application.service;
+
+import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountPage;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.SearchMode;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticlePatch;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.interview.tecalliance.domain.model.article.BaseArticle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Deduplicates concurrent identical reads of the hottest queries (single-flight).
+ * <p>
+ * When many clients request the same article, or the same article list with the same date,
+ * price and discount filters, at the same moment, only the first request queries the
+ * database and calculates the prices; the others wait for and share its result. Results are
+ * not cached: a request arriving after the shared query finished runs a new one.
+ * </p>
+ * <p>
+ * Every caller gets its own copy of the shared result, so callers modifying it do not affect
+ * each other. Writes release the affected queries when they invalidate the caches, see
+ * {@link CoalescedArticleReads}, so a read issued after a write never joins a query started
+ * before it. All other calls are passed to the {@link ArticleService} unchanged.
+ * </p>
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "tecalliance.coalescing.reads.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingArticleUseCase implements ArticleUseCase {
+
+    private final ArticleService delegate;
+    private final CoalescedArticleReads reads;
+
+    CoalescingArticleUseCase(ArticleService delegate, CoalescedArticleReads reads) {
+        this.delegate = delegate;
+        this.reads = reads;
+    }
+
+    @Override
+    public Article createArticle(Article article) {
+        return delegate.createArticle(article);
+    }
+
+    @Override
+    public Optional<Article> getArticleById(String id) {
+        return getArticleById(id, false);
+    }
+
+    @Override
+    public Optional<Article> getArticleById(String id, boolean includeDiscountHistory) {
+        return reads.article(id, includeDiscountHistory, () -> delegate.getArticleById(id, includeDiscountHistory))
+                .map(Article::copy);
+    }
+
+    @Override
+    public List<Article> getArticlesByIds(List<String> ids) {
+        return delegate.getArticlesByIds(ids);
+    }
+
+    @Override
+    public List<ArticleWithPrice> quoteArticles(List<String> ids, LocalDate date) {
+        return delegate.quoteArticles(ids, date);
+    }
+
+    @Override
+    public Optional<Article> getArticleWithoutDiscounts(String id) {
+        return delegate.getArticleWithoutDiscounts(id);
+    }
+
+    @Override
+    public Optional<Article> getArticleWithDiscountsIn(String id, DiscountWindow window) {
+        return delegate.getArticleWithDiscountsIn(id, window);
+    }
+
+    @Override
+    public Optional<DiscountPage> getArticleDiscounts(String id, DiscountWindow window, int limit, String cursor) {
+        return delegate.getArticleDiscounts(id, window, limit, cursor);
+    }
+
+    @Override
+    public Optional<List<Discount>> getArchivedDiscounts(String id, DiscountWindow window) {
+        return delegate.getArchivedDiscounts(id, window);
+    }
+
+    @Override
+    public List<Article> getAllArticles() {
+        return delegate.getAllArticles();
+    }
+
+    @Override
+    public List<BaseArticle> getArticlesWithFilters(LocalDate date, boolean withPrices, boolean discountOnly) {
+        return new ArrayList<>(reads.list(date, withPrices, discountOnly,
+                        () -> delegate.getArticlesWithFilters(date, withPrices, discountOnly)).stream()
+                .map(BaseArticle::copy)
+                .toList());
+    }
+
+    @Override
+    public Stream<ArticleWithPrice> streamArticlesWithPrices(LocalDate date, boolean discountOnly) {
+        return delegate.streamArticlesWithPrices(date, discountOnly);
+    }
+
+    @Override
+    public List<BaseArticle> searchArticles(String query, SearchMode mode, LocalDate date, boolean withPrices,
+                                            int page, int size) {
+        return delegate.searchArticles(query, mode, date, withPrices, page, size);
+    }
+
+    @Override
+    public List<Article> getArticlesEligibleForDiscount(BigDecimal discountPercentage, int page, int size) {
+        return delegate.getArticlesEligibleForDiscount(discountPercentage, page, size);
+    }
+
+    @Override
+    public Optional<Article> updateArticle(String id, Article article) {
+        return delegate.updateArticle(id, article);
+    }
+
+    @Override
+    public Optional<Article> patchArticle(String id, ArticlePatch patch) {
+        return delegate.patchArticle(id, patch);
+    }
+
+    @Override
+    public boolean deleteArticle(String id) {
+        return delegate.deleteArticle(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return delegate.existsById(id);
+    }
+}
@@ -0,0 +1,279 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.interview.tecalliance.application.port.in.DiscountCalendarUseCase;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.DiscountCalendarPort;
+import org.interview.tecalliance.application.port.out.DiscountPeriodCount;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.analytics.DiscountCalendar;
+import org.interview.tecalliance.domain.model.analytics.DiscountCalendarDay;
+import org.interview.tecalliance.domain.model.analytics.PercentageBand;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the discounted articles for every day of a date range in one pass.
+ * <p>
+ * Instead of evaluating every day separately, each group of discounts with the same period
+ * and percentage adds its count to a difference array at its first day and subtracts it after
+ * its last day; a running sum over the array then gives the count of every day. The groups
+ * come from the {@link DiscountCalendarPort}, which aggregates them in the storage, or are
+ * built from {@link ArticlePersistencePort#findAll()} where the storage does not support it.
+ * </p>
+ * <p>
+ * Calendars are cached until the next write through the application: this service is one of
+ * the {@link ArticleCachePort caches} invalidated after every write, and a calendar computed
+ * while a write happened is not cached. Writes made elsewhere, such as on other instances or
+ * directly in the database, are picked up when the time to live has passed.
+ * </p>
+ */
+@Service
+public class DiscountCalendarService implements DiscountCalendarUseCase, ArticleCachePort {
+
+    static final int MAX_DAYS = 366;
+    static final int MAX_BANDS = 20;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final Optional<DiscountCalendarPort> calendarPort;
+    private final ArticlePersistencePort persistencePort;
+    private final long timeToLive;
+    private final int cacheSize;
+
+    private final ConcurrentMap<CalendarKey, CachedCalendar> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final SingleFlight<CalendarKey, DiscountCalendar> builds;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer buildTime;
+
+    public DiscountCalendarService(Optional<DiscountCalendarPort> calendarPort,
+                                   ArticlePersistencePort persistencePort,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${tecalliance.analytics.discount-calendar.time-to-live:PT5M}") Duration timeToLive,
+                                   @Value("${tecalliance.analytics.discount-calendar.cache-size:100}") int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Discount calendar cache size must not be negative");
+        }
+        this.calendarPort = calendarPort;
+        this.persistencePort = persistencePort;
+        this.timeToLive = timeToLive.toNanos();
+        this.cacheSize = cacheSize;
+        this.builds = new SingleFlight<>("discount-calendar", meterRegistry);
+
+        this.hits = Counter.builder("articles.analytics.discount.calendar.requests")
+                .description("Discount calendar requests")
+                .tag("outcome", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("articles.analytics.discount.calendar.requests")
+                .description("Discount calendar requests")
+                .tag("outcome", "miss")
+                .register(meterRegistry);
+        this.buildTime = Timer.builder("articles.analytics.discount.calendar.builds")
+                .description("Duration of building a discount calendar")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public DiscountCalendar getDiscountCalendar(LocalDate from, LocalDate to, List<BigDecimal> bandBoundaries) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("At most " + MAX_DAYS + " days can be requested at once");
+        }
+        List<BigDecimal> boundaries = bandBoundaries == null ? List.of() : List.copyOf(bandBoundaries);
+        validateBoundaries(boundaries);
+
+        CalendarKey key = new CalendarKey(from, to, boundaries);
+        CachedCalendar cached = cache.get(key);
+        if (cached != null && System.nanoTime() - cached.storedAt < timeToLive) {
+            hits.increment();
+            return cached.calendar;
+        }
+        misses.increment();
+        return builds.execute(key, () -> {
+            long stamp = invalidations.get();
+            DiscountCalendar calendar = buildTime.record(() -> build(key));
+            store(key, calendar, stamp);
+            return calendar;
+        });
+    }
+
+    @Override
+    public void evict(String id) {
+        evictAll();
+    }
+
+    @Override
+    public void evictAll() {
+        // any write may change the counts of any range, and a build running now may have read before it
+        invalidations.incrementAndGet();
+        builds.forgetAll();
+        cache.clear();
+    }
+
+    private DiscountCalendar build(CalendarKey key) {
+        List<DiscountPeriodCount> periods = calendarPort
+                .map(port -> port.countDiscountPeriods(new DiscountWindow(key.from, key.to)))
+                .orElseGet(() -> countDiscountPeriods(persistencePort.findAll()));
+
+        int days = (int) ChronoUnit.DAYS.between(key.from, key.to) + 1;
+        int bands = key.boundaries.size() + 1;
+        long[] total = new long[days + 1];
+        long[][] byBand = new long[bands][days + 1];
+        for (DiscountPeriodCount period : periods) {
+            LocalDate start = period.startDate().isBefore(key.from) ? key.from : period.startDate();
+            LocalDate end = period.endDate().isAfter(key.to) ? key.to : period.endDate();
+            if (start.isAfter(end)) {
+                continue;
+            }
+            int first = (int) ChronoUnit.DAYS.between(key.from, start);
+            int afterLast = (int) ChronoUnit.DAYS.between(key.from, end) + 1;
+            total[first] += period.discounts();
+            total[afterLast] -= period.discounts();
+            if (bands > 1) {
+                long[] band = byBand[bandOf(period.discountPercentage(), key.boundaries)];
+                band[first] += period.discounts();
+                band[afterLast] -= period.discounts();
+            }
+        }
+
+        List<DiscountCalendarDay> calendarDays = new ArrayList<>(days);
+        long discounted = 0;
+        long[] discountedByBand = new long[bands];
+        for (int day = 0; day < days; day++) {
+            discounted += total[day];
+            List<Long> dayByBand = List.of();
+            if (bands > 1) {
+                Long[] counts = new Long[bands];
+                for (int band = 0; band < bands; band++) {
+                    discountedByBand[band] += byBand[band][day];
+                    counts[band] = discountedByBand[band];
+                }
+                dayByBand = List.of(counts);
+            }
+            calendarDays.add(new DiscountCalendarDay(key.from.plusDays(day), discounted, dayByBand));
+        }
+        return new DiscountCalendar(key.from, key.to, toBands(key.boundaries), List.copyOf(calendarDays));
+    }
+
+    private void store(CalendarKey key, DiscountCalendar calendar, long stamp) {
+        if (cacheSize == 0) {
+            return;
+        }
+        if (cache.size() >= cacheSize) {
+            // rarely reached: the calendars asked for are few and all are dropped on the next write
+            cache.clear();
+        }
+        cache.put(key, new CachedCalendar(calendar, System.nanoTime()));
+        if (stamp != invalidations.get()) {
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * Groups the discounts of the articles like {@link DiscountCalendarPort#countDiscountPeriods}
+     * does in the storage, for storages without that port.
+     */
+    static List<DiscountPeriodCount> countDiscountPeriods(List<Article> articles) {
+        Map<DiscountPeriodCount, Long> counts = new HashMap<>();
+        for (Article article : articles) {
+            if (article.getDiscounts() == null) {
+                continue;
+            }
+            for (Discount discount : article.getDiscounts()) {
+                if (discount.getStartDate() == null || discount.getEndDate() == null
+                        || discount.getDiscountPercentage() == null) {
+                    continue;
+                }
+                // stripped, so that 10 and 10.00 are one period like in the storage
+                DiscountPeriodCount period = new DiscountPeriodCount(discount.getStartDate(), discount.getEndDate(),
+                        discount.getDiscountPercentage().stripTrailingZeros(), 0);
+                counts.merge(period, 1L, Long::sum);
+            }
+        }
+        List<DiscountPeriodCount> periods = new ArrayList<>(counts.size());
+        counts.forEach((period, count) -> periods.add(new DiscountPeriodCount(
+                period.startDate(), period.endDate(), period.discountPercentage(), count)));
+        return periods;
+    }
+
+    private static void validateBoundaries(List<BigDecimal> boundaries) {
+        if (boundaries.size() >= MAX_BANDS) {
+            throw new IllegalArgumentException("At most " + MAX_BANDS + " percentage bands can be requested");
+        }
+        BigDecimal previous = BigDecimal.ZERO;
+        for (BigDecimal boundary : boundaries) {
+            if (boundary == null || boundary.compareTo(previous) <= 0 || boundary.compareTo(HUNDRED) >= 0) {
+                throw new IllegalArgumentException(
+                        "Band boundaries must be ascending percentages greater than 0 and less than 100");
+            }
+            previous = boundary;
+        }
+    }
+
+    /**
+     * Returns the index of the band the percentage falls into; percentages outside 0 to 100
+     * fall into the first or last band.
+     */
+    private static int bandOf(BigDecimal percentage, List<BigDecimal> boundaries) {
+        int low = 0;
+        int high = boundaries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (percentage.compareTo(boundaries.get(middle)) >= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static List<PercentageBand> toBands(List<BigDecimal> boundaries) {
+        if (boundaries.isEmpty()) {
+            return List.of();
+        }
+        List<PercentageBand> bands = new ArrayList<>(boundaries.size() + 1);
+        BigDecimal from = BigDecimal.ZERO;
+        for (BigDecimal boundary : boundaries) {
+            bands.add(new PercentageBand(from, boundary));
+            from = boundary;
+        }
+        bands.add(new PercentageBand(from, HUNDRED));
+        return List.copyOf(bands);
+    }
+
+    /**
+     * Boundaries are compared with {@code equals}, so 10 and 10.0 are cached separately.
+     */
+    private record CalendarKey(LocalDate from, LocalDate to, List<BigDecimal> boundaries) {
+    }
+
+    private record CachedCalendar(DiscountCalendar calendar, long storedAt) {
+    }
+}
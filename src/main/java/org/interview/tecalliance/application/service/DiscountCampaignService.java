@@ -0,0 +1,273 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.in.DiscountCampaignUseCase;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.CampaignBatchResult;
+import org.interview.tecalliance.application.port.out.DiscountCampaignPort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.interview.tecalliance.domain.model.campaign.CampaignStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs discount campaigns in the background, one at a time.
+ * <p>
+ * A campaign walks the selected articles in batches ordered by ID. Each batch is one read of
+ * the IDs and one set-based write through the {@link DiscountCampaignPort}, followed by a
+ * pause, so that even a campaign over the whole catalog leaves room for regular traffic on
+ * the primary. The progress of the most recent campaigns is kept in memory.
+ * </p>
+ */
+@Slf4j
+@Service
+public class DiscountCampaignService implements DiscountCampaignUseCase, DisposableBean {
+
+    static final int MAX_ARTICLE_IDS = 10_000;
+
+    private final Optional<DiscountCampaignPort> campaignPort;
+    private final ArticleSearchIndexPort searchIndexPort;
+    private final ArticleCachePort articleCachePort;
+    private final int batchSize;
+    private final Duration pauseBetweenBatches;
+    private final int retainedCampaigns;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("discount-campaign").daemon().factory());
+    private final Map<String, Campaign> campaigns = new LinkedHashMap<>();
+
+    private final Counter appliedArticles;
+    private final Counter rejectedArticles;
+
+    public DiscountCampaignService(Optional<DiscountCampaignPort> campaignPort,
+                                   ArticleSearchIndexPort searchIndexPort,
+                                   ArticleCachePort articleCachePort,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${tecalliance.campaign.batch-size:500}") int batchSize,
+                                   @Value("${tecalliance.campaign.pause-between-batches:PT0.1S}") Duration pauseBetweenBatches,
+                                   @Value("${tecalliance.campaign.retained-campaigns:50}") int retainedCampaigns) {
+        if (batchSize < 1 || retainedCampaigns < 1) {
+            throw new IllegalArgumentException("Campaign batch size and retained campaigns must be positive");
+        }
+        this.campaignPort = campaignPort;
+        this.searchIndexPort = searchIndexPort;
+        this.articleCachePort = articleCachePort;
+        this.batchSize = batchSize;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.retainedCampaigns = retainedCampaigns;
+
+        this.appliedArticles = Counter.builder("articles.campaign.articles")
+                .description("Articles processed by discount campaigns")
+                .tag("outcome", "applied")
+                .register(meterRegistry);
+        this.rejectedArticles = Counter.builder("articles.campaign.articles")
+                .description("Articles processed by discount campaigns")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CampaignStatus startCampaign(Discount discount, CampaignSelector selector) {
+        DiscountCampaignPort port = campaignPort.orElseThrow(() -> new UnsupportedOperationException(
+                "Discount campaigns are not supported by the configured storage"));
+        validateCampaign(discount, selector);
+
+        Campaign campaign = new Campaign(UUID.randomUUID().toString(), discount, selector, Instant.now());
+        synchronized (campaigns) {
+            campaigns.put(campaign.id, campaign);
+            retainRecentCampaigns();
+        }
+        executor.execute(() -> run(port, campaign));
+        log.info("Campaign {} queued: {}% from {} to {}", campaign.id, discount.getDiscountPercentage(),
+                discount.getStartDate(), discount.getEndDate());
+        return campaign.status();
+    }
+
+    @Override
+    public Optional<CampaignStatus> getCampaign(String id) {
+        synchronized (campaigns) {
+            return Optional.ofNullable(campaigns.get(id)).map(Campaign::status);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void run(DiscountCampaignPort port, Campaign campaign) {
+        campaign.start();
+        String lastId = null;
+        try {
+            while (true) {
+                List<String> ids = port.findTargets(campaign.selector, lastId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                CampaignBatchResult result;
+                try {
+                    result = port.applyDiscount(ids, campaign.discount);
+                } finally {
+                    articleCachePort.evictAll();
+                }
+                result.updatedArticles().forEach(searchIndexPort::index);
+
+                long rejected = ids.size() - result.applied();
+                campaign.progress(ids.size(), result.applied(), rejected);
+                appliedArticles.increment(result.applied());
+                rejectedArticles.increment(rejected);
+
+                lastId = ids.getLast();
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                if (!pause()) {
+                    campaign.fail("Interrupted after article " + lastId);
+                    return;
+                }
+            }
+            campaign.complete();
+            CampaignStatus status = campaign.status();
+            log.info("Campaign {} completed: {} articles selected, {} applied, {} rejected",
+                    status.id(), status.selected(), status.applied(), status.rejected());
+        } catch (RuntimeException e) {
+            log.error("Campaign {} failed after article {}", campaign.id, lastId, e);
+            campaign.fail(e.getMessage());
+        }
+    }
+
+    private static void validateCampaign(Discount discount, CampaignSelector selector) {
+        validateDiscount(discount);
+        if (selector == null || selector.isEmpty()) {
+            throw new IllegalArgumentException("Campaign selector requires at least one criterion");
+        }
+        validateSelector(selector);
+    }
+
+    static void validateDiscount(Discount discount) {
+        if (discount == null || discount.getDiscountPercentage() == null
+                || discount.getStartDate() == null || discount.getEndDate() == null) {
+            throw new IllegalArgumentException("Campaign discount requires a percentage, a start date and an end date");
+        }
+        BigDecimal percentage = discount.getDiscountPercentage();
+        if (percentage.signum() <= 0 || percentage.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Discount percentage must be greater than 0 and at most 100");
+        }
+        // the storage compares it with the stored maximum discount, which is exact up to this scale
+        if (percentage.stripTrailingZeros().scale() > Article.MAX_DISCOUNT_PERCENTAGE_SCALE) {
+            throw new IllegalArgumentException("Discount percentage must have at most "
+                    + Article.MAX_DISCOUNT_PERCENTAGE_SCALE + " decimal places");
+        }
+        if (discount.getStartDate().isAfter(discount.getEndDate())) {
+            throw new IllegalArgumentException("Discount start date must not be after its end date");
+        }
+    }
+
+    static void validateSelector(CampaignSelector selector) {
+        if (selector.articleIds() != null && selector.articleIds().size() > MAX_ARTICLE_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_ARTICLE_IDS + " article IDs can be selected");
+        }
+        if (selector.minSalesPrice() != null && selector.maxSalesPrice() != null
+                && selector.minSalesPrice().compareTo(selector.maxSalesPrice()) > 0) {
+            throw new IllegalArgumentException("Minimum sales price must not be above the maximum sales price");
+        }
+    }
+
+    private void retainRecentCampaigns() {
+        Iterator<Campaign> iterator = campaigns.values().iterator();
+        while (campaigns.size() > retainedCampaigns && iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero() || pauseBetweenBatches.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches);
+            return true;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Mutable progress of a campaign, updated by the campaign thread and read by request threads.
+     */
+    private static final class Campaign {
+
+        private final String id;
+        private final Discount discount;
+        private final CampaignSelector selector;
+        private final Instant submittedAt;
+
+        private JobState state = JobState.QUEUED;
+        private long selected;
+        private long applied;
+        private long rejected;
+        private Instant startedAt;
+        private Instant finishedAt;
+        private String error;
+
+        private Campaign(String id, Discount discount, CampaignSelector selector, Instant submittedAt) {
+            this.id = id;
+            this.discount = discount;
+            this.selector = selector;
+            this.submittedAt = submittedAt;
+        }
+
+        synchronized void start() {
+            state = JobState.RUNNING;
+            startedAt = Instant.now();
+        }
+
+        synchronized void progress(long selected, long applied, long rejected) {
+            this.selected += selected;
+            this.applied += applied;
+            this.rejected += rejected;
+        }
+
+        synchronized void complete() {
+            state = JobState.COMPLETED;
+            finishedAt = Instant.now();
+        }
+
+        synchronized void fail(String error) {
+            state = JobState.FAILED;
+            finishedAt = Instant.now();
+            this.error = error;
+        }
+
+        synchronized boolean isFinished() {
+            return state == JobState.COMPLETED || state == JobState.FAILED;
+        }
+
+        synchronized CampaignStatus status() {
+            return new CampaignStatus(id, state, discount, selected, applied, rejected,
+                    submittedAt, startedAt, finishedAt, error);
+        }
+    }
+}
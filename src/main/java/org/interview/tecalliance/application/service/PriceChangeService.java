@@ -0,0 +1,119 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.in.PriceChangeUseCase;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.DiscountBoundaryPort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticlePriceChange;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the articles whose final price differs between two days without pricing the catalog twice.
+ * <p>
+ * Prices and discounts of a stored article do not depend on the day, only the discount valid
+ * on it does. A final price can therefore only differ if one of the article's discounts is
+ * valid on exactly one of the two days, that is starts after the earlier day and at the latest
+ * on the later one, or ends on the earlier day or later and before the later one. Only these
+ * candidates are read, through the {@link DiscountBoundaryPort} where the storage indexes the
+ * discount dates, and priced on both days; candidates whose price ends up the same, such as
+ * one discount followed by another with the same percentage, are left out.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PriceChangeService implements PriceChangeUseCase {
+
+    private final Optional<DiscountBoundaryPort> boundaryPort;
+    private final ArticlePersistencePort persistencePort;
+    private final Timer lookups;
+
+    public PriceChangeService(Optional<DiscountBoundaryPort> boundaryPort,
+                              ArticlePersistencePort persistencePort,
+                              MeterRegistry meterRegistry) {
+        this.boundaryPort = boundaryPort;
+        this.persistencePort = persistencePort;
+        this.lookups = Timer.builder("articles.price.changes")
+                .description("Duration of finding the articles whose price differs between two days")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<ArticlePriceChange> getPriceChanges(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates are required");
+        }
+        if (from.equals(to)) {
+            return List.of();
+        }
+        LocalDate earlier = from.isBefore(to) ? from : to;
+        LocalDate later = from.isBefore(to) ? to : from;
+
+        return lookups.record(() -> {
+            List<Article> candidates = findCandidates(earlier, later);
+            List<ArticlePriceChange> changes = candidates.stream()
+                    .map(article -> toPriceChange(article, from, to))
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(ArticlePriceChange::articleId))
+                    .toList();
+            log.debug("{} of {} candidate articles change their price from {} to {}", changes.size(),
+                    candidates.size(), from, to);
+            return changes;
+        });
+    }
+
+    private List<Article> findCandidates(LocalDate earlier, LocalDate later) {
+        return boundaryPort
+                .map(port -> port.findWithDiscountBoundaryBetween(earlier, later))
+                .orElseGet(() -> persistencePort.findAllWithDiscountsValidFrom(earlier).stream()
+                        .filter(article -> hasDiscountBoundaryBetween(article, earlier, later))
+                        .toList());
+    }
+
+    /**
+     * Checks the article like {@link DiscountBoundaryPort#findWithDiscountBoundaryBetween} does
+     * in the storage, for storages without that port.
+     */
+    static boolean hasDiscountBoundaryBetween(Article article, LocalDate earlier, LocalDate later) {
+        if (article.getDiscounts() == null) {
+            return false;
+        }
+        for (Discount discount : article.getDiscounts()) {
+            LocalDate start = discount.getStartDate();
+            LocalDate end = discount.getEndDate();
+            if ((start != null && start.isAfter(earlier) && !start.isAfter(later))
+                    || (end != null && !end.isBefore(earlier) && end.isBefore(later))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<ArticlePriceChange> toPriceChange(Article article, LocalDate from, LocalDate to) {
+        ArticleWithPrice before = ArticlePricer.price(article, from);
+        ArticleWithPrice after = ArticlePricer.price(article, to);
+        if (isSamePrice(before.getFinalPrice(), after.getFinalPrice())) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArticlePriceChange(article.getId(), article.getName(),
+                before.getFinalPrice(), after.getFinalPrice(), before.getAppliedDiscount(), after.getAppliedDiscount()));
+    }
+
+    private static boolean isSamePrice(BigDecimal oldPrice, BigDecimal newPrice) {
+        if (oldPrice == null || newPrice == null) {
+            return oldPrice == newPrice;
+        }
+        return oldPrice.compareTo(newPrice) == 0;
+    }
+}
@@ -0,0 +1,99 @@
+package org.interview.tecalliance.application.service;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable histogram of prices in cents for approximate percentiles (log-linear buckets, as
+ * in HDR histograms).
+ * <p>
+ * Prices below {@value #SUB_BUCKETS} cents have a bucket of their own. Above, every power of
+ * two is split into {@value #HALF} buckets of equal width, so a bucket is at most 1/{@value #HALF}
+ * of its lower bound wide and a percentile is off by at most half of that, about 0.1%. The
+ * buckets are counted in one array that only grows up to the highest price added, a few
+ * thousand entries for common prices. Two histograms are merged by adding their counts, so
+ * parts of a list can be counted independently and in any order.
+ * </p>
+ * <p>
+ * Not thread-safe; each part is counted on one thread and merged afterwards.
+ * </p>
+ */
+final class PriceHistogram {
+
+    private static final int SUB_BUCKET_BITS = 10;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int HALF = SUB_BUCKETS >>> 1;
+
+    private long[] counts = new long[SUB_BUCKETS];
+    private long count;
+
+    /**
+     * Counts the price; negative prices are counted as 0.
+     */
+    void add(long cents) {
+        int index = indexOf(Math.max(0, cents));
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + HALF));
+        }
+        counts[index]++;
+        count++;
+    }
+
+    /**
+     * Adds the counts of the other histogram to this one and returns this one.
+     */
+    PriceHistogram merge(PriceHistogram other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        return this;
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Returns the price in cents at the percentile by the nearest-rank method, as the middle of
+     * its bucket, or -1 if the histogram is empty.
+     *
+     * @param percentile between 0 and 100
+     */
+    long valueAt(double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long rank = Math.min(count, Math.max(1, (long) Math.ceil(percentile / 100 * count)));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return lowerBound(i) + (width(i) - 1) / 2;
+            }
+        }
+        throw new IllegalStateException("Histogram counts do not add up to " + count);
+    }
+
+    static int indexOf(long cents) {
+        if (cents < SUB_BUCKETS) {
+            return (int) cents;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(cents) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift - 1) * HALF + (int) (cents >>> shift) - HALF;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int bucket = index - SUB_BUCKETS;
+        return (long) (bucket % HALF + HALF) << (bucket / HALF + 1);
+    }
+
+    private static long width(int index) {
+        return index < SUB_BUCKETS ? 1 : 1L << ((index - SUB_BUCKETS) / HALF + 1);
+    }
+}
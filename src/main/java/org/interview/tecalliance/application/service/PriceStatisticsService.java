@@ -0,0 +1,160 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.in.PriceStatisticsUseCase;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.domain.model.analytics.PricePercentile;
+import org.interview.tecalliance.domain.model.analytics.PriceStatistics;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarizes the final prices of the catalog on a day in one pass, without keeping a priced list.
+ * <p>
+ * The catalog is read like for the priced article list and reduced by the {@link ArticlePricer}
+ * in chunks, in parallel for large catalogs. Each chunk is summarized into exact minimum,
+ * maximum and totals plus a {@link PriceHistogram} for the percentiles; the summaries are
+ * merged left to right.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PriceStatisticsService implements PriceStatisticsUseCase {
+
+    static final List<BigDecimal> DEFAULT_PERCENTILES = List.of(
+            BigDecimal.valueOf(50), BigDecimal.valueOf(90), BigDecimal.valueOf(95), BigDecimal.valueOf(99));
+    static final int MAX_PERCENTILES = 20;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int PRICE_SCALE = 2;
+
+    private final ArticlePersistencePort persistencePort;
+    private final ArticlePricer articlePricer;
+    private final Timer calculations;
+
+    public PriceStatisticsService(ArticlePersistencePort persistencePort,
+                                  ArticlePricer articlePricer,
+                                  MeterRegistry meterRegistry) {
+        this.persistencePort = persistencePort;
+        this.articlePricer = articlePricer;
+        this.calculations = Timer.builder("articles.analytics.price.statistics")
+                .description("Duration of calculating the price distribution of the catalog")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PriceStatistics getPriceStatistics(LocalDate date, List<BigDecimal> percentiles) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date parameter is required to calculate price statistics");
+        }
+        List<BigDecimal> requested = percentiles == null || percentiles.isEmpty() ? DEFAULT_PERCENTILES : percentiles;
+        validatePercentiles(requested);
+
+        long started = System.nanoTime();
+        List<Article> catalog = persistencePort.findAllWithDiscountsValidFrom(date);
+        Summary summary = articlePricer.aggregate(catalog, chunk -> Summary.of(chunk, date), Summary::merge);
+        long took = System.nanoTime() - started;
+        calculations.record(took, TimeUnit.NANOSECONDS);
+
+        log.debug("Summarized the prices of {} articles on {} in {} ms", summary.articles, date,
+                TimeUnit.NANOSECONDS.toMillis(took));
+        return summary.toStatistics(date, requested, TimeUnit.NANOSECONDS.toMillis(took));
+    }
+
+    private static void validatePercentiles(List<BigDecimal> percentiles) {
+        if (percentiles.size() > MAX_PERCENTILES) {
+            throw new IllegalArgumentException("At most " + MAX_PERCENTILES + " percentiles can be requested");
+        }
+        for (BigDecimal percentile : percentiles) {
+            if (percentile == null || percentile.signum() < 0 || percentile.compareTo(HUNDRED) > 0) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+        }
+    }
+
+    /**
+     * Figures of one part of the catalog; merged with the summary of the part to its right.
+     */
+    private static final class Summary {
+
+        private long articles;
+        private long priced;
+        private long discounted;
+        private BigDecimal min;
+        private BigDecimal max;
+        private BigDecimal total = BigDecimal.ZERO;
+        private BigDecimal totalDiscount = BigDecimal.ZERO;
+        private final PriceHistogram histogram = new PriceHistogram();
+
+        static Summary of(List<Article> articles, LocalDate date) {
+            Summary summary = new Summary();
+            for (Article article : articles) {
+                summary.add(article, date);
+            }
+            return summary;
+        }
+
+        void add(Article article, LocalDate date) {
+            articles++;
+            BigDecimal price = article.calculateDiscountedPrice(date);
+            if (price == null) {
+                return;
+            }
+            priced++;
+            min = min == null || price.compareTo(min) < 0 ? price : min;
+            max = max == null || price.compareTo(max) > 0 ? price : max;
+            total = total.add(price);
+            BigDecimal discount = article.getSalesPrice().subtract(price);
+            if (discount.signum() > 0) {
+                discounted++;
+                totalDiscount = totalDiscount.add(discount);
+            }
+            histogram.add(price.movePointRight(PRICE_SCALE).setScale(0, RoundingMode.HALF_UP).longValue());
+        }
+
+        Summary merge(Summary right) {
+            articles += right.articles;
+            priced += right.priced;
+            discounted += right.discounted;
+            min = min == null || (right.min != null && right.min.compareTo(min) < 0) ? right.min : min;
+            max = max == null || (right.max != null && right.max.compareTo(max) > 0) ? right.max : max;
+            total = total.add(right.total);
+            totalDiscount = totalDiscount.add(right.totalDiscount);
+            histogram.merge(right.histogram);
+            return this;
+        }
+
+        PriceStatistics toStatistics(LocalDate date, List<BigDecimal> percentiles, long durationMillis) {
+            List<PricePercentile> prices = percentiles.stream()
+                    .map(percentile -> new PricePercentile(percentile, percentile(percentile)))
+                    .toList();
+            BigDecimal mean = priced == 0 ? null
+                    : total.divide(BigDecimal.valueOf(priced), PRICE_SCALE, RoundingMode.HALF_UP);
+            return new PriceStatistics(date, articles, priced, discounted, min, max, mean, prices,
+                    total, totalDiscount, durationMillis);
+        }
+
+        /**
+         * The histogram value, kept within the exact minimum and maximum.
+         */
+        private BigDecimal percentile(BigDecimal percentile) {
+            long cents = histogram.valueAt(percentile.doubleValue());
+            if (cents < 0) {
+                return null;
+            }
+            BigDecimal price = BigDecimal.valueOf(cents, PRICE_SCALE);
+            if (price.compareTo(min) < 0) {
+                return min;
+            }
+            return price.compareTo(max) > 0 ? max : price;
+        }
+    }
+}
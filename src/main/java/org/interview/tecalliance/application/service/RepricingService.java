@@ -0,0 +1,493 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.interview.tecalliance.application.port.in.RepricingUseCase;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.RepricingCheckpoint;
+import org.interview.tecalliance.application.port.out.RepricingPort;
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.repricing.PriceAdjustment;
+import org.interview.tecalliance.domain.model.repricing.RepricingBatch;
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+import org.interview.tecalliance.domain.model.repricing.RepricingStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Changes the VAT ratio, and optionally the sales price, of many articles in the background.
+ * <p>
+ * A job waits for its effective time and then walks the target articles in batches ordered by
+ * ID. For each batch the new prices are computed and the discounts revalidated with
+ * {@link ArticleService#validateArticle(Article)}. An article whose discounts the adjusted sales
+ * price would invalidate gets the new VAT ratio with its sales price kept, and is reported as
+ * changed only in part. Then all valid articles are written in one bulk write conditioned on
+ * their version. Articles modified concurrently are read again and retried a few times. After
+ * every batch the job state is checkpointed, so a failed or interrupted job, also one
+ * interrupted by a restart, resumes after the last finished batch. Because changed articles
+ * have the new VAT ratio and are no longer targets, repeating a batch never changes an article
+ * twice.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RepricingService implements RepricingUseCase, DisposableBean {
+
+    static final int MAX_REPORTED_ARTICLE_IDS = 100;
+    static final int RECENT_BATCHES = 20;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final Optional<RepricingPort> repricingPort;
+    private final ArticleSearchIndexPort searchIndexPort;
+    private final ArticleCachePort articleCachePort;
+    private final int batchSize;
+    private final Duration pauseBetweenBatches;
+    private final int retainedJobs;
+    private final boolean resumeOnStartup;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("article-repricing").daemon().factory());
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    private final Counter repricedArticles;
+    private final Counter rejectedArticles;
+    private final Counter conflictingArticles;
+    private final Timer batches;
+
+    public RepricingService(Optional<RepricingPort> repricingPort,
+                            ArticleSearchIndexPort searchIndexPort,
+                            ArticleCachePort articleCachePort,
+                            MeterRegistry meterRegistry,
+                            @Value("${tecalliance.repricing.batch-size:1000}") int batchSize,
+                            @Value("${tecalliance.repricing.pause-between-batches:PT0.1S}") Duration pauseBetweenBatches,
+                            @Value("${tecalliance.repricing.retained-jobs:20}") int retainedJobs,
+                            @Value("${tecalliance.repricing.resume-on-startup:true}") boolean resumeOnStartup) {
+        if (batchSize < 1 || retainedJobs < 1) {
+            throw new IllegalArgumentException("Repricing batch size and retained jobs must be positive");
+        }
+        this.repricingPort = repricingPort;
+        this.searchIndexPort = searchIndexPort;
+        this.articleCachePort = articleCachePort;
+        this.batchSize = batchSize;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.retainedJobs = retainedJobs;
+        this.resumeOnStartup = resumeOnStartup;
+
+        this.repricedArticles = Counter.builder("articles.repricing.articles")
+                .description("Articles processed by repricing jobs")
+                .tag("outcome", "repriced")
+                .register(meterRegistry);
+        this.rejectedArticles = Counter.builder("articles.repricing.articles")
+                .description("Articles processed by repricing jobs")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.conflictingArticles = Counter.builder("articles.repricing.articles")
+                .description("Articles processed by repricing jobs")
+                .tag("outcome", "conflict")
+                .register(meterRegistry);
+        this.batches = Timer.builder("articles.repricing.batches")
+                .description("Duration of repricing batches")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        if (!resumeOnStartup || repricingPort.isEmpty()) {
+            return;
+        }
+        RepricingPort port = repricingPort.get();
+        for (RepricingCheckpoint checkpoint : port.findUnfinishedCheckpoints()) {
+            Job job = Job.from(checkpoint);
+            register(job);
+            schedule(port, job);
+            log.info("Resuming repricing job {} after article {}", job.id, checkpoint.lastArticleId());
+        }
+    }
+
+    @Override
+    public RepricingStatus startRepricing(RepricingRequest request) {
+        RepricingPort port = repricingPort.orElseThrow(() -> new UnsupportedOperationException(
+                "Repricing is not supported by the configured storage"));
+        validateRequest(request);
+
+        Job job = new Job(UUID.randomUUID().toString(), request, Instant.now());
+        port.saveCheckpoint(job.checkpoint());
+        register(job);
+        schedule(port, job);
+        log.info("Repricing job {} queued: VAT ratio {} to {} at {}", job.id, request.currentVatRatio(),
+                request.newVatRatio(), request.effectiveAt() != null ? request.effectiveAt() : "now");
+        return job.status();
+    }
+
+    @Override
+    public Optional<RepricingStatus> resumeRepricing(String id) {
+        RepricingPort port = repricingPort.orElseThrow(() -> new UnsupportedOperationException(
+                "Repricing is not supported by the configured storage"));
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (!job.requeue()) {
+            throw new IllegalArgumentException("Only failed repricing jobs can be resumed");
+        }
+        port.saveCheckpoint(job.checkpoint());
+        schedule(port, job);
+        log.info("Repricing job {} queued again after article {}", id, job.checkpoint().lastArticleId());
+        return Optional.of(job.status());
+    }
+
+    @Override
+    public Optional<RepricingStatus> getRepricing(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id)).map(Job::status);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void register(Job job) {
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+            Iterator<Job> iterator = jobs.values().iterator();
+            while (jobs.size() > retainedJobs && iterator.hasNext()) {
+                if (iterator.next().isFinished()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void schedule(RepricingPort port, Job job) {
+        Instant effectiveAt = job.request.effectiveAt();
+        long delay = effectiveAt == null ? 0 : Math.max(0, Duration.between(Instant.now(), effectiveAt).toMillis());
+        executor.schedule(() -> run(port, job), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(RepricingPort port, Job job) {
+        RepricingRequest request = job.request;
+        String lastId = job.start();
+        try {
+            port.saveCheckpoint(job.checkpoint());
+            int number = 0;
+            while (true) {
+                long started = System.nanoTime();
+                List<Article> articles = port.findTargets(request.currentVatRatio(), request.newVatRatio(),
+                        lastId, batchSize);
+                if (articles.isEmpty()) {
+                    break;
+                }
+                BatchOutcome outcome = reprice(port, request, articles);
+                lastId = articles.getLast().getId();
+
+                long took = System.nanoTime() - started;
+                RepricingBatch batch = new RepricingBatch(++number, articles.size(), outcome.repriced(),
+                        outcome.vatOnlyIds().size(), outcome.rejectedIds().size(), outcome.conflicts(),
+                        TimeUnit.NANOSECONDS.toMillis(took), perSecond(articles.size(), Duration.ofNanos(took)));
+                job.progress(batch, lastId, outcome.vatOnlyIds(), outcome.rejectedIds());
+                port.saveCheckpoint(job.checkpoint());
+
+                batches.record(took, TimeUnit.NANOSECONDS);
+                repricedArticles.increment(batch.repriced());
+                rejectedArticles.increment(batch.rejected());
+                conflictingArticles.increment(batch.conflicts());
+                log.debug("Repricing job {} batch {}: {} articles, {} repriced ({} VAT only), {} rejected, "
+                                + "{} conflicts in {} ms", job.id, batch.number(), batch.articles(), batch.repriced(),
+                        batch.vatOnly(), batch.rejected(), batch.conflicts(), batch.durationMillis());
+
+                if (articles.size() < batchSize) {
+                    break;
+                }
+                if (!pause()) {
+                    job.fail("Interrupted after article " + lastId);
+                    saveFinalCheckpoint(port, job);
+                    return;
+                }
+            }
+            job.complete();
+            saveFinalCheckpoint(port, job);
+            RepricingStatus status = job.status();
+            log.info("Repricing job {} completed: {} articles, {} repriced ({} VAT only), {} rejected, {} conflicts, "
+                            + "{} articles/s", status.id(), status.processed(), status.repriced(), status.vatOnly(),
+                    status.rejected(), status.conflicts(), Math.round(status.articlesPerSecond()));
+        } catch (RuntimeException e) {
+            log.error("Repricing job {} failed after article {}", job.id, lastId, e);
+            job.fail(e.getMessage());
+            saveFinalCheckpoint(port, job);
+        }
+    }
+
+    /**
+     * Applies the change to a batch and writes the valid articles, retrying those modified
+     * concurrently with their current state.
+     */
+    private BatchOutcome reprice(RepricingPort port, RepricingRequest request, List<Article> articles) {
+        List<String> vatOnlyIds = new ArrayList<>();
+        List<String> rejectedIds = new ArrayList<>();
+        long repriced = 0;
+        List<Article> pending = articles;
+        for (int attempt = 1; ; attempt++) {
+            List<Article> valid = new ArrayList<>(pending.size());
+            Set<String> vatOnly = new HashSet<>();
+            for (Article article : pending) {
+                switch (applyChange(article, request)) {
+                    case COMPLETE -> valid.add(article);
+                    case VAT_ONLY -> {
+                        valid.add(article);
+                        vatOnly.add(article.getId());
+                    }
+                    case REJECTED -> rejectedIds.add(article.getId());
+                }
+            }
+            if (valid.isEmpty()) {
+                return new BatchOutcome(repriced, vatOnlyIds, rejectedIds, 0);
+            }
+
+            long written;
+            try {
+                written = port.updatePrices(valid);
+            } finally {
+                valid.forEach(article -> articleCachePort.evict(article.getId()));
+            }
+            repriced += written;
+            List<Article> conflicting = written == valid.size() ? List.of() : port.findTargets(
+                    request.currentVatRatio(), request.newVatRatio(), valid.stream().map(Article::getId).toList());
+            Set<String> conflictingIds = conflicting.stream().map(Article::getId).collect(Collectors.toSet());
+            for (Article article : valid) {
+                if (!conflictingIds.contains(article.getId())) {
+                    article.setVersion(article.getVersion() != null ? article.getVersion() + 1 : 1L);
+                    searchIndexPort.index(article);
+                    if (vatOnly.contains(article.getId())) {
+                        vatOnlyIds.add(article.getId());
+                    }
+                }
+            }
+
+            if (conflicting.isEmpty() || attempt == MAX_ATTEMPTS) {
+                return new BatchOutcome(repriced, vatOnlyIds, rejectedIds, conflicting.size());
+            }
+            pending = conflicting;
+        }
+    }
+
+    /**
+     * Sets the new VAT ratio and sales price. If the adjusted sales price makes the article
+     * invalid, the sales price is restored and only the VAT ratio is changed.
+     */
+    private static Change applyChange(Article article, RepricingRequest request) {
+        article.setVatRatio(request.newVatRatio());
+        PriceAdjustment adjustment = request.salesPriceAdjustment();
+        BigDecimal salesPrice = article.getSalesPrice();
+        if (adjustment != null && salesPrice != null) {
+            article.setSalesPrice(adjustment.apply(salesPrice));
+            if (isValid(article)) {
+                return Change.COMPLETE;
+            }
+            article.setSalesPrice(salesPrice);
+            return isValid(article) ? Change.VAT_ONLY : Change.REJECTED;
+        }
+        return isValid(article) ? Change.COMPLETE : Change.REJECTED;
+    }
+
+    private static boolean isValid(Article article) {
+        try {
+            ArticleService.validateArticle(article);
+            return true;
+        } catch (IllegalArgumentException _) {
+            return false;
+        }
+    }
+
+    private static void validateRequest(RepricingRequest request) {
+        if (request == null || request.newVatRatio() == null) {
+            throw new IllegalArgumentException("Repricing requires a new VAT ratio");
+        }
+        if (request.newVatRatio().signum() < 0 || request.newVatRatio().compareTo(BigDecimal.ONE) >= 0) {
+            throw new IllegalArgumentException("VAT ratio must be at least 0 and less than 1");
+        }
+        if (request.currentVatRatio() != null && request.currentVatRatio().compareTo(request.newVatRatio()) == 0) {
+            throw new IllegalArgumentException("New VAT ratio must differ from the current VAT ratio");
+        }
+        if (request.salesPriceAdjustment() != null && !request.salesPriceAdjustment().isValid()) {
+            throw new IllegalArgumentException(
+                    "Sales price adjustment requires a type and a value that keeps prices positive");
+        }
+    }
+
+    private void saveFinalCheckpoint(RepricingPort port, Job job) {
+        try {
+            port.saveCheckpoint(job.checkpoint());
+        } catch (RuntimeException e) {
+            log.warn("Could not checkpoint repricing job {}: {}", job.id, e.getMessage());
+        }
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero() || pauseBetweenBatches.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches);
+            return true;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static double perSecond(long articles, Duration duration) {
+        return articles * 1_000_000_000.0 / Math.max(duration.toNanos(), 1);
+    }
+
+    private enum Change {
+        COMPLETE,
+        VAT_ONLY,
+        REJECTED
+    }
+
+    private record BatchOutcome(long repriced, List<String> vatOnlyIds, List<String> rejectedIds, long conflicts) {
+    }
+
+    /**
+     * Mutable progress of a job, updated by the repricing thread and read by request threads.
+     */
+    private static final class Job {
+
+        private final String id;
+        private final RepricingRequest request;
+        private final Instant submittedAt;
+
+        private JobState state = JobState.QUEUED;
+        private String lastArticleId;
+        private long processed;
+        private long repriced;
+        private long vatOnly;
+        private long rejected;
+        private long conflicts;
+        private long processedSinceStart;
+        private final Deque<RepricingBatch> recentBatches = new ArrayDeque<>();
+        private final List<String> vatOnlyArticleIds = new ArrayList<>();
+        private final List<String> rejectedArticleIds = new ArrayList<>();
+        private Instant startedAt;
+        private Instant finishedAt;
+        private String error;
+
+        private Job(String id, RepricingRequest request, Instant submittedAt) {
+            this.id = id;
+            this.request = request;
+            this.submittedAt = submittedAt;
+        }
+
+        static Job from(RepricingCheckpoint checkpoint) {
+            Job job = new Job(checkpoint.jobId(), checkpoint.request(), checkpoint.submittedAt());
+            job.lastArticleId = checkpoint.lastArticleId();
+            job.processed = checkpoint.processed();
+            job.repriced = checkpoint.repriced();
+            job.vatOnly = checkpoint.vatOnly();
+            job.rejected = checkpoint.rejected();
+            job.conflicts = checkpoint.conflicts();
+            return job;
+        }
+
+        /**
+         * Marks the job running and returns the article after which it continues.
+         */
+        synchronized String start() {
+            state = JobState.RUNNING;
+            startedAt = Instant.now();
+            processedSinceStart = 0;
+            return lastArticleId;
+        }
+
+        synchronized void progress(RepricingBatch batch, String lastArticleId, List<String> vatOnlyIds,
+                                   List<String> rejectedIds) {
+            this.lastArticleId = lastArticleId;
+            processed += batch.articles();
+            processedSinceStart += batch.articles();
+            repriced += batch.repriced();
+            vatOnly += batch.vatOnly();
+            rejected += batch.rejected();
+            conflicts += batch.conflicts();
+            recentBatches.addLast(batch);
+            if (recentBatches.size() > RECENT_BATCHES) {
+                recentBatches.removeFirst();
+            }
+            vatOnlyIds.stream()
+                    .limit(MAX_REPORTED_ARTICLE_IDS - vatOnlyArticleIds.size())
+                    .forEach(vatOnlyArticleIds::add);
+            rejectedIds.stream()
+                    .limit(MAX_REPORTED_ARTICLE_IDS - rejectedArticleIds.size())
+                    .forEach(rejectedArticleIds::add);
+        }
+
+        synchronized void complete() {
+            state = JobState.COMPLETED;
+            finishedAt = Instant.now();
+        }
+
+        synchronized void fail(String error) {
+            state = JobState.FAILED;
+            finishedAt = Instant.now();
+            this.error = error;
+        }
+
+        synchronized boolean requeue() {
+            if (state != JobState.FAILED) {
+                return false;
+            }
+            state = JobState.QUEUED;
+            finishedAt = null;
+            error = null;
+            return true;
+        }
+
+        synchronized boolean isFinished() {
+            return state == JobState.COMPLETED || state == JobState.FAILED;
+        }
+
+        synchronized RepricingCheckpoint checkpoint() {
+            return new RepricingCheckpoint(id, request, state, lastArticleId, processed, repriced, vatOnly,
+                    rejected, conflicts, submittedAt, error);
+        }
+
+        synchronized RepricingStatus status() {
+            double articlesPerSecond = startedAt == null ? 0 : perSecond(processedSinceStart,
+                    Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()));
+            return new RepricingStatus(id, state, request, processed, repriced, vatOnly, rejected, conflicts,
+                    articlesPerSecond, List.copyOf(recentBatches), List.copyOf(vatOnlyArticleIds),
+                    List.copyOf(rejectedArticleIds),
+                    submittedAt, startedAt, finishedAt, error);
+        }
+    }
+}
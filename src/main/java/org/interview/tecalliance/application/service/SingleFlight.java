@@ -0,0 +1,90 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight computation between concurrent callers asking for the same key.
+ * <p>
+ * The first caller of a key computes the value on its own thread; callers arriving while it
+ * runs wait for and receive the same value or exception. As soon as the computation
+ * finishes the key is released, so nothing is cached. Waiting uses
+ * {@link CompletableFuture#join()} and no monitors, so it works for platform threads as well
+ * as for virtual threads, which are unmounted while waiting.
+ * </p>
+ *
+ * @param <K> the key type, compared with {@code equals}
+ * @param <V> the value type; values are shared and must not be modified by callers
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter shared;
+
+    SingleFlight(String query, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("articles.read.coalescing.calls")
+                .description("Read calls, by whether they ran the query or shared a concurrent one")
+                .tag("query", query)
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.shared = Counter.builder("articles.read.coalescing.calls")
+                .description("Read calls, by whether they ran the query or shared a concurrent one")
+                .tag("query", query)
+                .tag("outcome", "shared")
+                .register(meterRegistry);
+    }
+
+    V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            shared.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = computation.get();
+            inFlight.remove(key, own);
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the key, so callers arriving from now on start a new computation instead of
+     * joining one that may have read data from before a write.
+     */
+    void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    void forgetAll() {
+        inFlight.clear();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
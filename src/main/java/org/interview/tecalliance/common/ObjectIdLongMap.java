@@ -0,0 +1,190 @@
+package org.interview.tecalliance.common;
+
+import org.bson.types.ObjectId;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from {@link ObjectId} to a positive {@code long}.
+ * <p>
+ * Open addressing with linear probing over primitive arrays: an ID is stored as its 12 bytes
+ * split into a {@code long} and an {@code int}, so the map holds no object per entry. Removal
+ * shifts the following entries of the probe sequence back instead of leaving tombstones, so
+ * lookups never slow down after many deletions. Value 0 marks a free slot, so values must be
+ * positive.
+ * </p>
+ * <p>
+ * Not thread-safe; its owner guards it with a lock.
+ * </p>
+ */
+public class ObjectIdLongMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final double MAX_LOAD = 0.7;
+
+    private long[] keyHigh;
+    private int[] keyLow;
+    private long[] values;
+    private int size;
+
+    public ObjectIdLongMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of the ID, or -1 if the ID is not mapped.
+     */
+    public long get(ObjectId id) {
+        byte[] bytes = id.toByteArray();
+        long high = high(bytes);
+        int low = low(bytes);
+        int mask = values.length - 1;
+        for (int slot = slot(high, low, mask); values[slot] != 0; slot = (slot + 1) & mask) {
+            if (keyHigh[slot] == high && keyLow[slot] == low) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Maps the ID to the value and returns its previous value, or -1 if it was not mapped.
+     */
+    public long put(ObjectId id, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Value must be positive: " + value);
+        }
+        if (size + 1 > values.length * MAX_LOAD) {
+            resize(values.length * 2);
+        }
+        byte[] bytes = id.toByteArray();
+        return insert(high(bytes), low(bytes), value);
+    }
+
+    /**
+     * Removes the ID and returns its value, or -1 if it was not mapped.
+     */
+    public long remove(ObjectId id) {
+        byte[] bytes = id.toByteArray();
+        long high = high(bytes);
+        int low = low(bytes);
+        int mask = values.length - 1;
+        int slot = slot(high, low, mask);
+        while (values[slot] != 0) {
+            if (keyHigh[slot] == high && keyLow[slot] == low) {
+                long removed = values[slot];
+                shiftBack(slot, mask);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns all values in ascending order.
+     */
+    public long[] sortedValues() {
+        long[] result = new long[size];
+        int i = 0;
+        for (long value : values) {
+            if (value != 0) {
+                result[i++] = value;
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private long insert(long high, int low, long value) {
+        int mask = values.length - 1;
+        int slot = slot(high, low, mask);
+        while (values[slot] != 0) {
+            if (keyHigh[slot] == high && keyLow[slot] == low) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keyHigh[slot] = high;
+        keyLow[slot] = low;
+        values[slot] = value;
+        size++;
+        return -1;
+    }
+
+    /**
+     * Backward-shift deletion: moves later entries of the cluster into the freed slot when
+     * their home slot does not lie between the freed slot and their current slot.
+     */
+    private void shiftBack(int freed, int mask) {
+        int slot = freed;
+        while (true) {
+            values[freed] = 0;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (values[slot] == 0) {
+                    return;
+                }
+                int home = slot(keyHigh[slot], keyLow[slot], mask);
+                boolean stays = freed <= slot ? freed < home && home <= slot : freed < home || home <= slot;
+                if (!stays) {
+                    break;
+                }
+            }
+            keyHigh[freed] = keyHigh[slot];
+            keyLow[freed] = keyLow[slot];
+            values[freed] = values[slot];
+            freed = slot;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldHigh = keyHigh;
+        int[] oldLow = keyLow;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != 0) {
+                insert(oldHigh[i], oldLow[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keyHigh = new long[capacity];
+        keyLow = new int[capacity];
+        values = new long[capacity];
+        size = 0;
+    }
+
+    private static int slot(long high, int low, int mask) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low * 0xC2B2AE3D27D4EB4FL;
+        hash ^= hash >>> 32;
+        hash *= 0xD6E8FEB86659FD93L;
+        hash ^= hash >>> 29;
+        return (int) hash & mask;
+    }
+
+    private static long high(byte[] bytes) {
+        long high = 0;
+        for (int i = 0; i < 8; i++) {
+            high = high << 8 | (bytes[i] & 0xFF);
+        }
+        return high;
+    }
+
+    private static int low(byte[] bytes) {
+        return (bytes[8] & 0xFF) << 24 | (bytes[9] & 0xFF) << 16 | (bytes[10] & 0xFF) << 8 | bytes[11] & 0xFF;
+    }
+}
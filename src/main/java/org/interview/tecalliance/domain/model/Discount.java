@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 @Data
@@ -34,4 +35,17 @@ public class Discount {
     public boolean isValidOn(LocalDate date) {
         return !date.isBefore(startDate) && !date.isAfter(endDate);
     }
+
+    /**
+     * Returns the price reduced by this discount; the discount amount is rounded half up to cents.
+     */
+    public BigDecimal applyTo(BigDecimal price) {
+        BigDecimal discountAmount = price.multiply(discountPercentage)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return price.subtract(discountAmount);
+    }
+
+    public Discount copy() {
+        return new Discount(id, description, discountPercentage, startDate, endDate);
+    }
 }
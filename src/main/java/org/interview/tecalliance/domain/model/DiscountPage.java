@@ -0,0 +1,21 @@
+package org.interview.tecalliance.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * One page of an article's discounts.
+ *
+ * @param discounts the discounts of this page, ordered by start date
+ * @param nextCursor opaque cursor for the next page, or null if this is the last page
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Page of discounts of an article")
+public record DiscountPage(
+        @Schema(description = "Discounts of this page, ordered by start date")
+        List<Discount> discounts,
+        @Schema(description = "Cursor to request the next page, absent on the last page", example = "bzoyMA")
+        String nextCursor) {
+}
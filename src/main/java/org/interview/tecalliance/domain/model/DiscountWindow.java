@@ -0,0 +1,27 @@
+package org.interview.tecalliance.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Date window used to select discounts by their validity period.
+ * <p>
+ * A discount belongs to the window if its validity period intersects it. Both bounds are
+ * inclusive and optional; a missing bound leaves that side of the window open.
+ * </p>
+ *
+ * @param from first day of the window, or null for no lower bound
+ * @param to last day of the window, or null for no upper bound
+ */
+public record DiscountWindow(LocalDate from, LocalDate to) {
+
+    public DiscountWindow {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Discount window start must not be after its end");
+        }
+    }
+
+    public boolean intersects(Discount discount) {
+        return (to == null || discount.getStartDate() == null || !discount.getStartDate().isAfter(to))
+                && (from == null || discount.getEndDate() == null || !discount.getEndDate().isBefore(from));
+    }
+}
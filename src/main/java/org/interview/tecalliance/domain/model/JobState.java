@@ -0,0 +1,27 @@
+package org.interview.tecalliance.domain.model;
+
+/**
+ * Lifecycle of a background job started through the API.
+ */
+public enum JobState {
+
+    /**
+     * Accepted, waiting for the jobs started before it.
+     */
+    QUEUED,
+
+    /**
+     * Being processed.
+     */
+    RUNNING,
+
+    /**
+     * Finished successfully.
+     */
+    COMPLETED,
+
+    /**
+     * Stopped early; the work done until then is kept.
+     */
+    FAILED
+}
@@ -0,0 +1,17 @@
+package org.interview.tecalliance.domain.model;
+
+/**
+ * Supported modes for searching articles by name and slogan.
+ */
+public enum SearchMode {
+
+    /**
+     * Autocomplete style matching of words (or whole names/slogans) starting with the query.
+     */
+    PREFIX,
+
+    /**
+     * Relevance ranked full-text matching of the query terms.
+     */
+    FULL_TEXT
+}
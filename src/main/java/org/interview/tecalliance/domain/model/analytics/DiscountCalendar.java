@@ -0,0 +1,24 @@
+package org.interview.tecalliance.domain.model.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Number of discounted articles for every day of a date range.
+ *
+ * @param from the first day
+ * @param to the last day
+ * @param bands the percentage bands the counts are broken down by, empty if not requested
+ * @param days one entry per day from the first to the last
+ */
+@Schema(description = "Number of discounted articles for every day of a date range")
+public record DiscountCalendar(
+        @Schema(description = "First day", example = "2026-07-01")
+        LocalDate from,
+        @Schema(description = "Last day", example = "2026-09-30")
+        LocalDate to,
+        List<PercentageBand> bands,
+        List<DiscountCalendarDay> days) {
+}
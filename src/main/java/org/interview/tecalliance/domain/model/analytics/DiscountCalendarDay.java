@@ -0,0 +1,23 @@
+package org.interview.tecalliance.domain.model.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Number of articles with an active discount on one day.
+ *
+ * @param date the day
+ * @param discounted the articles with a discount valid on the day
+ * @param byBand the same articles per percentage band, in the order of the calendar's bands
+ */
+@Schema(description = "Number of articles with an active discount on one day")
+public record DiscountCalendarDay(
+        @Schema(description = "The day", example = "2026-07-01")
+        LocalDate date,
+        @Schema(description = "Articles with a discount valid on the day", example = "1840")
+        long discounted,
+        @Schema(description = "The same articles per percentage band, in the order of the bands", example = "[1200, 600, 40]")
+        List<Long> byBand) {
+}
@@ -0,0 +1,20 @@
+package org.interview.tecalliance.domain.model.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * Range of discount percentages. The lower bound is inclusive, the upper bound is exclusive,
+ * except for the last band of a calendar, which ends at 100 inclusive.
+ *
+ * @param from the lowest percentage in the band
+ * @param to the percentage the band ends at
+ */
+@Schema(description = "Range of discount percentages, from inclusive and to exclusive (100 inclusive)")
+public record PercentageBand(
+        @Schema(description = "Lowest percentage in the band", example = "10")
+        BigDecimal from,
+        @Schema(description = "Percentage the band ends at", example = "20")
+        BigDecimal to) {
+}
@@ -0,0 +1,19 @@
+package org.interview.tecalliance.domain.model.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * Final price below or at which the given percentage of the priced articles lie.
+ *
+ * @param percentile the percentage of articles, between 0 and 100
+ * @param price the price, accurate to about 0.1%
+ */
+@Schema(description = "Final price below or at which the given percentage of the priced articles lie")
+public record PricePercentile(
+        @Schema(description = "Percentage of articles", example = "90")
+        BigDecimal percentile,
+        @Schema(description = "Price, accurate to about 0.1%", example = "349.90")
+        BigDecimal price) {
+}
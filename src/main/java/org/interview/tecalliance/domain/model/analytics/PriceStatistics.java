@@ -0,0 +1,51 @@
+package org.interview.tecalliance.domain.model.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Distribution of the final prices of the catalog on one day.
+ * <p>
+ * Prices are calculated like for a single article. Minimum, maximum, mean and the totals are
+ * exact; the percentiles are approximate. The price values are null if no article has a price.
+ * </p>
+ *
+ * @param date the day the prices apply to
+ * @param articles the articles in the catalog
+ * @param priced the articles with a sales price
+ * @param discounted the articles whose final price is below their sales price
+ * @param minPrice the lowest final price
+ * @param maxPrice the highest final price
+ * @param meanPrice the mean final price, rounded half up to cents
+ * @param percentiles the requested percentiles of the final price
+ * @param totalPrice the sum of the final prices
+ * @param totalDiscountAmount the sum of the differences between sales price and final price
+ * @param durationMillis the time the calculation took
+ */
+@Schema(description = "Distribution of the final prices of the catalog on one day")
+public record PriceStatistics(
+        @Schema(description = "Day the prices apply to", example = "2026-07-01")
+        LocalDate date,
+        @Schema(description = "Articles in the catalog", example = "1000000")
+        long articles,
+        @Schema(description = "Articles with a sales price", example = "999990")
+        long priced,
+        @Schema(description = "Articles whose final price is below their sales price", example = "120000")
+        long discounted,
+        @Schema(description = "Lowest final price", example = "0.99")
+        BigDecimal minPrice,
+        @Schema(description = "Highest final price", example = "4999.00")
+        BigDecimal maxPrice,
+        @Schema(description = "Mean final price", example = "187.45")
+        BigDecimal meanPrice,
+        List<PricePercentile> percentiles,
+        @Schema(description = "Sum of the final prices", example = "187448125.50")
+        BigDecimal totalPrice,
+        @Schema(description = "Sum of the differences between sales price and final price", example = "4740000.00")
+        BigDecimal totalDiscountAmount,
+        @Schema(description = "Time the calculation took", example = "420")
+        long durationMillis) {
+}
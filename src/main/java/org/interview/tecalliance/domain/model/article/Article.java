@@ -1,6 +1,7 @@
 package org.interview.tecalliance.domain.model.article;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -9,9 +10,11 @@ import org.interview.tecalliance.domain.model.Discount;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -20,15 +23,81 @@ import java.util.List;
 @Schema(description = "Article entity with discount management capabilities")
 public class Article extends BaseArticle {
 
+    /**
+     * Decimal places of {@link #getMaxDiscountPercentage()}. A discount percentage with at most
+     * this many decimal places is allowed exactly if it is not above the maximum.
+     */
+    public static final int MAX_DISCOUNT_PERCENTAGE_SCALE = 4;
+
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.5");
+
     @Schema(description = "List of discounts applicable to this article", example = "[]")
     private List<Discount> discounts = new ArrayList<>();
 
+    @Schema(description = "Version of the article, incremented on every update. Send it back with an update " +
+            "to reject the update if the article was modified in the meantime", example = "3")
+    private Long version;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Time of the last change of the article, set by the storage", example = "2026-07-01T08:15:30.123Z",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private Instant updatedAt;
+
     public Article(String id, String name, String slogan, BigDecimal netPrice,
                    BigDecimal salesPrice, BigDecimal vatRatio) {
         super(id, name, slogan, netPrice, salesPrice, vatRatio);
         this.discounts = new ArrayList<>();
     }
 
+    /**
+     * Returns the highest discount percentage with at most {@value #MAX_DISCOUNT_PERCENTAGE_SCALE}
+     * decimal places that {@link #allowsDiscount} accepts, or null if the prices are not set.
+     * <p>
+     * The discount amount is rounded half up to cents, so a percentage {@code p >= 0} is allowed
+     * exactly if {@code salesPrice * p}, the amount in cents, stays below the margin in whole
+     * cents plus one half. The maximum is the largest multiple of 0.0001 below that bound, so
+     * for percentages with at most four decimal places {@code p <= maxDiscountPercentage} is
+     * the same decision as {@link #allowsDiscount}. Persistence adapters store it so that the
+     * articles eligible for a discount can be found with an index range query.
+     * </p>
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Highest discount percentage that keeps the price at or above the net price",
+            example = "37.5", accessMode = Schema.AccessMode.READ_ONLY)
+    public BigDecimal getMaxDiscountPercentage() {
+        if (salesPrice == null || netPrice == null || salesPrice.signum() <= 0) {
+            return null;
+        }
+        BigDecimal marginCents = salesPrice.subtract(netPrice).movePointRight(2).setScale(0, RoundingMode.FLOOR);
+        BigDecimal bound = marginCents.add(HALF_CENT).movePointRight(MAX_DISCOUNT_PERCENTAGE_SCALE)
+                .divide(salesPrice, 0, RoundingMode.CEILING);
+        return bound.subtract(BigDecimal.ONE).movePointLeft(MAX_DISCOUNT_PERCENTAGE_SCALE);
+    }
+
+    /**
+     * Whether a discount with the percentage keeps the price at or above the net price, with the
+     * discount amount rounded half up to cents. Always true if a price is not set.
+     */
+    public boolean allowsDiscount(BigDecimal discountPercentage) {
+        if (salesPrice == null || netPrice == null) {
+            return true;
+        }
+        BigDecimal discountAmount = salesPrice
+                .multiply(discountPercentage)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        BigDecimal discountedPrice = salesPrice.subtract(discountAmount);
+        return discountedPrice.compareTo(netPrice) >= 0;
+    }
+
+    @Override
+    public Article copy() {
+        Article copy = new Article(id, name, slogan, netPrice, salesPrice, vatRatio);
+        copy.setVersion(version);
+        copy.setUpdatedAt(updatedAt);
+        copy.setDiscounts(discounts != null ? new ArrayList<>(discounts.stream().map(Discount::copy).toList()) : null);
+        return copy;
+    }
+
     public void addDiscount(Discount discount) {
         this.discounts.add(discount);
     }
@@ -51,9 +120,7 @@ public class Article extends BaseArticle {
             return salesPrice;
         }
 
-        BigDecimal discountAmount = salesPrice.multiply(applicableDiscount.getDiscountPercentage())
-                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        BigDecimal discountedPrice = salesPrice.subtract(discountAmount);
+        BigDecimal discountedPrice = applicableDiscount.applyTo(salesPrice);
 
         if (netPrice != null && discountedPrice.compareTo(netPrice) < 0) {
             return netPrice;
@@ -115,13 +182,8 @@ public class Article extends BaseArticle {
             return true;
         }
         return discounts.stream()
-                .filter(discount -> discount.getDiscountPercentage() != null)
-                .allMatch(discount -> {
-                    BigDecimal discountAmount = salesPrice
-                            .multiply(discount.getDiscountPercentage())
-                            .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-                    BigDecimal discountedPrice = salesPrice.subtract(discountAmount);
-                    return discountedPrice.compareTo(netPrice) >= 0;
-                });
+                .map(Discount::getDiscountPercentage)
+                .filter(Objects::nonNull)
+                .allMatch(this::allowsDiscount);
     }
 }
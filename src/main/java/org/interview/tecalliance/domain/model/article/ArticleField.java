@@ -0,0 +1,131 @@
+package org.interview.tecalliance.domain.model.article;
+
+import org.interview.tecalliance.domain.model.Discount;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The fields of an {@link Article} that can be changed individually by a patch.
+ */
+public enum ArticleField {
+
+    NAME("name", false, false),
+    SLOGAN("slogan", true, false),
+    NET_PRICE("netPrice", false, true),
+    SALES_PRICE("salesPrice", false, true),
+    VAT_RATIO("vatRatio", false, false),
+    DISCOUNTS("discounts", true, true);
+
+    private final String property;
+    private final boolean removable;
+    private final boolean affectsDiscountValidation;
+
+    ArticleField(String property, boolean removable, boolean affectsDiscountValidation) {
+        this.property = property;
+        this.removable = removable;
+        this.affectsDiscountValidation = affectsDiscountValidation;
+    }
+
+    /**
+     * Name of the field in the JSON representation and in the stored document.
+     */
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Whether the field may be removed (set to null).
+     */
+    public boolean isRemovable() {
+        return removable;
+    }
+
+    /**
+     * Whether a change of the field requires the discounts to be validated again.
+     */
+    public boolean affectsDiscountValidation() {
+        return affectsDiscountValidation;
+    }
+
+    /**
+     * Whether a change of the field changes {@link Article#getMaxDiscountPercentage()}.
+     */
+    public boolean affectsMaxDiscountPercentage() {
+        return this == NET_PRICE || this == SALES_PRICE;
+    }
+
+    public static Optional<ArticleField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+
+    public Object get(Article article) {
+        return switch (this) {
+            case NAME -> article.getName();
+            case SLOGAN -> article.getSlogan();
+            case NET_PRICE -> article.getNetPrice();
+            case SALES_PRICE -> article.getSalesPrice();
+            case VAT_RATIO -> article.getVatRatio();
+            case DISCOUNTS -> article.getDiscounts();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public void set(Article article, Object value) {
+        switch (this) {
+            case NAME -> article.setName((String) value);
+            case SLOGAN -> article.setSlogan((String) value);
+            case NET_PRICE -> article.setNetPrice((BigDecimal) value);
+            case SALES_PRICE -> article.setSalesPrice((BigDecimal) value);
+            case VAT_RATIO -> article.setVatRatio((BigDecimal) value);
+            case DISCOUNTS -> article.setDiscounts(value != null ? new ArrayList<>((List<Discount>) value) : null);
+        }
+    }
+
+    /**
+     * Compares two values of this field. Prices and discount percentages are compared
+     * numerically, so {@code 10.0} and {@code 10.00} are the same price; a missing discount list
+     * equals an empty one.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean isSameValue(Object current, Object value) {
+        if (current instanceof BigDecimal currentPrice && value instanceof BigDecimal price) {
+            return currentPrice.compareTo(price) == 0;
+        }
+        if (this == DISCOUNTS) {
+            List<Discount> currentDiscounts = current != null ? (List<Discount>) current : List.of();
+            List<Discount> discounts = value != null ? (List<Discount>) value : List.of();
+            if (currentDiscounts.size() != discounts.size()) {
+                return false;
+            }
+            for (int i = 0; i < discounts.size(); i++) {
+                if (!isSameDiscount(currentDiscounts.get(i), discounts.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.equals(current, value);
+    }
+
+    private static boolean isSameDiscount(Discount current, Discount discount) {
+        if (current == null || discount == null) {
+            return current == discount;
+        }
+        return Objects.equals(current.getId(), discount.getId())
+                && Objects.equals(current.getDescription(), discount.getDescription())
+                && isSameDecimal(current.getDiscountPercentage(), discount.getDiscountPercentage())
+                && Objects.equals(current.getStartDate(), discount.getStartDate())
+                && Objects.equals(current.getEndDate(), discount.getEndDate());
+    }
+
+    private static boolean isSameDecimal(BigDecimal current, BigDecimal value) {
+        return current == null || value == null ? current == value : current.compareTo(value) == 0;
+    }
+}
@@ -0,0 +1,27 @@
+package org.interview.tecalliance.domain.model.article;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Partial update of an article following JSON Merge Patch (RFC 7396) semantics.
+ * <p>
+ * Only the fields contained in the patch are changed. A null value removes the field,
+ * which is only allowed for removable fields. Discounts are replaced as a whole.
+ * </p>
+ *
+ * @param values the new values by field; null values remove the field
+ * @param version the version the patch is based on, or null to patch the current version
+ */
+public record ArticlePatch(Map<ArticleField, Object> values, Long version) {
+
+    public ArticlePatch {
+        values.forEach((field, value) -> {
+            if (value == null && !field.isRemovable()) {
+                throw new IllegalArgumentException("Field '" + field.property() + "' cannot be removed");
+            }
+        });
+        values = Collections.unmodifiableMap(values.isEmpty() ? new EnumMap<>(ArticleField.class) : new EnumMap<>(values));
+    }
+}
@@ -0,0 +1,34 @@
+package org.interview.tecalliance.domain.model.article;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.interview.tecalliance.domain.model.Discount;
+
+import java.math.BigDecimal;
+
+/**
+ * Final price of an article on two days that differs.
+ *
+ * @param articleId the ID of the article
+ * @param name the name of the article
+ * @param oldPrice the final price on the first day
+ * @param newPrice the final price on the second day
+ * @param oldDiscount the discount applied on the first day, or null
+ * @param newDiscount the discount applied on the second day, or null
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Final price of an article on two days that differs")
+public record ArticlePriceChange(
+        @Schema(description = "ID of the article", example = "6650f0b2c1d4a85a1e4b7c21")
+        String articleId,
+        @Schema(description = "Name of the article", example = "Laptop Pro 15")
+        String name,
+        @Schema(description = "Final price on the first day", example = "799.99")
+        BigDecimal oldPrice,
+        @Schema(description = "Final price on the second day", example = "679.99")
+        BigDecimal newPrice,
+        @Schema(description = "Discount applied on the first day, absent if none")
+        Discount oldDiscount,
+        @Schema(description = "Discount applied on the second day, absent if none")
+        Discount newDiscount) {
+}
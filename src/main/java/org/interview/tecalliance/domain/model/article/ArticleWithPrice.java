@@ -39,4 +39,12 @@ public class ArticleWithPrice extends BaseArticle {
                 appliedDiscount
         );
     }
+
+    @Override
+    public ArticleWithPrice copy() {
+        ArticleWithPrice copy = new ArticleWithPrice(id, name, slogan, netPrice, salesPrice, vatRatio, finalPrice,
+                appliedDiscount != null ? appliedDiscount.copy() : null);
+        copy.setHasActiveDiscount(hasActiveDiscount);
+        return copy;
+    }
 }
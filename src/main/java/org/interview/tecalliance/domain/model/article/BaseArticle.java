@@ -40,4 +40,9 @@ public abstract class BaseArticle {
         this.salesPrice = salesPrice;
         this.vatRatio = vatRatio;
     }
+
+    /**
+     * Returns a copy sharing no mutable state with this article, for handing one result to several callers.
+     */
+    public abstract BaseArticle copy();
 }
@@ -0,0 +1,28 @@
+package org.interview.tecalliance.domain.model.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * An article a simulated campaign would reject.
+ *
+ * @param articleId the ID of the article
+ * @param name the name of the article
+ * @param overlapping whether the discount would overlap one of the article's discounts
+ * @param belowNetPrice whether the discount would lower the price below the net price
+ * @param maxDiscountPercentage the highest discount percentage the article accepts, or null
+ */
+@Schema(description = "Article a campaign would reject")
+public record CampaignConflict(
+        @Schema(description = "ID of the article", example = "507f1f77bcf86cd799439011")
+        String articleId,
+        @Schema(description = "Name of the article", example = "Laptop Basic")
+        String name,
+        @Schema(description = "The discount would overlap one of the article's discounts")
+        boolean overlapping,
+        @Schema(description = "The discount would lower the price below the net price")
+        boolean belowNetPrice,
+        @Schema(description = "Highest discount percentage the article accepts", example = "12.5")
+        BigDecimal maxDiscountPercentage) {
+}
@@ -0,0 +1,31 @@
+package org.interview.tecalliance.domain.model.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Selects the articles of a discount campaign. All given criteria must match.
+ *
+ * @param articleIds the IDs of the articles, or null for any article
+ * @param namePrefix the case-sensitive start of the article name, or null for any name
+ * @param minSalesPrice the lowest sales price, inclusive, or null for no lower bound
+ * @param maxSalesPrice the highest sales price, inclusive, or null for no upper bound
+ */
+@Schema(description = "Articles a campaign applies to; all given criteria must match, at least one is required")
+public record CampaignSelector(
+        @Schema(description = "IDs of the articles", example = "[\"507f1f77bcf86cd799439011\"]")
+        List<String> articleIds,
+        @Schema(description = "Start of the article name (case-sensitive)", example = "Laptop")
+        String namePrefix,
+        @Schema(description = "Lowest sales price, inclusive", example = "100.00")
+        BigDecimal minSalesPrice,
+        @Schema(description = "Highest sales price, inclusive", example = "1000.00")
+        BigDecimal maxSalesPrice) {
+
+    public boolean isEmpty() {
+        return articleIds == null && (namePrefix == null || namePrefix.isEmpty())
+                && minSalesPrice == null && maxSalesPrice == null;
+    }
+}
@@ -0,0 +1,46 @@
+package org.interview.tecalliance.domain.model.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Outcome of a discount campaign evaluated against the catalog without writing anything.
+ *
+ * @param articles the articles in the catalog
+ * @param selected the articles matching the selector
+ * @param applicable the selected articles the discount would be added to
+ * @param rejected the selected articles that would be left unchanged
+ * @param overlapping the selected articles with a discount overlapping the new one
+ * @param belowNetPrice the selected articles whose price would fall below the net price
+ * @param salesValue the sum of the sales prices of the applicable articles
+ * @param discountedSalesValue the sum of their prices with the discount
+ * @param revenueImpact the change of revenue if every applicable article is sold once, negative
+ * @param sampleConflicts the first rejected articles in catalog order
+ * @param durationMillis the time the simulation took
+ */
+@Schema(description = "Outcome of a discount campaign evaluated against the catalog")
+public record CampaignSimulation(
+        @Schema(description = "Articles in the catalog", example = "1000000")
+        long articles,
+        @Schema(description = "Articles matching the selector", example = "120000")
+        long selected,
+        @Schema(description = "Selected articles the discount would be added to", example = "118500")
+        long applicable,
+        @Schema(description = "Selected articles that would be left unchanged", example = "1500")
+        long rejected,
+        @Schema(description = "Selected articles with a discount overlapping the new one", example = "1200")
+        long overlapping,
+        @Schema(description = "Selected articles whose price would fall below the net price", example = "400")
+        long belowNetPrice,
+        @Schema(description = "Sum of the sales prices of the applicable articles", example = "23700000.00")
+        BigDecimal salesValue,
+        @Schema(description = "Sum of the prices of the applicable articles with the discount", example = "18960000.00")
+        BigDecimal discountedSalesValue,
+        @Schema(description = "Change of revenue if every applicable article is sold once", example = "-4740000.00")
+        BigDecimal revenueImpact,
+        List<CampaignConflict> sampleConflicts,
+        @Schema(description = "Time the simulation took", example = "850")
+        long durationMillis) {
+}
@@ -0,0 +1,42 @@
+package org.interview.tecalliance.domain.model.campaign;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.JobState;
+
+import java.time.Instant;
+
+/**
+ * Progress of a discount campaign.
+ *
+ * @param id the ID of the campaign
+ * @param state the state of the campaign
+ * @param discount the discount added to the selected articles
+ * @param selected the number of selected articles processed so far
+ * @param applied the number of articles the discount was added to
+ * @param rejected the number of articles left unchanged, because the discount would overlap
+ *                 one of their discounts or lower their price below the net price
+ * @param submittedAt when the campaign was accepted
+ * @param startedAt when the campaign started, or null while it is queued
+ * @param finishedAt when the campaign completed or failed, or null while it is running
+ * @param error why the campaign failed, or null
+ */
+@Schema(description = "Progress of a discount campaign")
+public record CampaignStatus(
+        @Schema(description = "ID of the campaign", example = "3f2b8c1e-5d4a-4e8b-9c7d-2a1f0e6b5c4d")
+        String id,
+        JobState state,
+        Discount discount,
+        @Schema(description = "Selected articles processed so far", example = "150000")
+        long selected,
+        @Schema(description = "Articles the discount was added to", example = "149120")
+        long applied,
+        @Schema(description = "Articles left unchanged because the discount would overlap another one " +
+                "or lower the price below the net price", example = "880")
+        long rejected,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        @Schema(description = "Why the campaign failed")
+        String error) {
+}
@@ -0,0 +1,45 @@
+package org.interview.tecalliance.domain.model.changes;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.interview.tecalliance.domain.model.article.Article;
+
+import java.time.Instant;
+
+/**
+ * The latest change of one article.
+ *
+ * @param type whether the article was created or changed, or deleted
+ * @param articleId the ID of the article
+ * @param changedAt the time of the change
+ * @param article the article as of the change, null for deletions
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Latest change of an article")
+public record ArticleChange(
+        @Schema(description = "Whether the article was created or changed, or deleted", example = "UPSERTED")
+        Type type,
+        @Schema(description = "ID of the article", example = "6650f0b2c1d4a85a1e4b7c21")
+        String articleId,
+        @Schema(description = "Time of the change", example = "2026-07-01T08:15:30.123Z")
+        Instant changedAt,
+        @Schema(description = "The article as of the change, absent for deletions")
+        Article article) {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    public static ArticleChange upserted(Article article) {
+        return new ArticleChange(Type.UPSERTED, article.getId(), article.getUpdatedAt(), article);
+    }
+
+    public static ArticleChange deleted(String articleId, Instant deletedAt) {
+        return new ArticleChange(Type.DELETED, articleId, deletedAt, null);
+    }
+
+    public ChangePosition position() {
+        return new ChangePosition(changedAt, articleId);
+    }
+}
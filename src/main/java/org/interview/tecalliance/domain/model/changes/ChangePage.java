@@ -0,0 +1,23 @@
+package org.interview.tecalliance.domain.model.changes;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * One page of the change feed.
+ *
+ * @param changes the changes of this page, ordered by time and article ID
+ * @param nextToken token to request the changes after this page
+ * @param hasMore whether more changes are available right away
+ */
+@Schema(description = "Page of article changes")
+public record ChangePage(
+        @Schema(description = "Changes of this page, ordered by time and article ID")
+        List<ArticleChange> changes,
+        @Schema(description = "Token to request the changes after this page; the given token if this page is empty",
+                example = "YzoxNzUxMzU3NzMxMDAyOjY2NTBmMGIyYzFkNGE4NWExZTRiN2MyMg")
+        String nextToken,
+        @Schema(description = "Whether more changes can be requested right away with the next token")
+        boolean hasMore) {
+}
@@ -0,0 +1,22 @@
+package org.interview.tecalliance.domain.model.changes;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * Position of a change in the change feed, which is ordered by time and then by article ID.
+ *
+ * @param changedAt the time of the change
+ * @param articleId the ID of the changed article
+ */
+public record ChangePosition(Instant changedAt, String articleId) implements Comparable<ChangePosition> {
+
+    private static final Comparator<ChangePosition> ORDER = Comparator
+            .comparing(ChangePosition::changedAt)
+            .thenComparing(ChangePosition::articleId);
+
+    @Override
+    public int compareTo(ChangePosition other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,21 @@
+package org.interview.tecalliance.domain.model.imports;
+
+import org.interview.tecalliance.domain.model.article.Article;
+
+/**
+ * One line of an article import: the parsed article, or the reason it could not be parsed.
+ *
+ * @param line the line number in the imported file, starting with 1
+ * @param article the parsed article, or null if the line could not be parsed
+ * @param error why the line could not be parsed, or null if it was parsed
+ */
+public record ArticleImportRecord(long line, Article article, String error) {
+
+    public static ArticleImportRecord parsed(long line, Article article) {
+        return new ArticleImportRecord(line, article, null);
+    }
+
+    public static ArticleImportRecord failed(long line, String error) {
+        return new ArticleImportRecord(line, null, error);
+    }
+}
@@ -0,0 +1,10 @@
+package org.interview.tecalliance.domain.model.imports;
+
+/**
+ * A line of an article import that was not imported.
+ *
+ * @param line the line number in the imported file
+ * @param message why the line was rejected
+ */
+public record ImportError(long line, String message) {
+}
@@ -0,0 +1,24 @@
+package org.interview.tecalliance.domain.model.imports;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Outcome of an article import.
+ *
+ * @param imported the number of articles written
+ * @param failed the number of lines rejected, each listed in the error report
+ * @param lastLine the last line processed; every line up to it was imported or reported
+ * @param complete false if the import stopped early, because the input could not be read
+ *                 or the storage failed; it can be resumed after {@code lastLine}
+ */
+@Schema(description = "Outcome of an article import")
+public record ImportResult(
+        @Schema(description = "Number of articles written", example = "199998")
+        long imported,
+        @Schema(description = "Number of rejected lines, listed in the error report", example = "2")
+        long failed,
+        @Schema(description = "Last processed line; an interrupted import is resumed with fromLine set to it", example = "200001")
+        long lastLine,
+        @Schema(description = "False if the import stopped before the end of the input")
+        boolean complete) {
+}
@@ -0,0 +1,57 @@
+package org.interview.tecalliance.domain.model.repricing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Change of the sales price applied by a repricing job.
+ *
+ * @param type how the value changes the price
+ * @param value the factor for {@link Type#RATIO}, the percentage for {@link Type#PERCENTAGE}
+ */
+@Schema(description = "Change of the sales price")
+public record PriceAdjustment(
+        @Schema(description = "RATIO multiplies the price by the value, PERCENTAGE raises (or lowers, if " +
+                "negative) it by the value in percent", example = "RATIO")
+        Type type,
+        @Schema(description = "Factor or percentage", example = "0.974789")
+        BigDecimal value) {
+
+    /**
+     * Decimal places of adjusted prices.
+     */
+    public static final int PRICE_SCALE = 2;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public enum Type {
+        RATIO,
+        PERCENTAGE
+    }
+
+    /**
+     * Returns the adjusted price, rounded half up to {@link #PRICE_SCALE} decimal places.
+     */
+    public BigDecimal apply(BigDecimal price) {
+        BigDecimal factor = switch (type) {
+            case RATIO -> value;
+            case PERCENTAGE -> BigDecimal.ONE.add(value.divide(HUNDRED));
+        };
+        return price.multiply(factor).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns whether the adjustment yields positive prices.
+     */
+    public boolean isValid() {
+        if (type == null || value == null) {
+            return false;
+        }
+        return switch (type) {
+            case RATIO -> value.signum() > 0;
+            case PERCENTAGE -> value.compareTo(HUNDRED.negate()) > 0;
+        };
+    }
+}
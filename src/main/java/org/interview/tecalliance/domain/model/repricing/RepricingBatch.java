@@ -0,0 +1,28 @@
+package org.interview.tecalliance.domain.model.repricing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Outcome of one batch of a repricing job.
+ *
+ * @param number the number of the batch within the run, starting at 1
+ * @param articles the articles read in the batch
+ * @param repriced the articles written with the new VAT ratio and price
+ * @param vatOnly the repriced articles written with their sales price kept, because the adjusted price would make
+ *                their discounts invalid
+ * @param rejected the articles left unchanged because their discounts are invalid even with the sales price kept
+ * @param conflicts the articles left unchanged because they were modified concurrently on every attempt
+ * @param durationMillis the time the batch took, without the pause after it
+ * @param articlesPerSecond the articles read per second in the batch
+ */
+@Schema(description = "Outcome of one batch of a repricing job")
+public record RepricingBatch(
+        int number,
+        long articles,
+        long repriced,
+        long vatOnly,
+        long rejected,
+        long conflicts,
+        long durationMillis,
+        double articlesPerSecond) {
+}
@@ -0,0 +1,26 @@
+package org.interview.tecalliance.domain.model.repricing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Change of the VAT ratio, and optionally the sales price, of many articles.
+ *
+ * @param currentVatRatio only articles with this VAT ratio are changed, or null for all articles
+ * @param newVatRatio the VAT ratio the articles get
+ * @param salesPriceAdjustment the change of the sales price, or null to keep it
+ * @param effectiveAt when the job starts, or null to start it right away
+ */
+@Schema(description = "VAT ratio change of the articles with a given VAT ratio")
+public record RepricingRequest(
+        @Schema(description = "Only articles with this VAT ratio are changed; all articles if omitted", example = "0.19")
+        BigDecimal currentVatRatio,
+        @Schema(description = "New VAT ratio", example = "0.16", requiredMode = Schema.RequiredMode.REQUIRED)
+        BigDecimal newVatRatio,
+        @Schema(description = "Change of the sales price; the sales price is kept if omitted")
+        PriceAdjustment salesPriceAdjustment,
+        @Schema(description = "When the change is applied; right away if omitted", example = "2027-01-01T00:00:00Z")
+        Instant effectiveAt) {
+}
@@ -0,0 +1,60 @@
+package org.interview.tecalliance.domain.model.repricing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.interview.tecalliance.domain.model.JobState;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress of a repricing job.
+ *
+ * @param id the ID of the job
+ * @param state the state of the job
+ * @param request the requested change
+ * @param processed the articles read so far
+ * @param repriced the articles changed so far
+ * @param vatOnly the repriced articles that kept their sales price because the adjusted price would make their
+ *                discounts invalid
+ * @param rejected the articles left unchanged because their discounts would be invalid with the new price
+ * @param conflicts the articles left unchanged because they were modified concurrently
+ * @param articlesPerSecond the articles read per second since the job (last) started
+ * @param recentBatches the most recent batches, oldest first
+ * @param vatOnlyArticleIds the IDs of the first articles that only got the new VAT ratio
+ * @param rejectedArticleIds the IDs of the first rejected articles
+ * @param submittedAt when the job was accepted
+ * @param startedAt when the job (last) started, or null while it is queued
+ * @param finishedAt when the job completed or failed, or null while it is queued or running
+ * @param error why the job failed, or null
+ */
+@Schema(description = "Progress of a repricing job")
+public record RepricingStatus(
+        @Schema(description = "ID of the job", example = "9d4e2f1a-7b3c-4a5d-8e6f-1c2b3a4d5e6f")
+        String id,
+        JobState state,
+        RepricingRequest request,
+        @Schema(description = "Articles read so far", example = "250000")
+        long processed,
+        @Schema(description = "Articles changed so far", example = "249990")
+        long repriced,
+        @Schema(description = "Repriced articles that kept their sales price because the adjusted price would make " +
+                "their discounts invalid", example = "8")
+        long vatOnly,
+        @Schema(description = "Articles left unchanged because their discounts are invalid even with the sales " +
+                "price kept", example = "0")
+        long rejected,
+        @Schema(description = "Articles left unchanged because they were modified concurrently", example = "2")
+        long conflicts,
+        @Schema(description = "Articles read per second", example = "12500.0")
+        double articlesPerSecond,
+        List<RepricingBatch> recentBatches,
+        @Schema(description = "IDs of the first articles that only got the new VAT ratio")
+        List<String> vatOnlyArticleIds,
+        @Schema(description = "IDs of the first rejected articles")
+        List<String> rejectedArticleIds,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        @Schema(description = "Why the job failed")
+        String error) {
+}
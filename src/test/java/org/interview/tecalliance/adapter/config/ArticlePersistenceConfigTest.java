@@ -0,0 +1,65 @@
+package org.interview.tecalliance.adapter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.coalescing.WriteCoalescingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.replica.ChangeStreamArticleReadReplica;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ArticlePersistenceConfigTest {
+
+    private final ArticlePersistencePort adapter = mock(ArticlePersistencePort.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ArticlePersistenceConfig.class)
+            .withBean(ForwardingArticlePersistencePort.ADAPTER_BEAN, ArticlePersistencePort.class, () -> adapter)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void testWithoutDecorators_PrimaryPortForwardsToAdapter() {
+        Article article = article();
+        when(adapter.findById("1")).thenReturn(Optional.of(article));
+
+        contextRunner.run(context -> {
+            assertFalse(context.containsBean("articleReadReplica"));
+            assertEquals(Optional.of(article), context.getBean(ArticlePersistencePort.class).findById("1"));
+        });
+    }
+
+    @Test
+    void testWriteCoalescing_WithSeparateLayout_WrapsAdapterWithoutReplica() {
+        Article article = article();
+        when(adapter.saveAll(anyList())).thenReturn(List.of(SaveResult.saved(article)));
+
+        contextRunner
+                .withPropertyValues(
+                        "tecalliance.persistence.discount-layout=separate",
+                        "tecalliance.persistence.read-replica.enabled=true",
+                        "tecalliance.persistence.write-coalescing.enabled=true")
+                .run(context -> {
+                    assertTrue(context.getBeansOfType(ChangeStreamArticleReadReplica.class).isEmpty());
+                    assertTrue(context.getBean(WriteCoalescingArticlePersistencePort.class).isRunning());
+
+                    assertSame(article, context.getBean(ArticlePersistencePort.class).save(article));
+                    verify(adapter).saveAll(List.of(article));
+                });
+    }
+
+    private static Article article() {
+        return new Article("1", "Stacked", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+}
@@ -0,0 +1,189 @@
+package org.interview.tecalliance.adapter.in.grpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.interview.tecalliance.adapter.in.grpc.proto.ArticleServiceGrpc;
+import org.interview.tecalliance.adapter.in.grpc.proto.BatchGetArticlesRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.BatchGetArticlesResponse;
+import org.interview.tecalliance.adapter.in.grpc.proto.Decimal;
+import org.interview.tecalliance.adapter.in.grpc.proto.GetArticleRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListArticlesRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListedArticle;
+import org.interview.tecalliance.adapter.in.grpc.proto.QuotePricesRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.QuotePricesResponse;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.repository.ArticleMongoRepository;
+import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Calls the gRPC adapter through an in-process transport, with the application and MongoDB behind it.
+ */
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class ArticleGrpcAdapterTest {
+
+    private static final LocalDate MARCH_10 = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private ArticleGrpcAdapter articleGrpcAdapter;
+
+    @Autowired
+    private ArticleUseCase articleUseCase;
+
+    @Autowired
+    private ArticleMongoRepository repository;
+
+    private Server server;
+    private ManagedChannel channel;
+    private ArticleServiceGrpc.ArticleServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(articleGrpcAdapter).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = ArticleServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        repository.deleteAll();
+    }
+
+    @Test
+    void testGetArticle_EncodesMoneyAsScaledIntegers() {
+        Article created = articleUseCase.createArticle(discountedArticle("Laptop"));
+
+        var article = stub.getArticle(GetArticleRequest.newBuilder().setId(created.getId()).build());
+
+        assertEquals("Laptop", article.getName());
+        assertEquals(Decimal.newBuilder().setUnscaled(80000).setScale(2).build(), article.getSalesPrice());
+        assertEquals(new BigDecimal("10"), toBigDecimal(article.getDiscounts(0).getDiscountPercentage()));
+        assertEquals(LocalDate.of(2026, 3, 1).toEpochDay(), article.getDiscounts(0).getStartEpochDay());
+        assertFalse(article.hasSlogan());
+    }
+
+    @Test
+    void testGetArticle_PriceBeyondLongRange_ReturnsInvalidArgument() {
+        Article article = discountedArticle("Precise");
+        article.setSalesPrice(new BigDecimal("800.00000000000000000001"));
+        Article created = articleUseCase.createArticle(article);
+
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.getArticle(GetArticleRequest.newBuilder().setId(created.getId()).build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    @Test
+    void testGetArticle_Unknown_ReturnsNotFound() {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.getArticle(GetArticleRequest.newBuilder().setId("507f1f77bcf86cd799439011").build()));
+
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+    }
+
+    @Test
+    void testBatchGetArticles_ReturnsFoundInOrderAndMissingIds() {
+        Article first = articleUseCase.createArticle(discountedArticle("First"));
+        Article second = articleUseCase.createArticle(discountedArticle("Second"));
+
+        BatchGetArticlesResponse response = stub.batchGetArticles(BatchGetArticlesRequest.newBuilder()
+                .addIds(second.getId())
+                .addIds("507f1f77bcf86cd799439011")
+                .addIds(first.getId())
+                .build());
+
+        assertEquals(List.of("Second", "First"), response.getArticlesList().stream()
+                .map(org.interview.tecalliance.adapter.in.grpc.proto.Article::getName).toList());
+        assertEquals(List.of("507f1f77bcf86cd799439011"), response.getMissingIdsList());
+    }
+
+    @Test
+    void testQuotePrices_AppliesActiveDiscount() {
+        Article created = articleUseCase.createArticle(discountedArticle("Laptop"));
+
+        QuotePricesResponse response = stub.quotePrices(QuotePricesRequest.newBuilder()
+                .addIds(created.getId())
+                .setEpochDay(MARCH_10.toEpochDay())
+                .build());
+
+        assertEquals(new BigDecimal("720.00"), toBigDecimal(response.getArticles(0).getFinalPrice()));
+        assertEquals("Spring Sale", response.getArticles(0).getAppliedDiscount().getDescription());
+    }
+
+    @Test
+    void testListArticles_StreamsPricedArticles() {
+        articleUseCase.createArticle(discountedArticle("Laptop"));
+        articleUseCase.createArticle(new Article(null, "Cable", null,
+                new BigDecimal("1.00"), new BigDecimal("5.00"), new BigDecimal("0.19")));
+
+        List<ListedArticle> listed = new ArrayList<>();
+        stub.listArticles(ListArticlesRequest.newBuilder()
+                .setEpochDay(MARCH_10.toEpochDay())
+                .setWithPrices(true)
+                .setDiscountOnly(true)
+                .build()).forEachRemaining(listed::add);
+
+        assertEquals(1, listed.size());
+        assertTrue(listed.getFirst().hasPriced());
+        assertEquals("Laptop", listed.getFirst().getPriced().getName());
+    }
+
+    @Test
+    void testListArticles_WithoutPrices_StreamsPlainArticles() {
+        for (int i = 0; i < 50; i++) {
+            articleUseCase.createArticle(discountedArticle("Article " + i));
+        }
+
+        List<ListedArticle> listed = new ArrayList<>();
+        stub.listArticles(ListArticlesRequest.getDefaultInstance()).forEachRemaining(listed::add);
+
+        assertEquals(50, listed.size());
+        assertTrue(listed.stream().allMatch(ListedArticle::hasPlain));
+    }
+
+    @Test
+    void testListArticles_PricesWithoutDate_ReturnsInvalidArgument() {
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.listArticles(ListArticlesRequest.newBuilder().setWithPrices(true).build()).hasNext());
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+
+    private static BigDecimal toBigDecimal(Decimal value) {
+        return new BigDecimal(BigInteger.valueOf(value.getUnscaled()), value.getScale());
+    }
+
+    private static Article discountedArticle(String name) {
+        Article article = new Article(null, name, null,
+                new BigDecimal("500.00"), new BigDecimal("800.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(null, "Spring Sale", new BigDecimal("10"),
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)));
+        return article;
+    }
+}
@@ -0,0 +1,150 @@
+package org.interview.tecalliance.adapter.in.grpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.interview.tecalliance.adapter.in.grpc.proto.ArticleServiceGrpc;
+import org.interview.tecalliance.adapter.in.grpc.proto.GetArticleRequest;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListArticlesRequest;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.repository.ArticleMongoRepository;
+import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the latency of single article reads and the time to transfer the priced catalog
+ * over REST/JSON, gRPC over a local HTTP/2 connection and gRPC in-process. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "tecalliance.grpc.enabled=true")
+@Import(TestContainersConfiguration.class)
+class ArticleGrpcBenchmarkTest {
+
+    private static final int ARTICLES = 2_000;
+    private static final int GET_WARMUP = 2_000;
+    private static final int GETS = 5_000;
+    private static final int LIST_WARMUP = 5;
+    private static final int LISTS = 10;
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @Autowired
+    private ArticleGrpcAdapter articleGrpcAdapter;
+
+    @Autowired
+    private ArticleUseCase articleUseCase;
+
+    @Autowired
+    private ArticleMongoRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void benchmarkRestAgainstGrpc() throws IOException, InterruptedException {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            ids.add(articleUseCase.createArticle(article(i)).getId());
+        }
+        RestClient rest = RestClient.builder().baseUrl("http://localhost:" + port + "/api/v1/articles").build();
+        ManagedChannel network = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+        String name = InProcessServerBuilder.generateName();
+        Server inProcessServer = InProcessServerBuilder.forName(name).addService(articleGrpcAdapter).build().start();
+        ManagedChannel inProcess = InProcessChannelBuilder.forName(name).build();
+        try {
+            var networkStub = ArticleServiceGrpc.newBlockingStub(network);
+            var inProcessStub = ArticleServiceGrpc.newBlockingStub(inProcess);
+            ListArticlesRequest listRequest = ListArticlesRequest.newBuilder()
+                    .setEpochDay(DATE.toEpochDay())
+                    .setWithPrices(true)
+                    .build();
+
+            measureGets("GET article (REST/JSON)", ids, id -> rest.get().uri("/" + id).retrieve().body(byte[].class));
+            measureGets("GetArticle (gRPC HTTP/2)", ids,
+                    id -> networkStub.getArticle(GetArticleRequest.newBuilder().setId(id).build()));
+            measureGets("GetArticle (gRPC in-process)", ids,
+                    id -> inProcessStub.getArticle(GetArticleRequest.newBuilder().setId(id).build()));
+
+            measureLists("priced list (REST/JSON)", () -> rest.get()
+                    .uri("?date=" + DATE + "&withPrices=true").retrieve().body(byte[].class).length > 0);
+            measureLists("ListArticles (gRPC HTTP/2)", () -> count(networkStub.listArticles(listRequest)) == ARTICLES);
+            measureLists("ListArticles (gRPC in-process)", () -> count(inProcessStub.listArticles(listRequest)) == ARTICLES);
+        } finally {
+            network.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            inProcess.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            inProcessServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void measureGets(String name, List<String> ids, Consumer<String> get) {
+        for (int i = 0; i < GET_WARMUP; i++) {
+            get.accept(ids.get(i % ids.size()));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < GETS; i++) {
+            get.accept(ids.get(i % ids.size()));
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / GETS;
+        System.out.printf("%-32s %,10.1f µs per call%n", name, micros);
+    }
+
+    private static void measureLists(String name, BooleanSupplier list) {
+        for (int i = 0; i < LIST_WARMUP; i++) {
+            assertTrue(list.getAsBoolean());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LISTS; i++) {
+            assertTrue(list.getAsBoolean());
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / LISTS;
+        System.out.printf("%-32s %,10.1f ms per %,d articles%n", name, millis, ARTICLES);
+    }
+
+    private static int count(Iterator<?> iterator) {
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    private static Article article(int i) {
+        Article article = new Article(null, "Article " + i, "Slogan of article " + i,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(null, "Spring Sale", new BigDecimal("15"),
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)));
+        return article;
+    }
+}
@@ -0,0 +1,47 @@
+package org.interview.tecalliance.adapter.in.grpc;
+
+import org.interview.tecalliance.adapter.in.grpc.proto.Decimal;
+import org.interview.tecalliance.adapter.in.grpc.proto.ListedArticle;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleProtoMapperTest {
+
+    @Test
+    void testToProto_Decimal_KeepsValueAndScale() {
+        assertEquals(Decimal.newBuilder().setUnscaled(24999).setScale(2).build(),
+                ArticleProtoMapper.toProto(new BigDecimal("249.99")));
+        assertEquals(Decimal.newBuilder().setUnscaled(190).setScale(3).build(),
+                ArticleProtoMapper.toProto(new BigDecimal("0.190")));
+        assertEquals(Decimal.newBuilder().setUnscaled(-5).setScale(-2).build(),
+                ArticleProtoMapper.toProto(new BigDecimal("-5E+2")));
+        assertThrows(IllegalArgumentException.class, () -> ArticleProtoMapper.toProto(new BigDecimal("1E+30").setScale(0)));
+    }
+
+    @Test
+    void testToListed_PricedArticle() {
+        Article article = new Article("507f1f77bcf86cd799439011", "Laptop", null,
+                new BigDecimal("500.00"), new BigDecimal("800.00"), new BigDecimal("0.19"));
+        Discount discount = new Discount(1L, "Sale", new BigDecimal("10"), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+        ListedArticle listed = ArticleProtoMapper.toListed(ArticleWithPrice.from(article, new BigDecimal("720.00"), discount));
+
+        assertTrue(listed.hasPriced());
+        assertEquals(72000, listed.getPriced().getFinalPrice().getUnscaled());
+        assertEquals(LocalDate.of(2026, 3, 31).toEpochDay(), listed.getPriced().getAppliedDiscount().getEndEpochDay());
+        assertFalse(listed.getPriced().hasSlogan());
+    }
+
+    @Test
+    void testFromEpochDay_OutOfRange_IsInvalidArgument() {
+        assertEquals(LocalDate.of(2026, 3, 10), ArticleProtoMapper.fromEpochDay(LocalDate.of(2026, 3, 10).toEpochDay()));
+        assertThrows(IllegalArgumentException.class, () -> ArticleProtoMapper.fromEpochDay(Long.MAX_VALUE));
+    }
+}
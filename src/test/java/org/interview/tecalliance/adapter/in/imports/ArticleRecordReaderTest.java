@@ -0,0 +1,124 @@
+package org.interview.tecalliance.adapter.in.imports;
+
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleRecordReaderTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void testNdjson_ParsesEveryLine() {
+        List<ArticleImportRecord> records = read(ImportFormat.NDJSON, 0, """
+                {"name":"Laptop","netPrice":500.00,"salesPrice":800.00,"vatRatio":0.19}
+                {"name":"Mouse","netPrice":5.00,"salesPrice":20.00,"vatRatio":0.19,"discounts":[{"description":"Sale","discountPercentage":10,"startDate":"2025-01-01","endDate":"2025-01-31"}]}
+                """);
+
+        assertEquals(2, records.size());
+        assertEquals("Laptop", records.get(0).article().getName());
+        assertEquals(new BigDecimal("800.00"), records.get(0).article().getSalesPrice());
+        assertEquals(1, records.get(1).article().getDiscounts().size());
+        assertEquals(2, records.get(1).line());
+    }
+
+    @Test
+    void testNdjson_InvalidLine_IsFailedRecord() {
+        List<ArticleImportRecord> records = read(ImportFormat.NDJSON, 0, """
+                {"name":"Laptop"
+                {"name":"Mouse"}
+                """);
+
+        assertNull(records.get(0).article());
+        assertTrue(records.get(0).error().startsWith("Invalid JSON"));
+        assertEquals("Mouse", records.get(1).article().getName());
+    }
+
+    @Test
+    void testNdjson_FromLine_SkipsLinesAndBlankLines() {
+        List<ArticleImportRecord> records = read(ImportFormat.NDJSON, 2, """
+                {"name":"First"}
+                not even JSON
+
+                {"name":"Fourth"}
+                """);
+
+        assertEquals(1, records.size());
+        assertEquals(4, records.getFirst().line());
+        assertEquals("Fourth", records.getFirst().article().getName());
+    }
+
+    @Test
+    void testCsv_ParsesColumnsInHeaderOrder() {
+        List<ArticleImportRecord> records = read(ImportFormat.CSV, 0, """
+                vatRatio,name,slogan,netPrice,salesPrice
+                0.19,Laptop,"Fast, light and ""pro""",500.00,800.00
+                0.07,Book,,10.00,15.00
+                """);
+
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).line());
+        assertEquals("Fast, light and \"pro\"", records.get(0).article().getSlogan());
+        assertEquals(new BigDecimal("0.19"), records.get(0).article().getVatRatio());
+        // no discounts column, so a re-imported article keeps its stored discounts
+        assertNull(records.get(0).article().getDiscounts());
+        assertNull(records.get(1).article().getSlogan());
+        assertEquals(new BigDecimal("15.00"), records.get(1).article().getSalesPrice());
+    }
+
+    @Test
+    void testCsv_InvalidRows_AreFailedRecords() {
+        List<ArticleImportRecord> records = read(ImportFormat.CSV, 0, """
+                name,netPrice,salesPrice,vatRatio
+                Laptop,500.00,800.00
+                Laptop,cheap,800.00,0.19
+                "Laptop,500.00,800.00,0.19
+                """);
+
+        assertEquals("Expected 4 fields but found 3", records.get(0).error());
+        assertEquals("Invalid number 'cheap' in column netPrice", records.get(1).error());
+        assertEquals("Unterminated quoted field", records.get(2).error());
+    }
+
+    @Test
+    void testCsv_FromLine_KeepsHeader() {
+        List<ArticleImportRecord> records = read(ImportFormat.CSV, 2, """
+                id,name,netPrice,salesPrice,vatRatio
+                507f1f77bcf86cd799439011,Laptop,500.00,800.00,0.19
+                507f1f77bcf86cd799439012,Mouse,5.00,20.00,0.19
+                """);
+
+        assertEquals(1, records.size());
+        assertEquals("507f1f77bcf86cd799439012", records.getFirst().article().getId());
+    }
+
+    @Test
+    void testCsv_UnknownColumn_IsRejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> read(ImportFormat.CSV, 0, "name,price\nLaptop,800.00\n"));
+
+        assertTrue(exception.getMessage().startsWith("Unknown CSV column 'price'"));
+    }
+
+    @Test
+    void testFormat_FromFileName() {
+        assertEquals(ImportFormat.CSV, ImportFormat.fromFileName("Articles.CSV"));
+        assertEquals(ImportFormat.NDJSON, ImportFormat.fromFileName("articles.jsonl"));
+        assertThrows(IllegalArgumentException.class, () -> ImportFormat.fromFileName("articles.xlsx"));
+    }
+
+    private static List<ArticleImportRecord> read(ImportFormat format, long fromLine, String content) {
+        List<ArticleImportRecord> records = new ArrayList<>();
+        ArticleRecordReader.open(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                fromLine, JSON_MAPPER).forEachRemaining(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,82 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import org.interview.tecalliance.adapter.config.BinaryFormatsConfig;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares serialize time and size of a priced article list in JSON, Smile and CBOR.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class ArticleEncodingBenchmarkTest {
+
+    private static final int ARTICLES = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final TypeReference<List<ArticleWithPrice>> ARTICLE_LIST = new TypeReference<>() {
+    };
+
+    @Test
+    void benchmarkSerializeArticlesWithPrices() {
+        BinaryFormatsConfig config = new BinaryFormatsConfig();
+        List<ArticleWithPrice> articles = articlesWithPrices();
+
+        Result json = measure("JSON", JsonMapper.builder().build(), articles);
+        Result smile = measure("Smile", config.smileMapper(), articles);
+        Result cbor = measure("CBOR", config.cborMapper(), articles);
+
+        System.out.printf("Smile: %.1fx faster, %.0f%% of the JSON size%n",
+                json.nanosPerList() / smile.nanosPerList(), 100.0 * smile.bytes() / json.bytes());
+        System.out.printf("CBOR:  %.1fx faster, %.0f%% of the JSON size%n",
+                json.nanosPerList() / cbor.nanosPerList(), 100.0 * cbor.bytes() / json.bytes());
+    }
+
+    private static Result measure(String name, ObjectMapper mapper, List<ArticleWithPrice> articles) {
+        byte[] encoded = mapper.writeValueAsBytes(articles);
+        assertEquals(articles, mapper.readValue(encoded, ARTICLE_LIST));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.writeValueAsBytes(articles);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            mapper.writeValueAsBytes(articles);
+        }
+        double nanosPerList = (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+        System.out.printf("%-6s %,10d bytes %,10.2f ms per %,d articles%n", name, encoded.length, nanosPerList / 1e6, ARTICLES);
+        return new Result(encoded.length, nanosPerList);
+    }
+
+    private static List<ArticleWithPrice> articlesWithPrices() {
+        LocalDate date = LocalDate.of(2026, 3, 10);
+        List<ArticleWithPrice> articles = new ArrayList<>(ARTICLES);
+        for (int i = 0; i < ARTICLES; i++) {
+            Article article = new Article(String.format("%024x", i), "Article " + i, "Slogan of article " + i,
+                    new BigDecimal("100.00"), new BigDecimal(200 + i % 100 + ".99"), new BigDecimal("0.19"));
+            if (i % 2 == 0) {
+                article.addDiscount(new Discount((long) i, "Spring Sale", new BigDecimal("15"),
+                        LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)));
+            }
+            articles.add(ArticleWithPrice.from(article, article.calculateDiscountedPrice(date),
+                    article.getApplicableDiscount(date)));
+        }
+        return articles;
+    }
+
+    private record Result(int bytes, double nanosPerList) {
+    }
+}
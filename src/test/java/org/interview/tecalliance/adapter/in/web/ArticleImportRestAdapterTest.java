@@ -0,0 +1,124 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.repository.ArticleMongoRepository;
+import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestContainersConfiguration.class)
+class ArticleImportRestAdapterTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    @LocalServerPort
+    private int port;
+
+    private RestClient restClient;
+
+    @Autowired
+    private ArticleUseCase articleUseCase;
+
+    @Autowired
+    private ArticleMongoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        restClient = RestClient.builder().baseUrl("http://localhost:" + port).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testImportCsv_ImportsValidLinesAndReportsInvalidOnes() {
+        String csv = """
+                name,slogan,netPrice,salesPrice,vatRatio
+                Laptop,Best laptop ever!,500.00,800.00,0.19
+                Mouse,,5.00,,0.19
+                Keyboard,,20.00,45.00,0.19
+                """;
+
+        ArticleImportResponse response = restClient.post()
+                .uri("/api/v1/articles/imports")
+                .contentType(CSV)
+                .body(csv)
+                .retrieve()
+                .body(ArticleImportResponse.class);
+
+        assertNotNull(response);
+        assertEquals(2, response.result().imported());
+        assertEquals(1, response.result().failed());
+        assertEquals(4, response.result().lastLine());
+        assertTrue(response.result().complete());
+        assertEquals(List.of("Keyboard", "Laptop"),
+                articleUseCase.getAllArticles().stream().map(Article::getName).sorted().toList());
+
+        String report = restClient.get()
+                .uri(response.errorReport())
+                .retrieve()
+                .body(String.class);
+        assertEquals("line,message\n3,\"Missing required field salesPrice\"\n", report);
+    }
+
+    @Test
+    void testImportNdjson_RepeatedWithIds_DoesNotDuplicate() {
+        String ndjson = """
+                {"id":"507f1f77bcf86cd799439011","name":"Laptop","netPrice":500.00,"salesPrice":800.00,"vatRatio":0.19}
+                {"id":"507f1f77bcf86cd799439012","name":"Mouse","netPrice":5.00,"salesPrice":20.00,"vatRatio":0.19}
+                """;
+
+        for (int i = 0; i < 2; i++) {
+            restClient.post()
+                    .uri("/api/v1/articles/imports")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(ndjson)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+
+        assertEquals(2, articleUseCase.getAllArticles().size());
+        assertEquals("Laptop", articleUseCase.getArticleById("507f1f77bcf86cd799439011").orElseThrow().getName());
+    }
+
+    @Test
+    void testImportCsv_UnknownColumn_ReturnsBadRequest() {
+        ResponseEntity<Void> response = restClient.post()
+                .uri("/api/v1/articles/imports")
+                .contentType(CSV)
+                .body("name,price\nLaptop,800.00\n")
+                .retrieve()
+                .onStatus(status -> true, (_, _) -> { })
+                .toBodilessEntity();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void testGetErrorReport_UnknownImport_ReturnsNotFound() {
+        ResponseEntity<Void> response = restClient.get()
+                .uri("/api/v1/articles/imports/{id}/errors", "5f0c7c1e-8d2b-4d1a-9a53-2f1b6f0e4a7d")
+                .retrieve()
+                .onStatus(status -> true, (_, _) -> { })
+                .toBodilessEntity();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
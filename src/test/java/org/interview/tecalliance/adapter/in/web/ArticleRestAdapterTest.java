@@ -3,7 +3,10 @@ package org.interview.tecalliance.adapter.in.web;
 import org.interview.tecalliance.adapter.out.persistence.mongodb.repository.ArticleMongoRepository;
 import org.interview.tecalliance.application.port.in.ArticleUseCase;
 import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountPage;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +17,16 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClient;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +45,12 @@ class ArticleRestAdapterTest {
     @Autowired
     private ArticleMongoRepository repository;
 
+    @Autowired
+    private SmileMapper smileMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
     @BeforeEach
     void setUp() {
         String baseUrl = "http://localhost:" + port + "/api/v1/articles";
@@ -86,6 +102,23 @@ class ArticleRestAdapterTest {
         assertEquals("Mouse", response.getName());
     }
 
+    @Test
+    void testGetArticleById_AfterUpdate_ReturnsNewStateInsteadOfCachedJson() {
+        Article created = articleUseCase.createArticle(new Article(null, "Monitor", "27 inch",
+                new BigDecimal("100.00"), new BigDecimal("250.00"), new BigDecimal("0.19")));
+        Article first = restClient.get().uri("/" + created.getId()).retrieve().body(Article.class);
+        Article cached = restClient.get().uri("/" + created.getId()).retrieve().body(Article.class);
+
+        created.setName("Curved Monitor");
+        articleUseCase.updateArticle(created.getId(), created);
+        Article updated = restClient.get().uri("/" + created.getId()).retrieve().body(Article.class);
+
+        assertEquals(first, cached);
+        assertNotNull(updated);
+        assertEquals("Curved Monitor", updated.getName());
+        assertEquals(1L, updated.getVersion());
+    }
+
     @Test
     void testUpdateArticle() {
         Article article = new Article(null, "Keyboard", "Mechanical keyboard",
@@ -107,6 +140,55 @@ class ArticleRestAdapterTest {
         assertEquals(new BigDecimal("90.00"), response.getSalesPrice());
     }
 
+    @Test
+    void testUpdateArticle_WithStaleVersion_ReturnsConflict() {
+        Article created = articleUseCase.createArticle(new Article(null, "Headset", "Noise cancelling",
+                new BigDecimal("50.00"), new BigDecimal("120.00"), new BigDecimal("0.19")));
+        articleUseCase.updateArticle(created.getId(), articleUseCase.getArticleById(created.getId()).orElseThrow());
+
+        created.setName("Stale Headset");
+        HttpStatusCode status = restClient.put()
+                .uri("/" + created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(created)
+                .exchange((_, response) -> response.getStatusCode());
+
+        assertEquals(HttpStatus.CONFLICT, status);
+    }
+
+    @Test
+    void testPatchArticle_ChangesOnlyPatchedFields() {
+        Article created = articleUseCase.createArticle(new Article(null, "Webcam", "Full HD",
+                new BigDecimal("20.00"), new BigDecimal("60.00"), new BigDecimal("0.19")));
+
+        Article response = restClient.patch()
+                .uri("/" + created.getId())
+                .contentType(MediaType.valueOf("application/merge-patch+json"))
+                .body("{\"slogan\": \"4K\", \"salesPrice\": 60.0}")
+                .retrieve()
+                .body(Article.class);
+
+        assertNotNull(response);
+        assertEquals("Webcam", response.getName());
+        assertEquals("4K", response.getSlogan());
+        assertEquals(new BigDecimal("60.00"), response.getSalesPrice());
+        assertEquals(1L, response.getVersion());
+    }
+
+    @Test
+    void testPatchArticle_WithUnknownField_ReturnsBadRequest() {
+        Article created = articleUseCase.createArticle(new Article(null, "Webcam", "Full HD",
+                new BigDecimal("20.00"), new BigDecimal("60.00"), new BigDecimal("0.19")));
+
+        HttpStatusCode status = restClient.patch()
+                .uri("/" + created.getId())
+                .contentType(MediaType.valueOf("application/merge-patch+json"))
+                .body("{\"color\": \"red\"}")
+                .exchange((_, response) -> response.getStatusCode());
+
+        assertEquals(HttpStatus.BAD_REQUEST, status);
+    }
+
     @Test
     void testDeleteArticle() {
         Article article = new Article(null, "Monitor", "4K Monitor",
@@ -133,4 +215,136 @@ class ArticleRestAdapterTest {
             assertTrue(e.getMessage().contains("404"));
         }
     }
+
+    @Test
+    void testSearchArticlesByPrefix() {
+        Article article = new Article(null, "Zyxel Router", "Fast and reliable",
+                new BigDecimal("40.00"), new BigDecimal("90.00"), new BigDecimal("0.19"));
+        Article created = articleUseCase.createArticle(article);
+
+        Article[] response = restClient.get()
+                .uri("/search?q=zyx&mode=PREFIX")
+                .retrieve()
+                .body(Article[].class);
+
+        assertNotNull(response);
+        assertEquals(1, response.length);
+        assertEquals(created.getId(), response[0].getId());
+    }
+
+    @Test
+    void testGetArticleDiscounts_WindowAndCursor() {
+        Article created = articleUseCase.createArticle(articleWithMonthlyDiscounts());
+
+        DiscountPage firstPage = restClient.get()
+                .uri("/" + created.getId() + "/discounts?from=2026-02-15&to=2026-04-15&limit=2")
+                .retrieve()
+                .body(DiscountPage.class);
+
+        assertNotNull(firstPage);
+        assertEquals(List.of("February", "March"), firstPage.discounts().stream().map(Discount::getDescription).toList());
+        assertNotNull(firstPage.nextCursor());
+
+        DiscountPage lastPage = restClient.get()
+                .uri("/" + created.getId() + "/discounts?from=2026-02-15&to=2026-04-15&limit=2&cursor=" + firstPage.nextCursor())
+                .retrieve()
+                .body(DiscountPage.class);
+
+        assertNotNull(lastPage);
+        assertEquals(List.of("April"), lastPage.discounts().stream().map(Discount::getDescription).toList());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void testGetArticleById_WithoutDiscountsAndWithDiscountWindow() {
+        Article created = articleUseCase.createArticle(articleWithMonthlyDiscounts());
+
+        Article withoutDiscounts = restClient.get()
+                .uri("/" + created.getId() + "?includeDiscounts=false")
+                .retrieve()
+                .body(Article.class);
+        Article windowed = restClient.get()
+                .uri("/" + created.getId() + "?discountsFrom=2026-05-01")
+                .retrieve()
+                .body(Article.class);
+
+        assertNotNull(withoutDiscounts);
+        assertTrue(withoutDiscounts.getDiscounts() == null || withoutDiscounts.getDiscounts().isEmpty());
+        assertNotNull(windowed);
+        assertEquals(List.of("May"), windowed.getDiscounts().stream().map(Discount::getDescription).toList());
+    }
+
+    @Test
+    void testCreateAndGetArticle_Smile() {
+        Article article = new Article(null, "Monitor", "27 inch",
+                new BigDecimal("150.00"), new BigDecimal("249.99"), new BigDecimal("0.19"));
+
+        HttpStatusCode status = restClient.post()
+                .contentType(BinaryMediaTypes.SMILE)
+                .body(smileMapper.writeValueAsBytes(article))
+                .retrieve()
+                .toBodilessEntity()
+                .getStatusCode();
+        String id = articleUseCase.getAllArticles().getFirst().getId();
+        byte[] body = restClient.get()
+                .uri("/" + id)
+                .accept(BinaryMediaTypes.SMILE)
+                .retrieve()
+                .body(byte[].class);
+
+        assertEquals(HttpStatus.CREATED, status);
+        Article read = smileMapper.readValue(body, Article.class);
+        assertEquals("Monitor", read.getName());
+        assertEquals(new BigDecimal("249.99"), read.getSalesPrice());
+    }
+
+    @Test
+    void testGetArticlesWithPrices_Cbor_StreamsPricedArray() {
+        articleUseCase.createArticle(articleWithMonthlyDiscounts());
+        articleUseCase.createArticle(new Article(null, "Cable", null,
+                new BigDecimal("1.00"), new BigDecimal("5.00"), new BigDecimal("0.19")));
+
+        ResponseEntity<byte[]> response = restClient.get()
+                .uri("?date=2026-03-10&withPrices=true")
+                .accept(BinaryMediaTypes.CBOR)
+                .retrieve()
+                .toEntity(byte[].class);
+
+        assertEquals(BinaryMediaTypes.CBOR, response.getHeaders().getContentType());
+        ArticleWithPrice[] articles = cborMapper.readValue(response.getBody(), ArticleWithPrice[].class);
+        assertEquals(2, articles.length);
+        ArticleWithPrice seasonal = Arrays.stream(articles)
+                .filter(article -> article.getName().equals("Seasonal Article"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(new BigDecimal("90.00"), seasonal.getFinalPrice());
+        assertEquals("March", seasonal.getAppliedDiscount().getDescription());
+    }
+
+    @Test
+    void testPatchArticle_Cbor() {
+        Article created = articleUseCase.createArticle(articleWithMonthlyDiscounts());
+
+        byte[] body = restClient.patch()
+                .uri("/" + created.getId())
+                .contentType(BinaryMediaTypes.CBOR)
+                .accept(BinaryMediaTypes.CBOR)
+                .body(cborMapper.writeValueAsBytes(Map.of("slogan", "Patched")))
+                .retrieve()
+                .body(byte[].class);
+
+        assertEquals("Patched", cborMapper.readValue(body, Article.class).getSlogan());
+    }
+
+    private static Article articleWithMonthlyDiscounts() {
+        Article article = new Article(null, "Seasonal Article", "On sale every month",
+                new BigDecimal("50.00"), new BigDecimal("100.00"), new BigDecimal("0.19"));
+        String[] months = {"January", "February", "March", "April", "May"};
+        for (int month = 1; month <= months.length; month++) {
+            LocalDate start = LocalDate.of(2026, month, 1);
+            article.addDiscount(new Discount(null, months[month - 1], new BigDecimal("10"),
+                    start, start.withDayOfMonth(start.lengthOfMonth())));
+        }
+        return article;
+    }
 }
@@ -0,0 +1,27 @@
+package org.interview.tecalliance.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryMediaTypesTest {
+
+    @Test
+    void testPreferredBinary() {
+        assertEquals(Optional.of(BinaryMediaTypes.SMILE), BinaryMediaTypes.preferredBinary("application/x-jackson-smile"));
+        assertEquals(Optional.of(BinaryMediaTypes.CBOR), BinaryMediaTypes.preferredBinary("application/cbor, */*"));
+        assertEquals(Optional.of(BinaryMediaTypes.CBOR),
+                BinaryMediaTypes.preferredBinary("application/json;q=0.5, application/cbor"));
+    }
+
+    @Test
+    void testPreferredBinary_JsonOrNothingPreferred_ReturnsEmpty() {
+        assertTrue(BinaryMediaTypes.preferredBinary(null).isEmpty());
+        assertTrue(BinaryMediaTypes.preferredBinary("*/*").isEmpty());
+        assertTrue(BinaryMediaTypes.preferredBinary("application/json, application/cbor").isEmpty());
+        assertTrue(BinaryMediaTypes.preferredBinary("application/cbor;q=0.5, application/json").isEmpty());
+        assertTrue(BinaryMediaTypes.preferredBinary("not a media type").isEmpty());
+    }
+}
@@ -0,0 +1,117 @@
+package org.interview.tecalliance.adapter.in.web.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapArticleJsonCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OffHeapArticleJsonCache cache = cache(DataSize.ofKilobytes(64), Duration.ofMinutes(5));
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    void testPut_ThenGet_ReturnsSameBytes() {
+        String id = new ObjectId().toHexString();
+        byte[] json = json(id, 100);
+
+        cache.put(id, json, cache.stamp());
+
+        assertArrayEquals(json, cache.get(id));
+        assertNull(cache.get(new ObjectId().toHexString()));
+        assertNull(cache.get("not-an-id"));
+        assertEquals(1.0, meterRegistry.get("articles.cache.requests").tag("outcome", "hit").counter().count());
+    }
+
+    @Test
+    void testEvict_RemovesEntryAndRejectsPutsStartedBefore() {
+        String id = new ObjectId().toHexString();
+        cache.put(id, json(id, 100), cache.stamp());
+        long stampBeforeWrite = cache.stamp();
+
+        cache.evict(id);
+        cache.put(id, json(id, 100), stampBeforeWrite);
+
+        assertNull(cache.get(id));
+        cache.put(id, json(id, 50), cache.stamp());
+        assertEquals(50, cache.get(id).length);
+    }
+
+    @Test
+    void testEvictAll_RemovesAllEntries() {
+        List<String> ids = fill(10, 100);
+
+        cache.evictAll();
+
+        assertEquals(0, cache.size());
+        ids.forEach(id -> assertNull(cache.get(id)));
+    }
+
+    @Test
+    void testPut_WhenFull_KeepsRecentlyReadEntries() {
+        // 4 slabs of 16 KB hold about 150 entries of 400 bytes
+        List<String> ids = fill(100, 400);
+        String hot = ids.getFirst();
+        assertNotNull(cache.get(hot));
+
+        fill(100, 400);
+
+        assertNotNull(cache.get(hot), "read entry should get a second chance");
+        assertNull(cache.get(ids.get(1)), "unread old entry should be evicted");
+        assertTrue(meterRegistry.get("articles.cache.evictions").counter().count() > 0);
+        assertEquals(DataSize.ofKilobytes(64).toBytes(), meterRegistry.get("articles.cache.off.heap.bytes").gauge().value());
+    }
+
+    @Test
+    void testGet_AfterTimeToLive_ReturnsNull() throws InterruptedException {
+        cache.destroy();
+        cache = cache(DataSize.ofKilobytes(64), Duration.ofMillis(1));
+        String id = new ObjectId().toHexString();
+
+        cache.put(id, json(id, 100), cache.stamp());
+        Thread.sleep(5);
+
+        assertNull(cache.get(id));
+    }
+
+    @Test
+    void testPut_TooLargeForSlab_IsNotCached() {
+        String id = new ObjectId().toHexString();
+
+        cache.put(id, json(id, 10_000), cache.stamp());
+
+        assertNull(cache.get(id));
+    }
+
+    private List<String> fill(int count, int size) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String id = new ObjectId().toHexString();
+            cache.put(id, json(id, size), cache.stamp());
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private OffHeapArticleJsonCache cache(DataSize capacity, Duration timeToLive) {
+        return new OffHeapArticleJsonCache(capacity, DataSize.ofKilobytes(16), timeToLive, meterRegistry);
+    }
+
+    private static byte[] json(String id, int size) {
+        String prefix = "{\"id\":\"" + id + "\",\"name\":\"";
+        return (prefix + "x".repeat(Math.max(0, size - prefix.length() - 2)) + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
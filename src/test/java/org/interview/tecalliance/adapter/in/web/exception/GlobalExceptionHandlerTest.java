@@ -1,6 +1,7 @@
 package org.interview.tecalliance.adapter.in.web.exception;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -58,6 +59,42 @@ class GlobalExceptionHandlerTest {
         assertEquals(errorMessage, body.get("message"));
     }
 
+    @Test
+    void testHandleOptimisticLockingFailureException_Returns409() {
+        String errorMessage = "Article 1 was modified concurrently, expected version 3";
+        OptimisticLockingFailureException ex = new OptimisticLockingFailureException(errorMessage);
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setRequestURI("/api/v1/articles/1");
+        WebRequest request = new ServletWebRequest(servletRequest);
+
+        ResponseEntity<Object> response = exceptionHandler.handleOptimisticLockingFailureException(ex, request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(409, body.get("status"));
+        assertEquals("Conflict", body.get("error"));
+        assertEquals(errorMessage, body.get("message"));
+    }
+
+    @Test
+    void testHandleUnsupportedOperationException_Returns501() {
+        String errorMessage = "Discount campaigns are not supported by the configured storage";
+        UnsupportedOperationException ex = new UnsupportedOperationException(errorMessage);
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setRequestURI("/api/v1/campaigns");
+        WebRequest request = new ServletWebRequest(servletRequest);
+
+        ResponseEntity<Object> response = exceptionHandler.handleUnsupportedOperationException(ex, request);
+
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(501, body.get("status"));
+        assertEquals("Not Implemented", body.get("error"));
+        assertEquals(errorMessage, body.get("message"));
+    }
+
     @Test
     void testHandleIllegalArgumentException_EscapesHtmlInMessage() {
         String errorMessage = "<script>alert('xss')</script>";
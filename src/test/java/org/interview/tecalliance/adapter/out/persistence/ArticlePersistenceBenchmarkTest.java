@@ -0,0 +1,109 @@
+package org.interview.tecalliance.adapter.out.persistence;
+
+import org.interview.tecalliance.adapter.out.persistence.file.FileLogArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.MongoArticlePersistenceAdapter;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the throughput of the MongoDB adapter and the memory-mapped file log adapter.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class ArticlePersistenceBenchmarkTest {
+
+    private static final int ARTICLES = 2_000;
+    private static final int DISCOUNTS_PER_ARTICLE = 20;
+    private static final int FIND_ALL_ROUNDS = 20;
+
+    @Autowired
+    private MongoArticlePersistenceAdapter mongoAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void benchmarkMongo() {
+        run("MongoDB", mongoAdapter);
+    }
+
+    @Test
+    void benchmarkFileLog() {
+        FileLogArticlePersistenceAdapter fileAdapter =
+                new FileLogArticlePersistenceAdapter(directory.toString(), DataSize.ofMegabytes(16), true, 0.5);
+        try {
+            run("file log", fileAdapter);
+        } finally {
+            fileAdapter.destroy();
+        }
+    }
+
+    private static void run(String name, ArticlePersistencePort port) {
+        List<String> ids = new ArrayList<>();
+        measure(name + " save", ARTICLES, i -> ids.add(port.save(article(i)).getId()));
+        measure(name + " replace", ARTICLES, i -> {
+            Article article = port.findByIdWithoutDiscounts(ids.get(i)).orElseThrow();
+            article.setDiscounts(article(i).getDiscounts());
+            article.setName("Renamed " + i);
+            port.replace(article);
+        });
+        measure(name + " findById", ARTICLES, i -> port.findById(ids.get(i)));
+        measure(name + " findAll", ARTICLES * FIND_ALL_ROUNDS, i -> {
+            if (i % ARTICLES == 0) {
+                assertEquals(ARTICLES, port.findAll().size());
+            }
+        });
+    }
+
+    private static void measure(String name, int operations, IntConsumer operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.accept(i);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-25s %,12.0f articles/s%n", name, operations / seconds);
+    }
+
+    private static Article article(int i) {
+        Article article = new Article(null, "Article " + i, "Slogan of article " + i,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        for (int d = 0; d < DISCOUNTS_PER_ARTICLE; d++) {
+            article.addDiscount(new Discount((long) d, "Discount " + d, new BigDecimal("10.00"),
+                    start.plusMonths(d), start.plusMonths(d).plusDays(20)));
+        }
+        return article;
+    }
+}
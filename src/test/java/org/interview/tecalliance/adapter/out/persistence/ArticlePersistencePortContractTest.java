@@ -0,0 +1,310 @@
+package org.interview.tecalliance.adapter.out.persistence;
+
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link ArticlePersistencePort} implementation with the complete discount list
+ * per article must show. Subclasses provide the implementation and clean up after each test.
+ */
+public abstract class ArticlePersistencePortContractTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+    private static final String UNKNOWN_ID = "507f1f77bcf86cd799439011";
+
+    protected abstract ArticlePersistencePort persistencePort();
+
+    @Test
+    void testSave_AssignsIdAndInitialVersion() {
+        Article saved = persistencePort().save(article("Laptop"));
+
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertEquals(saved, persistencePort().findById(saved.getId()).orElseThrow());
+    }
+
+    @Test
+    void testSave_WithExistingId_OverwritesArticle() {
+        Article saved = persistencePort().save(article("Laptop"));
+
+        Article overwrite = article("Notebook");
+        overwrite.setId(saved.getId());
+        persistencePort().save(overwrite);
+
+        assertEquals("Notebook", persistencePort().findById(saved.getId()).orElseThrow().getName());
+        assertEquals(1, persistencePort().findAll().size());
+    }
+
+    @Test
+    void testSave_WithExistingId_IncrementsVersion() {
+        Article saved = persistencePort().save(article("Laptop"));
+
+        Article overwrite = article("Notebook");
+        overwrite.setId(saved.getId());
+        overwrite.setVersion(0L);
+        Article overwritten = persistencePort().save(overwrite);
+
+        assertEquals(1L, overwritten.getVersion());
+        assertEquals(1L, persistencePort().findById(saved.getId()).orElseThrow().getVersion());
+        // a version read before the save no longer matches
+        saved.setName("Stale");
+        assertThrows(OptimisticLockingFailureException.class, () -> persistencePort().replace(saved));
+    }
+
+    @Test
+    void testSave_WithUnknownId_CreatesArticleWithInitialVersion() {
+        Article article = article("Laptop");
+        article.setId(UNKNOWN_ID);
+        article.setVersion(5L);
+
+        Article saved = persistencePort().save(article);
+
+        assertEquals(0L, saved.getVersion());
+        assertEquals(0L, persistencePort().findById(UNKNOWN_ID).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testSaveAll_WithExistingId_IncrementsVersion() {
+        Article saved = persistencePort().save(article("Laptop"));
+        Article overwrite = article("Notebook");
+        overwrite.setId(saved.getId());
+
+        List<SaveResult> results = persistencePort().saveAll(List.of(article("New"), overwrite));
+
+        assertEquals(0L, results.get(0).article().getVersion());
+        assertEquals(1L, results.get(1).article().getVersion());
+        assertEquals(1L, persistencePort().findById(saved.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void testSaveAll_WithoutDiscounts_KeepsStoredDiscounts() {
+        Article saved = persistencePort().save(articleWithDiscounts("Laptop"));
+        Article overwrite = article("Notebook");
+        overwrite.setId(saved.getId());
+        overwrite.setDiscounts(null);
+
+        SaveResult result = persistencePort().saveAll(List.of(overwrite)).getFirst();
+
+        assertEquals(1L, result.article().getVersion());
+        assertEquals(List.of("Current", "Past", "Future"), descriptions(result.article().getDiscounts()));
+        Article stored = persistencePort().findById(saved.getId()).orElseThrow();
+        assertEquals("Notebook", stored.getName());
+        assertEquals(List.of("Current", "Past", "Future"), descriptions(stored.getDiscounts()));
+    }
+
+    @Test
+    void testSaveAll_ReturnsResultPerArticle() {
+        List<SaveResult> results = persistencePort().saveAll(List.of(article("First"), article("Second")));
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(SaveResult::isSaved));
+        assertEquals("Second", persistencePort().findById(results.get(1).article().getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testSaveAll_InvalidId_FailsOnlyThatArticle() {
+        Article invalid = article("Invalid");
+        invalid.setId("not-an-id");
+
+        List<SaveResult> results = persistencePort().saveAll(List.of(article("First"), invalid, article("Second")));
+
+        assertTrue(results.get(0).isSaved());
+        assertFalse(results.get(1).isSaved());
+        assertTrue(results.get(2).isSaved());
+        assertEquals(2, persistencePort().findAll().size());
+    }
+
+    @Test
+    void testFindById_UnknownOrInvalidId_ReturnsEmpty() {
+        assertTrue(persistencePort().findById(UNKNOWN_ID).isEmpty());
+        assertTrue(persistencePort().findById("not-an-id").isEmpty());
+    }
+
+    @Test
+    void testFindAllById_SkipsUnknownInvalidAndRepeatedIds() {
+        Article first = persistencePort().save(articleWithDiscounts("First"));
+        Article second = persistencePort().save(article("Second"));
+        persistencePort().save(article("Other"));
+
+        List<Article> found = persistencePort().findAllById(
+                List.of(second.getId(), UNKNOWN_ID, "not-an-id", first.getId(), second.getId()));
+
+        assertEquals(2, found.size());
+        assertEquals(Set.of(first, second), Set.copyOf(found));
+    }
+
+    @Test
+    void testReplace_IncrementsVersion() {
+        Article saved = persistencePort().save(article("Laptop"));
+
+        saved.setName("Laptop 2");
+        Article replaced = persistencePort().replace(saved).orElseThrow();
+
+        assertEquals(1L, replaced.getVersion());
+        assertEquals("Laptop 2", replaced.getName());
+        assertEquals(replaced, persistencePort().findById(saved.getId()).orElseThrow());
+    }
+
+    @Test
+    void testReplace_WithStaleVersion_IsRejected() {
+        Article saved = persistencePort().save(article("Laptop"));
+        persistencePort().replace(persistencePort().findById(saved.getId()).orElseThrow());
+
+        saved.setName("Lost update");
+        assertThrows(OptimisticLockingFailureException.class, () -> persistencePort().replace(saved));
+        assertEquals("Laptop", persistencePort().findById(saved.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testReplace_UnknownArticle_ReturnsEmpty() {
+        Article article = article("Missing");
+        article.setId(UNKNOWN_ID);
+
+        assertTrue(persistencePort().replace(article).isEmpty());
+        assertFalse(persistencePort().existsById(UNKNOWN_ID));
+    }
+
+    @Test
+    void testUpdate_ChangesAndRemovesFields() {
+        Article saved = persistencePort().save(article("Laptop"));
+        Map<ArticleField, Object> changes = new EnumMap<>(ArticleField.class);
+        changes.put(ArticleField.NAME, "Renamed");
+        changes.put(ArticleField.SLOGAN, null);
+
+        Article updated = persistencePort().update(saved.getId(), changes, 0L).orElseThrow();
+
+        assertEquals("Renamed", updated.getName());
+        assertNull(updated.getSlogan());
+        assertEquals(1L, updated.getVersion());
+        assertEquals(updated, persistencePort().findById(saved.getId()).orElseThrow());
+    }
+
+    @Test
+    void testUpdate_WithStaleVersion_IsRejected() {
+        Article saved = persistencePort().save(article("Laptop"));
+        Map<ArticleField, Object> changes = Map.of(ArticleField.NAME, "Renamed");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> persistencePort().update(saved.getId(), changes, 3L));
+        assertTrue(persistencePort().update(UNKNOWN_ID, changes, 0L).isEmpty());
+    }
+
+    @Test
+    void testFindByIdWithoutDiscounts_OmitsDiscounts() {
+        Article saved = persistencePort().save(articleWithDiscounts("Laptop"));
+
+        assertNull(persistencePort().findByIdWithoutDiscounts(saved.getId()).orElseThrow().getDiscounts());
+    }
+
+    @Test
+    void testFindByIdWithDiscountsIn_ReturnsIntersectingDiscountsByStartDate() {
+        Article saved = persistencePort().save(articleWithDiscounts("Laptop"));
+
+        Article article = persistencePort().findByIdWithDiscountsIn(saved.getId(),
+                new DiscountWindow(TODAY, TODAY.plusMonths(2))).orElseThrow();
+
+        assertEquals(List.of("Current", "Future"), descriptions(article.getDiscounts()));
+    }
+
+    @Test
+    void testFindDiscounts_PagesThroughWindow() {
+        Article saved = persistencePort().save(articleWithDiscounts("Laptop"));
+        DiscountWindow all = new DiscountWindow(null, null);
+
+        assertEquals(List.of("Past", "Current"), descriptions(persistencePort().findDiscounts(saved.getId(), all, 0, 2).orElseThrow()));
+        assertEquals(List.of("Future"), descriptions(persistencePort().findDiscounts(saved.getId(), all, 2, 2).orElseThrow()));
+        assertTrue(persistencePort().findDiscounts(UNKNOWN_ID, all, 0, 2).isEmpty());
+    }
+
+    @Test
+    void testFindWithDiscountActiveOn_ReturnsOnlyDiscountedArticles() {
+        Article discounted = persistencePort().save(articleWithDiscounts("Discounted"));
+        persistencePort().save(article("Plain"));
+
+        List<Article> result = persistencePort().findWithDiscountActiveOn(TODAY);
+
+        assertEquals(List.of(discounted.getId()), result.stream().map(Article::getId).toList());
+    }
+
+    @Test
+    void testSearchByText_FindsArticlesByWord() {
+        Article laptop = persistencePort().save(article("Gaming Laptop"));
+        persistencePort().save(article("Wireless Mouse"));
+
+        List<Article> result = persistencePort().searchByText("laptop", 0, 10);
+
+        assertEquals(List.of(laptop.getId()), result.stream().map(Article::getId).toList());
+    }
+
+    @Test
+    void testFindEligibleForDiscount_ReturnsArticlesWithEnoughMarginByMaxDiscount() {
+        Article wide = persistencePort().save(article("Wide", "100.00", "400.00"));
+        Article exact = persistencePort().save(article("Exact", "150.00", "200.00"));
+        persistencePort().save(article("Narrow", "180.00", "200.00"));
+
+        List<Article> result = persistencePort().findEligibleForDiscount(new BigDecimal("25"), 0, 10);
+
+        assertEquals(List.of(wide.getId(), exact.getId()), result.stream().map(Article::getId).toList());
+        assertEquals(List.of(exact.getId()),
+                persistencePort().findEligibleForDiscount(new BigDecimal("25"), 1, 10).stream().map(Article::getId).toList());
+    }
+
+    @Test
+    void testFindEligibleForDiscount_ReflectsUpdatedPrices() {
+        Article saved = persistencePort().save(article("Laptop", "180.00", "200.00"));
+        Map<ArticleField, Object> changes = Map.of(ArticleField.NET_PRICE, new BigDecimal("100.00"));
+
+        assertTrue(persistencePort().findEligibleForDiscount(new BigDecimal("25"), 0, 10).isEmpty());
+        persistencePort().update(saved.getId(), changes, 0L).orElseThrow();
+
+        assertEquals(List.of(saved.getId()),
+                persistencePort().findEligibleForDiscount(new BigDecimal("25"), 0, 10).stream().map(Article::getId).toList());
+    }
+
+    @Test
+    void testDeleteById_RemovesArticleOnce() {
+        Article saved = persistencePort().save(article("Laptop"));
+
+        assertTrue(persistencePort().existsById(saved.getId()));
+        assertTrue(persistencePort().deleteById(saved.getId()));
+        assertFalse(persistencePort().deleteById(saved.getId()));
+        assertFalse(persistencePort().existsById(saved.getId()));
+        assertTrue(persistencePort().findAll().isEmpty());
+    }
+
+    protected static Article article(String name) {
+        return new Article(null, name, "Contract test article",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+
+    protected static Article article(String name, String netPrice, String salesPrice) {
+        return new Article(null, name, "Contract test article",
+                new BigDecimal(netPrice), new BigDecimal(salesPrice), new BigDecimal("0.19"));
+    }
+
+    protected static Article articleWithDiscounts(String name) {
+        Article article = article(name);
+        article.addDiscount(new Discount(2L, "Current", new BigDecimal("10"), TODAY.minusDays(5), TODAY.plusDays(5)));
+        article.addDiscount(new Discount(1L, "Past", new BigDecimal("10"), TODAY.minusMonths(3), TODAY.minusMonths(2)));
+        article.addDiscount(new Discount(3L, "Future", new BigDecimal("10"), TODAY.plusMonths(1), TODAY.plusMonths(2)));
+        return article;
+    }
+
+    private static List<String> descriptions(List<Discount> discounts) {
+        return discounts.stream().map(Discount::getDescription).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package org.interview.tecalliance.adapter.out.persistence.coalescing;
+
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.MongoCommandRecorder;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "tecalliance.persistence.write-coalescing.enabled=true",
+        "tecalliance.persistence.write-coalescing.window=PT0.2S",
+        "tecalliance.persistence.write-coalescing.max-batch-size=10"
+})
+@Import({TestContainersConfiguration.class, MongoCommandRecorder.class})
+class WriteCoalescingArticlePersistencePortTest {
+
+    private static final String ARTICLES = "articles";
+    private static final String UNIQUE_NAME_INDEX = "unique_name_test";
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private WriteCoalescingArticlePersistencePort coalescingPort;
+
+    @Autowired
+    private MongoCommandRecorder commandRecorder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void testCoalescingPort_IsStarted() {
+        assertTrue(coalescingPort.isRunning());
+    }
+
+    @Test
+    void testConcurrentSaves_ShareBulkWrites() throws Exception {
+        double writtenBefore = meterRegistry.get("articles.write.coalescing.batch.size").summary().totalAmount();
+        commandRecorder.reset();
+        List<Callable<Article>> saves = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Article article = article("Article " + i);
+            saves.add(() -> persistencePort.save(article));
+        }
+
+        List<Article> saved = runConcurrently(saves).stream().map(WriteCoalescingArticlePersistencePortTest::get).toList();
+
+        for (Article article : saved) {
+            assertNotNull(article.getId());
+            assertEquals(article.getName(), persistencePort.findById(article.getId()).orElseThrow().getName());
+        }
+        long inserts = commandRecorder.commandsOn(ARTICLES).stream().filter("insert"::equals).count();
+        assertTrue(inserts < 10, "expected fewer bulk writes than saves, got " + inserts);
+        assertEquals(writtenBefore + 10, meterRegistry.get("articles.write.coalescing.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void testFailedArticle_FailsOnlyItsOwnSave() throws Exception {
+        mongoTemplate.getCollection(ARTICLES).createIndex(Indexes.ascending("name"),
+                new IndexOptions().unique(true).name(UNIQUE_NAME_INDEX));
+        try {
+            persistencePort.save(article("Taken"));
+
+            List<Future<Article>> results = runConcurrently(List.of(
+                    () -> persistencePort.save(article("Taken")),
+                    () -> persistencePort.save(article("Free"))));
+
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> results.get(0).get());
+            assertInstanceOf(DuplicateKeyException.class, failure.getCause());
+            Article free = get(results.get(1));
+            assertTrue(persistencePort.existsById(free.getId()));
+        } finally {
+            mongoTemplate.getCollection(ARTICLES).dropIndex(UNIQUE_NAME_INDEX);
+        }
+    }
+
+    private static <T> List<Future<T>> runConcurrently(List<Callable<T>> tasks) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(tasks.size())) {
+            List<Future<T>> futures = tasks.stream()
+                    .map(task -> executor.submit(() -> {
+                        start.await();
+                        return task.call();
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<T> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException _) {
+                    // inspected by the test
+                }
+            }
+            return futures;
+        }
+    }
+
+    private static <T> T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Article article(String name) {
+        return new Article(null, name, "Saved concurrently",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+}
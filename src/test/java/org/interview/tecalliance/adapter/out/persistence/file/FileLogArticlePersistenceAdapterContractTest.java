@@ -0,0 +1,33 @@
+package org.interview.tecalliance.adapter.out.persistence.file;
+
+import org.interview.tecalliance.adapter.out.persistence.ArticlePersistencePortContractTest;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+class FileLogArticlePersistenceAdapterContractTest extends ArticlePersistencePortContractTest {
+
+    @TempDir
+    private Path directory;
+
+    private FileLogArticlePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new FileLogArticlePersistenceAdapter(directory.toString(), DataSize.ofKilobytes(64), false, 0.5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.destroy();
+    }
+
+    @Override
+    protected ArticlePersistencePort persistencePort() {
+        return adapter;
+    }
+}
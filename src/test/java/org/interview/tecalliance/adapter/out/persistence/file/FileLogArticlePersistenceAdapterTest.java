@@ -0,0 +1,157 @@
+package org.interview.tecalliance.adapter.out.persistence.file;
+
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileLogArticlePersistenceAdapterTest {
+
+    @TempDir
+    private Path directory;
+
+    private FileLogArticlePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.destroy();
+    }
+
+    @Test
+    void testReopen_RecoversLatestStateOfEveryArticle() {
+        Article kept = adapter.save(article("Kept"));
+        Article changed = adapter.save(article("Changed"));
+        Article deleted = adapter.save(article("Deleted"));
+        changed.setName("Changed again");
+        adapter.replace(changed);
+        adapter.deleteById(deleted.getId());
+
+        reopen();
+
+        assertEquals(kept, adapter.findById(kept.getId()).orElseThrow());
+        assertEquals("Changed again", adapter.findById(changed.getId()).orElseThrow().getName());
+        assertEquals(1L, adapter.findById(changed.getId()).orElseThrow().getVersion());
+        assertFalse(adapter.existsById(deleted.getId()));
+        assertEquals(2, adapter.findAll().size());
+    }
+
+    @Test
+    void testReopen_DiscardsIncompleteLastRecord() throws IOException {
+        Article saved = adapter.save(article("Complete"));
+        adapter.destroy();
+
+        long end;
+        try (ArticleLogFile logFile = new ArticleLogFile(logPath(), 0)) {
+            logFile.replay((_, _, _) -> { });
+            end = logFile.size();
+        }
+        try (FileChannel channel = FileChannel.open(logPath(), StandardOpenOption.WRITE)) {
+            ByteBuffer tornHeader = ByteBuffer.allocate(9).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(200).putInt(12345).put(ArticleLogFile.PUT).flip();
+            channel.write(tornHeader, end);
+        }
+
+        adapter = open();
+
+        assertEquals(List.of(saved), adapter.findAll());
+        Article afterCrash = adapter.save(article("After crash"));
+        reopen();
+        assertEquals(2, adapter.findAll().size());
+        assertTrue(adapter.existsById(afterCrash.getId()));
+    }
+
+    @Test
+    void testSave_GrowsBeyondInitialSize() {
+        List<Article> saved = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            saved.add(adapter.save(articleWithDiscounts("Article " + i)));
+        }
+
+        reopen();
+
+        assertEquals(500, adapter.findAll().size());
+        assertEquals(saved.getLast(), adapter.findById(saved.getLast().getId()).orElseThrow());
+    }
+
+    @Test
+    void testCompact_DropsReplacedAndDeletedRecords() throws IOException {
+        Article article = adapter.save(articleWithDiscounts("Often changed"));
+        Article deleted = adapter.save(articleWithDiscounts("Deleted"));
+        for (int i = 0; i < 200; i++) {
+            article.setName("Version " + i);
+            article = adapter.replace(article).orElseThrow();
+        }
+        adapter.deleteById(deleted.getId());
+        long before = logSize();
+
+        adapter.compact();
+        reopen();
+
+        assertTrue(logSize() < before, "compacted log should be smaller");
+        assertEquals(List.of(article), adapter.findAll());
+        article.setName("After compaction");
+        assertEquals("After compaction", adapter.replace(article).orElseThrow().getName());
+    }
+
+    private long logSize() throws IOException {
+        adapter.destroy();
+        try (ArticleLogFile logFile = new ArticleLogFile(logPath(), 0)) {
+            logFile.replay((_, _, _) -> { });
+            return logFile.size();
+        } finally {
+            adapter = open();
+        }
+    }
+
+    private void reopen() {
+        adapter.destroy();
+        adapter = open();
+    }
+
+    private FileLogArticlePersistenceAdapter open() {
+        return new FileLogArticlePersistenceAdapter(directory.toString(), DataSize.ofKilobytes(4), true, 0.5);
+    }
+
+    private Path logPath() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+    }
+
+    private static Article article(String name) {
+        return new Article(null, name, "File storage test",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+
+    private static Article articleWithDiscounts(String name) {
+        Article article = article(name);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < 5; i++) {
+            article.addDiscount(new Discount((long) i, "Discount " + i, new BigDecimal("10"),
+                    start.plusMonths(i), start.plusMonths(i).plusDays(14)));
+        }
+        return article;
+    }
+}
@@ -0,0 +1,116 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleTombstoneEntity;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.interview.tecalliance.domain.model.changes.ArticleChange;
+import org.interview.tecalliance.domain.model.changes.ChangePosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class MongoArticleChangeFeedAdapterTest {
+
+    @Autowired
+    private MongoArticleChangeFeedAdapter changeFeedAdapter;
+
+    @Autowired
+    private MongoArticlePersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+        mongoTemplate.remove(new Query(), ArticleTombstoneEntity.class);
+    }
+
+    @Test
+    void testFindChanges_ReturnsLatestUpsertsAndDeletionsInOrder() {
+        Article kept = persistenceAdapter.save(article("Laptop"));
+        Article deleted = persistenceAdapter.save(article("Mouse"));
+        persistenceAdapter.update(kept.getId(), Map.of(ArticleField.NAME, "Notebook"), 0L);
+        assertTrue(persistenceAdapter.deleteById(deleted.getId()));
+
+        List<ArticleChange> changes = changeFeedAdapter.findChanges(null, Instant.now().plusSeconds(60), 10);
+
+        assertEquals(2, changes.size());
+        ArticleChange upsert = changes.stream().filter(change -> change.type() == ArticleChange.Type.UPSERTED)
+                .findFirst().orElseThrow();
+        assertEquals(kept.getId(), upsert.articleId());
+        assertEquals("Notebook", upsert.article().getName());
+        assertEquals(1L, upsert.article().getVersion());
+        ArticleChange deletion = changes.stream().filter(change -> change.type() == ArticleChange.Type.DELETED)
+                .findFirst().orElseThrow();
+        assertEquals(deleted.getId(), deletion.articleId());
+        assertNull(deletion.article());
+        assertTrue(changes.get(0).position().compareTo(changes.get(1).position()) < 0);
+    }
+
+    @Test
+    void testFindChanges_ContinuesAfterPosition() {
+        Set<String> ids = Stream.of("Laptop", "Mouse", "Keyboard")
+                .map(name -> persistenceAdapter.save(article(name)).getId())
+                .collect(Collectors.toSet());
+        Instant until = Instant.now().plusSeconds(60);
+
+        List<ArticleChange> first = changeFeedAdapter.findChanges(null, until, 2);
+        List<ArticleChange> second = changeFeedAdapter.findChanges(first.getLast().position(), until, 2);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals(ids, Stream.concat(first.stream(), second.stream())
+                .map(ArticleChange::articleId)
+                .collect(Collectors.toSet()));
+        assertTrue(changeFeedAdapter.findChanges(second.getLast().position(), until, 2).isEmpty());
+    }
+
+    @Test
+    void testFindChanges_LeavesOutChangesAfterUntil() {
+        Article saved = persistenceAdapter.save(article("Laptop"));
+
+        assertTrue(changeFeedAdapter.findChanges(null, saved.getUpdatedAt().minusMillis(1), 10).isEmpty());
+        assertEquals(1, changeFeedAdapter.findChanges(null, saved.getUpdatedAt(), 10).size());
+    }
+
+    @Test
+    void testFindChanges_PositionBreaksTiesById() {
+        Article saved = persistenceAdapter.save(article("Laptop"));
+        Instant until = Instant.now().plusSeconds(60);
+
+        assertEquals(1, changeFeedAdapter.findChanges(
+                new ChangePosition(saved.getUpdatedAt(), "000000000000000000000000"), until, 10).size());
+        assertTrue(changeFeedAdapter.findChanges(
+                new ChangePosition(saved.getUpdatedAt(), saved.getId()), until, 10).isEmpty());
+    }
+
+    @Test
+    void testDeletionRetention_IsTheTombstoneExpiry() {
+        assertEquals(Duration.ofDays(30), changeFeedAdapter.deletionRetention());
+    }
+
+    private static Article article(String name) {
+        return new Article(null, name, null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+}
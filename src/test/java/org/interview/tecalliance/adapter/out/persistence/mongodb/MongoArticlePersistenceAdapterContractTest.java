@@ -0,0 +1,33 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.ArticlePersistencePortContractTest;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class MongoArticlePersistenceAdapterContractTest extends ArticlePersistencePortContractTest {
+
+    @Autowired
+    private MongoArticlePersistenceAdapter adapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    protected ArticlePersistencePort persistencePort() {
+        return adapter;
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+}
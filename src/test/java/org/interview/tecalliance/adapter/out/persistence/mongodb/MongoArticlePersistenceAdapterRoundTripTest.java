@@ -0,0 +1,188 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.in.ArticleUseCase;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.config.MongoCommandRecorder;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.interview.tecalliance.domain.model.article.ArticlePatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of MongoDB commands per use case call with the embedded discount layout.
+ */
+@SpringBootTest
+@Import({TestContainersConfiguration.class, MongoCommandRecorder.class})
+class MongoArticlePersistenceAdapterRoundTripTest {
+
+    private static final String ARTICLES = "articles";
+
+    @Autowired
+    private ArticleUseCase articleUseCase;
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private MongoCommandRecorder commandRecorder;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void testCreateArticle_SingleInsert() {
+        commandRecorder.reset();
+
+        Article created = articleUseCase.createArticle(article());
+
+        assertNotNull(created.getId());
+        assertEquals(0L, created.getVersion());
+        assertEquals(List.of("insert"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testGetArticleById_SingleFind() {
+        Article created = articleUseCase.createArticle(article());
+        commandRecorder.reset();
+
+        assertTrue(articleUseCase.getArticleById(created.getId()).isPresent());
+
+        assertEquals(List.of("find"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testUpdateArticle_WithDiscounts_SingleFindAndModify() {
+        Article created = articleUseCase.createArticle(article());
+        commandRecorder.reset();
+
+        created.setName("Updated");
+        Article updated = articleUseCase.updateArticle(created.getId(), created).orElseThrow();
+
+        assertEquals("Updated", updated.getName());
+        assertEquals(1L, updated.getVersion());
+        assertEquals(1, updated.getDiscounts().size());
+        assertEquals(List.of("findAndModify"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testUpdateArticle_WithoutDiscounts_ReadsStoredDiscountsOnce() {
+        Article created = articleUseCase.createArticle(article());
+        commandRecorder.reset();
+
+        Article update = new Article(null, "Updated", null,
+                new BigDecimal("100.00"), new BigDecimal("190.00"), new BigDecimal("0.19"));
+        update.setDiscounts(null);
+        Article updated = articleUseCase.updateArticle(created.getId(), update).orElseThrow();
+
+        assertEquals(1, updated.getDiscounts().size());
+        assertNull(updated.getSlogan());
+        assertEquals(List.of("find", "findAndModify"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testUpdateArticle_WithStaleVersion_IsRejected() {
+        Article created = articleUseCase.createArticle(article());
+        Article stale = articleUseCase.getArticleById(created.getId()).orElseThrow();
+        articleUseCase.updateArticle(created.getId(), articleUseCase.getArticleById(created.getId()).orElseThrow());
+
+        stale.setName("Lost update");
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> articleUseCase.updateArticle(created.getId(), stale));
+        assertEquals(created.getName(), articleUseCase.getArticleById(created.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testUpdateArticle_WhenArticleNotFound_SingleFindAndModify() {
+        commandRecorder.reset();
+
+        assertTrue(articleUseCase.updateArticle("507f1f77bcf86cd799439011", article()).isEmpty());
+
+        assertEquals(List.of("findAndModify"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testPatchArticle_WithoutChanges_DoesNotWrite() {
+        Article created = articleUseCase.createArticle(article());
+        commandRecorder.reset();
+
+        Article patched = articleUseCase.patchArticle(created.getId(),
+                new ArticlePatch(Map.of(ArticleField.NAME, "Round Trip"), null)).orElseThrow();
+
+        assertEquals(0L, patched.getVersion());
+        assertEquals(List.of("find"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testPatchArticle_SetsAndUnsetsOnlyChangedFields() {
+        Article created = articleUseCase.createArticle(article());
+        commandRecorder.reset();
+
+        Map<ArticleField, Object> values = new EnumMap<>(ArticleField.class);
+        values.put(ArticleField.NAME, "Patched");
+        values.put(ArticleField.SLOGAN, null);
+        Article patched = articleUseCase.patchArticle(created.getId(), new ArticlePatch(values, null)).orElseThrow();
+
+        assertEquals("Patched", patched.getName());
+        assertNull(patched.getSlogan());
+        assertEquals(1, patched.getDiscounts().size());
+        assertEquals(1L, patched.getVersion());
+        assertEquals(List.of("find", "findAndModify"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testDeleteArticle_SingleDelete() {
+        Article created = articleUseCase.createArticle(article());
+        commandRecorder.reset();
+
+        assertTrue(articleUseCase.deleteArticle(created.getId()));
+        assertFalse(articleUseCase.deleteArticle(created.getId()));
+
+        assertEquals(List.of("delete", "delete"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    @Test
+    void testSaveAll_InvalidId_FailsOnlyThatArticle_SingleBulkWrite() {
+        Article invalid = article();
+        invalid.setId("not-an-id");
+        commandRecorder.reset();
+
+        List<SaveResult> results = persistencePort.saveAll(List.of(article(), invalid, article()));
+
+        assertTrue(results.get(0).isSaved());
+        assertFalse(results.get(1).isSaved());
+        assertTrue(results.get(2).isSaved());
+        assertEquals(List.of("insert"), commandRecorder.commandsOn(ARTICLES));
+    }
+
+    private static Article article() {
+        Article article = new Article(null, "Round Trip", "Counted",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(1L, "Sale", new BigDecimal("10"),
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(10)));
+        return article;
+    }
+}
@@ -0,0 +1,73 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class MongoDiscountBoundaryAdapterTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2026, 7, 1);
+    private static final LocalDate JULY_2 = LocalDate.of(2026, 7, 2);
+
+    @Autowired
+    private MongoDiscountBoundaryAdapter boundaryAdapter;
+
+    @Autowired
+    private MongoArticlePersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void testFindWithDiscountBoundaryBetween_FindsDiscountsStartingOrEndingInBetween() {
+        Article starting = persistenceAdapter.save(article(discount("10", "2026-07-02", "2026-07-31")));
+        Article ending = persistenceAdapter.save(article(
+                discount("20", "2026-06-01", "2026-07-01"), discount("5", "2026-12-01", "2026-12-31")));
+        persistenceAdapter.save(article(discount("10", "2026-06-01", "2026-07-31")));
+        persistenceAdapter.save(article(discount("10", "2026-07-03", "2026-07-31")));
+        persistenceAdapter.save(article(discount("10", "2026-06-01", "2026-06-30")));
+        persistenceAdapter.save(article());
+
+        List<Article> candidates = boundaryAdapter.findWithDiscountBoundaryBetween(JULY_1, JULY_2);
+
+        assertEquals(Set.of(starting.getId(), ending.getId()),
+                candidates.stream().map(Article::getId).collect(Collectors.toSet()));
+        Article found = candidates.stream().filter(article -> article.getId().equals(ending.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(2, found.getDiscounts().size());
+    }
+
+    private static Discount discount(String percentage, String start, String end) {
+        return new Discount(null, null, new BigDecimal(percentage), LocalDate.parse(start), LocalDate.parse(end));
+    }
+
+    private static Article article(Discount... discounts) {
+        Article article = new Article(null, "Laptop", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setDiscounts(List.of(discounts));
+        return article;
+    }
+}
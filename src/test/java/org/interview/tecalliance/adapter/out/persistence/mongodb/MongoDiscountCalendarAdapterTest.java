@@ -0,0 +1,84 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.DiscountPeriodCount;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class MongoDiscountCalendarAdapterTest {
+
+    @Autowired
+    private MongoDiscountCalendarAdapter calendarAdapter;
+
+    @Autowired
+    private MongoArticlePersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void testCountDiscountPeriods_GroupsDiscountsInTheWindow() {
+        persistenceAdapter.save(article(
+                discount("10", "2026-07-01", "2026-07-31"), discount("20", "2026-12-01", "2026-12-31")));
+        persistenceAdapter.save(article(discount("10", "2026-07-01", "2026-07-31")));
+        persistenceAdapter.save(article(discount("15", "2026-06-01", "2026-07-01")));
+        persistenceAdapter.save(article(discount("30", "2026-05-01", "2026-05-31")));
+        persistenceAdapter.save(article());
+
+        List<DiscountPeriodCount> periods = calendarAdapter.countDiscountPeriods(
+                        new DiscountWindow(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 9, 30))).stream()
+                .sorted(Comparator.comparing(DiscountPeriodCount::startDate))
+                .toList();
+
+        assertEquals(2, periods.size());
+        assertEquals(LocalDate.of(2026, 6, 1), periods.get(0).startDate());
+        assertEquals(LocalDate.of(2026, 7, 1), periods.get(0).endDate());
+        assertEquals(0, new BigDecimal("15").compareTo(periods.get(0).discountPercentage()));
+        assertEquals(1, periods.get(0).discounts());
+        assertEquals(LocalDate.of(2026, 7, 31), periods.get(1).endDate());
+        assertEquals(0, new BigDecimal("10").compareTo(periods.get(1).discountPercentage()));
+        assertEquals(2, periods.get(1).discounts());
+    }
+
+    @Test
+    void testCountDiscountPeriods_WithOpenWindow_CountsAllDiscounts() {
+        persistenceAdapter.save(article(
+                discount("10", "2026-07-01", "2026-07-31"), discount("20", "2026-12-01", "2026-12-31")));
+
+        assertEquals(2, calendarAdapter.countDiscountPeriods(new DiscountWindow(null, null)).size());
+    }
+
+    private static Discount discount(String percentage, String start, String end) {
+        return new Discount(null, null, new BigDecimal(percentage), LocalDate.parse(start), LocalDate.parse(end));
+    }
+
+    private static Article article(Discount... discounts) {
+        Article article = new Article(null, "Laptop", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setDiscounts(List.of(discounts));
+        return article;
+    }
+}
@@ -0,0 +1,81 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.CampaignBatchResult;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class MongoDiscountCampaignAdapterTest {
+
+    private static final Discount BLACK_FRIDAY = new Discount(7L, "Black Friday", new BigDecimal("20"),
+            LocalDate.of(2026, 11, 27), LocalDate.of(2026, 11, 30));
+
+    @Autowired
+    private MongoDiscountCampaignAdapter campaignAdapter;
+
+    @Autowired
+    private MongoArticlePersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void testFindTargets_MatchesAllCriteriaInIdOrder() {
+        Article cheap = persistenceAdapter.save(article("Laptop Basic", "50.00", "100.00"));
+        Article expensive = persistenceAdapter.save(article("Laptop Pro", "500.00", "900.00"));
+        persistenceAdapter.save(article("Mouse", "5.00", "100.00"));
+        CampaignSelector selector = new CampaignSelector(null, "Laptop", new BigDecimal("100.00"), new BigDecimal("900.00"));
+
+        assertEquals(List.of(cheap.getId(), expensive.getId()), campaignAdapter.findTargets(selector, null, 10));
+        assertEquals(List.of(expensive.getId()), campaignAdapter.findTargets(selector, cheap.getId(), 10));
+        assertEquals(List.of(cheap.getId()), campaignAdapter.findTargets(
+                new CampaignSelector(List.of(cheap.getId(), "not-an-id"), null, null, null), null, 10));
+    }
+
+    @Test
+    void testApplyDiscount_SkipsOverlappingAndBelowNetPrice() {
+        Article eligible = persistenceAdapter.save(article("Eligible", "100.00", "200.00"));
+        Article belowNet = persistenceAdapter.save(article("Below net", "180.00", "200.00"));
+        Article overlapping = article("Overlapping", "100.00", "200.00");
+        overlapping.addDiscount(new Discount(1L, "Weekend", new BigDecimal("10"),
+                LocalDate.of(2026, 11, 30), LocalDate.of(2026, 12, 1)));
+        overlapping = persistenceAdapter.save(overlapping);
+
+        CampaignBatchResult result = campaignAdapter.applyDiscount(
+                List.of(eligible.getId(), belowNet.getId(), overlapping.getId()), BLACK_FRIDAY);
+
+        assertEquals(1, result.applied());
+        assertEquals(List.of(eligible.getId()), result.updatedArticles().stream().map(Article::getId).toList());
+        Article stored = persistenceAdapter.findById(eligible.getId()).orElseThrow();
+        assertEquals(List.of(BLACK_FRIDAY), stored.getDiscounts());
+        assertEquals(1L, stored.getVersion());
+        assertEquals(0L, persistenceAdapter.findById(belowNet.getId()).orElseThrow().getVersion());
+        assertEquals(1, persistenceAdapter.findById(overlapping.getId()).orElseThrow().getDiscounts().size());
+    }
+
+    private static Article article(String name, String netPrice, String salesPrice) {
+        return new Article(null, name, null, new BigDecimal(netPrice), new BigDecimal(salesPrice), new BigDecimal("0.19"));
+    }
+}
@@ -0,0 +1,104 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.RepricingCheckpoint;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.repricing.PriceAdjustment;
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class MongoRepricingAdapterTest {
+
+    private static final BigDecimal STANDARD = new BigDecimal("0.19");
+    private static final BigDecimal REDUCED = new BigDecimal("0.07");
+    private static final BigDecimal NEW = new BigDecimal("0.16");
+
+    @Autowired
+    private MongoRepricingAdapter repricingAdapter;
+
+    @Autowired
+    private MongoArticlePersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+        mongoTemplate.getCollection(MongoRepricingAdapter.CHECKPOINT_COLLECTION).drop();
+    }
+
+    @Test
+    void testFindTargets_SkipsOtherAndAlreadyChangedVatRatios() {
+        Article first = persistenceAdapter.save(article("First", STANDARD));
+        Article second = persistenceAdapter.save(article("Second", STANDARD));
+        persistenceAdapter.save(article("Reduced", REDUCED));
+        Article changed = persistenceAdapter.save(article("Changed", NEW));
+
+        assertEquals(List.of(first.getId(), second.getId()), ids(repricingAdapter.findTargets(STANDARD, NEW, null, 10)));
+        assertEquals(List.of(second.getId()), ids(repricingAdapter.findTargets(STANDARD, NEW, first.getId(), 10)));
+        assertEquals(3, repricingAdapter.findTargets(null, NEW, null, 10).size());
+        assertEquals(List.of(first.getId()),
+                ids(repricingAdapter.findTargets(STANDARD, NEW, List.of(first.getId(), changed.getId()))));
+    }
+
+    @Test
+    void testUpdatePrices_WritesOnlyUnchangedVersions() {
+        Article current = persistenceAdapter.save(article("Current", STANDARD));
+        Article outdated = persistenceAdapter.save(article("Outdated", STANDARD));
+        persistenceAdapter.replace(persistenceAdapter.findById(outdated.getId()).orElseThrow());
+
+        current.setVatRatio(NEW);
+        current.setSalesPrice(new BigDecimal("150.00"));
+        outdated.setVatRatio(NEW);
+
+        assertEquals(1, repricingAdapter.updatePrices(List.of(current, outdated)));
+        Article stored = persistenceAdapter.findById(current.getId()).orElseThrow();
+        assertEquals(0, NEW.compareTo(stored.getVatRatio()));
+        assertEquals(new BigDecimal("150.00"), stored.getSalesPrice());
+        assertEquals(1L, stored.getVersion());
+        assertEquals(List.of(outdated.getId()),
+                ids(persistenceAdapter.findEligibleForDiscount(new BigDecimal("40"), 0, 10)));
+        assertEquals(0, STANDARD.compareTo(persistenceAdapter.findById(outdated.getId()).orElseThrow().getVatRatio()));
+    }
+
+    @Test
+    void testCheckpoints_RoundTripAndOnlyUnfinishedAreFound() {
+        RepricingRequest request = new RepricingRequest(STANDARD, NEW,
+                new PriceAdjustment(PriceAdjustment.Type.PERCENTAGE, new BigDecimal("-2.5")),
+                Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        Instant submittedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        RepricingCheckpoint running = new RepricingCheckpoint("running", request, JobState.RUNNING,
+                "507f1f77bcf86cd799439011", 10, 8, 2, 1, 1, submittedAt, null);
+        repricingAdapter.saveCheckpoint(running);
+        repricingAdapter.saveCheckpoint(new RepricingCheckpoint("done", request, JobState.COMPLETED,
+                null, 0, 0, 0, 0, 0, submittedAt, null));
+
+        assertEquals(List.of(running), repricingAdapter.findUnfinishedCheckpoints());
+    }
+
+    private static List<String> ids(List<Article> articles) {
+        return articles.stream().map(Article::getId).toList();
+    }
+
+    private static Article article(String name, BigDecimal vatRatio) {
+        return new Article(null, name, null, new BigDecimal("100.00"), new BigDecimal("200.00"), vatRatio);
+    }
+}
@@ -0,0 +1,173 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb;
+
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.migration.DiscountLayoutMigration;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "tecalliance.persistence.discount-layout=separate")
+@Import(TestContainersConfiguration.class)
+class SeparateDiscountsMongoArticlePersistenceAdapterTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+        mongoTemplate.remove(new Query(), DiscountEntity.class);
+    }
+
+    @Test
+    void testSeparateLayoutAdapterIsActive() {
+        assertInstanceOf(SeparateDiscountsMongoArticlePersistenceAdapter.class, persistencePort);
+    }
+
+    @Test
+    void testSave_StoresDiscountsOutsideArticleDocument() {
+        Article saved = persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+
+        ArticleEntity stored = mongoTemplate.findById(new ObjectId(saved.getId()), ArticleEntity.class);
+        assertNotNull(stored);
+        assertTrue(stored.getDiscounts() == null || stored.getDiscounts().isEmpty());
+        assertEquals(3, mongoTemplate.count(
+                Query.query(Criteria.where("articleId").is(new ObjectId(saved.getId()))), DiscountEntity.class));
+    }
+
+    @Test
+    void testSaveAll_SavesEveryArticleWithItsDiscounts() {
+        List<SaveResult> results = persistencePort.saveAll(List.of(
+                articleWithPastCurrentAndFutureDiscounts(),
+                new Article(null, "Plain", "No discounts",
+                        new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19"))));
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(SaveResult::isSaved));
+        assertEquals(List.of("Current", "Future"),
+                descriptions(persistencePort.findById(results.get(0).article().getId()).orElseThrow()));
+        assertEquals("Plain", persistencePort.findById(results.get(1).article().getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testFindById_LoadsHistoryOnlyWhenRequested() {
+        Article saved = persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+
+        Article current = persistencePort.findById(saved.getId()).orElseThrow();
+        Article withHistory = persistencePort.findById(saved.getId(), true).orElseThrow();
+
+        assertEquals(List.of("Current", "Future"), descriptions(current));
+        assertEquals(List.of("Past", "Current", "Future"), descriptions(withHistory));
+    }
+
+    @Test
+    void testFindAll_LoadsDiscountHistory() {
+        persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+
+        List<Article> articles = persistencePort.findAll();
+
+        assertEquals(1, articles.size());
+        assertEquals(List.of("Past", "Current", "Future"), descriptions(articles.getFirst()));
+    }
+
+    @Test
+    void testSave_ReplacesCurrentAndFutureDiscountsButKeepsHistory() {
+        Article saved = persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+
+        Article loaded = persistencePort.findById(saved.getId()).orElseThrow();
+        loaded.getDiscounts().removeIf(discount -> "Future".equals(discount.getDescription()));
+        persistencePort.save(loaded);
+
+        assertEquals(List.of("Past", "Current"), descriptions(persistencePort.findById(saved.getId(), true).orElseThrow()));
+    }
+
+    @Test
+    void testSave_WithoutDiscounts_KeepsStoredDiscounts() {
+        Article saved = persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+        Article overwrite = new Article(saved.getId(), "Renamed", "No discounts given",
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19"));
+        overwrite.setDiscounts(null);
+
+        Article overwritten = persistencePort.save(overwrite);
+
+        assertEquals(1L, overwritten.getVersion());
+        assertEquals(List.of("Current", "Future"), descriptions(overwritten));
+        assertEquals(List.of("Past", "Current", "Future"), descriptions(persistencePort.findById(saved.getId(), true).orElseThrow()));
+    }
+
+    @Test
+    void testFindWithDiscountActiveOn_ReturnsOnlyArticlesWithActiveDiscount() {
+        Article discounted = persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+        persistencePort.save(new Article(null, "Plain", "No discounts",
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19")));
+
+        List<Article> result = persistencePort.findWithDiscountActiveOn(TODAY);
+
+        assertEquals(1, result.size());
+        assertEquals(discounted.getId(), result.getFirst().getId());
+        assertNotNull(result.getFirst().getApplicableDiscount(TODAY));
+    }
+
+    @Test
+    void testDeleteById_RemovesArticleDiscounts() {
+        Article saved = persistencePort.save(articleWithPastCurrentAndFutureDiscounts());
+
+        assertTrue(persistencePort.deleteById(saved.getId()));
+        assertFalse(persistencePort.deleteById(saved.getId()));
+        assertEquals(0, mongoTemplate.count(new Query(), DiscountEntity.class));
+    }
+
+    @Test
+    void testMigration_MovesEmbeddedDiscountsToCollection() {
+        for (int i = 0; i < 3; i++) {
+            ArticleEntity embedded = new ArticleEntity(null, "Embedded " + i, null,
+                    new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"),
+                    articleWithPastCurrentAndFutureDiscounts().getDiscounts(), 0L, null);
+            mongoTemplate.insert(embedded);
+        }
+
+        new DiscountLayoutMigration(mongoTemplate, 2).run(null);
+        // a second run must be a no-op
+        new DiscountLayoutMigration(mongoTemplate, 2).run(null);
+
+        assertEquals(9, mongoTemplate.count(new Query(), DiscountEntity.class));
+        assertEquals(0, mongoTemplate.count(Query.query(Criteria.where("discounts").exists(true)), ArticleEntity.class));
+        persistencePort.findAll().forEach(article -> assertEquals(2, article.getDiscounts().size()));
+    }
+
+    private static Article articleWithPastCurrentAndFutureDiscounts() {
+        Article article = new Article(null, "Promo Article", "Always on sale",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(null, "Past", new BigDecimal("10"), TODAY.minusDays(30), TODAY.minusDays(20)));
+        article.addDiscount(new Discount(null, "Current", new BigDecimal("20"), TODAY.minusDays(1), TODAY.plusDays(1)));
+        article.addDiscount(new Discount(null, "Future", new BigDecimal("30"), TODAY.plusDays(10), TODAY.plusDays(20)));
+        return article;
+    }
+
+    private static List<String> descriptions(Article article) {
+        return article.getDiscounts().stream().map(Discount::getDescription).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.codec;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleCodecTest {
+
+    private final ArticleCodec codec = new ArticleCodec();
+
+    @Test
+    void testRoundTrip_PreservesAllFields() {
+        Article article = new Article(new ObjectId().toHexString(), "Laptop Pro 15", "Best laptop ever!",
+                new BigDecimal("500.00"), new BigDecimal("800.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(1L, "Summer Sale", new BigDecimal("15.50"),
+                LocalDate.of(2026, 6, 1), LocalDate.of(2026, 8, 31)));
+        article.addDiscount(new Discount(null, "Winter Sale", new BigDecimal("10"),
+                LocalDate.of(2026, 12, 1), LocalDate.of(2026, 12, 31)));
+        article.setVersion(3L);
+        article.setUpdatedAt(Instant.parse("2026-07-01T08:15:30.123Z"));
+
+        Article decoded = decode(encode(article));
+
+        assertEquals(article, decoded);
+    }
+
+    @Test
+    void testEncode_UsesDecimal128AndUtcDates() {
+        Article article = new Article(new ObjectId().toHexString(), "Article", null,
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(7L, "Sale", new BigDecimal("5"),
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)));
+
+        BsonDocument document = encode(article);
+
+        assertEquals(new ObjectId(article.getId()), document.getObjectId("_id").getValue());
+        assertFalse(document.containsKey("slogan"));
+        assertEquals(new Decimal128(new BigDecimal("20.00")), document.getDecimal128("salesPrice").getValue());
+        BsonDocument discount = document.getArray("discounts").get(0).asDocument();
+        assertEquals(7L, discount.getInt64("_id").getValue());
+        assertEquals(1767225600000L, discount.getDateTime("startDate").getValue());
+    }
+
+    @Test
+    void testDecode_ReadsLegacyRepresentationsAndSkipsUnknownFields() {
+        BsonDocument document = BsonDocument.parse("""
+                {
+                  "_id": {"$oid": "507f1f77bcf86cd799439011"},
+                  "_class": "org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity",
+                  "name": "Legacy",
+                  "netPrice": "10.00",
+                  "salesPrice": 20.5,
+                  "vatRatio": {"$numberDecimal": "0.19"},
+                  "score": 1.5,
+                  "discounts": [
+                    {"id": {"$numberLong": "3"}, "description": "Old", "discountPercentage": "10",
+                     "startDate": {"$date": "2026-01-01T00:00:00Z"}, "endDate": {"$date": "2026-01-31T00:00:00Z"},
+                     "nested": {"ignored": true}}
+                  ]
+                }
+                """);
+
+        Article article = decode(document);
+
+        assertEquals("507f1f77bcf86cd799439011", article.getId());
+        assertEquals("Legacy", article.getName());
+        assertNull(article.getSlogan());
+        assertEquals(new BigDecimal("10.00"), article.getNetPrice());
+        assertEquals(new BigDecimal("20.5"), article.getSalesPrice());
+        assertEquals(new BigDecimal("0.19"), article.getVatRatio());
+        assertEquals(0L, article.getVersion());
+        Discount discount = article.getDiscounts().getFirst();
+        assertEquals(3L, discount.getId());
+        assertEquals(new BigDecimal("10"), discount.getDiscountPercentage());
+        assertEquals(LocalDate.of(2026, 1, 1), discount.getStartDate());
+        assertEquals(LocalDate.of(2026, 1, 31), discount.getEndDate());
+    }
+
+    @Test
+    void testDecode_WithoutDiscounts_ReturnsEmptyList() {
+        Article article = decode(BsonDocument.parse("{\"name\": \"Plain\"}"));
+
+        assertNotNull(article.getDiscounts());
+        assertTrue(article.getDiscounts().isEmpty());
+    }
+
+    private BsonDocument encode(Article article) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), article, EncoderContext.builder().build());
+        return document;
+    }
+
+    private Article decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
@@ -0,0 +1,123 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.codec;
+
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.mapper.ArticleEntityMapper;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the {@link ArticleCodec} with the previous read path (driver {@link Document},
+ * {@code MappingMongoConverter}, MapStruct copy). Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class ArticleDecodeBenchmarkTest {
+
+    private static final int ARTICLES = 2_000;
+    private static final int DISCOUNTS_PER_ARTICLE = 20;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ArticleEntityMapper mapper;
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void benchmarkDecode() {
+        ArticleCodec codec = new ArticleCodec();
+        DocumentCodec documentCodec = new DocumentCodec(mongoTemplate.getDb().getCodecRegistry());
+        List<RawBsonDocument> documents = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            documents.add(new RawBsonDocument(article(i), codec));
+        }
+
+        Function<RawBsonDocument, Article> converterPath = raw -> mapper.toDomain(mongoTemplate.getConverter()
+                .read(ArticleEntity.class, documentCodec.decode(reader(raw), DecoderContext.builder().build())));
+        Function<RawBsonDocument, Article> codecPath = raw -> codec.decode(reader(raw), DecoderContext.builder().build());
+
+        assertEquals(converterPath.apply(documents.getFirst()), codecPath.apply(documents.getFirst()));
+
+        double converter = measure("decode (converter + mapper)", () -> documents.forEach(converterPath::apply));
+        double direct = measure("decode (ArticleCodec)", () -> documents.forEach(codecPath::apply));
+        System.out.printf("ArticleCodec decode speed-up: %.1fx%n", direct / converter);
+    }
+
+    @Test
+    void benchmarkFindAll() {
+        for (int i = 0; i < ARTICLES; i++) {
+            persistencePort.save(article(i));
+        }
+
+        assertEquals(ARTICLES, persistencePort.findAll().size());
+
+        double converter = measure("findAll (converter + mapper)",
+                () -> mongoTemplate.findAll(ArticleEntity.class).forEach(mapper::toDomain));
+        double direct = measure("findAll (ArticleCodec)", persistencePort::findAll);
+        System.out.printf("ArticleCodec findAll speed-up: %.1fx%n", direct / converter);
+    }
+
+    private static double measure(String name, Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            round.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double throughput = ARTICLES * MEASURED_ROUNDS / seconds;
+        System.out.printf("%-30s %,12.0f articles/s%n", name, throughput);
+        return throughput;
+    }
+
+    private static BsonBinaryReader reader(RawBsonDocument document) {
+        return new BsonBinaryReader(document.getByteBuffer().asNIO());
+    }
+
+    private static Article article(int i) {
+        Article article = new Article(new ObjectId().toHexString(), "Article " + i, "Slogan of article " + i,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setVersion(0L);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        for (int d = 0; d < DISCOUNTS_PER_ARTICLE; d++) {
+            article.addDiscount(new Discount((long) d, "Discount " + d, new BigDecimal("10.00"),
+                    start.plusMonths(d), start.plusMonths(d).plusDays(20)));
+        }
+        return article;
+    }
+}
@@ -0,0 +1,175 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.compaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArchivedDiscountEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.DiscountArchivePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class DiscountCompactionJobTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private DiscountArchivePort discountArchivePort;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private ArticleCachePort articleCachePort;
+    private SimpleMeterRegistry meterRegistry;
+    private DiscountCompactionJob job;
+
+    @BeforeEach
+    void setUp() {
+        articleCachePort = mock(ArticleCachePort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new DiscountCompactionJob(mongoTemplate, articleCachePort, meterRegistry, 2, Duration.ZERO, Period.ofDays(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+        mongoTemplate.remove(new Query(), ArchivedDiscountEntity.class);
+        mongoTemplate.dropCollection("compaction_checkpoints");
+    }
+
+    @Test
+    void testRun_MovesExpiredDiscountsToArchive() {
+        List<Article> articles = List.of(
+                persistencePort.save(articleWithOldAndCurrentDiscounts("First")),
+                persistencePort.save(articleWithOldAndCurrentDiscounts("Second")),
+                persistencePort.save(articleWithOldAndCurrentDiscounts("Third")));
+
+        DiscountCompactionJob.CompactionResult result = job.run();
+
+        assertEquals(new DiscountCompactionJob.CompactionResult(3, 3, 6, 0), result);
+        for (Article article : articles) {
+            assertEquals(List.of("Recent", "Current"),
+                    descriptions(persistencePort.findById(article.getId()).orElseThrow().getDiscounts()));
+            assertEquals(List.of("Older", "Old"), descriptions(discountArchivePort.findArchivedDiscounts(
+                    article.getId(), new DiscountWindow(null, null))));
+        }
+        assertEquals(6.0, meterRegistry.get("articles.compaction.discounts.archived").counter().count());
+        assertEquals(3.0, meterRegistry.get("articles.compaction.run.articles").gauge().value());
+        articles.forEach(article -> verify(articleCachePort).evict(article.getId()));
+    }
+
+    @Test
+    void testCompactBatch_WithConcurrentEdit_ArchivesNothingForTheArticle() {
+        Article edited = persistencePort.save(articleWithOldAndCurrentDiscounts("Edited"));
+        Article untouched = persistencePort.save(articleWithOldAndCurrentDiscounts("Untouched"));
+        Date cutoffDate = Date.from(TODAY.minusDays(30).atStartOfDay(ZoneOffset.UTC).toInstant());
+        List<Document> batch = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class))
+                .find().projection(Projections.include("discounts")).sort(Sorts.ascending("_id"))
+                .into(new ArrayList<>());
+
+        // the discount removed after the batch was read must not end up in the archive
+        Article changed = persistencePort.findById(edited.getId()).orElseThrow();
+        changed.getDiscounts().removeIf(discount -> discount.getDescription().equals("Old"));
+        persistencePort.save(changed);
+
+        DiscountCompactionJob.BatchResult result = job.compactBatch(batch, cutoffDate);
+
+        assertEquals(new DiscountCompactionJob.BatchResult(1, 2, 1), result);
+        assertEquals(List.of(), discountArchivePort.findArchivedDiscounts(edited.getId(), new DiscountWindow(null, null)));
+        assertEquals(List.of("Older", "Recent", "Current"),
+                descriptions(persistencePort.findById(edited.getId()).orElseThrow().getDiscounts()));
+        assertEquals(List.of("Older", "Old"), descriptions(discountArchivePort.findArchivedDiscounts(
+                untouched.getId(), new DiscountWindow(null, null))));
+        verify(articleCachePort).evict(untouched.getId());
+        verify(articleCachePort, never()).evict(edited.getId());
+    }
+
+    @Test
+    void testRun_IsIdempotent() {
+        Article article = persistencePort.save(articleWithOldAndCurrentDiscounts("Article"));
+
+        job.run();
+        DiscountCompactionJob.CompactionResult second = job.run();
+
+        assertEquals(0, second.articlesScanned());
+        assertEquals(2, mongoTemplate.count(new Query(), ArchivedDiscountEntity.class));
+        assertEquals(2, persistencePort.findById(article.getId()).orElseThrow().getDiscounts().size());
+    }
+
+    @Test
+    void testRun_ResumesFromCheckpoint() {
+        Article first = persistencePort.save(articleWithOldAndCurrentDiscounts("First"));
+        Article second = persistencePort.save(articleWithOldAndCurrentDiscounts("Second"));
+        mongoTemplate.getCollection("compaction_checkpoints").insertOne(
+                new Document("_id", DiscountCompactionJob.CHECKPOINT_ID)
+                        .append("lastArticleId", new ObjectId(first.getId())));
+
+        DiscountCompactionJob.CompactionResult resumed = job.run();
+
+        assertEquals(1, resumed.articlesScanned());
+        assertEquals(4, persistencePort.findById(first.getId()).orElseThrow().getDiscounts().size());
+        assertEquals(2, persistencePort.findById(second.getId()).orElseThrow().getDiscounts().size());
+
+        // the checkpoint was cleared at the end, so the next run starts from the beginning
+        assertEquals(1, job.run().articlesScanned());
+        assertEquals(2, persistencePort.findById(first.getId()).orElseThrow().getDiscounts().size());
+    }
+
+    @Test
+    void testArchivedDiscounts_AreFilteredByWindow() {
+        Article article = persistencePort.save(articleWithOldAndCurrentDiscounts("Article"));
+        job.run();
+
+        List<Discount> archived = discountArchivePort.findArchivedDiscounts(article.getId(),
+                new DiscountWindow(TODAY.minusDays(85), null));
+
+        assertEquals(List.of("Old"), descriptions(archived));
+    }
+
+    private static Article articleWithOldAndCurrentDiscounts(String name) {
+        Article article = new Article(null, name, "Discounted for a long time",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(null, "Older", new BigDecimal("10"), TODAY.minusDays(120), TODAY.minusDays(100)));
+        article.addDiscount(new Discount(null, "Old", new BigDecimal("15"), TODAY.minusDays(90), TODAY.minusDays(80)));
+        article.addDiscount(new Discount(null, "Recent", new BigDecimal("20"), TODAY.minusDays(20), TODAY.minusDays(10)));
+        article.addDiscount(new Discount(null, "Current", new BigDecimal("25"), TODAY.minusDays(1), TODAY.plusDays(10)));
+        return article;
+    }
+
+    private static List<String> descriptions(List<Discount> discounts) {
+        return discounts.stream().map(Discount::getDescription).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class Decimal128MigrationTest {
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+        mongoTemplate.remove(new Query(), DiscountEntity.class);
+    }
+
+    @Test
+    void testRun_ConvertsStringPricesAndPercentages() {
+        ObjectId id = new ObjectId();
+        articles().insertOne(new Document("_id", id)
+                .append("name", "Legacy")
+                .append("netPrice", "100.00")
+                .append("salesPrice", "200.00")
+                .append("vatRatio", "0.19")
+                .append("version", 3L)
+                .append("discounts", List.of(new Document("_id", 1L)
+                        .append("description", "Summer")
+                        .append("discountPercentage", "10.5")
+                        .append("startDate", utcMidnight(LocalDate.of(2026, 7, 1)))
+                        .append("endDate", utcMidnight(LocalDate.of(2026, 7, 31))))));
+
+        new Decimal128Migration(mongoTemplate).run(null);
+
+        Document stored = articles().find(new Document("_id", id)).first();
+        assertEquals(new Decimal128(new BigDecimal("100.00")), stored.get("netPrice"));
+        assertEquals(new Decimal128(new BigDecimal("200.00")), stored.get("salesPrice"));
+        assertEquals(new Decimal128(new BigDecimal("0.19")), stored.get("vatRatio"));
+        assertEquals(new Decimal128(new BigDecimal("10.5")),
+                stored.getList("discounts", Document.class).getFirst().get("discountPercentage"));
+
+        Article article = persistencePort.findById(id.toHexString()).orElseThrow();
+        assertEquals(new BigDecimal("200.00"), article.getSalesPrice());
+        assertEquals(3L, article.getVersion());
+    }
+
+    @Test
+    void testRun_KeepsDecimal128AndUnparsableValues() {
+        ObjectId id = new ObjectId();
+        articles().insertOne(new Document("_id", id)
+                .append("name", "Mixed")
+                .append("netPrice", new Decimal128(new BigDecimal("100.00")))
+                .append("salesPrice", "not a price"));
+
+        new Decimal128Migration(mongoTemplate).run(null);
+
+        Document stored = articles().find(new Document("_id", id)).first();
+        assertEquals(new Decimal128(new BigDecimal("100.00")), stored.get("netPrice"));
+        assertEquals("not a price", stored.get("salesPrice"));
+        assertFalse(stored.containsKey("vatRatio"));
+        assertFalse(stored.containsKey("discounts"));
+    }
+
+    @Test
+    void testRun_ConvertsSeparateDiscounts() {
+        ObjectId discountId = new ObjectId();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(DiscountEntity.class)).insertOne(
+                new Document("_id", discountId)
+                        .append("articleId", new ObjectId())
+                        .append("discountPercentage", "15"));
+
+        new Decimal128Migration(mongoTemplate).run(null);
+
+        DiscountEntity stored = mongoTemplate.findById(discountId, DiscountEntity.class);
+        assertEquals(new BigDecimal("15"), stored.getDiscountPercentage());
+        Document raw = mongoTemplate.getCollection(mongoTemplate.getCollectionName(DiscountEntity.class))
+                .find(new Document("_id", discountId)).first();
+        assertInstanceOf(Decimal128.class, raw.get("discountPercentage"));
+    }
+
+    private static Date utcMidnight(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private MongoCollection<Document> articles() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class));
+    }
+}
@@ -0,0 +1,141 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.migration;
+
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.DiscountEntity;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestContainersConfiguration.class)
+class DiscountDateMigrationTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final LocalDate START = LocalDate.of(2026, 7, 1);
+    private static final LocalDate END = LocalDate.of(2026, 7, 31);
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+        mongoTemplate.remove(new Query(), DiscountEntity.class);
+    }
+
+    @Test
+    void testRun_MovesDatesWrittenEastOfUtcToTheirDay() {
+        ObjectId id = insertArticle(BERLIN);
+
+        new DiscountDateMigration(mongoTemplate, BERLIN.getId()).run(null);
+
+        Article article = persistencePort.findById(id.toHexString()).orElseThrow();
+        Discount discount = article.getDiscounts().getFirst();
+        assertEquals(START, discount.getStartDate());
+        assertEquals(END, discount.getEndDate());
+        assertEquals(1L, article.getVersion());
+    }
+
+    @Test
+    void testRun_MovesDatesWrittenWestOfUtcToTheirDay() {
+        ObjectId id = insertArticle(NEW_YORK);
+
+        new DiscountDateMigration(mongoTemplate, NEW_YORK.getId()).run(null);
+
+        Document stored = articles().find(new Document("_id", id)).first();
+        Document discount = stored.getList("discounts", Document.class).getFirst();
+        assertEquals(utcMidnight(START), discount.getDate("startDate"));
+        assertEquals(utcMidnight(END), discount.getDate("endDate"));
+    }
+
+    @Test
+    void testRun_KeepsUtcMidnightDates() {
+        Article saved = persistencePort.save(article());
+
+        new DiscountDateMigration(mongoTemplate, NEW_YORK.getId()).run(null);
+
+        Article read = persistencePort.findById(saved.getId()).orElseThrow();
+        assertEquals(START, read.getDiscounts().getFirst().getStartDate());
+        assertEquals(0L, read.getVersion());
+    }
+
+    @Test
+    void testRun_MovesDatesOfSeparateDiscounts() {
+        ObjectId discountId = new ObjectId();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(DiscountEntity.class)).insertOne(
+                new Document("_id", discountId)
+                        .append("articleId", new ObjectId())
+                        .append("discountPercentage", new Decimal128(new BigDecimal("10")))
+                        .append("startDate", legacyDate(START, BERLIN))
+                        .append("endDate", legacyDate(END, BERLIN)));
+
+        new DiscountDateMigration(mongoTemplate, BERLIN.getId()).run(null);
+
+        DiscountEntity stored = mongoTemplate.findById(discountId, DiscountEntity.class);
+        assertEquals(START, stored.getStartDate());
+        assertEquals(END, stored.getEndDate());
+    }
+
+    private ObjectId insertArticle(ZoneId writtenIn) {
+        ObjectId id = new ObjectId();
+        articles().insertOne(new Document("_id", id)
+                .append("name", "Legacy")
+                .append("netPrice", new Decimal128(new BigDecimal("100.00")))
+                .append("salesPrice", new Decimal128(new BigDecimal("200.00")))
+                .append("vatRatio", new Decimal128(new BigDecimal("0.19")))
+                .append("version", 0L)
+                .append("discounts", List.of(new Document("_id", 1L)
+                        .append("description", "Summer")
+                        .append("discountPercentage", new Decimal128(new BigDecimal("10")))
+                        .append("startDate", legacyDate(START, writtenIn))
+                        .append("endDate", legacyDate(END, writtenIn)))));
+        return id;
+    }
+
+    private static Article article() {
+        Article article = new Article(null, "Current", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(1L, "Summer", new BigDecimal("10"), START, END));
+        return article;
+    }
+
+    /**
+     * A date as written by Spring Data's default conversion in the zone.
+     */
+    private static Date legacyDate(LocalDate date, ZoneId zone) {
+        return Date.from(date.atStartOfDay(zone).toInstant());
+    }
+
+    private static Date utcMidnight(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private MongoCollection<Document> articles() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(ArticleEntity.class));
+    }
+}
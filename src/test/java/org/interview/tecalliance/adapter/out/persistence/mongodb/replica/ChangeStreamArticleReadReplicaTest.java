@@ -0,0 +1,201 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.replica;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.adapter.out.persistence.ForwardingArticlePersistencePort;
+import org.interview.tecalliance.adapter.out.persistence.mongodb.entity.ArticleEntity;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.config.TestContainersConfiguration;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the Testcontainers MongoDB, which is a single-node replica set, so change streams are available.
+ * Write coalescing is enabled as well, stacked on the replica.
+ */
+@SpringBootTest(properties = {
+        "tecalliance.persistence.read-replica.enabled=true",
+        "tecalliance.persistence.write-coalescing.enabled=true"
+})
+@Import(TestContainersConfiguration.class)
+class ChangeStreamArticleReadReplicaTest {
+
+    private static final String ARTICLES = "articles";
+
+    @Autowired
+    private ArticlePersistencePort persistencePort;
+
+    @Autowired
+    private ChangeStreamArticleReadReplica replica;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier(ForwardingArticlePersistencePort.ADAPTER_BEAN)
+    private ArticlePersistencePort writeAdapter;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), ArticleEntity.class);
+    }
+
+    @Test
+    void testCoalescedSaves_AreAppliedToTheReplica() {
+        double batchesBefore = meterRegistry.get("articles.write.coalescing.batch.size").summary().count();
+
+        Article saved = persistencePort.save(article("Through the replica"));
+
+        // published by the replica itself, without waiting for the change stream
+        assertTrue(replica.existsById(saved.getId()));
+        assertEquals(batchesBefore + 1, meterRegistry.get("articles.write.coalescing.batch.size").summary().count());
+    }
+
+    @Test
+    void testOwnWrites_AreVisibleImmediately() {
+        Article saved = persistencePort.save(article("Own write"));
+
+        assertEquals("Own write", persistencePort.findById(saved.getId()).orElseThrow().getName());
+
+        saved.setName("Renamed");
+        persistencePort.replace(saved);
+        assertEquals("Renamed", persistencePort.findById(saved.getId()).orElseThrow().getName());
+
+        assertTrue(persistencePort.deleteById(saved.getId()));
+        assertFalse(persistencePort.existsById(saved.getId()));
+    }
+
+    @Test
+    void testWritesOfOtherInstances_ArriveThroughChangeStream() {
+        ObjectId id = new ObjectId();
+        collection().insertOne(document(id, "Other instance"));
+        awaitTrue(() -> persistencePort.existsById(id.toHexString()));
+
+        collection().updateOne(Filters.eq("_id", id), Updates.set("name", "Updated elsewhere"));
+        awaitTrue(() -> "Updated elsewhere".equals(persistencePort.findById(id.toHexString()).orElseThrow().getName()));
+
+        collection().deleteOne(Filters.eq("_id", id));
+        awaitTrue(() -> !persistencePort.existsById(id.toHexString()));
+    }
+
+    @Test
+    void testChangeWithOlderVersion_DoesNotReplaceNewerArticle() {
+        Article saved = persistencePort.save(article("Version 0"));
+        saved.setName("Version 1");
+        Article replaced = persistencePort.replace(saved).orElseThrow();
+
+        // arrives after the local write, as a late event of an earlier change would
+        collection().updateOne(Filters.eq("_id", new ObjectId(saved.getId())),
+                Updates.combine(Updates.set("name", "Stale"), Updates.set("version", 0L)));
+        ObjectId marker = new ObjectId();
+        collection().insertOne(document(marker, "Marker"));
+        awaitTrue(() -> persistencePort.existsById(marker.toHexString()));
+
+        Article read = persistencePort.findById(saved.getId()).orElseThrow();
+        assertEquals("Version 1", read.getName());
+        assertEquals(replaced.getVersion(), read.getVersion());
+    }
+
+    @Test
+    void testReturnedArticles_AreCopies() {
+        Article saved = persistencePort.save(article("Immutable"));
+
+        persistencePort.findById(saved.getId()).orElseThrow().setName("Changed by caller");
+
+        assertEquals("Immutable", persistencePort.findById(saved.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void testRestart_ResumesFromSnapshotFile() {
+        String snapshotFile = tempDir.resolve("replica.snapshot").toString();
+        SimpleMeterRegistry firstRegistry = new SimpleMeterRegistry();
+        ChangeStreamArticleReadReplica first = newReplica(firstRegistry, snapshotFile);
+        Article saved = first.save(article("Before restart"));
+        first.stop();
+        assertEquals(1.0, firstRegistry.get("articles.replica.loads").tag("source", "collection").counter().count());
+
+        // written while the instance is down
+        ObjectId missed = new ObjectId();
+        collection().insertOne(document(missed, "While down"));
+
+        SimpleMeterRegistry secondRegistry = new SimpleMeterRegistry();
+        ChangeStreamArticleReadReplica second = newReplica(secondRegistry, snapshotFile);
+        try {
+            assertEquals(1.0, secondRegistry.get("articles.replica.loads").tag("source", "snapshot-file").counter().count());
+            assertEquals(0.0, secondRegistry.get("articles.replica.loads").tag("source", "collection").counter().count());
+            assertTrue(second.existsById(saved.getId()));
+            double loadedVersion = secondRegistry.get("articles.replica.catalog.version").gauge().value();
+            awaitTrue(() -> second.existsById(missed.toHexString()));
+            assertTrue(secondRegistry.get("articles.replica.catalog.version").gauge().value() > loadedVersion);
+        } finally {
+            second.stop();
+        }
+    }
+
+    private ChangeStreamArticleReadReplica newReplica(SimpleMeterRegistry registry, String snapshotFile) {
+        ChangeStreamArticleReadReplica started =
+                new ChangeStreamArticleReadReplica(writeAdapter, mongoTemplate, registry, snapshotFile, Duration.ofMinutes(5));
+        started.start();
+        return started;
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(ARTICLES);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 10 seconds");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private static Document document(ObjectId id, String name) {
+        return new Document("_id", id)
+                .append("name", name)
+                .append("netPrice", new Decimal128(new BigDecimal("10.00")))
+                .append("salesPrice", new Decimal128(new BigDecimal("20.00")))
+                .append("vatRatio", new Decimal128(new BigDecimal("0.19")))
+                .append("discounts", List.of())
+                .append("version", 0L);
+    }
+
+    private static Article article(String name) {
+        return new Article(null, name, "Read from memory",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+}
@@ -0,0 +1,60 @@
+package org.interview.tecalliance.adapter.out.persistence.mongodb.replica;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    @Test
+    void testPlusAndMinus_LeaveThePreviousMapUnchanged() {
+        PersistentHashMap<String, Integer> first = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+        PersistentHashMap<String, Integer> second = first.plus("a", 2).plus("b", 3);
+        PersistentHashMap<String, Integer> third = second.minus("a");
+
+        assertEquals(Map.of("a", 1), first);
+        assertEquals(Map.of("a", 2, "b", 3), second);
+        assertEquals(Map.of("b", 3), third);
+        assertSame(third, third.minus("missing"));
+        assertThrows(UnsupportedOperationException.class, () -> third.put("c", 4));
+    }
+
+    @Test
+    void testKeysWithEqualHashes_AreKeptApart() {
+        // "Aa" and "BB" have the same hash code
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+                .plus("Aa", 1)
+                .plus("BB", 2);
+
+        assertEquals(2, map.size());
+        assertEquals(1, map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+        assertEquals(Map.of("BB", 2), map.minus("Aa"));
+    }
+
+    @Test
+    void testRandomChanges_MatchHashMap() {
+        Random random = new Random(42);
+        PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+        Map<String, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            String key = "article-" + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+    }
+}
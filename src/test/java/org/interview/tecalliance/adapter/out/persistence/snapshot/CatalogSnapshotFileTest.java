@@ -0,0 +1,113 @@
+package org.interview.tecalliance.adapter.out.persistence.snapshot;
+
+import org.bson.types.ObjectId;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testWriteAndRead_RoundTripsCatalog() {
+        Article full = article("Laptop", "Fast and light");
+        full.setUpdatedAt(Instant.parse("2026-07-01T08:15:30.123456789Z"));
+        full.addDiscount(new Discount(1L, "Summer Sale", new BigDecimal("15.50"),
+                LocalDate.of(2026, 6, 1), LocalDate.of(2026, 8, 31)));
+        full.addDiscount(new Discount(null, "Winter Sale", new BigDecimal("10"), null, LocalDate.of(2026, 12, 31)));
+        Article sparse = article("Mouse", null);
+        sparse.setVatRatio(null);
+        sparse.addDiscount(new Discount(2L, "Summer Sale", new BigDecimal("5"),
+                LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 30)));
+        Article withoutDiscounts = article("Cable", "Ünïcödé");
+        withoutDiscounts.setDiscounts(null);
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot"));
+        byte[] position = "resume-here".getBytes(StandardCharsets.UTF_8);
+
+        file.write(42L, position, List.of(full, sparse, withoutDiscounts));
+        CatalogSnapshot snapshot = file.read().orElseThrow();
+
+        assertEquals(42L, snapshot.catalogVersion());
+        assertArrayEquals(position, snapshot.position());
+        assertEquals(List.of(full, sparse, withoutDiscounts), snapshot.articles());
+        assertNull(snapshot.articles().get(2).getDiscounts());
+        assertNull(snapshot.articles().get(1).getUpdatedAt());
+        // shared strings are stored once and loaded as one instance
+        assertSame(snapshot.articles().get(0).getDiscounts().get(0).getDescription(),
+                snapshot.articles().get(1).getDiscounts().get(0).getDescription());
+    }
+
+    @Test
+    void testRead_WithDamagedFile_ReturnsEmpty() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile file = new CatalogSnapshotFile(path);
+        file.write(1L, new byte[0], List.of(article("Laptop", "Fast")));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), Files.size(path) - 1);
+        }
+
+        assertTrue(file.read().isEmpty());
+    }
+
+    @Test
+    void testRead_WithEarlierFormatVersion_ReturnsEmpty() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile file = new CatalogSnapshotFile(path);
+        file.write(1L, new byte[0], List.of(article("Laptop", "Fast")));
+
+        // version 1 had no time of the last change in the article record
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 0, 0, 0}), 8);
+        }
+
+        assertTrue(file.read().isEmpty());
+    }
+
+    @Test
+    void testRead_WithTruncatedOrMissingFile_ReturnsEmpty() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile file = new CatalogSnapshotFile(path);
+        assertTrue(file.read().isEmpty());
+
+        file.write(1L, new byte[0], List.of(article("Laptop", "Fast")));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(path) - 10);
+        }
+
+        assertTrue(file.read().isEmpty());
+    }
+
+    @Test
+    void testWrite_ArticleWithoutId_IsRejected() {
+        Article article = article("Laptop", "Fast");
+        article.setId(null);
+        CatalogSnapshotFile file = new CatalogSnapshotFile(directory.resolve("catalog.snapshot"));
+
+        assertThrows(IllegalArgumentException.class, () -> file.write(1L, new byte[0], List.of(article)));
+    }
+
+    private static Article article(String name, String slogan) {
+        Article article = new Article(new ObjectId().toHexString(), name, slogan,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setVersion(3L);
+        return article;
+    }
+}
@@ -0,0 +1,106 @@
+package org.interview.tecalliance.adapter.out.search;
+
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryArticlePrefixIndexTest {
+
+    private final InMemoryArticlePrefixIndex index = new InMemoryArticlePrefixIndex();
+
+    @Test
+    void testFindIdsByPrefix_MatchesNameSloganAndWordsCaseInsensitive() {
+        index.index(article("1", "Laptop Pro 15", "Best laptop ever!"));
+        index.index(article("2", "Wireless Mouse", "Ergonomic mouse for laptops"));
+        index.index(article("3", "Monitor", "4K display"));
+
+        assertEquals(List.of("1", "2"), index.findIdsByPrefix("LAP", 0, 10));
+        assertEquals(List.of("1"), index.findIdsByPrefix("laptop pr", 0, 10));
+        assertEquals(List.of("3"), index.findIdsByPrefix("4k", 0, 10));
+        assertTrue(index.findIdsByPrefix("keyboard", 0, 10).isEmpty());
+    }
+
+    @Test
+    void testFindIdsByPrefix_ReturnsEachArticleOnceAndPaginates() {
+        index.index(article("1", "Alpha alpine", "alps"));
+        index.index(article("2", "Alpaca", null));
+        index.index(article("3", "Alto", null));
+
+        assertEquals(3, index.findIdsByPrefix("al", 0, 10).size());
+        assertEquals(2, index.findIdsByPrefix("al", 0, 2).size());
+        assertEquals(1, index.findIdsByPrefix("al", 2, 2).size());
+        assertTrue(index.findIdsByPrefix("al", 3, 2).isEmpty());
+    }
+
+    @Test
+    void testIndex_ReplacesPreviousTermsOfSameArticle() {
+        index.index(article("1", "Keyboard", null));
+        index.index(article("1", "Mouse", null));
+
+        assertTrue(index.findIdsByPrefix("key", 0, 10).isEmpty());
+        assertEquals(List.of("1"), index.findIdsByPrefix("mou", 0, 10));
+    }
+
+    @Test
+    void testIndex_KeepsNoReferenceToTheArticle() {
+        Article article = article("1", "Keyboard", null);
+        index.index(article);
+
+        article.setName("Mouse");
+
+        assertEquals(List.of("1"), index.findIdsByPrefix("key", 0, 10));
+        assertTrue(index.findIdsByPrefix("mou", 0, 10).isEmpty());
+    }
+
+    @Test
+    void testRemoveAndRebuild() {
+        index.index(article("1", "Keyboard", null));
+        index.remove("1");
+        assertTrue(index.findIdsByPrefix("key", 0, 10).isEmpty());
+
+        index.index(article("2", "Stale", null));
+        index.rebuild(List.of(article("3", "Keypad", null)));
+
+        assertTrue(index.findIdsByPrefix("stale", 0, 10).isEmpty());
+        assertEquals(List.of("3"), index.findIdsByPrefix("key", 0, 10));
+    }
+
+    @Test
+    void testRebuild_ServesOldIndexWhileBuildingAndKeepsWritesMadeMeanwhile() {
+        index.index(article("1", "Keyboard", null));
+        List<String> seenWhileBuilding = new ArrayList<>();
+        List<Article> articles = new AbstractList<>() {
+            @Override
+            public Article get(int i) {
+                if (i == 1) {
+                    seenWhileBuilding.addAll(index.findIdsByPrefix("key", 0, 10));
+                    index.index(article("9", "Keyring", null));
+                    index.remove("2");
+                }
+                return article(String.valueOf(i + 2), "Keypad " + i, null);
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+
+        index.rebuild(articles);
+
+        assertEquals(List.of("1"), seenWhileBuilding);
+        assertEquals(List.of("3", "9"), index.findIdsByPrefix("key", 0, 10));
+    }
+
+    private static Article article(String id, String name, String slogan) {
+        return new Article(id, name, slogan,
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19"));
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.interview.tecalliance.application.service;
+
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCachesTest {
+
+    @Mock
+    private ArticleCachePort jsonCache;
+
+    @Mock
+    private ArticleCachePort calendarCache;
+
+    @Test
+    void testEvict_InvalidatesAllCaches() {
+        ArticleCaches caches = new ArticleCaches(List.of(jsonCache, calendarCache));
+
+        caches.evict("1");
+        caches.evictAll();
+
+        verify(jsonCache).evict("1");
+        verify(calendarCache).evict("1");
+        verify(jsonCache).evictAll();
+        verify(calendarCache).evictAll();
+    }
+
+    @Test
+    void testEvict_WithFailingCache_StillInvalidatesTheOthers() {
+        doThrow(new IllegalStateException("closed")).when(jsonCache).evict("1");
+        ArticleCaches caches = new ArticleCaches(List.of(jsonCache, calendarCache));
+
+        assertThrows(IllegalStateException.class, () -> caches.evict("1"));
+        verify(calendarCache).evict("1");
+    }
+}
@@ -0,0 +1,139 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticleChangeFeedPort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.changes.ArticleChange;
+import org.interview.tecalliance.domain.model.changes.ChangePage;
+import org.interview.tecalliance.domain.model.changes.ChangePosition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleChangeFeedServiceTest {
+
+    private static final String ID_1 = "6650f0b2c1d4a85a1e4b7c21";
+    private static final String ID_2 = "6650f0b2c1d4a85a1e4b7c22";
+    private static final String ID_3 = "6650f0b2c1d4a85a1e4b7c23";
+
+    @Mock
+    private ArticleChangeFeedPort changeFeedPort;
+
+    @Test
+    void testGetChanges_WithoutToken_StartsAtTheBeginningUpToTheSettleTime() {
+        Instant changedAt = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+        when(changeFeedPort.findChanges(isNull(), any(), eq(11))).thenReturn(List.of(
+                ArticleChange.upserted(article(ID_1, changedAt)),
+                ArticleChange.deleted(ID_2, changedAt.plusSeconds(1))));
+
+        Instant before = Instant.now();
+        ChangePage page = service().getChanges(null, 10);
+
+        ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+        verify(changeFeedPort).findChanges(isNull(), until.capture(), eq(11));
+        assertFalse(until.getValue().isAfter(Instant.now().minusSeconds(5)));
+        assertFalse(until.getValue().isBefore(before.minusSeconds(5)));
+        assertEquals(2, page.changes().size());
+        assertFalse(page.hasMore());
+        assertEquals(new ChangePosition(changedAt.plusSeconds(1), ID_2),
+                ArticleChangeFeedService.decodeToken(page.nextToken()));
+    }
+
+    @Test
+    void testGetChanges_WithMoreChangesThanLimit_ReturnsLimitAndHasMore() {
+        Instant changedAt = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+        String token = ArticleChangeFeedService.encodeToken(new ChangePosition(changedAt, ID_1));
+        when(changeFeedPort.deletionRetention()).thenReturn(Duration.ofDays(30));
+        when(changeFeedPort.findChanges(eq(new ChangePosition(changedAt, ID_1)), any(), eq(3))).thenReturn(List.of(
+                ArticleChange.deleted(ID_2, changedAt),
+                ArticleChange.deleted(ID_3, changedAt),
+                ArticleChange.deleted(ID_1, changedAt.plusMillis(1))));
+
+        ChangePage page = service().getChanges(token, 2);
+
+        assertEquals(List.of(ID_2, ID_3), page.changes().stream().map(ArticleChange::articleId).toList());
+        assertTrue(page.hasMore());
+        assertEquals(new ChangePosition(changedAt, ID_3), ArticleChangeFeedService.decodeToken(page.nextToken()));
+    }
+
+    @Test
+    void testGetChanges_WithoutNewChanges_ReturnsTheGivenToken() {
+        String token = ArticleChangeFeedService.encodeToken(new ChangePosition(Instant.now(), ID_1));
+        when(changeFeedPort.deletionRetention()).thenReturn(Duration.ofDays(30));
+        when(changeFeedPort.findChanges(any(), any(), anyInt())).thenReturn(List.of());
+
+        ChangePage page = service().getChanges(token, 100);
+
+        assertTrue(page.changes().isEmpty());
+        assertFalse(page.hasMore());
+        assertEquals(token, page.nextToken());
+    }
+
+    @Test
+    void testGetChanges_WithTokenOlderThanDeletionRetention_ThrowsException() {
+        String token = ArticleChangeFeedService.encodeToken(
+                new ChangePosition(Instant.now().minus(31, ChronoUnit.DAYS), ID_1));
+        when(changeFeedPort.deletionRetention()).thenReturn(Duration.ofDays(30));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> service().getChanges(token, 100));
+
+        assertTrue(exception.getMessage().contains("full catalog"));
+        verify(changeFeedPort, never()).findChanges(any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetChanges_WithInvalidToken_ThrowsException() {
+        String otherCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("o:20".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> service().getChanges("not a token!", 100));
+        assertThrows(IllegalArgumentException.class, () -> service().getChanges(otherCursor, 100));
+        verifyNoInteractions(changeFeedPort);
+    }
+
+    @Test
+    void testGetChanges_WithLimitOutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service().getChanges(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> service().getChanges(null, ArticleChangeFeedService.MAX_LIMIT + 1));
+        verifyNoInteractions(changeFeedPort);
+    }
+
+    @Test
+    void testGetChanges_WithoutPort_ThrowsUnsupportedOperationException() {
+        ArticleChangeFeedService service = new ArticleChangeFeedService(
+                Optional.empty(), new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
+        assertThrows(UnsupportedOperationException.class, () -> service.getChanges(null, 100));
+    }
+
+    private ArticleChangeFeedService service() {
+        return new ArticleChangeFeedService(Optional.of(changeFeedPort), new SimpleMeterRegistry(), Duration.ofSeconds(5));
+    }
+
+    private static Article article(String id, Instant updatedAt) {
+        Article article = new Article(id, "Laptop", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setUpdatedAt(updatedAt);
+        return article;
+    }
+}
@@ -0,0 +1,176 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.SaveResult;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.imports.ArticleImportRecord;
+import org.interview.tecalliance.domain.model.imports.ImportError;
+import org.interview.tecalliance.domain.model.imports.ImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private static final String EXISTING_ID = "507f1f77bcf86cd799439011";
+
+    @Mock
+    private ArticlePersistencePort persistencePort;
+
+    @Mock
+    private ArticleSearchIndexPort searchIndexPort;
+
+    @Mock
+    private ArticleCachePort articleCachePort;
+
+    private ArticleImportService importService;
+
+    private final List<ImportError> errors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importService = new ArticleImportService(persistencePort, searchIndexPort, articleCachePort,
+                new SimpleMeterRegistry(), 2, 2, 1);
+    }
+
+    @Test
+    void testImportArticles_WritesBatchesAndReportsRejectedLinesInOrder() {
+        when(persistencePort.saveAll(anyList())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        Article missingName = article(3);
+        missingName.setName(null);
+        Article overlapping = article(5);
+        overlapping.addDiscount(new Discount(1L, "A", new BigDecimal("10"), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)));
+        overlapping.addDiscount(new Discount(2L, "B", new BigDecimal("10"), LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 15)));
+
+        ImportResult result = importService.importArticles(List.of(
+                ArticleImportRecord.parsed(1, article(1)),
+                ArticleImportRecord.failed(2, "Invalid JSON"),
+                ArticleImportRecord.parsed(3, missingName),
+                ArticleImportRecord.parsed(4, article(4)),
+                ArticleImportRecord.parsed(5, overlapping)).iterator(), errors::add);
+
+        assertEquals(new ImportResult(2, 3, 5, true), result);
+        assertEquals(List.of(2L, 3L, 5L), errors.stream().map(ImportError::line).toList());
+        assertEquals("Invalid JSON", errors.get(0).message());
+        assertEquals("Missing required field name", errors.get(1).message());
+        verify(persistencePort, times(2)).saveAll(anyList());
+        verify(searchIndexPort, times(2)).index(any(Article.class));
+    }
+
+    @Test
+    void testImportArticles_FailedSave_IsReportedAndOthersImported() {
+        when(persistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Article> articles = invocation.getArgument(0);
+            return List.of(SaveResult.saved(articles.get(0)), SaveResult.failed(new DuplicateKeyException("Duplicate")));
+        });
+
+        ImportResult result = importService.importArticles(records(2), errors::add);
+
+        assertEquals(new ImportResult(1, 1, 2, true), result);
+        assertEquals(List.of(new ImportError(2, "Duplicate")), errors);
+    }
+
+    @Test
+    void testImportArticles_ArticleWithId_IsEvictedFromCache() {
+        when(persistencePort.saveAll(anyList())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        Article existing = article(1);
+        existing.setId(EXISTING_ID);
+        existing.setVersion(7L);
+
+        importService.importArticles(List.of(ArticleImportRecord.parsed(1, existing)).iterator(), errors::add);
+
+        verify(articleCachePort).evict(EXISTING_ID);
+        assertNull(existing.getVersion());
+    }
+
+    @Test
+    void testImportArticles_StorageFailure_StopsAfterLastWrittenBatch() {
+        when(persistencePort.saveAll(anyList()))
+                .thenAnswer(invocation -> savedAll(invocation.getArgument(0)))
+                .thenThrow(new DataAccessResourceFailureException("Storage unavailable"));
+
+        ImportResult result = importService.importArticles(records(20), errors::add);
+
+        assertFalse(result.complete());
+        assertEquals(2, result.imported());
+        assertEquals(2, result.lastLine());
+        verify(persistencePort, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void testImportArticles_ReadFailure_WritesRecordsReadSoFar() {
+        when(persistencePort.saveAll(anyList())).thenAnswer(invocation -> savedAll(invocation.getArgument(0)));
+        Iterator<ArticleImportRecord> records = records(3);
+        Iterator<ArticleImportRecord> failing = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (!records.hasNext()) {
+                    throw new UncheckedIOException(new IOException("Connection reset"));
+                }
+                return true;
+            }
+
+            @Override
+            public ArticleImportRecord next() {
+                return records.next();
+            }
+        };
+
+        ImportResult result = importService.importArticles(failing, errors::add);
+
+        assertEquals(new ImportResult(3, 0, 3, false), result);
+    }
+
+    @Test
+    void testImportArticles_ManyBatches_AreWrittenInLineOrder() {
+        List<Long> writtenLines = new ArrayList<>();
+        when(persistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Article> articles = invocation.getArgument(0);
+            articles.forEach(article -> writtenLines.add(Long.parseLong(article.getName().substring("Article ".length()))));
+            return savedAll(articles);
+        });
+
+        ImportResult result = importService.importArticles(records(101), errors::add);
+
+        assertEquals(new ImportResult(101, 0, 101, true), result);
+        assertEquals(LongStream.rangeClosed(1, 101).boxed().toList(), writtenLines);
+    }
+
+    private static Iterator<ArticleImportRecord> records(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(line -> ArticleImportRecord.parsed(line, article(line)))
+                .iterator();
+    }
+
+    private static List<SaveResult> savedAll(List<Article> articles) {
+        return articles.stream().map(SaveResult::saved).toList();
+    }
+
+    private static Article article(long line) {
+        return new Article(null, "Article " + line, null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+    }
+}
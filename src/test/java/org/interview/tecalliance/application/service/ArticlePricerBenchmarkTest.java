@@ -0,0 +1,98 @@
+package org.interview.tecalliance.application.service;
+
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.DiscountArchivePort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures how pricing 10k to 1M articles scales with the number of pricing threads, for the
+ * {@link ArticlePricer} alone and for the priced catalog of {@link ArticleService} with the
+ * storage answered from memory. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class ArticlePricerBenchmarkTest {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void benchmarkPriceAll() {
+        for (int size : SIZES) {
+            List<Article> articles = ArticlePricerTest.articles(size);
+            double sequential = 0;
+            for (int threads : threadCounts()) {
+                ArticlePricer pricer = new ArticlePricer(threads > 1, threads, 10_000, 2048);
+                try {
+                    double nanos = measure("priceAll", size, threads, () -> pricer.priceAll(articles, DATE));
+                    sequential = threads == 1 ? nanos : sequential;
+                    System.out.printf("%40s speed-up %.1fx%n", "", sequential / nanos);
+                } finally {
+                    pricer.destroy();
+                }
+            }
+        }
+    }
+
+    @Test
+    void benchmarkPricedCatalog() {
+        for (int size : SIZES) {
+            List<Article> articles = ArticlePricerTest.articles(size);
+            ArticlePersistencePort persistencePort = mock(ArticlePersistencePort.class);
+            when(persistencePort.findAllWithDiscountsValidFrom(DATE)).thenReturn(articles);
+            double sequential = 0;
+            for (int threads : threadCounts()) {
+                ArticlePricer pricer = new ArticlePricer(threads > 1, threads, 10_000, 2048);
+                ArticleService service = new ArticleService(persistencePort, mock(ArticleSearchIndexPort.class),
+                        mock(DiscountArchivePort.class), mock(ArticleCachePort.class), pricer);
+                try {
+                    double nanos = measure("getArticlesWithFilters", size, threads,
+                            () -> service.getArticlesWithFilters(DATE, true, false));
+                    sequential = threads == 1 ? nanos : sequential;
+                    System.out.printf("%40s speed-up %.1fx%n", "", sequential / nanos);
+                } finally {
+                    pricer.destroy();
+                }
+            }
+        }
+    }
+
+    private static List<Integer> threadCounts() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(cores);
+        return counts;
+    }
+
+    private static double measure(String name, int size, int threads, Supplier<List<?>> pricing) {
+        assertEquals(size, pricing.get().size());
+        assertInstanceOf(ArticleWithPrice.class, pricing.get().getFirst());
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            pricing.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            pricing.get();
+        }
+        double nanos = (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+        System.out.printf("%-24s %,9d articles %2d threads %,10.2f ms%n", name, size, threads, nanos / 1e6);
+        return nanos;
+    }
+}
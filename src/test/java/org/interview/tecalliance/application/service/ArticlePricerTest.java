@@ -0,0 +1,96 @@
+package org.interview.tecalliance.application.service;
+
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticlePricerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+
+    private final ArticlePricer parallel = new ArticlePricer(true, 4, 100, 16);
+    private final ArticlePricer sequential = new ArticlePricer(false, 1, 100, 16);
+
+    @AfterEach
+    void tearDown() {
+        parallel.destroy();
+        sequential.destroy();
+    }
+
+    @Test
+    void testPriceAll_KeepsOrderAndMatchesArticlePricing() {
+        List<Article> articles = articles(5_000);
+
+        List<ArticleWithPrice> priced = parallel.priceAll(articles, DATE);
+
+        assertEquals(articles.size(), priced.size());
+        for (int i = 0; i < articles.size(); i++) {
+            Article article = articles.get(i);
+            assertEquals(article.getId(), priced.get(i).getId());
+            assertEquals(article.calculateDiscountedPrice(DATE), priced.get(i).getFinalPrice());
+            assertEquals(article.getApplicableDiscount(DATE), priced.get(i).getAppliedDiscount());
+        }
+        assertEquals(sequential.priceAll(articles, DATE), priced);
+    }
+
+    @Test
+    void testStream_PricesWindowsInOrder() {
+        List<Article> articles = new LinkedList<>(articles(1_000));
+
+        assertEquals(sequential.stream(articles, DATE).toList(), parallel.stream(articles, DATE).toList());
+        assertEquals(sequential.priceAll(articles, DATE), parallel.stream(articles, DATE).toList());
+    }
+
+    @Test
+    void testPriceAll_BelowThresholdOrEmpty() {
+        assertEquals(List.of(), parallel.priceAll(List.of(), DATE));
+        List<Article> articles = articles(10);
+        assertEquals(sequential.priceAll(articles, DATE), parallel.priceAll(articles, DATE));
+    }
+
+    @Test
+    void testAggregate_MergesChunksInOrder() {
+        List<Article> articles = articles(5_000);
+        List<String> ids = articles.stream().map(Article::getId).toList();
+
+        assertEquals(ids, parallel.aggregate(articles, ArticlePricerTest::ids, ArticlePricerTest::concat));
+        assertEquals(ids, sequential.aggregate(articles, ArticlePricerTest::ids, ArticlePricerTest::concat));
+        assertEquals(List.of(), parallel.aggregate(List.of(), ArticlePricerTest::ids, ArticlePricerTest::concat));
+    }
+
+    private static List<String> ids(List<Article> articles) {
+        return new ArrayList<>(articles.stream().map(Article::getId).toList());
+    }
+
+    private static List<String> concat(List<String> left, List<String> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    static List<Article> articles(int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Article article = new Article(String.format("%024x", i), "Article " + i, null,
+                    new BigDecimal("100.00"), new BigDecimal(200 + i % 100 + ".99"), new BigDecimal("0.19"));
+            if (i % 3 == 0) {
+                article.addDiscount(new Discount((long) i, "Spring Sale", BigDecimal.valueOf(5 + i % 40),
+                        LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)));
+            } else if (i % 3 == 1) {
+                article.addDiscount(new Discount((long) i, "Summer Sale", new BigDecimal("10"),
+                        LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 31)));
+            }
+            articles.add(article);
+        }
+        return articles;
+    }
+}
@@ -1,7 +1,15 @@
 package org.interview.tecalliance.application.service;
 
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
 import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.DiscountArchivePort;
+import org.interview.tecalliance.domain.model.DiscountPage;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.SearchMode;
 import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticleField;
+import org.interview.tecalliance.domain.model.article.ArticlePatch;
 import org.interview.tecalliance.domain.model.article.ArticleWithPrice;
 import org.interview.tecalliance.domain.model.article.BaseArticle;
 import org.interview.tecalliance.domain.model.Discount;
@@ -9,17 +17,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +44,18 @@ class ArticleServiceTest {
     @Mock
     private ArticlePersistencePort persistencePort;
 
+    @Mock
+    private ArticleSearchIndexPort searchIndexPort;
+
+    @Mock
+    private DiscountArchivePort discountArchivePort;
+
+    @Mock
+    private ArticleCachePort articleCachePort;
+
+    @Spy
+    private ArticlePricer articlePricer = new ArticlePricer(false, 1, 10_000, 2048);
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -64,6 +92,18 @@ class ArticleServiceTest {
         verify(persistencePort, never()).save(any(Article.class));
     }
 
+    @Test
+    void testCreateArticle_WithPriceBeyondDecimal128_ShouldThrowException() {
+        Article article = new Article(null, "Test Product", "Test Slogan",
+                new BigDecimal("100.00"), new BigDecimal("120.000000000000000000000000000000001"), new BigDecimal("0.19"));
+
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> articleService.createArticle(article));
+
+        assertTrue(exception.getMessage().contains("Sales price must have at most 34 digits"));
+        verify(persistencePort, never()).save(any(Article.class));
+    }
+
     @Test
     void testCreateArticle_WithSingleDiscountCausingLoss_ShouldThrowException() {
         Article article = new Article(null, "Test Product", "Test Slogan",
@@ -100,9 +140,6 @@ class ArticleServiceTest {
 
     @Test
     void testUpdateArticle_WithDiscountsCausingLoss_ShouldThrowException() {
-        Article existingArticle = new Article("1", "Test Product", "Test Slogan",
-                new BigDecimal("100.00"), new BigDecimal("150.00"), new BigDecimal("0.19"));
-
         Article updatedArticle = new Article("1", "Updated Product", "Updated Slogan",
                 new BigDecimal("100.00"), new BigDecimal("120.00"), new BigDecimal("0.19"));
 
@@ -110,13 +147,11 @@ class ArticleServiceTest {
                 LocalDate.now().minusDays(1), LocalDate.now().plusDays(30));
         updatedArticle.addDiscount(discount);
 
-        when(persistencePort.findById("1")).thenReturn(Optional.of(existingArticle));
-
         IllegalArgumentException exception =
                 assertThrows(IllegalArgumentException.class, () -> articleService.updateArticle("1", updatedArticle));
 
         assertTrue(exception.getMessage().contains("Discounts would cause the article price to go below net price"));
-        verify(persistencePort, never()).save(any(Article.class));
+        verify(persistencePort, never()).replace(any(Article.class));
     }
 
     @Test
@@ -237,7 +272,7 @@ class ArticleServiceTest {
                 testDate.minusDays(5), testDate.plusDays(5));
         article.addDiscount(discount);
 
-        when(persistencePort.findAll()).thenReturn(Collections.singletonList(article));
+        when(persistencePort.findAllWithDiscountsValidFrom(testDate)).thenReturn(Collections.singletonList(article));
 
         List<BaseArticle> result = articleService.getArticlesWithFilters(testDate, true, false);
 
@@ -246,7 +281,8 @@ class ArticleServiceTest {
         assertInstanceOf(ArticleWithPrice.class, result.getFirst());
         ArticleWithPrice articleWithPrice = (ArticleWithPrice) result.getFirst();
         assertNotNull(articleWithPrice.getFinalPrice());
-        verify(persistencePort, times(1)).findAll();
+        verify(persistencePort, times(1)).findAllWithDiscountsValidFrom(testDate);
+        verify(persistencePort, never()).findAll();
     }
 
     @Test
@@ -262,7 +298,7 @@ class ArticleServiceTest {
         Article articleWithoutDiscount = new Article("2", "Product 2", "Slogan 2",
                 new BigDecimal("150.00"), new BigDecimal("250.00"), new BigDecimal("0.19"));
 
-        when(persistencePort.findAll()).thenReturn(Arrays.asList(articleWithDiscount, articleWithoutDiscount));
+        when(persistencePort.findWithDiscountActiveOn(testDate)).thenReturn(Arrays.asList(articleWithDiscount, articleWithoutDiscount));
 
         List<BaseArticle> result = articleService.getArticlesWithFilters(testDate, false, true);
 
@@ -270,7 +306,8 @@ class ArticleServiceTest {
         assertEquals(1, result.size());
         assertInstanceOf(Article.class, result.getFirst());
         assertEquals("1", result.getFirst().getId());
-        verify(persistencePort, times(1)).findAll();
+        verify(persistencePort, times(1)).findWithDiscountActiveOn(testDate);
+        verify(persistencePort, never()).findAll();
     }
 
     @Test
@@ -286,7 +323,7 @@ class ArticleServiceTest {
         Article articleWithoutDiscount = new Article("2", "Product 2", "Slogan 2",
                 new BigDecimal("150.00"), new BigDecimal("250.00"), new BigDecimal("0.19"));
 
-        when(persistencePort.findAll()).thenReturn(Arrays.asList(articleWithDiscount, articleWithoutDiscount));
+        when(persistencePort.findWithDiscountActiveOn(testDate)).thenReturn(Arrays.asList(articleWithDiscount, articleWithoutDiscount));
 
         List<BaseArticle> result = articleService.getArticlesWithFilters(testDate, true, true);
 
@@ -295,7 +332,8 @@ class ArticleServiceTest {
         assertInstanceOf(ArticleWithPrice.class, result.getFirst());
         ArticleWithPrice articleWithPrice = (ArticleWithPrice) result.getFirst();
         assertNotNull(articleWithPrice.getAppliedDiscount());
-        verify(persistencePort, times(1)).findAll();
+        verify(persistencePort, times(1)).findWithDiscountActiveOn(testDate);
+        verify(persistencePort, never()).findAll();
     }
 
     @Test
@@ -319,22 +357,54 @@ class ArticleServiceTest {
     @Test
     void testUpdateArticle_WithValidData_ShouldUpdateAndReturnArticle() {
         String articleId = "1";
-        Article existingArticle = new Article(articleId, "Old Product", "Old Slogan",
-                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
-
-        Article updatedArticle = new Article(articleId, "Updated Product", "Updated Slogan",
+        Article updatedArticle = new Article(null, "Updated Product", "Updated Slogan",
                 new BigDecimal("120.00"), new BigDecimal("220.00"), new BigDecimal("0.19"));
 
-        when(persistencePort.findById(articleId)).thenReturn(Optional.of(existingArticle));
-        when(persistencePort.save(any(Article.class))).thenReturn(existingArticle);
+        when(persistencePort.replace(any(Article.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         Optional<Article> result = articleService.updateArticle(articleId, updatedArticle);
 
         assertTrue(result.isPresent());
+        assertEquals(articleId, result.get().getId());
         assertEquals("Updated Product", result.get().getName());
         assertEquals("Updated Slogan", result.get().getSlogan());
-        verify(persistencePort, times(1)).findById(articleId);
-        verify(persistencePort, times(1)).save(any(Article.class));
+        verify(persistencePort, never()).findById(articleId);
+        verify(persistencePort, times(1)).replace(any(Article.class));
+        verify(searchIndexPort, times(1)).index(result.get());
+    }
+
+    @Test
+    void testUpdateArticle_WithoutDiscounts_ShouldKeepStoredDiscountsAndCheckVersion() {
+        String articleId = "1";
+        Article existingArticle = new Article(articleId, "Old Product", "Old Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        existingArticle.addDiscount(new Discount(1L, "Sale", new BigDecimal("10"),
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(30)));
+        existingArticle.setVersion(4L);
+
+        Article updatedArticle = new Article(null, "Updated Product", "Updated Slogan",
+                new BigDecimal("100.00"), new BigDecimal("190.00"), new BigDecimal("0.19"));
+        updatedArticle.setDiscounts(null);
+
+        when(persistencePort.findById(articleId)).thenReturn(Optional.of(existingArticle));
+        when(persistencePort.replace(any(Article.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        Article result = articleService.updateArticle(articleId, updatedArticle).orElseThrow();
+
+        assertEquals(existingArticle.getDiscounts(), result.getDiscounts());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    void testUpdateArticle_WithoutDiscounts_WhenArticleNotFound_ShouldReturnEmpty() {
+        Article updatedArticle = new Article(null, "Updated Product", null,
+                new BigDecimal("100.00"), new BigDecimal("190.00"), new BigDecimal("0.19"));
+        updatedArticle.setDiscounts(null);
+
+        when(persistencePort.findById("nonexistent")).thenReturn(Optional.empty());
+
+        assertTrue(articleService.updateArticle("nonexistent", updatedArticle).isEmpty());
+        verify(persistencePort, never()).replace(any(Article.class));
     }
 
     @Test
@@ -343,42 +413,35 @@ class ArticleServiceTest {
         Article updatedArticle = new Article(articleId, "Updated Product", "Updated Slogan",
                 new BigDecimal("120.00"), new BigDecimal("220.00"), new BigDecimal("0.19"));
 
-        when(persistencePort.findById(articleId)).thenReturn(Optional.empty());
+        when(persistencePort.replace(any(Article.class))).thenReturn(Optional.empty());
 
         Optional<Article> result = articleService.updateArticle(articleId, updatedArticle);
 
         assertFalse(result.isPresent());
-        verify(persistencePort, times(1)).findById(articleId);
-        verify(persistencePort, never()).save(any(Article.class));
+        verify(persistencePort, times(1)).replace(any(Article.class));
+        verify(searchIndexPort, never()).index(any(Article.class));
     }
 
     @Test
     void testUpdateArticle_WithValidDiscounts_ShouldSucceed() {
         String articleId = "1";
-        Article existingArticle = new Article(articleId, "Test Product", "Test Slogan",
-                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
-
         Article updatedArticle = new Article(articleId, "Updated Product", "Updated Slogan",
                 new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
         Discount discount = new Discount(null, "Valid Sale", new BigDecimal("20"),
                 LocalDate.now().minusDays(1), LocalDate.now().plusDays(30));
         updatedArticle.addDiscount(discount);
 
-        when(persistencePort.findById(articleId)).thenReturn(Optional.of(existingArticle));
-        when(persistencePort.save(any(Article.class))).thenReturn(existingArticle);
+        when(persistencePort.replace(any(Article.class))).thenReturn(Optional.of(updatedArticle));
 
         Optional<Article> result = articleService.updateArticle(articleId, updatedArticle);
 
         assertTrue(result.isPresent());
-        verify(persistencePort, times(1)).save(any(Article.class));
+        verify(persistencePort, times(1)).replace(updatedArticle);
     }
 
     @Test
     void testUpdateArticle_WithOverlappingDiscounts_ShouldThrowException() {
         String articleId = "1";
-        Article existingArticle = new Article(articleId, "Test Product", "Test Slogan",
-                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
-
         Article updatedArticle = new Article(articleId, "Updated Product", "Updated Slogan",
                 new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
 
@@ -389,13 +452,106 @@ class ArticleServiceTest {
         updatedArticle.addDiscount(discount1);
         updatedArticle.addDiscount(discount2);
 
-        when(persistencePort.findById(articleId)).thenReturn(Optional.of(existingArticle));
-
         IllegalArgumentException exception = assertThrows(
                 IllegalArgumentException.class, () -> articleService.updateArticle(articleId, updatedArticle));
 
         assertTrue(exception.getMessage().contains("overlapping"));
-        verify(persistencePort, never()).save(any(Article.class));
+        verify(persistencePort, never()).replace(any(Article.class));
+    }
+
+    @Test
+    void testPatchArticle_WithUnchangedValues_ShouldSkipWrite() {
+        Article existing = storedArticle();
+        when(persistencePort.findById("1")).thenReturn(Optional.of(existing));
+
+        ArticlePatch patch = new ArticlePatch(Map.of(
+                ArticleField.NAME, "Stored Product",
+                ArticleField.SALES_PRICE, new BigDecimal("200.0")), null);
+        Optional<Article> result = articleService.patchArticle("1", patch);
+
+        assertEquals(Optional.of(existing), result);
+        verify(persistencePort, never()).update(anyString(), anyMap(), anyLong());
+        verify(searchIndexPort, never()).index(any(Article.class));
+    }
+
+    @Test
+    void testPatchArticle_WithDiscountPercentageOfOtherScale_ShouldSkipWrite() {
+        Article existing = storedArticle();
+        when(persistencePort.findById("1")).thenReturn(Optional.of(existing));
+
+        Discount stored = existing.getDiscounts().getFirst();
+        ArticlePatch patch = new ArticlePatch(Map.of(ArticleField.DISCOUNTS, List.of(new Discount(stored.getId(),
+                stored.getDescription(), new BigDecimal("10.00"), stored.getStartDate(), stored.getEndDate()))), null);
+        Optional<Article> result = articleService.patchArticle("1", patch);
+
+        assertEquals(Optional.of(existing), result);
+        verify(persistencePort, never()).update(anyString(), anyMap(), anyLong());
+    }
+
+    @Test
+    void testPatchArticle_ShouldWriteOnlyChangedFields() {
+        when(persistencePort.findById("1")).thenReturn(Optional.of(storedArticle()));
+        when(persistencePort.update(eq("1"), anyMap(), eq(2L))).thenAnswer(invocation -> Optional.of(storedArticle()));
+
+        ArticlePatch patch = new ArticlePatch(Map.of(
+                ArticleField.NAME, "Stored Product",
+                ArticleField.SLOGAN, "New Slogan"), null);
+        articleService.patchArticle("1", patch);
+
+        verify(persistencePort).update("1", Map.of(ArticleField.SLOGAN, "New Slogan"), 2L);
+    }
+
+    @Test
+    void testPatchArticle_WithoutPricingChange_ShouldNotValidateDiscounts() {
+        Article existing = storedArticle();
+        // stored data violating the discount rules must not block unrelated changes
+        existing.addDiscount(new Discount(2L, "Overlapping", new BigDecimal("10"),
+                LocalDate.now(), LocalDate.now().plusDays(5)));
+        when(persistencePort.findById("1")).thenReturn(Optional.of(existing));
+        when(persistencePort.update(eq("1"), anyMap(), eq(2L))).thenReturn(Optional.of(existing));
+
+        Map<ArticleField, Object> values = new EnumMap<>(ArticleField.class);
+        values.put(ArticleField.SLOGAN, null);
+
+        assertTrue(articleService.patchArticle("1", new ArticlePatch(values, null)).isPresent());
+    }
+
+    @Test
+    void testPatchArticle_WithPriceCausingLoss_ShouldThrowException() {
+        when(persistencePort.findById("1")).thenReturn(Optional.of(storedArticle()));
+
+        ArticlePatch patch = new ArticlePatch(Map.of(ArticleField.SALES_PRICE, new BigDecimal("105.00")), null);
+
+        assertThrows(IllegalArgumentException.class, () -> articleService.patchArticle("1", patch));
+        verify(persistencePort, never()).update(anyString(), anyMap(), anyLong());
+    }
+
+    @Test
+    void testPatchArticle_WithVatRatioBeyondDecimal128_ShouldThrowException() {
+        when(persistencePort.findById("1")).thenReturn(Optional.of(storedArticle()));
+
+        ArticlePatch patch = new ArticlePatch(Map.of(ArticleField.VAT_RATIO, new BigDecimal("1E+7000")), null);
+
+        assertThrows(IllegalArgumentException.class, () -> articleService.patchArticle("1", patch));
+        verify(persistencePort, never()).update(anyString(), anyMap(), anyLong());
+    }
+
+    @Test
+    void testPatchArticle_WithOutdatedVersion_ShouldThrowConflict() {
+        when(persistencePort.findById("1")).thenReturn(Optional.of(storedArticle()));
+
+        ArticlePatch patch = new ArticlePatch(Map.of(ArticleField.SLOGAN, "New Slogan"), 1L);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> articleService.patchArticle("1", patch));
+        verify(persistencePort, never()).update(anyString(), anyMap(), anyLong());
+    }
+
+    @Test
+    void testPatchArticle_RemovingRequiredField_ShouldBeRejected() {
+        Map<ArticleField, Object> values = new EnumMap<>(ArticleField.class);
+        values.put(ArticleField.NET_PRICE, null);
+
+        assertThrows(IllegalArgumentException.class, () -> new ArticlePatch(values, null));
     }
 
     // Tests for deleteArticle
@@ -408,6 +564,7 @@ class ArticleServiceTest {
 
         assertTrue(result);
         verify(persistencePort, times(1)).deleteById(articleId);
+        verify(discountArchivePort, times(1)).deleteArchivedDiscounts(articleId);
     }
 
     @Test
@@ -419,6 +576,7 @@ class ArticleServiceTest {
 
         assertFalse(result);
         verify(persistencePort, times(1)).deleteById(articleId);
+        verify(discountArchivePort, never()).deleteArchivedDiscounts(any());
     }
 
     @Test
@@ -442,4 +600,234 @@ class ArticleServiceTest {
         assertFalse(result);
         verify(persistencePort, times(1)).existsById(articleId);
     }
+
+    @Test
+    void testCreateArticle_ShouldIndexSavedArticleAndInvalidateCaches() {
+        Article article = new Article(null, "Test Product", "Test Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        Article saved = new Article("1", "Test Product", "Test Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+
+        when(persistencePort.save(any(Article.class))).thenReturn(saved);
+
+        articleService.createArticle(article);
+
+        verify(searchIndexPort, times(1)).index(saved);
+        verify(articleCachePort, times(1)).evict("1");
+    }
+
+    @Test
+    void testDeleteArticle_ShouldRemoveArticleFromIndexOnlyWhenDeleted() {
+        when(persistencePort.deleteById("1")).thenReturn(true);
+        when(persistencePort.deleteById("2")).thenReturn(false);
+
+        articleService.deleteArticle("1");
+        articleService.deleteArticle("2");
+
+        verify(searchIndexPort, times(1)).remove("1");
+        verify(searchIndexPort, never()).remove("2");
+    }
+
+    @Test
+    void testWrites_ShouldEvictArticleFromCache() {
+        when(persistencePort.replace(any(Article.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+        when(persistencePort.deleteById("1")).thenReturn(true);
+
+        articleService.updateArticle("1", new Article(null, "Test Product", "Test Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19")));
+        articleService.deleteArticle("1");
+
+        verify(articleCachePort, times(2)).evict("1");
+    }
+
+    @Test
+    void testFailedWrite_ShouldStillEvictArticleFromCache() {
+        when(persistencePort.replace(any(Article.class))).thenThrow(new OptimisticLockingFailureException("stale"));
+        Article article = new Article(null, "Test Product", "Test Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> articleService.updateArticle("1", article));
+
+        verify(articleCachePort).evict("1");
+    }
+
+    @Test
+    void testSearchArticles_PrefixMode_ShouldUseSearchIndex() {
+        Article laptop = new Article("1", "Laptop", "Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        Article lapdesk = new Article("2", "Lapdesk", "Slogan",
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19"));
+        when(searchIndexPort.findIdsByPrefix("lap", 20, 10)).thenReturn(List.of("2", "3", "1"));
+        when(persistencePort.findAllById(List.of("2", "3", "1"))).thenReturn(List.of(laptop, lapdesk));
+
+        List<BaseArticle> result = articleService.searchArticles("lap", SearchMode.PREFIX, null, false, 2, 10);
+
+        // in the order of the index, without the article deleted since it was indexed
+        assertEquals(List.of(lapdesk, laptop), result);
+        verify(persistencePort, never()).searchByText(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchArticles_FullTextModeWithPrices_ShouldReturnArticlesWithPrices() {
+        LocalDate testDate = LocalDate.of(2026, 2, 6);
+        Article article = new Article("1", "Laptop", "Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(null, "Sale", new BigDecimal("10"),
+                testDate.minusDays(5), testDate.plusDays(5)));
+        when(persistencePort.searchByText("laptop", 0, 20)).thenReturn(List.of(article));
+
+        List<BaseArticle> result = articleService.searchArticles("laptop", SearchMode.FULL_TEXT, testDate, true, 0, 20);
+
+        assertEquals(1, result.size());
+        ArticleWithPrice articleWithPrice = assertInstanceOf(ArticleWithPrice.class, result.getFirst());
+        assertEquals(new BigDecimal("180.00"), articleWithPrice.getFinalPrice());
+        verify(searchIndexPort, never()).findIdsByPrefix(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchArticles_WithInvalidParameters_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.searchArticles(" ", SearchMode.PREFIX, null, false, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.searchArticles("lap", SearchMode.PREFIX, null, true, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.searchArticles("lap", SearchMode.PREFIX, null, false, -1, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.searchArticles("lap", SearchMode.PREFIX, null, false, 0, 0));
+        verifyNoInteractions(searchIndexPort);
+    }
+
+    @Test
+    void testGetArticlesEligibleForDiscount_ShouldQueryPersistenceWithOffset() {
+        Article article = new Article("1", "Laptop", "Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        when(persistencePort.findEligibleForDiscount(new BigDecimal("25"), 20, 10)).thenReturn(List.of(article));
+
+        List<Article> result = articleService.getArticlesEligibleForDiscount(new BigDecimal("25"), 2, 10);
+
+        assertEquals(List.of(article), result);
+    }
+
+    @Test
+    void testGetArticlesEligibleForDiscount_WithInvalidParameters_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.getArticlesEligibleForDiscount(null, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.getArticlesEligibleForDiscount(BigDecimal.ZERO, 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.getArticlesEligibleForDiscount(new BigDecimal("100.01"), 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.getArticlesEligibleForDiscount(new BigDecimal("16.67083"), 0, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> articleService.getArticlesEligibleForDiscount(new BigDecimal("25"), 0, 201));
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void testGetArticleById_WithDiscountHistory_ShouldRequestHistoryFromPersistence() {
+        Article article = new Article("1", "Test Product", "Test Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        when(persistencePort.findById("1", true)).thenReturn(Optional.of(article));
+
+        Optional<Article> result = articleService.getArticleById("1", true);
+
+        assertTrue(result.isPresent());
+        verify(persistencePort, times(1)).findById("1", true);
+    }
+
+    @Test
+    void testGetArticleDiscounts_ShouldPageWithCursor() {
+        DiscountWindow window = new DiscountWindow(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+        Discount first = new Discount(1L, "First", new BigDecimal("10"), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        Discount second = new Discount(2L, "Second", new BigDecimal("10"), LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+        Discount third = new Discount(3L, "Third", new BigDecimal("10"), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+        when(persistencePort.findDiscounts("1", window, 0, 3)).thenReturn(Optional.of(List.of(first, second, third)));
+        DiscountPage firstPage = articleService.getArticleDiscounts("1", window, 2, null).orElseThrow();
+
+        assertEquals(List.of(first, second), firstPage.discounts());
+        assertNotNull(firstPage.nextCursor());
+
+        when(persistencePort.findDiscounts("1", window, 2, 3)).thenReturn(Optional.of(List.of(third)));
+        DiscountPage lastPage = articleService.getArticleDiscounts("1", window, 2, firstPage.nextCursor()).orElseThrow();
+
+        assertEquals(List.of(third), lastPage.discounts());
+        assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    void testGetArticleDiscounts_WithInvalidParameters_ShouldThrowException() {
+        DiscountWindow window = new DiscountWindow(null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> articleService.getArticleDiscounts("1", window, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> articleService.getArticleDiscounts("1", window, 10, "not-a-cursor"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiscountWindow(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1)));
+        verify(persistencePort, never()).findDiscounts(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testGetArticleDiscounts_WhenArticleNotFound_ShouldReturnEmpty() {
+        DiscountWindow window = new DiscountWindow(null, null);
+        when(persistencePort.findDiscounts("nonexistent", window, 0, 11)).thenReturn(Optional.empty());
+
+        assertTrue(articleService.getArticleDiscounts("nonexistent", window, 10, null).isEmpty());
+    }
+
+    @Test
+    void testGetArchivedDiscounts_ShouldQueryArchiveForExistingArticle() {
+        DiscountWindow window = new DiscountWindow(LocalDate.of(2024, 1, 1), null);
+        List<Discount> archived = List.of(new Discount(1L, "Old Sale", new BigDecimal("10"),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+        when(persistencePort.existsById("1")).thenReturn(true);
+        when(discountArchivePort.findArchivedDiscounts("1", window)).thenReturn(archived);
+
+        assertEquals(archived, articleService.getArchivedDiscounts("1", window).orElseThrow());
+    }
+
+    @Test
+    void testGetArchivedDiscounts_WhenArticleNotFound_ShouldReturnEmpty() {
+        when(persistencePort.existsById("nonexistent")).thenReturn(false);
+
+        assertTrue(articleService.getArchivedDiscounts("nonexistent", new DiscountWindow(null, null)).isEmpty());
+        verify(discountArchivePort, never()).findArchivedDiscounts(any(), any());
+    }
+
+    @Test
+    void testGetArticlesByIds_SkipsUnknownAndRepeatedIds() {
+        Article stored = storedArticle();
+        when(persistencePort.findAllById(List.of("1", "2", "1"))).thenReturn(List.of(stored));
+
+        assertEquals(List.of(stored), articleService.getArticlesByIds(List.of("1", "2", "1")));
+        verify(persistencePort, never()).findById(any());
+    }
+
+    @Test
+    void testGetArticlesByIds_KeepsRequestOrder() {
+        Article first = storedArticle();
+        Article second = storedArticle();
+        second.setId("2");
+        when(persistencePort.findAllById(List.of("2", "1"))).thenReturn(List.of(first, second));
+
+        assertEquals(List.of(second, first), articleService.getArticlesByIds(List.of("2", "1")));
+    }
+
+    @Test
+    void testQuoteArticles_PricesForDate() {
+        when(persistencePort.findAllById(List.of("1"))).thenReturn(List.of(storedArticle()));
+
+        List<ArticleWithPrice> quotes = articleService.quoteArticles(List.of("1"), LocalDate.now());
+
+        assertEquals(new BigDecimal("180.00"), quotes.getFirst().getFinalPrice());
+        assertThrows(IllegalArgumentException.class, () -> articleService.quoteArticles(List.of("1"), null));
+    }
+
+    private static Article storedArticle() {
+        Article article = new Article("1", "Stored Product", "Stored Slogan",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(1L, "Sale", new BigDecimal("10"),
+                LocalDate.now().minusDays(1), LocalDate.now().plusDays(10)));
+        article.setVersion(2L);
+        return article;
+    }
 }
@@ -0,0 +1,63 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignSimulation;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures a campaign simulation over an in-memory catalog of one million articles with
+ * one pricing thread and with one per core. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class CampaignSimulationBenchmarkTest {
+
+    private static final int ARTICLES = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final Discount DISCOUNT = new Discount(null, "Summer", new BigDecimal("20"),
+            LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 31));
+
+    @Test
+    void benchmarkSimulateCampaign() {
+        List<Article> catalog = CampaignSimulationServiceTest.randomCatalog(ARTICLES);
+        ArticlePersistencePort persistencePort = mock(ArticlePersistencePort.class);
+        when(persistencePort.findAll()).thenReturn(catalog);
+
+        double sequential = measure("1 thread", persistencePort, 1);
+        int cores = Runtime.getRuntime().availableProcessors();
+        double parallel = measure(cores + " threads", persistencePort, cores);
+        System.out.printf("Simulation speed-up with %d cores: %.1fx%n", cores, sequential / parallel);
+    }
+
+    private static double measure(String name, ArticlePersistencePort persistencePort, int threads) {
+        ArticlePricer pricer = new ArticlePricer(threads > 1, threads, 10_000, 2048);
+        CampaignSimulationService service = new CampaignSimulationService(persistencePort, pricer, new SimpleMeterRegistry());
+        try {
+            CampaignSimulation simulation = service.simulateCampaign(DISCOUNT, null, 20);
+            assertEquals(ARTICLES, simulation.selected());
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                service.simulateCampaign(DISCOUNT, null, 20);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                service.simulateCampaign(DISCOUNT, null, 20);
+            }
+            double nanosPerRun = (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+            System.out.printf("%-12s %,10.2f ms per %,d articles%n", name, nanosPerRun / 1e6, ARTICLES);
+            return nanosPerRun;
+        } finally {
+            pricer.destroy();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignConflict;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.interview.tecalliance.domain.model.campaign.CampaignSimulation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignSimulationServiceTest {
+
+    private static final Discount SUMMER = new Discount(null, "Summer", new BigDecimal("20"),
+            LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 31));
+
+    @Mock
+    private ArticlePersistencePort persistencePort;
+
+    private final ArticlePricer parallel = new ArticlePricer(true, 4, 100, 100);
+    private final ArticlePricer sequential = new ArticlePricer(false, 1, 100, 100);
+
+    @AfterEach
+    void tearDown() {
+        parallel.destroy();
+    }
+
+    @Test
+    void testSimulateCampaign_CountsRejectionsAndRevenueImpact() {
+        Article applicable = article("a", "Laptop Basic", "100.00", "200.00");
+        Article belowNet = article("b", "Laptop Pro", "180.00", "200.00");
+        Article overlapping = article("c", "Laptop Air", "100.00", "200.00");
+        overlapping.addDiscount(new Discount(1L, "Holidays", new BigDecimal("10"),
+                LocalDate.of(2026, 7, 31), LocalDate.of(2026, 8, 15)));
+        Article other = article("d", "Mouse", "5.00", "100.00");
+        when(persistencePort.findAll()).thenReturn(List.of(applicable, belowNet, overlapping, other));
+
+        CampaignSimulation simulation = service(sequential).simulateCampaign(SUMMER,
+                new CampaignSelector(null, "Laptop", null, null), 20);
+
+        assertEquals(4, simulation.articles());
+        assertEquals(3, simulation.selected());
+        assertEquals(1, simulation.applicable());
+        assertEquals(2, simulation.rejected());
+        assertEquals(1, simulation.overlapping());
+        assertEquals(1, simulation.belowNetPrice());
+        assertEquals(new BigDecimal("200.00"), simulation.salesValue());
+        assertEquals(new BigDecimal("160.00"), simulation.discountedSalesValue());
+        assertEquals(new BigDecimal("-40.00"), simulation.revenueImpact());
+        assertEquals(List.of(
+                new CampaignConflict("b", "Laptop Pro", false, true, new BigDecimal("10.0024")),
+                new CampaignConflict("c", "Laptop Air", true, false, new BigDecimal("50.0024"))),
+                simulation.sampleConflicts());
+        assertTrue(applicable.getDiscounts().isEmpty());
+    }
+
+    @Test
+    void testSimulateCampaign_ParallelMatchesSequentialAndArticleValidation() {
+        List<Article> catalog = randomCatalog(20_000);
+        when(persistencePort.findAll()).thenReturn(catalog);
+
+        CampaignSimulation inParallel = service(parallel).simulateCampaign(SUMMER, null, 50);
+        CampaignSimulation inSequence = service(sequential).simulateCampaign(SUMMER, null, 50);
+
+        assertEquals(withoutDuration(inSequence), withoutDuration(inParallel));
+        long rejectedByValidation = catalog.stream().filter(article -> {
+            Article candidate = new Article(article.getId(), article.getName(), null,
+                    article.getNetPrice(), article.getSalesPrice(), article.getVatRatio());
+            candidate.getDiscounts().addAll(article.getDiscounts());
+            candidate.addDiscount(SUMMER);
+            try {
+                ArticleService.validateArticle(candidate);
+                return false;
+            } catch (IllegalArgumentException _) {
+                return true;
+            }
+        }).count();
+        assertEquals(rejectedByValidation, inParallel.rejected());
+        assertEquals(catalog.size() - rejectedByValidation, inParallel.applicable());
+        assertEquals(50, inParallel.sampleConflicts().size());
+    }
+
+    @Test
+    void testSimulateCampaign_WithInvalidRequest_ShouldThrowException() {
+        CampaignSimulationService service = service(sequential);
+        Discount reversed = new Discount(null, "Reversed", new BigDecimal("20"),
+                LocalDate.of(2026, 7, 31), LocalDate.of(2026, 7, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> service.simulateCampaign(reversed, null, 20));
+        assertThrows(IllegalArgumentException.class, () -> service.simulateCampaign(SUMMER, null, 201));
+        assertThrows(IllegalArgumentException.class, () -> service.simulateCampaign(SUMMER,
+                new CampaignSelector(null, null, new BigDecimal("10"), new BigDecimal("5")), 20));
+        verifyNoInteractions(persistencePort);
+    }
+
+    private CampaignSimulationService service(ArticlePricer articlePricer) {
+        return new CampaignSimulationService(persistencePort, articlePricer, new SimpleMeterRegistry());
+    }
+
+    private static CampaignSimulation withoutDuration(CampaignSimulation simulation) {
+        return new CampaignSimulation(simulation.articles(), simulation.selected(), simulation.applicable(),
+                simulation.rejected(), simulation.overlapping(), simulation.belowNetPrice(), simulation.salesValue(),
+                simulation.discountedSalesValue(), simulation.revenueImpact(), simulation.sampleConflicts(), 0);
+    }
+
+    static List<Article> randomCatalog(int size) {
+        Random random = new Random(42);
+        List<Article> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BigDecimal salesPrice = BigDecimal.valueOf(1_000 + random.nextInt(100_000), 2);
+            BigDecimal netPrice = salesPrice.multiply(BigDecimal.valueOf(50 + random.nextInt(50), 2))
+                    .setScale(2, RoundingMode.HALF_UP);
+            Article article = article(Integer.toString(i), "Article " + i, netPrice.toPlainString(),
+                    salesPrice.toPlainString());
+            if (random.nextInt(10) == 0) {
+                LocalDate start = LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365));
+                article.addDiscount(new Discount((long) i, "Existing", BigDecimal.ONE, start, start.plusDays(14)));
+            }
+            catalog.add(article);
+        }
+        return catalog;
+    }
+
+    private static Article article(String id, String name, String netPrice, String salesPrice) {
+        return new Article(id, name, null, new BigDecimal(netPrice), new BigDecimal(salesPrice), new BigDecimal("0.19"));
+    }
+}
@@ -0,0 +1,152 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.BaseArticle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CoalescingArticleUseCaseTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleService articleService;
+    private CoalescedArticleReads reads;
+    private CoalescingArticleUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        articleService = mock(ArticleService.class);
+        reads = new CoalescedArticleReads(meterRegistry);
+        useCase = new CoalescingArticleUseCase(articleService, reads);
+    }
+
+    @Test
+    void testConcurrentReads_JoinOneQueryAndGetOwnCopies() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(articleService.getArticleById("1", false)).thenAnswer(invocation -> {
+            await(release);
+            return Optional.of(article("Stored"));
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Optional<Article>> leader = executor.submit(() -> useCase.getArticleById("1"));
+            awaitCount("executed", 1);
+            Future<Optional<Article>> follower = executor.submit(() -> useCase.getArticleById("1"));
+            awaitCount("shared", 1);
+            release.countDown();
+
+            Article first = leader.get(5, TimeUnit.SECONDS).orElseThrow();
+            Article second = follower.get(5, TimeUnit.SECONDS).orElseThrow();
+            assertEquals(first, second);
+            assertNotSame(first, second);
+            assertNotSame(first.getDiscounts().getFirst(), second.getDiscounts().getFirst());
+        }
+        verify(articleService, times(1)).getArticleById("1", false);
+    }
+
+    @Test
+    void testListReads_ReturnCopiesOfTheArticles() {
+        Article shared = article("Listed");
+        when(articleService.getArticlesWithFilters(null, false, false)).thenReturn(List.of(shared));
+
+        List<BaseArticle> articles = useCase.getArticlesWithFilters(null, false, false);
+
+        assertEquals(List.of(shared), articles);
+        assertNotSame(shared, articles.getFirst());
+    }
+
+    @Test
+    void testWrite_ReleasesTheReadStartedBeforeIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(articleService.getArticleById("1", false))
+                .thenAnswer(invocation -> {
+                    await(release);
+                    return Optional.of(article("Before"));
+                })
+                .thenReturn(Optional.of(article("After")));
+        // the service invalidates the caches, which include the coalesced reads, after every write
+        when(articleService.updateArticle(eq("1"), any(Article.class))).thenAnswer(invocation -> {
+            reads.evict("1");
+            return Optional.of(invocation.getArgument(1, Article.class));
+        });
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Optional<Article>> before = executor.submit(() -> useCase.getArticleById("1"));
+            awaitCount("executed", 1);
+
+            useCase.updateArticle("1", article("After"));
+            Optional<Article> after = useCase.getArticleById("1");
+            release.countDown();
+
+            assertEquals("After", after.orElseThrow().getName());
+            assertEquals("Before", before.get(5, TimeUnit.SECONDS).orElseThrow().getName());
+        }
+        verify(articleService, times(2)).getArticleById("1", false);
+    }
+
+    @Test
+    void testFailedRead_IsSharedAndReleased() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(articleService.getArticleById("1", false))
+                .thenAnswer(invocation -> {
+                    await(release);
+                    throw new IllegalArgumentException("Invalid article ID");
+                })
+                .thenReturn(Optional.of(article("Retried")));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Optional<Article>> leader = executor.submit(() -> useCase.getArticleById("1"));
+            awaitCount("executed", 1);
+            Future<Optional<Article>> follower = executor.submit(() -> useCase.getArticleById("1"));
+            awaitCount("shared", 1);
+            release.countDown();
+
+            assertInstanceOf(IllegalArgumentException.class, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertInstanceOf(IllegalArgumentException.class, assertThrows(ExecutionException.class, follower::get).getCause());
+        }
+        assertEquals("Retried", useCase.getArticleById("1").orElseThrow().getName());
+    }
+
+    private static Article article(String name) {
+        Article article = new Article("1", name, null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.addDiscount(new Discount(1L, "Sale", new BigDecimal("10"),
+                LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 31)));
+        article.setVersion(1L);
+        return article;
+    }
+
+    private void awaitCount(String outcome, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("articles.read.coalescing.calls").tag("query", "article").tag("outcome", outcome)
+                .counter().count() < count) {
+            assertTrue(System.nanoTime() < deadline, "timed out waiting for " + count + " " + outcome + " calls");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.DiscountCalendarPort;
+import org.interview.tecalliance.application.port.out.DiscountPeriodCount;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.DiscountWindow;
+import org.interview.tecalliance.domain.model.analytics.DiscountCalendar;
+import org.interview.tecalliance.domain.model.analytics.DiscountCalendarDay;
+import org.interview.tecalliance.domain.model.analytics.PercentageBand;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountCalendarServiceTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2026, 7, 1);
+    private static final LocalDate JULY_5 = LocalDate.of(2026, 7, 5);
+
+    @Mock
+    private DiscountCalendarPort calendarPort;
+
+    @Mock
+    private ArticlePersistencePort persistencePort;
+
+    @Test
+    void testGetDiscountCalendar_CountsActiveDiscountsPerDay() {
+        when(calendarPort.countDiscountPeriods(new DiscountWindow(JULY_1, JULY_5))).thenReturn(List.of(
+                period("2026-06-01", "2026-07-02", "5", 3),
+                period("2026-07-02", "2026-07-03", "15", 2),
+                period("2026-07-04", "2026-12-31", "50", 1)));
+
+        DiscountCalendar calendar = service(Optional.of(calendarPort)).getDiscountCalendar(JULY_1, JULY_5, null);
+
+        assertEquals(List.of(3L, 5L, 2L, 1L, 1L), calendar.days().stream().map(DiscountCalendarDay::discounted).toList());
+        assertEquals(JULY_1, calendar.days().getFirst().date());
+        assertEquals(JULY_5, calendar.days().getLast().date());
+        assertTrue(calendar.bands().isEmpty());
+        assertTrue(calendar.days().getFirst().byBand().isEmpty());
+    }
+
+    @Test
+    void testGetDiscountCalendar_BreaksCountsDownByPercentageBand() {
+        when(calendarPort.countDiscountPeriods(any())).thenReturn(List.of(
+                period("2026-07-01", "2026-07-02", "10", 4),
+                period("2026-07-01", "2026-07-01", "9.99", 1),
+                period("2026-07-02", "2026-07-05", "100", 2)));
+
+        DiscountCalendar calendar = service(Optional.of(calendarPort))
+                .getDiscountCalendar(JULY_1, JULY_5, List.of(new BigDecimal("10"), new BigDecimal("20")));
+
+        assertEquals(List.of(
+                        new PercentageBand(BigDecimal.ZERO, new BigDecimal("10")),
+                        new PercentageBand(new BigDecimal("10"), new BigDecimal("20")),
+                        new PercentageBand(new BigDecimal("20"), BigDecimal.valueOf(100))),
+                calendar.bands());
+        assertEquals(List.of(1L, 4L, 0L), calendar.days().get(0).byBand());
+        assertEquals(List.of(0L, 4L, 2L), calendar.days().get(1).byBand());
+        assertEquals(List.of(0L, 0L, 2L), calendar.days().get(4).byBand());
+        assertEquals(6, calendar.days().get(1).discounted());
+    }
+
+    @Test
+    void testGetDiscountCalendar_WithoutPort_GroupsTheCatalog() {
+        Article first = article(discount("10", "2026-07-01", "2026-07-03"), discount("20", "2026-07-04", "2026-07-10"));
+        Article second = article(discount("10.00", "2026-07-01", "2026-07-03"));
+        Article third = new Article("3", "Plain", null,
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("0.19"));
+        when(persistencePort.findAll()).thenReturn(List.of(first, second, third));
+
+        DiscountCalendar calendar = service(Optional.empty()).getDiscountCalendar(JULY_1, JULY_5, null);
+
+        assertEquals(List.of(2L, 2L, 2L, 1L, 1L), calendar.days().stream().map(DiscountCalendarDay::discounted).toList());
+        assertEquals(2, DiscountCalendarService.countDiscountPeriods(List.of(first, second, third)).size());
+    }
+
+    @Test
+    void testGetDiscountCalendar_IsCachedUntilTheNextWrite() {
+        when(calendarPort.countDiscountPeriods(any())).thenReturn(List.of(period("2026-07-01", "2026-07-05", "10", 1)));
+        DiscountCalendarService service = service(Optional.of(calendarPort));
+
+        DiscountCalendar calendar = service.getDiscountCalendar(JULY_1, JULY_5, null);
+        assertSame(calendar, service.getDiscountCalendar(JULY_1, JULY_5, null));
+        verify(calendarPort, times(1)).countDiscountPeriods(any());
+
+        service.evict("507f1f77bcf86cd799439011");
+        service.getDiscountCalendar(JULY_1, JULY_5, null);
+        verify(calendarPort, times(2)).countDiscountPeriods(any());
+    }
+
+    @Test
+    void testGetDiscountCalendar_WithInvalidRange_ShouldThrowException() {
+        DiscountCalendarService service = service(Optional.of(calendarPort));
+
+        assertThrows(IllegalArgumentException.class, () -> service.getDiscountCalendar(null, JULY_5, null));
+        assertThrows(IllegalArgumentException.class, () -> service.getDiscountCalendar(JULY_5, JULY_1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDiscountCalendar(JULY_1, JULY_1.plusDays(DiscountCalendarService.MAX_DAYS), null));
+        assertDoesNotThrow(() -> service.getDiscountCalendar(JULY_1, JULY_1.plusDays(DiscountCalendarService.MAX_DAYS - 1), null));
+    }
+
+    @Test
+    void testGetDiscountCalendar_WithInvalidBands_ShouldThrowException() {
+        DiscountCalendarService service = service(Optional.of(calendarPort));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDiscountCalendar(JULY_1, JULY_5, List.of(new BigDecimal("20"), new BigDecimal("10"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDiscountCalendar(JULY_1, JULY_5, List.of(new BigDecimal("10"), new BigDecimal("10"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDiscountCalendar(JULY_1, JULY_5, List.of(BigDecimal.ZERO)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDiscountCalendar(JULY_1, JULY_5, List.of(BigDecimal.valueOf(100))));
+        verifyNoInteractions(calendarPort);
+    }
+
+    private DiscountCalendarService service(Optional<DiscountCalendarPort> port) {
+        return new DiscountCalendarService(port, persistencePort, new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+    }
+
+    private static DiscountPeriodCount period(String start, String end, String percentage, long discounts) {
+        return new DiscountPeriodCount(LocalDate.parse(start), LocalDate.parse(end), new BigDecimal(percentage), discounts);
+    }
+
+    private static Discount discount(String percentage, String start, String end) {
+        return new Discount(null, null, new BigDecimal(percentage), LocalDate.parse(start), LocalDate.parse(end));
+    }
+
+    private static Article article(Discount... discounts) {
+        Article article = new Article(null, "Laptop", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setDiscounts(List.of(discounts));
+        return article;
+    }
+}
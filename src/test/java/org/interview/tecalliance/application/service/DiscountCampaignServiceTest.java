@@ -0,0 +1,144 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.CampaignBatchResult;
+import org.interview.tecalliance.application.port.out.DiscountCampaignPort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.campaign.CampaignSelector;
+import org.interview.tecalliance.domain.model.campaign.CampaignStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountCampaignServiceTest {
+
+    private static final CampaignSelector LAPTOPS = new CampaignSelector(null, "Laptop", null, null);
+
+    @Mock
+    private DiscountCampaignPort campaignPort;
+
+    @Mock
+    private ArticleSearchIndexPort searchIndexPort;
+
+    @Mock
+    private ArticleCachePort articleCachePort;
+
+    private DiscountCampaignService campaignService;
+
+    @AfterEach
+    void tearDown() {
+        if (campaignService != null) {
+            campaignService.destroy();
+        }
+    }
+
+    @Test
+    void testStartCampaign_AppliesDiscountInBatchesAndCountsRejectedArticles() {
+        campaignService = service(Optional.of(campaignPort));
+        Discount discount = discount("20");
+        Article updated = new Article("a", "Laptop", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        when(campaignPort.findTargets(LAPTOPS, null, 2)).thenReturn(List.of("a", "b"));
+        when(campaignPort.findTargets(LAPTOPS, "b", 2)).thenReturn(List.of("c"));
+        when(campaignPort.applyDiscount(List.of("a", "b"), discount)).thenReturn(new CampaignBatchResult(1, List.of(updated)));
+        when(campaignPort.applyDiscount(List.of("c"), discount)).thenReturn(new CampaignBatchResult(0, List.of()));
+
+        CampaignStatus started = campaignService.startCampaign(discount, LAPTOPS);
+        CampaignStatus finished = awaitFinished(started.id());
+
+        assertEquals(JobState.COMPLETED, finished.state());
+        assertEquals(3, finished.selected());
+        assertEquals(1, finished.applied());
+        assertEquals(2, finished.rejected());
+        assertNotNull(finished.finishedAt());
+        verify(searchIndexPort).index(updated);
+        verify(articleCachePort, times(2)).evictAll();
+    }
+
+    @Test
+    void testStartCampaign_WhenStorageFails_MarksCampaignFailed() {
+        campaignService = service(Optional.of(campaignPort));
+        when(campaignPort.findTargets(LAPTOPS, null, 2)).thenReturn(List.of("a"));
+        when(campaignPort.applyDiscount(any(), any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        CampaignStatus finished = awaitFinished(campaignService.startCampaign(discount("20"), LAPTOPS).id());
+
+        assertEquals(JobState.FAILED, finished.state());
+        assertEquals("down", finished.error());
+        verify(articleCachePort).evictAll();
+    }
+
+    @Test
+    void testStartCampaign_WithInvalidRequest_ShouldThrowException() {
+        campaignService = service(Optional.of(campaignPort));
+        Discount reversed = discount("20");
+        reversed.setStartDate(reversed.getEndDate().plusDays(1));
+
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(discount("0"), LAPTOPS));
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(discount("101"), LAPTOPS));
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(discount("16.67083"), LAPTOPS));
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(reversed, LAPTOPS));
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(discount("20"),
+                new CampaignSelector(null, "", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(discount("20"),
+                new CampaignSelector(null, null, new BigDecimal("10"), new BigDecimal("5"))));
+        assertThrows(IllegalArgumentException.class, () -> campaignService.startCampaign(discount("20"),
+                new CampaignSelector(Collections.nCopies(DiscountCampaignService.MAX_ARTICLE_IDS + 1, "a"), null, null, null)));
+        verifyNoInteractions(campaignPort);
+    }
+
+    @Test
+    void testStartCampaign_WithoutCampaignSupport_ShouldThrowException() {
+        campaignService = service(Optional.empty());
+
+        assertThrows(UnsupportedOperationException.class, () -> campaignService.startCampaign(discount("20"), LAPTOPS));
+    }
+
+    @Test
+    void testGetCampaign_UnknownId_ReturnsEmpty() {
+        campaignService = service(Optional.of(campaignPort));
+
+        assertTrue(campaignService.getCampaign("unknown").isEmpty());
+    }
+
+    private DiscountCampaignService service(Optional<DiscountCampaignPort> port) {
+        return new DiscountCampaignService(port, searchIndexPort, articleCachePort, new SimpleMeterRegistry(),
+                2, Duration.ZERO, 10);
+    }
+
+    private CampaignStatus awaitFinished(String id) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            CampaignStatus status = campaignService.getCampaign(id).orElseThrow();
+            if (status.state() == JobState.COMPLETED || status.state() == JobState.FAILED) {
+                return status;
+            }
+            Thread.onSpinWait();
+        }
+        return fail("Campaign " + id + " did not finish");
+    }
+
+    private static Discount discount(String percentage) {
+        return new Discount(null, "Black Friday", new BigDecimal(percentage),
+                LocalDate.of(2026, 11, 27), LocalDate.of(2026, 11, 30));
+    }
+}
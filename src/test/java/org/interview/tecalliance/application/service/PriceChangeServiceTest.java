@@ -0,0 +1,119 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.application.port.out.DiscountBoundaryPort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.article.ArticlePriceChange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceChangeServiceTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2026, 7, 1);
+    private static final LocalDate JULY_2 = LocalDate.of(2026, 7, 2);
+
+    @Mock
+    private DiscountBoundaryPort boundaryPort;
+
+    @Mock
+    private ArticlePersistencePort persistencePort;
+
+    @Test
+    void testGetPriceChanges_ReturnsCandidatesWhosePriceDiffers() {
+        Article starting = article("b", discount("10", "2026-07-02", "2026-07-31"));
+        Article ending = article("a", discount("20", "2026-06-01", "2026-07-01"));
+        Article samePercentage = article("c",
+                discount("10", "2026-06-01", "2026-07-01"), discount("10", "2026-07-02", "2026-07-31"));
+        when(boundaryPort.findWithDiscountBoundaryBetween(JULY_1, JULY_2))
+                .thenReturn(List.of(starting, ending, samePercentage));
+
+        List<ArticlePriceChange> changes = service(Optional.of(boundaryPort)).getPriceChanges(JULY_1, JULY_2);
+
+        assertEquals(List.of("a", "b"), changes.stream().map(ArticlePriceChange::articleId).toList());
+        assertEquals(new BigDecimal("160.00"), changes.get(0).oldPrice());
+        assertEquals(new BigDecimal("200.00"), changes.get(0).newPrice());
+        assertNotNull(changes.get(0).oldDiscount());
+        assertNull(changes.get(0).newDiscount());
+        assertEquals(new BigDecimal("200.00"), changes.get(1).oldPrice());
+        assertEquals(0, new BigDecimal("180.00").compareTo(changes.get(1).newPrice()));
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void testGetPriceChanges_WithToBeforeFrom_ReturnsOldPricesOfFromDate() {
+        when(boundaryPort.findWithDiscountBoundaryBetween(JULY_1, JULY_2))
+                .thenReturn(List.of(article("a", discount("10", "2026-07-02", "2026-07-31"))));
+
+        List<ArticlePriceChange> changes = service(Optional.of(boundaryPort)).getPriceChanges(JULY_2, JULY_1);
+
+        assertEquals(1, changes.size());
+        assertEquals(0, new BigDecimal("180.00").compareTo(changes.getFirst().oldPrice()));
+        assertEquals(new BigDecimal("200.00"), changes.getFirst().newPrice());
+    }
+
+    @Test
+    void testGetPriceChanges_WithoutPort_FiltersArticlesReadForTheEarlierDate() {
+        when(persistencePort.findAllWithDiscountsValidFrom(JULY_1)).thenReturn(List.of(
+                article("a", discount("10", "2026-07-02", "2026-07-31")),
+                article("b", discount("10", "2026-06-01", "2026-07-31")),
+                article("c")));
+
+        List<ArticlePriceChange> changes = service(Optional.empty()).getPriceChanges(JULY_1, JULY_2);
+
+        assertEquals(List.of("a"), changes.stream().map(ArticlePriceChange::articleId).toList());
+    }
+
+    @Test
+    void testGetPriceChanges_WithSameDate_ReturnsNothing() {
+        assertTrue(service(Optional.of(boundaryPort)).getPriceChanges(JULY_1, JULY_1).isEmpty());
+        verifyNoInteractions(boundaryPort, persistencePort);
+    }
+
+    @Test
+    void testGetPriceChanges_WithoutDate_ThrowsException() {
+        PriceChangeService service = service(Optional.of(boundaryPort));
+
+        assertThrows(IllegalArgumentException.class, () -> service.getPriceChanges(null, JULY_2));
+        assertThrows(IllegalArgumentException.class, () -> service.getPriceChanges(JULY_1, null));
+    }
+
+    @Test
+    void testHasDiscountBoundaryBetween_MatchesDiscountsValidOnExactlyOneDay() {
+        assertTrue(PriceChangeService.hasDiscountBoundaryBetween(
+                article("a", discount("10", "2026-07-02", "2026-07-02")), JULY_1, JULY_2));
+        assertTrue(PriceChangeService.hasDiscountBoundaryBetween(
+                article("a", discount("10", "2026-07-01", "2026-07-01")), JULY_1, JULY_2));
+        assertFalse(PriceChangeService.hasDiscountBoundaryBetween(
+                article("a", discount("10", "2026-07-01", "2026-07-02")), JULY_1, JULY_2));
+        assertFalse(PriceChangeService.hasDiscountBoundaryBetween(
+                article("a", discount("10", "2026-06-01", "2026-06-30")), JULY_1, JULY_2));
+    }
+
+    private PriceChangeService service(Optional<DiscountBoundaryPort> port) {
+        return new PriceChangeService(port, persistencePort, new SimpleMeterRegistry());
+    }
+
+    private static Discount discount(String percentage, String start, String end) {
+        return new Discount(null, null, new BigDecimal(percentage), LocalDate.parse(start), LocalDate.parse(end));
+    }
+
+    private static Article article(String id, Discount... discounts) {
+        Article article = new Article(id, "Laptop", null,
+                new BigDecimal("100.00"), new BigDecimal("200.00"), new BigDecimal("0.19"));
+        article.setDiscounts(List.of(discounts));
+        return article;
+    }
+}
@@ -0,0 +1,70 @@
+package org.interview.tecalliance.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceHistogramTest {
+
+    @Test
+    void testIndexOf_BucketsAreContiguousAndBoundedInWidth() {
+        int previous = -1;
+        for (long cents = 0; cents < 1 << 20; cents++) {
+            int index = PriceHistogram.indexOf(cents);
+            assertTrue(index == previous || index == previous + 1, "gap at " + cents);
+            assertTrue(PriceHistogram.lowerBound(index) <= cents);
+            if (index != previous) {
+                assertEquals(cents, PriceHistogram.lowerBound(index));
+            }
+            previous = index;
+        }
+        assertEquals(1024, PriceHistogram.indexOf(1024));
+        assertEquals(PriceHistogram.indexOf(Long.MAX_VALUE - 1), PriceHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testValueAt_IsWithinAPerMilleOfTheExactPercentile() {
+        Random random = new Random(42);
+        long[] prices = new long[100_000];
+        PriceHistogram histogram = new PriceHistogram();
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = (long) Math.exp(random.nextDouble() * 15);
+            histogram.add(prices[i]);
+        }
+        Arrays.sort(prices);
+
+        for (double percentile : new double[]{1, 25, 50, 90, 99, 99.9, 100}) {
+            long exact = prices[(int) Math.ceil(percentile / 100 * prices.length) - 1];
+            long approximate = histogram.valueAt(percentile);
+            assertTrue(Math.abs(approximate - exact) <= exact / 1000 + 1,
+                    percentile + ": " + approximate + " vs " + exact);
+        }
+        assertEquals(prices[0], histogram.valueAt(0));
+    }
+
+    @Test
+    void testMerge_EqualsOneHistogramOfAllPrices() {
+        PriceHistogram all = new PriceHistogram();
+        PriceHistogram low = new PriceHistogram();
+        PriceHistogram high = new PriceHistogram();
+        for (long cents = 0; cents < 50_000; cents += 7) {
+            all.add(cents);
+            (cents < 1_000 ? low : high).add(cents);
+        }
+
+        PriceHistogram merged = low.merge(high);
+
+        assertEquals(all.count(), merged.count());
+        for (int percentile = 0; percentile <= 100; percentile += 5) {
+            assertEquals(all.valueAt(percentile), merged.valueAt(percentile));
+        }
+    }
+
+    @Test
+    void testValueAt_WhenEmpty_ReturnsMinusOne() {
+        assertEquals(-1, new PriceHistogram().valueAt(50));
+    }
+}
@@ -0,0 +1,57 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures the price statistics of one million articles with one pricing thread and one per
+ * core, compared to pricing the whole list. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class PriceStatisticsBenchmarkTest {
+
+    private static final int SIZE = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void benchmarkPriceStatistics() {
+        List<Article> articles = ArticlePricerTest.articles(SIZE);
+        ArticlePersistencePort persistencePort = mock(ArticlePersistencePort.class);
+        when(persistencePort.findAllWithDiscountsValidFrom(DATE)).thenReturn(articles);
+
+        for (int threads : new int[]{1, Runtime.getRuntime().availableProcessors()}) {
+            ArticlePricer pricer = new ArticlePricer(threads > 1, threads, 10_000, 2048);
+            PriceStatisticsService service = new PriceStatisticsService(persistencePort, pricer, new SimpleMeterRegistry());
+            try {
+                assertEquals(SIZE, service.getPriceStatistics(DATE, null).priced());
+                measure("getPriceStatistics", threads, () -> service.getPriceStatistics(DATE, null));
+                measure("priceAll", threads, () -> pricer.priceAll(articles, DATE));
+            } finally {
+                pricer.destroy();
+            }
+        }
+    }
+
+    private static void measure(String name, int threads, Runnable calculation) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            calculation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            calculation.run();
+        }
+        double nanos = (double) (System.nanoTime() - start) / MEASURED_ROUNDS;
+        System.out.printf("%-20s %,9d articles %2d threads %,10.2f ms%n", name, SIZE, threads, nanos / 1e6);
+    }
+}
@@ -0,0 +1,123 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticlePersistencePort;
+import org.interview.tecalliance.domain.model.analytics.PricePercentile;
+import org.interview.tecalliance.domain.model.analytics.PriceStatistics;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceStatisticsServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private ArticlePersistencePort persistencePort;
+
+    private final ArticlePricer articlePricer = new ArticlePricer(true, 4, 100, 16);
+
+    @AfterEach
+    void tearDown() {
+        articlePricer.destroy();
+    }
+
+    @Test
+    void testGetPriceStatistics_MatchesArticlePricing() {
+        List<Article> articles = ArticlePricerTest.articles(5_000);
+        articles.getFirst().setSalesPrice(null);
+        when(persistencePort.findAllWithDiscountsValidFrom(DATE)).thenReturn(articles);
+
+        PriceStatistics statistics = service().getPriceStatistics(DATE, null);
+
+        List<BigDecimal> prices = articles.stream()
+                .map(article -> article.calculateDiscountedPrice(DATE))
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+        BigDecimal total = prices.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalDiscount = articles.stream()
+                .filter(article -> article.getSalesPrice() != null)
+                .map(article -> article.getSalesPrice().subtract(article.calculateDiscountedPrice(DATE)))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertEquals(5_000, statistics.articles());
+        assertEquals(4_999, statistics.priced());
+        assertEquals(articles.stream().filter(article -> article.getSalesPrice() != null
+                && article.calculateDiscountedPrice(DATE).compareTo(article.getSalesPrice()) < 0).count(),
+                statistics.discounted());
+        assertEquals(prices.getFirst(), statistics.minPrice());
+        assertEquals(prices.getLast(), statistics.maxPrice());
+        assertEquals(total, statistics.totalPrice());
+        assertEquals(total.divide(BigDecimal.valueOf(prices.size()), 2, RoundingMode.HALF_UP), statistics.meanPrice());
+        assertEquals(totalDiscount, statistics.totalDiscountAmount());
+
+        assertEquals(PriceStatisticsService.DEFAULT_PERCENTILES,
+                statistics.percentiles().stream().map(PricePercentile::percentile).toList());
+        for (PricePercentile percentile : statistics.percentiles()) {
+            int rank = (int) Math.ceil(percentile.percentile().doubleValue() / 100 * prices.size());
+            BigDecimal exact = prices.get(rank - 1);
+            assertTrue(percentile.price().subtract(exact).abs().compareTo(exact.movePointLeft(3).add(new BigDecimal("0.01"))) <= 0,
+                    percentile + " vs " + exact);
+        }
+    }
+
+    @Test
+    void testGetPriceStatistics_IsTheSameSequentially() {
+        List<Article> articles = ArticlePricerTest.articles(2_000);
+        when(persistencePort.findAllWithDiscountsValidFrom(DATE)).thenReturn(articles);
+        ArticlePricer sequential = new ArticlePricer(false, 1, 100, 16);
+        List<BigDecimal> percentiles = List.of(BigDecimal.ZERO, new BigDecimal("50"), new BigDecimal("100"));
+
+        PriceStatistics parallel = service().getPriceStatistics(DATE, percentiles);
+        PriceStatistics single = new PriceStatisticsService(persistencePort, sequential, new SimpleMeterRegistry())
+                .getPriceStatistics(DATE, percentiles);
+
+        assertEquals(single.percentiles(), parallel.percentiles());
+        assertEquals(single.totalDiscountAmount(), parallel.totalDiscountAmount());
+        assertEquals(parallel.minPrice(), parallel.percentiles().getFirst().price());
+        assertEquals(parallel.maxPrice(), parallel.percentiles().getLast().price());
+    }
+
+    @Test
+    void testGetPriceStatistics_WithEmptyCatalog_HasNoPrices() {
+        when(persistencePort.findAllWithDiscountsValidFrom(DATE)).thenReturn(List.of());
+
+        PriceStatistics statistics = service().getPriceStatistics(DATE, List.of(new BigDecimal("50")));
+
+        assertEquals(0, statistics.articles());
+        assertNull(statistics.minPrice());
+        assertNull(statistics.meanPrice());
+        assertNull(statistics.percentiles().getFirst().price());
+        assertEquals(BigDecimal.ZERO, statistics.totalDiscountAmount());
+    }
+
+    @Test
+    void testGetPriceStatistics_WithInvalidParameters_ShouldThrowException() {
+        PriceStatisticsService service = service();
+
+        assertThrows(IllegalArgumentException.class, () -> service.getPriceStatistics(null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getPriceStatistics(DATE, List.of(new BigDecimal("100.1"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getPriceStatistics(DATE, List.of(new BigDecimal("-1"))));
+        verifyNoInteractions(persistencePort);
+    }
+
+    private PriceStatisticsService service() {
+        return new PriceStatisticsService(persistencePort, articlePricer, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,226 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.interview.tecalliance.application.port.out.ArticleCachePort;
+import org.interview.tecalliance.application.port.out.ArticleSearchIndexPort;
+import org.interview.tecalliance.application.port.out.RepricingCheckpoint;
+import org.interview.tecalliance.application.port.out.RepricingPort;
+import org.interview.tecalliance.domain.model.Discount;
+import org.interview.tecalliance.domain.model.JobState;
+import org.interview.tecalliance.domain.model.article.Article;
+import org.interview.tecalliance.domain.model.repricing.PriceAdjustment;
+import org.interview.tecalliance.domain.model.repricing.RepricingRequest;
+import org.interview.tecalliance.domain.model.repricing.RepricingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RepricingServiceTest {
+
+    private static final BigDecimal CURRENT = new BigDecimal("0.19");
+    private static final BigDecimal NEW = new BigDecimal("0.16");
+    private static final RepricingRequest VAT_ONLY = new RepricingRequest(CURRENT, NEW, null, null);
+
+    @Mock
+    private RepricingPort repricingPort;
+
+    @Mock
+    private ArticleSearchIndexPort searchIndexPort;
+
+    @Mock
+    private ArticleCachePort articleCachePort;
+
+    private RepricingService repricingService;
+
+    @AfterEach
+    void tearDown() {
+        if (repricingService != null) {
+            repricingService.destroy();
+        }
+    }
+
+    @Test
+    void testStartRepricing_RepricesValidArticlesAndRejectsInvalidDiscounts() {
+        repricingService = service(Optional.of(repricingPort), 3);
+        Article discounted = article("a", "100.00", "200.00");
+        discounted.addDiscount(new Discount(1L, "Sale", new BigDecimal("40"),
+                LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 31)));
+        Article invalid = article("b", "100.00", "200.00");
+        invalid.addDiscount(new Discount(2L, "Clearance", new BigDecimal("60"),
+                LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 31)));
+        Article plain = article("c", "100.00", "200.00");
+        when(repricingPort.findTargets(CURRENT, NEW, (String) null, 3)).thenReturn(List.of(discounted, invalid, plain));
+        when(repricingPort.updatePrices(List.of(discounted, plain))).thenReturn(2L);
+
+        RepricingStatus started = repricingService.startRepricing(new RepricingRequest(CURRENT, NEW,
+                new PriceAdjustment(PriceAdjustment.Type.RATIO, new BigDecimal("0.8")), null));
+        RepricingStatus finished = awaitFinished(started.id());
+
+        assertEquals(JobState.COMPLETED, finished.state());
+        assertEquals(3, finished.processed());
+        assertEquals(2, finished.repriced());
+        assertEquals(1, finished.vatOnly());
+        assertEquals(List.of("a"), finished.vatOnlyArticleIds());
+        assertEquals(1, finished.rejected());
+        assertEquals(List.of("b"), finished.rejectedArticleIds());
+        assertEquals(1, finished.recentBatches().size());
+        assertEquals(3, finished.recentBatches().getFirst().articles());
+        assertEquals(1, finished.recentBatches().getFirst().vatOnly());
+        assertTrue(finished.articlesPerSecond() > 0);
+        assertEquals(new BigDecimal("160.00"), plain.getSalesPrice());
+        assertEquals(NEW, plain.getVatRatio());
+        assertEquals(1L, plain.getVersion());
+        assertEquals(new BigDecimal("200.00"), discounted.getSalesPrice());
+        assertEquals(NEW, discounted.getVatRatio());
+        verify(searchIndexPort).index(plain);
+        verify(searchIndexPort).index(discounted);
+        verify(articleCachePort).evict("c");
+        verify(repricingPort, atLeast(3)).saveCheckpoint(any());
+    }
+
+    @Test
+    void testStartRepricing_RetriesConcurrentlyModifiedArticles() {
+        repricingService = service(Optional.of(repricingPort), 2);
+        Article stale = article("a", "100.00", "200.00");
+        Article current = article("a", "100.00", "210.00");
+        current.setVersion(1L);
+        when(repricingPort.findTargets(CURRENT, NEW, (String) null, 2)).thenReturn(List.of(stale));
+        when(repricingPort.updatePrices(anyList())).thenReturn(0L, 1L);
+        when(repricingPort.findTargets(CURRENT, NEW, List.of("a"))).thenReturn(List.of(current));
+
+        RepricingStatus finished = awaitFinished(repricingService.startRepricing(VAT_ONLY).id());
+
+        assertEquals(JobState.COMPLETED, finished.state());
+        assertEquals(1, finished.repriced());
+        assertEquals(0, finished.conflicts());
+        assertEquals(2L, current.getVersion());
+        verify(searchIndexPort).index(current);
+        verify(searchIndexPort, never()).index(stale);
+    }
+
+    @Test
+    void testResumeRepricing_ContinuesAfterLastFinishedBatch() {
+        repricingService = service(Optional.of(repricingPort), 1);
+        Article first = article("a", "100.00", "200.00");
+        when(repricingPort.findTargets(CURRENT, NEW, (String) null, 1)).thenReturn(List.of(first));
+        when(repricingPort.updatePrices(List.of(first))).thenReturn(1L);
+        when(repricingPort.findTargets(CURRENT, NEW, "a", 1))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of());
+
+        String id = repricingService.startRepricing(VAT_ONLY).id();
+        RepricingStatus failed = awaitFinished(id);
+        assertEquals(JobState.FAILED, failed.state());
+        assertEquals("down", failed.error());
+        assertEquals(1, failed.repriced());
+
+        assertTrue(repricingService.resumeRepricing(id).isPresent());
+        RepricingStatus resumed = awaitFinished(id);
+
+        assertEquals(JobState.COMPLETED, resumed.state());
+        assertEquals(1, resumed.processed());
+        verify(repricingPort, times(1)).findTargets(CURRENT, NEW, (String) null, 1);
+        verify(repricingPort, times(2)).findTargets(CURRENT, NEW, "a", 1);
+    }
+
+    @Test
+    void testResumeUnfinishedJobs_ContinuesFromCheckpoint() {
+        repricingService = service(Optional.of(repricingPort), 2);
+        when(repricingPort.findUnfinishedCheckpoints()).thenReturn(List.of(new RepricingCheckpoint("job", VAT_ONLY,
+                JobState.RUNNING, "a", 5, 4, 1, 1, 0, Instant.now(), null)));
+        when(repricingPort.findTargets(CURRENT, NEW, "a", 2)).thenReturn(List.of());
+
+        repricingService.resumeUnfinishedJobs();
+        RepricingStatus finished = awaitFinished("job");
+
+        assertEquals(JobState.COMPLETED, finished.state());
+        assertEquals(5, finished.processed());
+        assertEquals(1, finished.vatOnly());
+        ArgumentCaptor<RepricingCheckpoint> checkpoints = ArgumentCaptor.forClass(RepricingCheckpoint.class);
+        verify(repricingPort, atLeastOnce()).saveCheckpoint(checkpoints.capture());
+        assertEquals(JobState.COMPLETED, checkpoints.getValue().state());
+    }
+
+    @Test
+    void testStartRepricing_WithInvalidRequest_ShouldThrowException() {
+        repricingService = service(Optional.of(repricingPort), 2);
+
+        assertThrows(IllegalArgumentException.class, () -> repricingService.startRepricing(
+                new RepricingRequest(CURRENT, null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> repricingService.startRepricing(
+                new RepricingRequest(CURRENT, BigDecimal.ONE, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> repricingService.startRepricing(
+                new RepricingRequest(CURRENT, new BigDecimal("0.190"), null, null)));
+        assertThrows(IllegalArgumentException.class, () -> repricingService.startRepricing(
+                new RepricingRequest(CURRENT, NEW, new PriceAdjustment(PriceAdjustment.Type.PERCENTAGE,
+                        new BigDecimal("-100")), null)));
+        verifyNoInteractions(repricingPort);
+    }
+
+    @Test
+    void testResumeRepricing_OfUnknownOrQueuedJob() {
+        repricingService = service(Optional.of(repricingPort), 2);
+        String id = repricingService.startRepricing(new RepricingRequest(CURRENT, NEW, null,
+                Instant.now().plus(Duration.ofHours(1)))).id();
+
+        assertEquals(JobState.QUEUED, repricingService.getRepricing(id).orElseThrow().state());
+        assertThrows(IllegalArgumentException.class, () -> repricingService.resumeRepricing(id));
+        assertTrue(repricingService.resumeRepricing("unknown").isEmpty());
+    }
+
+    @Test
+    void testStartRepricing_WithoutRepricingSupport_ShouldThrowException() {
+        repricingService = service(Optional.empty(), 2);
+
+        assertThrows(UnsupportedOperationException.class, () -> repricingService.startRepricing(VAT_ONLY));
+    }
+
+    @Test
+    void testPriceAdjustment_RoundsToCents() {
+        assertEquals(new BigDecimal("194.96"),
+                new PriceAdjustment(PriceAdjustment.Type.RATIO, new BigDecimal("0.974789")).apply(new BigDecimal("200.00")));
+        assertEquals(new BigDecimal("95.00"),
+                new PriceAdjustment(PriceAdjustment.Type.PERCENTAGE, new BigDecimal("-5")).apply(new BigDecimal("100")));
+    }
+
+    private RepricingService service(Optional<RepricingPort> port, int batchSize) {
+        return new RepricingService(port, searchIndexPort, articleCachePort, new SimpleMeterRegistry(),
+                batchSize, Duration.ZERO, 10, true);
+    }
+
+    private RepricingStatus awaitFinished(String id) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            RepricingStatus status = repricingService.getRepricing(id).orElseThrow();
+            if (status.state() == JobState.COMPLETED || status.state() == JobState.FAILED) {
+                return status;
+            }
+            Thread.onSpinWait();
+        }
+        return fail("Repricing job " + id + " did not finish");
+    }
+
+    private static Article article(String id, String netPrice, String salesPrice) {
+        Article article = new Article(id, "Article " + id, null,
+                new BigDecimal(netPrice), new BigDecimal(salesPrice), CURRENT);
+        article.setVersion(0L);
+        return article;
+    }
+}
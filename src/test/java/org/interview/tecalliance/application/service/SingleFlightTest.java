@@ -0,0 +1,145 @@
+package org.interview.tecalliance.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 20;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    @Test
+    void testConcurrentCalls_ShareOneComputation_OnPlatformThreads() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            assertSharedComputation(executor);
+        }
+    }
+
+    @Test
+    void testConcurrentCalls_ShareOneComputation_OnVirtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertSharedComputation(executor);
+        }
+    }
+
+    @Test
+    void testConcurrentCalls_ShareTheFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                throw new IllegalArgumentException("Invalid");
+            }));
+            awaitExecuted(1);
+            Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "not called"));
+            awaitShared(1);
+            release.countDown();
+
+            assertInstanceOf(IllegalArgumentException.class, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertInstanceOf(IllegalArgumentException.class, assertThrows(ExecutionException.class, follower::get).getCause());
+        }
+    }
+
+    @Test
+    void testSequentialCalls_AreNotCached() {
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.execute("key", () -> "v" + computations.incrementAndGet());
+        String second = singleFlight.execute("key", () -> "v" + computations.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertEquals(0.0, sharedCount());
+    }
+
+    @Test
+    void testForget_StartsNewComputationForLaterCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> before = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                return "before";
+            }));
+            awaitExecuted(1);
+
+            singleFlight.forget("key");
+            String after = singleFlight.execute("key", () -> "after");
+            release.countDown();
+
+            assertEquals("after", after);
+            assertEquals("before", before.get());
+        }
+    }
+
+    private void assertSharedComputation(ExecutorService executor) throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+            computations.incrementAndGet();
+            await(release);
+            return "value";
+        })));
+        awaitExecuted(1);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> "computed again")));
+        }
+        awaitShared(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+    }
+
+    private void awaitExecuted(int count) throws InterruptedException {
+        awaitCount("executed", count);
+    }
+
+    private void awaitShared(int count) throws InterruptedException {
+        awaitCount("shared", count);
+    }
+
+    private double sharedCount() {
+        return meterRegistry.get("articles.read.coalescing.calls").tag("outcome", "shared").counter().count();
+    }
+
+    private void awaitCount(String outcome, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("articles.read.coalescing.calls").tag("outcome", outcome).counter().count() < count) {
+            assertTrue(System.nanoTime() < deadline, "timed out waiting for " + count + " " + outcome + " calls");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
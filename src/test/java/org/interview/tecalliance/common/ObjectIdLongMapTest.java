@@ -0,0 +1,82 @@
+package org.interview.tecalliance.common;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectIdLongMapTest {
+
+    private final ObjectIdLongMap map = new ObjectIdLongMap();
+
+    @Test
+    void testPut_ReturnsPreviousValue() {
+        ObjectId id = new ObjectId();
+
+        assertEquals(-1, map.put(id, 8));
+        assertEquals(8, map.put(id, 120));
+        assertEquals(120, map.get(id));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void testRemove_KeepsOtherEntriesReachable() {
+        List<ObjectId> ids = fill(1_000);
+
+        for (int i = 0; i < ids.size(); i += 2) {
+            assertEquals(value(i), map.remove(ids.get(i)));
+        }
+
+        assertEquals(500, map.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i % 2 == 0 ? -1 : value(i), map.get(ids.get(i)));
+        }
+        assertEquals(-1, map.remove(ids.getFirst()));
+    }
+
+    @Test
+    void testSortedValues_ReturnsAllValuesAscending() {
+        fill(100);
+
+        long[] values = map.sortedValues();
+
+        assertEquals(100, values.length);
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, values);
+        assertEquals(value(0), values[0]);
+    }
+
+    @Test
+    void testClear_RemovesAllEntries() {
+        List<ObjectId> ids = fill(50);
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(-1, map.get(ids.getFirst()));
+    }
+
+    @Test
+    void testPut_RejectsNonPositiveValue() {
+        assertThrows(IllegalArgumentException.class, () -> map.put(new ObjectId(), 0));
+    }
+
+    private List<ObjectId> fill(int count) {
+        List<ObjectId> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ObjectId id = new ObjectId();
+            ids.add(id);
+            map.put(id, value(i));
+        }
+        return ids;
+    }
+
+    private static long value(int i) {
+        return 8 + 100L * i;
+    }
+}
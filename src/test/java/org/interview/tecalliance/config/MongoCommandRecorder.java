@@ -0,0 +1,50 @@
+package org.interview.tecalliance.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonValue;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the commands sent to MongoDB, so tests can pin the number of round-trips of a use case.
+ * Import it next to {@link TestContainersConfiguration} and autowire it into the test.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MongoCommandRecorder implements CommandListener {
+
+    private final List<RecordedCommand> commands = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandRecorderCustomizer() {
+        return builder -> builder.addCommandListener(this);
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonValue target = event.getCommand().get(event.getCommandName());
+        String collection = target != null && target.isString() ? target.asString().getValue() : null;
+        commands.add(new RecordedCommand(event.getCommandName(), collection));
+    }
+
+    /**
+     * Returns the names of the commands sent for the collection since the last {@link #reset()}, in order.
+     */
+    public List<String> commandsOn(String collection) {
+        return commands.stream()
+                .filter(command -> collection.equals(command.collection()))
+                .map(RecordedCommand::name)
+                .toList();
+    }
+
+    public void reset() {
+        commands.clear();
+    }
+
+    private record RecordedCommand(String name, String collection) {
+    }
+}
@@ -2,9 +2,14 @@ package org.interview.tecalliance.domain.model;
 
 import org.interview.tecalliance.domain.model.article.Article;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,6 +52,92 @@ class ArticleDiscountValidationTest {
         assertTrue(article.validateDiscounts());
     }
 
+    @Test
+    void testGetMaxDiscountPercentage_IsHighestPercentageKeepingNetPriceAfterRounding() {
+        Article article = new Article(null, "Product", "Description",
+                new BigDecimal("100.00"), new BigDecimal("120.00"), new BigDecimal("0.19"));
+
+        assertEquals(new BigDecimal("16.6708"), article.getMaxDiscountPercentage());
+    }
+
+    @Test
+    void testGetMaxDiscountPercentage_WithoutPrices_ReturnsNull() {
+        Article article = new Article(null, "Product", "Description",
+                null, new BigDecimal("120.00"), new BigDecimal("0.19"));
+
+        assertNull(article.getMaxDiscountPercentage());
+    }
+
+    @Test
+    void testValidateDiscounts_DiscountRoundedToNetPrice_ReturnsTrue() {
+        Article article = new Article(null, "Product", "Description",
+                new BigDecimal("100.00"), new BigDecimal("120.00"), new BigDecimal("0.19"));
+
+        // 120.00 - 20.00 (20.004 rounded) = 100.00
+        article.addDiscount(new Discount(null, "Rounded", new BigDecimal("16.67"),
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)));
+        assertTrue(article.validateDiscounts());
+
+        // more decimal places than the maximum, still below the rounding boundary
+        article.getDiscounts().getFirst().setDiscountPercentage(new BigDecimal("16.67083"));
+        assertTrue(article.validateDiscounts());
+
+        article.getDiscounts().getFirst().setDiscountPercentage(new BigDecimal("16.6709"));
+        assertFalse(article.validateDiscounts());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "100.00, 120.00",
+            "100.00, 200.00",
+            "150.00, 200.00",
+            "90.00, 100.00",
+            "0.01, 0.03",
+            "19.99, 29.99",
+            "333.33, 999.99",
+            "1234.567, 2000.1",
+            "120.00, 100.00",
+            "0, 49.95"
+    })
+    void testValidateDiscounts_AgreesWithCentRoundingRuleAndMaxDiscountAtBoundary(String netPrice, String salesPrice) {
+        Article article = new Article(null, "Product", "Description",
+                new BigDecimal(netPrice), new BigDecimal(salesPrice), new BigDecimal("0.19"));
+        BigDecimal max = article.getMaxDiscountPercentage();
+        BigDecimal step = new BigDecimal("0.0001");
+        article.addDiscount(new Discount(null, "Sale", null, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)));
+
+        List<BigDecimal> percentages = new ArrayList<>();
+        for (int i = -3; i <= 3; i++) {
+            percentages.add(max.add(step.multiply(BigDecimal.valueOf(i))));
+        }
+        percentages.add(max.setScale(2, RoundingMode.DOWN));
+        percentages.add(max.setScale(2, RoundingMode.UP));
+        percentages.add(max.add(new BigDecimal("0.00005")));
+        percentages.add(BigDecimal.ZERO);
+        for (BigDecimal percentage : percentages) {
+            if (percentage.signum() < 0) {
+                continue;
+            }
+            article.getDiscounts().getFirst().setDiscountPercentage(percentage);
+            boolean centRoundingRule = keepsNetPriceWithCentRounding(article, percentage);
+
+            assertEquals(centRoundingRule, article.validateDiscounts(), "validation of " + percentage);
+            if (percentage.scale() <= Article.MAX_DISCOUNT_PERCENTAGE_SCALE) {
+                assertEquals(centRoundingRule, percentage.compareTo(max) <= 0, "maximum compared with " + percentage);
+            }
+        }
+    }
+
+    /**
+     * The rule as it was written before the maximum discount existed.
+     */
+    private static boolean keepsNetPriceWithCentRounding(Article article, BigDecimal percentage) {
+        BigDecimal discountAmount = article.getSalesPrice()
+                .multiply(percentage)
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return article.getSalesPrice().subtract(discountAmount).compareTo(article.getNetPrice()) >= 0;
+    }
+
     @Test
     void testValidateNoOverlappingDiscounts_OverlappingPeriods_ReturnsFalse() {
         Article article = new Article(null, "Product", "Description",